@@ -291,7 +291,9 @@ public class DaVinciBackend implements Closeable {
             configLoader.getVeniceServerConfig().getDvcP2pBlobTransferServerPort(),
             configLoader.getVeniceServerConfig().getDvcP2pBlobTransferClientPort(),
             configLoader.getVeniceServerConfig().getRocksDBPath(),
-            clientConfig);
+            clientConfig,
+            configLoader.getVeniceServerConfig().isBlobTransferStripedModeEnabled(),
+            configLoader.getVeniceServerConfig().getBlobTransferClientReadLimitBytesPerSec());
       } else {
         blobTransferManager = null;
       }
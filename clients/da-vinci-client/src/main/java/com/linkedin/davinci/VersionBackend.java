@@ -230,12 +230,20 @@ public class VersionBackend {
         storeDeserializerCache,
         compressor.get());
 
-    return ComputeUtils.computeResult(
+    GenericRecord computeResult = ComputeUtils.computeResult(
         computeRequestWrapper.getOperations(),
         computeRequestWrapper.getOperationResultFields(),
         sharedContext,
         reusableValueRecord,
         computeResultSchema);
+    if (computeResult != null && !computeRequestWrapper.getRecordFilter().test(reusableValueRecord, computeResult)) {
+      // A record failing the filters is reported as a missing key.
+      return null;
+    }
+    if (computeResult != null && !computeRequestWrapper.getFacetAggregator().isEmpty()) {
+      computeRequestWrapper.getFacetAggregator().add(computeResult);
+    }
+    return computeResult;
   }
 
   public void computeWithKeyPrefixFilter(
@@ -260,7 +268,12 @@ public class VersionBackend {
                 sharedContext,
                 value,
                 computeResultSchema);
-            callback.onRecordReceived(key, computeResult);
+            if (computeRequestWrapper.getRecordFilter().test(value, computeResult)) {
+              if (!computeRequestWrapper.getFacetAggregator().isEmpty()) {
+                computeRequestWrapper.getFacetAggregator().add(computeResult);
+              }
+              callback.onRecordReceived(key, computeResult);
+            }
           }
 
           @Override
@@ -286,6 +299,32 @@ public class VersionBackend {
         computingCallback);
   }
 
+  /**
+   * Streams all the records of the partition to the callback, in key order. The values are not reused, so the callback
+   * can hold on to them.
+   */
+  public <K, V> void scan(
+      int partition,
+      StreamingCallback<K, V> callback,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      RecordDeserializer<K> keyDeserializer,
+      BinaryDecoder reusableBinaryDecoder) {
+    chunkingAdaptor.getByPartialKey(
+        getStorageEngineOrThrow(),
+        partition,
+        null,
+        null,
+        reusableBinaryDecoder,
+        keyDeserializer,
+        this.version.isChunkingEnabled(),
+        null,
+        getSupersetOrLatestValueSchemaId(),
+        storeDeserializerCache,
+        this.compressor.get(),
+        callback);
+  }
+
   public int getPartitionCount() {
     return version.getPartitionCount();
   }
@@ -72,12 +72,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -116,6 +120,14 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       new DaemonThreadFactory("DaVinci_Read_Chunk_Executor"));
   public static final int DEFAULT_CHUNK_SPLIT_THRESHOLD = 100;
 
+  /**
+   * Pool shared by the partition scans, where each scan uses at most {@link DaVinciConfig#getScanParallelism()}
+   * threads, the caller thread included.
+   */
+  private static final ExecutorService SCAN_EXECUTOR = Executors.newFixedThreadPool(
+      Runtime.getRuntime().availableProcessors(),
+      new DaemonThreadFactory("DaVinci_Scan_Executor"));
+
   private final DaVinciConfig daVinciConfig;
   private final ClientConfig clientConfig;
   private final VeniceProperties backendConfig;
@@ -559,38 +571,134 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         return;
       }
 
-      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
       Schema valueSchema = computeRequestWrapper.getValueSchema();
       int valueSchemaId = computeRequestWrapper.getValueSchemaID();
-      GenericRecord reuseValueRecord =
-          reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchemaId, k -> new GenericData.Record(valueSchema));
-
-      Map<String, Object> globalContext = new HashMap<>();
       Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper);
+      StreamingCallback<GenericRecord, GenericRecord> scanCallback = getScanCallback(callback);
 
-      int partitionCount = versionBackend.getPartitionCount();
-      for (int currPartition = 0; currPartition < partitionCount; currPartition++) {
-        if (isPartitionReadyToServe(versionBackend, currPartition)) {
-          try {
-            versionBackend.computeWithKeyPrefixFilter(
-                keyPrefix,
-                currPartition,
-                callback,
-                computeRequestWrapper,
-                getGenericRecordChunkingAdapter(),
-                (RecordDeserializer<GenericRecord>) keyDeserializer,
-                reuseValueRecord,
-                reusableObjects.binaryDecoder,
-                globalContext,
-                computeResultSchema);
-          } catch (VeniceException e) {
-            callback.onCompletion(Optional.of(e));
-            return;
+      Optional<Exception> exception = scanPartitions(versionBackend, partition -> {
+        // The partitions might be scanned by different threads, so the reusable objects are looked up by each of them
+        ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+        GenericRecord reuseValueRecord = reusableObjects.reuseValueRecordMap
+            .computeIfAbsent(valueSchemaId, k -> new GenericData.Record(valueSchema));
+        versionBackend.computeWithKeyPrefixFilter(
+            keyPrefix,
+            partition,
+            scanCallback,
+            computeRequestWrapper,
+            getGenericRecordChunkingAdapter(),
+            (RecordDeserializer<GenericRecord>) keyDeserializer,
+            reuseValueRecord,
+            reusableObjects.binaryDecoder,
+            new HashMap<>(),
+            computeResultSchema);
+      });
+      callback.onCompletion(exception);
+    }
+  }
+
+  @Override
+  public void scan(StreamingCallback<K, V> callback) {
+    throwIfNotReady();
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      VersionBackend versionBackend = versionRef.get();
+      if (versionBackend == null) {
+        storeBackend.getStats().recordBadRequest();
+        callback.onCompletion(
+            Optional.of(new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName())));
+        return;
+      }
+
+      StreamingCallback<K, V> scanCallback = getScanCallback(callback);
+      Optional<Exception> exception = scanPartitions(
+          versionBackend,
+          partition -> versionBackend.scan(
+              partition,
+              scanCallback,
+              getAvroChunkingAdapter(),
+              storeDeserializerCache,
+              keyDeserializer,
+              REUSABLE_OBJECTS.get().binaryDecoder));
+      callback.onCompletion(exception);
+    }
+  }
+
+  /**
+   * Scans the partitions which are ready to serve, with up to {@link DaVinciConfig#getScanParallelism()} threads, and
+   * returns once all of them have been scanned. The caller thread takes part in the scan, so the scan progresses even
+   * when {@link #SCAN_EXECUTOR} is busy with other scans. After a failure, the partitions which have not been started
+   * yet are skipped.
+   *
+   * @return the first exception thrown while scanning a partition, if any
+   */
+  Optional<Exception> scanPartitions(VersionBackend versionBackend, IntConsumer partitionScanner) {
+    List<Integer> partitions = new ArrayList<>();
+    for (int partition = 0; partition < versionBackend.getPartitionCount(); partition++) {
+      if (isPartitionReadyToServe(versionBackend, partition)) {
+        partitions.add(partition);
+      }
+    }
+
+    AtomicInteger nextPartitionIndex = new AtomicInteger();
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    CountDownLatch remainingPartitions = new CountDownLatch(partitions.size());
+    Runnable scanner = () -> {
+      int index;
+      while ((index = nextPartitionIndex.getAndIncrement()) < partitions.size()) {
+        try {
+          if (failure.get() == null) {
+            partitionScanner.accept(partitions.get(index));
           }
+        } catch (Exception e) {
+          failure.compareAndSet(null, e);
+        } finally {
+          remainingPartitions.countDown();
         }
       }
-      callback.onCompletion(Optional.empty());
+    };
+    int parallelism = Math.min(getDaVinciConfig().getScanParallelism(), partitions.size());
+    for (int i = 1; i < parallelism; i++) {
+      SCAN_EXECUTOR.execute(scanner);
+    }
+    scanner.run();
+
+    boolean interrupted = false;
+    while (true) {
+      try {
+        // Some partitions might still be scanned by the other threads.
+        remainingPartitions.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+        failure.compareAndSet(null, e);
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    return Optional.ofNullable(failure.get());
+  }
+
+  /**
+   * When the partitions are scanned concurrently, the records are still handed over to the callback one at a time, so
+   * that the callback does not need to be thread-safe. The scanning threads wait for a slow callback, so the records
+   * are never buffered in between.
+   */
+  private <KK, VV> StreamingCallback<KK, VV> getScanCallback(StreamingCallback<KK, VV> callback) {
+    if (getDaVinciConfig().getScanParallelism() <= 1) {
+      return callback;
     }
+    return new StreamingCallback<KK, VV>() {
+      @Override
+      public synchronized void onRecordReceived(KK key, VV value) {
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        callback.onCompletion(exception);
+      }
+    };
   }
 
   private boolean handleCallbackForEmptyKeySet(Set<K> keys, StreamingCallback callback) {
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -55,4 +56,17 @@ public interface DaVinciClient<K, V> extends AvroGenericStoreClient<K, V> {
    * @return partition count
    */
   int getPartitionCount();
+
+  /**
+   * Stream all the records of the locally ready partitions of the current version, without materializing them.
+   *
+   * Up to {@link DaVinciConfig#getScanParallelism()} partitions are scanned concurrently, but the callback is never
+   * invoked concurrently, so it does not need to be thread-safe. A slow callback slows down the scan, instead of
+   * having the records buffered in memory. {@link StreamingCallback#onCompletion} is invoked once, before this method
+   * returns. To scan the records matching a key prefix or a value filter, use {@link #compute()} with
+   * {@link com.linkedin.venice.client.store.ComputeRequestBuilder#executeWithFilter}.
+   *
+   * @param callback receives the records, which are not reused, so they can be retained by the callback
+   */
+  void scan(StreamingCallback<K, V> callback);
 }
@@ -48,6 +48,12 @@ public class DaVinciConfig {
    */
   private int largeBatchRequestSplitThreshold = AvroGenericDaVinciClient.DEFAULT_CHUNK_SPLIT_THRESHOLD;
 
+  /**
+   * Max number of partitions scanned concurrently by {@link DaVinciClient#scan} and by the compute requests with a key
+   * prefix filter. By default, the partitions are scanned one after the other by the caller thread.
+   */
+  private int scanParallelism = 1;
+
   public DaVinciConfig() {
   }
 
@@ -71,6 +77,8 @@ public class DaVinciConfig {
         .append(cacheConfig)
         .append(", largeBatchRequestSplitThreshold=")
         .append(largeBatchRequestSplitThreshold)
+        .append(", scanParallelism=")
+        .append(scanParallelism)
         .append("}");
     return sb.toString();
   }
@@ -152,4 +160,16 @@ public class DaVinciConfig {
     this.largeBatchRequestSplitThreshold = largeBatchRequestSplitThreshold;
     return this;
   }
+
+  public int getScanParallelism() {
+    return scanParallelism;
+  }
+
+  public DaVinciConfig setScanParallelism(int scanParallelism) {
+    if (scanParallelism < 1) {
+      throw new IllegalArgumentException("'scanParallelism' param needs to be at least 1");
+    }
+    this.scanParallelism = scanParallelism;
+    return this;
+  }
 }
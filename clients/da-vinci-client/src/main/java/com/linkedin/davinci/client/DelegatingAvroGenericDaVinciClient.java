@@ -134,4 +134,9 @@ public class DelegatingAvroGenericDaVinciClient<K, V>
       StreamingCallback<GenericRecord, GenericRecord> callback) {
     delegate.computeWithKeyPrefixFilter(prefixBytes, computeRequestWrapper, callback);
   }
+
+  @Override
+  public void scan(StreamingCallback<K, V> callback) {
+    delegate.scan(callback);
+  }
 }
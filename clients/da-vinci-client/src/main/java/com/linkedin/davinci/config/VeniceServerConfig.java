@@ -3,7 +3,9 @@ package com.linkedin.davinci.config;
 import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.INGESTION_ISOLATION_CONFIG_PREFIX;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.AUTOCREATE_DATA_PATH;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_CLIENT_READ_LIMIT_BYTES_PER_SEC;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MANAGER_ENABLED;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_STRIPED_MODE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT;
@@ -40,6 +42,7 @@ import static com.linkedin.venice.ConfigKeys.META_STORE_WRITER_CLOSE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.MIN_CONSUMER_IN_CONSUMER_POOL_PER_KAFKA_CLUSTER;
 import static com.linkedin.venice.ConfigKeys.OFFSET_LAG_DELTA_RELAX_FACTOR_FOR_FAST_ONLINE_TRANSITION_IN_RESTART;
 import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_BATCHED_END_OFFSET_REFRESH_ENABLED;
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
@@ -72,10 +75,14 @@ import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_CONCURRENT_STREAMS
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_FRAME_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_HEADER_LIST_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_FAIR_SHARE_THROTTLING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_HEARTBEAT_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MESSAGE_ENVELOPE_POOL_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_PRIORITY_CLASS_WEIGHTS;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_TASK_MAX_IDLE_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
@@ -102,6 +109,9 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_
 import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_BACKOFF_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_TIMES;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_ADMISSION_CONTROL_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_ADMISSION_CONTROL_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_ADMISSION_CONTROL_TARGET_QUEUE_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
@@ -118,12 +128,16 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_IN
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_STOP_CONSUMPTION_TIMEOUT_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORAGE_ENGINE_LAZY_RESTORE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORAGE_ENGINE_RESTORE_PARALLELISM;
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_INTERVAL_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_THRESHOLD_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.SERVER_WRITE_COMPUTE_BINARY_SPLICING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_WRITE_COMPUTE_UPDATE_COALESCING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
@@ -138,6 +152,7 @@ import static com.linkedin.venice.ConfigKeys.USE_DA_VINCI_SPECIFIC_EXECUTION_STA
 import static com.linkedin.venice.pubsub.PubSubConstants.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE_DEFAULT_VALUE;
 
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModelFactory;
+import com.linkedin.davinci.ingestion.consumption.IngestionPriorityClass;
 import com.linkedin.davinci.kafka.consumer.KafkaConsumerService;
 import com.linkedin.davinci.kafka.consumer.RemoteIngestionRepairService;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
@@ -157,9 +172,11 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -275,6 +292,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int topicManagerMetadataFetcherConsumerPoolSize;
   private final int topicManagerMetadataFetcherThreadPoolSize;
+  private final boolean topicManagerBatchedEndOffsetRefreshEnabled;
 
   /**
    * Graceful shutdown period.
@@ -375,6 +393,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final IngestionMode ingestionMode;
   private final int ingestionServicePort;
   private final int ingestionApplicationPort;
+  private final boolean ingestionIsolationDomainSocketEnabled;
   private final boolean databaseChecksumVerificationEnabled;
   private final boolean rocksDbStorageEngineConfigCheckEnabled;
 
@@ -457,6 +476,11 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int metaStoreWriterCloseConcurrency;
 
   private final long ingestionHeartbeatIntervalMs;
+  private final int ingestionMessageEnvelopePoolCapacity;
+  private final boolean ingestionFairShareThrottlingEnabled;
+  private final Map<IngestionPriorityClass, Integer> ingestionPriorityClassWeights;
+  private final boolean writeComputeUpdateCoalescingEnabled;
+  private final boolean writeComputeBinarySplicingEnabled;
   private final boolean leaderCompleteStateCheckInFollowerEnabled;
   private final long leaderCompleteStateCheckInFollowerValidIntervalMs;
   private final boolean stuckConsumerRepairEnabled;
@@ -469,9 +493,16 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean useDaVinciSpecificExecutionStatusForError;
   private final boolean recordLevelMetricWhenBootstrappingCurrentVersionEnabled;
   private final String identityParserClassName;
+  private final int storageEngineRestoreParallelism;
+  private final boolean storageEngineLazyRestoreEnabled;
+  private final boolean readAdmissionControlEnabled;
+  private final long readAdmissionControlTargetQueueDelayMs;
+  private final long readAdmissionControlIntervalMs;
   private final boolean blobTransferManagerEnabled;
   private final int dvcP2pBlobTransferServerPort;
   private final int dvcP2pBlobTransferClientPort;
+  private final boolean blobTransferStripedModeEnabled;
+  private final long blobTransferClientReadLimitBytesPerSec;
 
   public VeniceServerConfig(VeniceProperties serverProperties) throws ConfigurationException {
     this(serverProperties, Collections.emptyMap());
@@ -498,6 +529,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     dvcP2pBlobTransferServerPort = serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT, -1);
     dvcP2pBlobTransferClientPort =
         serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT, dvcP2pBlobTransferServerPort);
+    blobTransferStripedModeEnabled = serverProperties.getBoolean(BLOB_TRANSFER_STRIPED_MODE_ENABLED, false);
+    blobTransferClientReadLimitBytesPerSec =
+        serverProperties.getSizeInBytes(BLOB_TRANSFER_CLIENT_READ_LIMIT_BYTES_PER_SEC, 0);
 
     String lfThreadPoolStrategyStr = serverProperties.getString(
         LEADER_FOLLOWER_STATE_TRANSITION_THREAD_POOL_STRATEGY,
@@ -532,6 +566,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE_DEFAULT_VALUE);
     this.topicManagerMetadataFetcherThreadPoolSize = serverProperties
         .getInt(PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE, topicManagerMetadataFetcherConsumerPoolSize);
+    this.topicManagerBatchedEndOffsetRefreshEnabled =
+        serverProperties.getBoolean(PUBSUB_TOPIC_MANAGER_BATCHED_END_OFFSET_REFRESH_ENABLED, false);
     nettyGracefulShutdownPeriodSeconds = serverProperties.getInt(SERVER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS, 30);
     nettyWorkerThreadCount = serverProperties.getInt(SERVER_NETTY_WORKER_THREADS, 0);
     grpcWorkerThreadCount =
@@ -642,6 +678,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         IngestionMode.valueOf(serverProperties.getString(SERVER_INGESTION_MODE, IngestionMode.BUILT_IN.toString()));
     ingestionServicePort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_SERVICE_PORT, 27015);
     ingestionApplicationPort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_APPLICATION_PORT, 27016);
+    ingestionIsolationDomainSocketEnabled =
+        serverProperties.getBoolean(SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED, false);
     databaseChecksumVerificationEnabled =
         serverProperties.getBoolean(SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED, false);
 
@@ -750,6 +788,19 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     metaStoreWriterCloseConcurrency = serverProperties.getInt(META_STORE_WRITER_CLOSE_CONCURRENCY, -1);
     ingestionHeartbeatIntervalMs =
         serverProperties.getLong(SERVER_INGESTION_HEARTBEAT_INTERVAL_MS, TimeUnit.MINUTES.toMillis(1));
+    ingestionMessageEnvelopePoolCapacity = serverProperties.getInt(SERVER_INGESTION_MESSAGE_ENVELOPE_POOL_CAPACITY, 0);
+    ingestionFairShareThrottlingEnabled =
+        serverProperties.getBoolean(SERVER_INGESTION_FAIR_SHARE_THROTTLING_ENABLED, false);
+    ingestionPriorityClassWeights = new EnumMap<>(IngestionPriorityClass.class);
+    serverProperties.getMap(SERVER_INGESTION_PRIORITY_CLASS_WEIGHTS, Collections.emptyMap())
+        .forEach(
+            (priorityClass, weight) -> ingestionPriorityClassWeights.put(
+                IngestionPriorityClass.valueOf(priorityClass.trim().toUpperCase(Locale.ROOT)),
+                Integer.parseInt(weight.trim())));
+    writeComputeUpdateCoalescingEnabled =
+        serverProperties.getBoolean(SERVER_WRITE_COMPUTE_UPDATE_COALESCING_ENABLED, false);
+    writeComputeBinarySplicingEnabled =
+        serverProperties.getBoolean(SERVER_WRITE_COMPUTE_BINARY_SPLICING_ENABLED, false);
 
     stuckConsumerRepairEnabled = serverProperties.getBoolean(SERVER_STUCK_CONSUMER_REPAIR_ENABLED, true);
     stuckConsumerRepairIntervalSecond = serverProperties.getInt(SERVER_STUCK_CONSUMER_REPAIR_INTERVAL_SECOND, 60);
@@ -778,6 +829,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     recordLevelMetricWhenBootstrappingCurrentVersionEnabled =
         serverProperties.getBoolean(SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED, true);
     identityParserClassName = serverProperties.getString(IDENTITY_PARSER_CLASS, DefaultIdentityParser.class.getName());
+    storageEngineRestoreParallelism = serverProperties.getInt(SERVER_STORAGE_ENGINE_RESTORE_PARALLELISM, 1);
+    storageEngineLazyRestoreEnabled = serverProperties.getBoolean(SERVER_STORAGE_ENGINE_LAZY_RESTORE_ENABLED, false);
+    readAdmissionControlEnabled = serverProperties.getBoolean(SERVER_READ_ADMISSION_CONTROL_ENABLED, false);
+    readAdmissionControlTargetQueueDelayMs =
+        serverProperties.getLong(SERVER_READ_ADMISSION_CONTROL_TARGET_QUEUE_DELAY_MS, 5);
+    readAdmissionControlIntervalMs = serverProperties.getLong(SERVER_READ_ADMISSION_CONTROL_INTERVAL_MS, 100);
   }
 
   long extractIngestionMemoryLimit(
@@ -875,6 +932,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return dvcP2pBlobTransferClientPort;
   }
 
+  public boolean isBlobTransferStripedModeEnabled() {
+    return blobTransferStripedModeEnabled;
+  }
+
+  public long getBlobTransferClientReadLimitBytesPerSec() {
+    return blobTransferClientReadLimitBytesPerSec;
+  }
+
   public boolean isBlobTransferManagerEnabled() {
     return blobTransferManagerEnabled;
   }
@@ -1128,6 +1193,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return ingestionApplicationPort;
   }
 
+  public boolean isIngestionIsolationDomainSocketEnabled() {
+    return ingestionIsolationDomainSocketEnabled;
+  }
+
   public boolean isDatabaseChecksumVerificationEnabled() {
     return databaseChecksumVerificationEnabled;
   }
@@ -1332,6 +1401,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return ingestionHeartbeatIntervalMs;
   }
 
+  public int getIngestionMessageEnvelopePoolCapacity() {
+    return ingestionMessageEnvelopePoolCapacity;
+  }
+
+  public boolean isIngestionFairShareThrottlingEnabled() {
+    return ingestionFairShareThrottlingEnabled;
+  }
+
+  public Map<IngestionPriorityClass, Integer> getIngestionPriorityClassWeights() {
+    return ingestionPriorityClassWeights;
+  }
+
+  public boolean isWriteComputeUpdateCoalescingEnabled() {
+    return writeComputeUpdateCoalescingEnabled;
+  }
+
+  public boolean isWriteComputeBinarySplicingEnabled() {
+    return writeComputeBinarySplicingEnabled;
+  }
+
   public boolean isLeaderCompleteStateCheckInFollowerEnabled() {
     return leaderCompleteStateCheckInFollowerEnabled;
   }
@@ -1376,6 +1465,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return topicManagerMetadataFetcherThreadPoolSize;
   }
 
+  public boolean isTopicManagerBatchedEndOffsetRefreshEnabled() {
+    return topicManagerBatchedEndOffsetRefreshEnabled;
+  }
+
   public boolean useDaVinciSpecificExecutionStatusForError() {
     return useDaVinciSpecificExecutionStatusForError;
   }
@@ -1388,6 +1481,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return identityParserClassName;
   }
 
+  public int getStorageEngineRestoreParallelism() {
+    return storageEngineRestoreParallelism;
+  }
+
+  public boolean isStorageEngineLazyRestoreEnabled() {
+    return storageEngineLazyRestoreEnabled;
+  }
+
+  public boolean isReadAdmissionControlEnabled() {
+    return readAdmissionControlEnabled;
+  }
+
+  public long getReadAdmissionControlTargetQueueDelayMs() {
+    return readAdmissionControlTargetQueueDelayMs;
+  }
+
+  public long getReadAdmissionControlIntervalMs() {
+    return readAdmissionControlIntervalMs;
+  }
+
   public String getRocksDBPath() {
     return getDataBasePath() + File.separator + "rocksdb";
   }
@@ -0,0 +1,308 @@
+package com.linkedin.davinci.ingestion;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.deserializeIngestionActionResponse;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.serializeIngestionActionRequest;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceHttpException;
+import com.linkedin.venice.exceptions.VeniceTimeoutException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Time;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.ReferenceCountUtil;
+import java.io.File;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Sends {@link IngestionAction} requests over a Unix domain socket, using the very same HTTP framing and payloads as
+ * {@link HttpClientTransport}, so the receiving side does not need to tell both transports apart.
+ *
+ * All the requests share a single persistent connection, which is re-established lazily after a failure. Requests are
+ * pipelined: a request is written without waiting for the response of the previous one, and responses are matched to
+ * requests in FIFO order, which HTTP/1.1 guarantees on a single connection. This also means requests are handled by the
+ * remote side in the order they have been sent. Flushes are consolidated, so that a burst of reports only costs a
+ * handful of syscalls on both sides.
+ */
+public class DomainSocketClientTransport implements AutoCloseable {
+  private static final Logger LOGGER = LogManager.getLogger(DomainSocketClientTransport.class);
+  private static final int DEFAULT_CONNECTION_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
+  private static final int DEFAULT_REQUEST_RETRY_WAIT_TIME_MS = 1 * Time.MS_PER_SECOND;
+  private static final int DEFAULT_REQUEST_RETRY_COUNT = 10;
+  private static final int MAX_RESPONSE_SIZE_IN_BYTES = 1024 * 1024 * 100;
+  private static final int EXPLICIT_FLUSH_AFTER_FLUSHES = 256;
+
+  private final DomainSocketAddress socketAddress;
+  private final int requestTimeoutInSeconds;
+  private final EventLoopGroup eventLoopGroup;
+  private final Bootstrap bootstrap;
+  private volatile Channel channel;
+
+  public DomainSocketClientTransport(File socketFile, int requestTimeoutInSeconds) {
+    this.socketAddress = new DomainSocketAddress(socketFile);
+    this.requestTimeoutInSeconds = requestTimeoutInSeconds;
+    this.eventLoopGroup = new EpollEventLoopGroup(1, new DaemonThreadFactory("Ingestion-Domain-Socket-Transport"));
+    this.bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(EpollDomainSocketChannel.class)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, DEFAULT_CONNECTION_TIMEOUT_MS)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline()
+                .addLast(new FlushConsolidationHandler(EXPLICIT_FLUSH_AFTER_FLUSHES, true))
+                .addLast(new HttpClientCodec())
+                .addLast(new HttpObjectAggregator(MAX_RESPONSE_SIZE_IN_BYTES))
+                .addLast(new PipelinedResponseHandler());
+          }
+        });
+  }
+
+  /**
+   * Sends the request without waiting for the responses of the requests sent before it. The returned future completes
+   * exceptionally if the connection breaks before the response is received, in which case the request might or might
+   * not have been handled by the remote side.
+   */
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> CompletableFuture<T> sendRequestAsync(
+      IngestionAction action,
+      S param) {
+    return sendRequestAsync(action, param, true);
+  }
+
+  /**
+   * @param reconnect whether to connect again if the current connection is closed. When false, the returned future
+   *                  fails right away instead, so that the request can not overtake the requests of the closed
+   *                  connection which are about to fail and be retried.
+   */
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> CompletableFuture<T> sendRequestAsync(
+      IngestionAction action,
+      S param,
+      boolean reconnect) {
+    FullHttpRequest request;
+    try {
+      byte[] requestPayload = serializeIngestionActionRequest(action, param);
+      request = new DefaultFullHttpRequest(
+          HttpVersion.HTTP_1_1,
+          HttpMethod.POST,
+          "/" + action.toString(),
+          Unpooled.wrappedBuffer(requestPayload));
+      request.headers().set(HttpHeaderNames.CONTENT_LENGTH, requestPayload.length);
+    } catch (Exception e) {
+      throw new VeniceException("Unable to encode the provided byte array data", e);
+    }
+
+    PendingRequest pendingRequest = new PendingRequest(request);
+    Channel currentChannel;
+    try {
+      currentChannel = getChannel(reconnect);
+    } catch (Exception e) {
+      ReferenceCountUtil.release(request);
+      CompletableFuture<T> failedFuture = new CompletableFuture<>();
+      failedFuture.completeExceptionally(new VeniceException("Unable to connect to " + socketAddress.path(), e));
+      return failedFuture;
+    }
+    currentChannel.writeAndFlush(pendingRequest).addListener((ChannelFutureListener) future -> {
+      if (!future.isSuccess()) {
+        pendingRequest.responseFuture.completeExceptionally(future.cause());
+        // The response of the following requests can not be matched reliably anymore.
+        future.channel().close();
+      }
+    });
+    return pendingRequest.responseFuture.thenApply(response -> {
+      if (response.status != HttpResponseStatus.OK.code()) {
+        throw new VeniceHttpException(response.status, "Isolated ingestion server returned unexpected status");
+      }
+      return deserializeIngestionActionResponse(action, response.content);
+    });
+  }
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
+      IngestionAction action,
+      S param,
+      int requestTimeoutInSeconds) {
+    CompletableFuture<T> responseFuture = sendRequestAsync(action, param);
+    try {
+      return responseFuture.get(requestTimeoutInSeconds, TimeUnit.SECONDS);
+    } catch (TimeoutException e) {
+      throw new VeniceTimeoutException(
+          "Unable to finish isolated ingestion request in given " + requestTimeoutInSeconds + " s.",
+          e);
+    } catch (InterruptedException e) {
+      // Keep the interruption flag.
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Isolated ingestion request was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof VeniceException) {
+        throw (VeniceException) e.getCause();
+      }
+      throw new VeniceException("Encounter exception when submitting isolated ingestion request", e.getCause());
+    }
+  }
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(IngestionAction action, S param) {
+    return sendRequestWithRetry(action, param, DEFAULT_REQUEST_RETRY_COUNT);
+  }
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequestWithRetry(
+      IngestionAction action,
+      S param,
+      int maxAttempt) {
+    if (maxAttempt <= 0) {
+      throw new IllegalArgumentException("maxAttempt must be a positive integer");
+    }
+    int retryCount = 0;
+    final long startTimeIsMs = System.currentTimeMillis();
+    while (true) {
+      try {
+        return sendRequest(action, param, requestTimeoutInSeconds);
+      } catch (VeniceException e) {
+        retryCount++;
+        if (retryCount == maxAttempt) {
+          long totalTimeInMs = System.currentTimeMillis() - startTimeIsMs;
+          throw new VeniceException(
+              "Failed to send request to " + socketAddress.path() + " after " + maxAttempt
+                  + " attempts, total time spent in millis: " + totalTimeInMs,
+              e);
+        }
+        LOGGER.warn(
+            "Encounter exception when sending request, will retry for {} / {} time.",
+            retryCount,
+            maxAttempt,
+            e);
+      }
+      try {
+        Thread.sleep(DEFAULT_REQUEST_RETRY_WAIT_TIME_MS);
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    }
+  }
+
+  private synchronized Channel getChannel(boolean reconnect) throws InterruptedException {
+    Channel currentChannel = channel;
+    if (currentChannel == null || !currentChannel.isActive()) {
+      if (!reconnect) {
+        throw new VeniceException("Not connected to domain socket: " + socketAddress.path());
+      }
+      currentChannel = bootstrap.connect(socketAddress).sync().channel();
+      channel = currentChannel;
+      LOGGER.info("Connected to domain socket: {}", socketAddress.path());
+    }
+    return currentChannel;
+  }
+
+  @Override
+  public void close() {
+    Channel currentChannel = channel;
+    if (currentChannel != null) {
+      currentChannel.close().awaitUninterruptibly();
+    }
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  private static class PendingRequest {
+    private final FullHttpRequest request;
+    private final CompletableFuture<RawResponse> responseFuture = new CompletableFuture<>();
+
+    private PendingRequest(FullHttpRequest request) {
+      this.request = request;
+    }
+  }
+
+  private static class RawResponse {
+    private final int status;
+    private final byte[] content;
+
+    private RawResponse(int status, byte[] content) {
+      this.status = status;
+      this.content = content;
+    }
+  }
+
+  /**
+   * Keeps track of the in-flight requests of a connection. Both the enqueue in {@link #write} and the dequeue in
+   * {@link #channelRead} run in the event loop of the channel, so the queue does not need any synchronization.
+   */
+  private static class PipelinedResponseHandler extends ChannelDuplexHandler {
+    private final Queue<PendingRequest> inFlightRequests = new ArrayDeque<>();
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+      if (msg instanceof PendingRequest) {
+        PendingRequest pendingRequest = (PendingRequest) msg;
+        inFlightRequests.add(pendingRequest);
+        ctx.write(pendingRequest.request, promise);
+      } else {
+        ctx.write(msg, promise);
+      }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      if (!(msg instanceof FullHttpResponse)) {
+        ctx.fireChannelRead(msg);
+        return;
+      }
+      FullHttpResponse response = (FullHttpResponse) msg;
+      try {
+        PendingRequest pendingRequest = inFlightRequests.poll();
+        if (pendingRequest == null) {
+          LOGGER.warn("Received a response without any in-flight request, will close the connection.");
+          ctx.close();
+          return;
+        }
+        pendingRequest.responseFuture
+            .complete(new RawResponse(response.status().code(), ByteBufUtil.getBytes(response.content())));
+      } finally {
+        response.release();
+      }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+      PendingRequest pendingRequest;
+      while ((pendingRequest = inFlightRequests.poll()) != null) {
+        pendingRequest.responseFuture.completeExceptionally(new ClosedChannelException());
+      }
+      ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      LOGGER.error("Encounter exception on domain socket connection, will close it.", cause);
+      ctx.close();
+    }
+  }
+}
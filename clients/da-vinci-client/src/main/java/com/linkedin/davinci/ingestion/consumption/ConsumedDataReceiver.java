@@ -31,4 +31,11 @@ public interface ConsumedDataReceiver<MESSAGE> {
   PubSubTopic destinationIdentifier();
 
   void notifyOfTopicDeletion(String topicName);
+
+  /**
+   * @return the class of ingestion the consumed data belongs to, which determines its share of the consumption quota
+   */
+  default IngestionPriorityClass getPriorityClass() {
+    return IngestionPriorityClass.CURRENT_VERSION;
+  }
 }
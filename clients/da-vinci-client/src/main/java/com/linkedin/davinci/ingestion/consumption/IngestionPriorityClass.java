@@ -0,0 +1,38 @@
+package com.linkedin.davinci.ingestion.consumption;
+
+/**
+ * The classes of ingestion sharing the consumers and the throttlers of a host, from the most to the least latency
+ * sensitive. When the host-level consumption quota is exceeded, each class is entitled to a share of the quota
+ * proportional to its weight among the classes which are actively consuming, so that a large future-version push
+ * cannot starve the real-time ingestion of the current versions, which the freshness of the reads depends on.
+ */
+public enum IngestionPriorityClass {
+  /** Real-time topic consumption of the current version of a store */
+  CURRENT_VERSION_REAL_TIME(8),
+  /** Version topic consumption of the current version of a store, e.g. followers and leaders catching up */
+  CURRENT_VERSION(4),
+  /** Consumption of a version which is being pushed */
+  FUTURE_VERSION(2),
+  /** Consumption of a version which is neither current nor being pushed */
+  BACKUP_VERSION(1);
+
+  private static final IngestionPriorityClass[] VALUES = values();
+
+  private final int defaultWeight;
+
+  IngestionPriorityClass(int defaultWeight) {
+    this.defaultWeight = defaultWeight;
+  }
+
+  public int getDefaultWeight() {
+    return defaultWeight;
+  }
+
+  public static IngestionPriorityClass valueOf(int ordinal) {
+    return VALUES[ordinal];
+  }
+
+  public static int size() {
+    return VALUES.length;
+  }
+}
@@ -3,6 +3,7 @@ package com.linkedin.davinci.ingestion.isolated;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.ingestion.DomainSocketClientTransport;
 import com.linkedin.davinci.ingestion.HttpClientTransport;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.ingestion.protocol.IngestionMetricsReport;
@@ -10,19 +11,56 @@ import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
 import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayDeque;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
 /**
  * This class sends requests to monitor service in main process and retrieves responses.
+ * When {@link com.linkedin.venice.ConfigKeys#SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED} is set, the reports are
+ * sent over the domain socket of the main process first, and over loopback HTTP if that fails, without ever changing
+ * their order.
  */
 public class IsolatedIngestionRequestClient implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(IsolatedIngestionRequestClient.class);
 
   private HttpClientTransport httpClientTransport;
+  private DomainSocketClientTransport domainSocketClientTransport;
+  private final ExecutorService reportRecoveryExecutor =
+      Executors.newSingleThreadExecutor(new DaemonThreadFactory("Ingestion-Report-Recovery"));
+  /**
+   * The reports sent over the domain socket which have not been acknowledged yet, in the order they have been passed
+   * in, including the ones queued behind a failed report. Guarded by this.
+   */
+  private final Queue<PendingReport> pendingReports = new ArrayDeque<>();
+  /**
+   * Whether the pending reports are being delivered one by one after a failure. Guarded by this.
+   */
+  private boolean recovering;
+
+  private static class PendingReport {
+    private final IngestionTaskReport report;
+    private final CompletableFuture<Boolean> delivered = new CompletableFuture<>();
+    /**
+     * Null if the report has been queued without being pipelined.
+     */
+    private CompletableFuture<? extends SpecificRecordBase> sendFuture;
+
+    private PendingReport(IngestionTaskReport report) {
+      this.report = report;
+    }
+  }
 
   public IsolatedIngestionRequestClient(VeniceConfigLoader configLoader) {
     Optional<SSLFactory> sslFactory = IsolatedIngestionUtils.getSSLFactory(configLoader);
@@ -30,20 +68,129 @@ public class IsolatedIngestionRequestClient implements Closeable {
     int requestTimeoutInSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120);
     httpClientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+    Optional<File> reportSocketFile =
+        IsolatedIngestionUtils.getIngestionReportSocketFile(configLoader.getVeniceServerConfig());
+    if (reportSocketFile.isPresent()) {
+      domainSocketClientTransport = new DomainSocketClientTransport(reportSocketFile.get(), requestTimeoutInSeconds);
+    }
   }
 
+  /**
+   * Sends the report and waits for the main process to acknowledge it. When the domain socket transport is used, the
+   * report is only sent after the reports previously passed to {@link #reportIngestionStatusAsync}, see there.
+   */
   public boolean reportIngestionStatus(IngestionTaskReport report) {
+    if (domainSocketClientTransport == null) {
+      return sendReport(report);
+    }
+    return reportIngestionStatusAsync(report).join();
+  }
+
+  /**
+   * Sends the report without waiting for the main process to acknowledge it, when the domain socket transport is used.
+   * Reports are pipelined on a single connection, hence they are handled by the main process in the order they have
+   * been sent. If the connection breaks, the reports which have not been acknowledged and all the reports after them
+   * are sent again one by one in the same order, and fall back to loopback HTTP with retries if the domain socket is
+   * still down. Pipelining resumes once they have all been delivered. Without the domain socket transport, this is the
+   * same as {@link #reportIngestionStatus}.
+   */
+  public CompletableFuture<Boolean> reportIngestionStatusAsync(IngestionTaskReport report) {
+    if (domainSocketClientTransport == null) {
+      return CompletableFuture.completedFuture(sendReport(report));
+    }
+    logReport(report);
+    PendingReport pendingReport = new PendingReport(report);
+    synchronized (this) {
+      removeDeliveredReports();
+      if (!recovering) {
+        // The current connection is never replaced here, otherwise this report could overtake the failed ones.
+        pendingReport.sendFuture = domainSocketClientTransport.sendRequestAsync(IngestionAction.REPORT, report, false);
+        pendingReport.sendFuture.whenComplete((ignored, e) -> {
+          if (e != null) {
+            reportRecoveryExecutor.execute(this::recoverPendingReports);
+          }
+        });
+      }
+      pendingReports.add(pendingReport);
+    }
+    return pendingReport.delivered;
+  }
+
+  /**
+   * Called with the lock held. Completes the leading reports which have been acknowledged, and stops at the first one
+   * which is still in flight or which failed, as the reports after it have to be delivered after it.
+   */
+  private void removeDeliveredReports() {
+    PendingReport pendingReport;
+    while ((pendingReport = pendingReports.peek()) != null && pendingReport.sendFuture != null
+        && pendingReport.sendFuture.isDone() && !pendingReport.sendFuture.isCompletedExceptionally()) {
+      pendingReports.poll();
+      pendingReport.delivered.complete(true);
+    }
+    if (pendingReport != null && pendingReport.sendFuture != null
+        && pendingReport.sendFuture.isCompletedExceptionally()) {
+      recovering = true;
+    }
+  }
+
+  /**
+   * Runs in {@link #reportRecoveryExecutor}. Delivers the pending reports in order, sending again the ones which have
+   * not been acknowledged. The new reports are queued behind them meanwhile.
+   */
+  private void recoverPendingReports() {
+    while (true) {
+      PendingReport pendingReport;
+      synchronized (this) {
+        recovering = true;
+        pendingReport = pendingReports.peek();
+        if (pendingReport == null) {
+          recovering = false;
+          return;
+        }
+      }
+      boolean delivered = false;
+      if (pendingReport.sendFuture != null) {
+        try {
+          pendingReport.sendFuture.get();
+          delivered = true;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        } catch (ExecutionException e) {
+          LOGGER.warn(
+              "Failed to send report over domain socket for topic: {}, partition: {}, will send it again",
+              pendingReport.report.topicName,
+              pendingReport.report.partitionId,
+              e.getCause());
+        }
+      }
+      if (!delivered) {
+        delivered = sendReport(pendingReport.report);
+      }
+      synchronized (this) {
+        pendingReports.poll();
+      }
+      pendingReport.delivered.complete(delivered);
+    }
+  }
+
+  private boolean sendReport(IngestionTaskReport report) {
     String topicName = report.topicName.toString();
     int partitionId = report.partitionId;
-    // Avoid sending binary data in OffsetRecord and pollute logs.
-    LOGGER.info(
-        "Sending ingestion report {}, isPositive: {}, message: {} for partition: {} of topic: {} at offset: {}",
-        IngestionReportType.valueOf(report.reportType),
-        report.isPositive,
-        report.message,
-        partitionId,
-        topicName,
-        report.offset);
+    logReport(report);
+    if (domainSocketClientTransport != null) {
+      try {
+        // A single attempt, as the report is retried over HTTP right away.
+        domainSocketClientTransport.sendRequestWithRetry(IngestionAction.REPORT, report, 1);
+        return true;
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Failed to send report over domain socket for topic: {}, partition: {}, will retry over HTTP",
+            topicName,
+            partitionId,
+            e);
+      }
+    }
     try {
       httpClientTransport.sendRequest(IngestionAction.REPORT, report);
       return true;
@@ -53,7 +200,27 @@ public class IsolatedIngestionRequestClient implements Closeable {
     }
   }
 
+  private static void logReport(IngestionTaskReport report) {
+    // Avoid sending binary data in OffsetRecord and pollute logs.
+    LOGGER.info(
+        "Sending ingestion report {}, isPositive: {}, message: {} for partition: {} of topic: {} at offset: {}",
+        IngestionReportType.valueOf(report.reportType),
+        report.isPositive,
+        report.message,
+        report.partitionId,
+        report.topicName,
+        report.offset);
+  }
+
   public void reportMetricUpdate(IngestionMetricsReport report) {
+    if (domainSocketClientTransport != null) {
+      domainSocketClientTransport.sendRequestAsync(IngestionAction.METRIC, report).whenComplete((ignored, e) -> {
+        if (e != null) {
+          LOGGER.warn("Failed to send metrics update with exception", e);
+        }
+      });
+      return;
+    }
     try {
       httpClientTransport.sendRequest(IngestionAction.METRIC, report);
     } catch (Exception e) {
@@ -66,8 +233,23 @@ public class IsolatedIngestionRequestClient implements Closeable {
     this.httpClientTransport = clientTransport;
   }
 
+  // Visible for testing
+  protected void setDomainSocketClientTransport(DomainSocketClientTransport clientTransport) {
+    this.domainSocketClientTransport = clientTransport;
+  }
+
   @Override
   public void close() {
+    reportRecoveryExecutor.shutdownNow();
+    synchronized (this) {
+      PendingReport pendingReport;
+      while ((pendingReport = pendingReports.poll()) != null) {
+        pendingReport.delivered.complete(false);
+      }
+    }
     httpClientTransport.close();
+    if (domainSocketClientTransport != null) {
+      domainSocketClientTransport.close();
+    }
   }
 }
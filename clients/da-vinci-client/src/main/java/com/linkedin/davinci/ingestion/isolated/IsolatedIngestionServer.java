@@ -339,6 +339,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
    * started() will call tryStartHeartbeat() in VersionBackend which will also need the VersionBackend instance lock.
    * Thus all of them get stuck until timeout, which leads to unexpected behavior of draining to closed RocksDB storage.
    * This status reporting executor is designed to be single thread to respect the reporting order inside child process.
+   * With the domain socket transport, the non-terminal reports are pipelined instead of waiting for each acknowledgement,
+   * which still preserves the order since all the reports share the same connection, and the reports lost with a broken
+   * connection are sent again in order by {@link IsolatedIngestionRequestClient}.
    * For time-consuming action like stopConsumptionAndWait, we introduced an extra multi-thread executors to improve the
    * performance.
    */
@@ -377,7 +380,7 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
 
       stopConsumptionAndReport(report);
     } else {
-      statusReportingExecutor.execute(() -> reportClient.reportIngestionStatus(report));
+      statusReportingExecutor.execute(() -> reportClient.reportIngestionStatusAsync(report));
     }
   }
 
@@ -18,12 +18,20 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.tehuti.metrics.MetricsRepository;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -54,9 +62,12 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
   private final Map<String, MainTopicIngestionStatus> topicIngestionStatusMap = new VeniceConcurrentHashMap<>();
   private final List<VeniceNotifier> ingestionNotifierList = new ArrayList<>();
   private final List<VeniceNotifier> pushStatusNotifierList = new ArrayList<>();
+  private final Optional<File> reportSocketFile;
 
   private IsolatedIngestionProcessHeartbeatStats heartbeatStats;
   private ChannelFuture serverFuture;
+  private EventLoopGroup domainSocketEventLoopGroup;
+  private ChannelFuture domainSocketServerFuture;
   private MetricsRepository metricsRepository;
   private IsolatedIngestionProcessStats isolatedIngestionProcessStats;
   private MainIngestionStorageMetadataService storageMetadataService;
@@ -89,6 +100,7 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
         .childOption(ChannelOption.TCP_NODELAY, true);
 
     heartbeatClient = new MainIngestionRequestClient(configLoader);
+    reportSocketFile = IsolatedIngestionUtils.getIngestionReportSocketFile(configLoader.getVeniceServerConfig());
   }
 
   @Override
@@ -96,6 +108,9 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     int applicationPort = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
     serverFuture = bootstrap.bind(applicationPort).sync();
     LOGGER.info("Report listener service started on port: {}", applicationPort);
+    if (reportSocketFile.isPresent()) {
+      startDomainSocketListener(reportSocketFile.get());
+    }
     connectionTimeoutMs =
         configLoader.getCombinedProperties().getLong(SERVER_INGESTION_ISOLATION_CONNECTION_TIMEOUT_SECONDS, 180)
             * Time.MS_PER_SECOND;
@@ -115,6 +130,34 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
     shutdown.sync();
+
+    if (domainSocketServerFuture != null) {
+      domainSocketServerFuture.channel().close().sync();
+      domainSocketEventLoopGroup.shutdownGracefully();
+      Files.deleteIfExists(reportSocketFile.get().toPath());
+    }
+  }
+
+  /**
+   * The domain socket listener comes on top of the loopback port, so that the forked process can always fall back to
+   * HTTP. Reports sent over the domain socket do not go through TLS: access is restricted to the user running the
+   * processes by the permissions of the socket directory instead, which are set before the socket is bound.
+   */
+  private void startDomainSocketListener(File socketFile) throws Exception {
+    Path socketDirectory = socketFile.getParentFile().toPath();
+    Files.createDirectories(socketDirectory);
+    // Also applies to a directory left behind by a previous instance, nothing is listening in it yet either way.
+    Files.setPosixFilePermissions(socketDirectory, PosixFilePermissions.fromString("rwx------"));
+    // The socket file might have been left behind by a previous instance which did not shut down gracefully.
+    Files.deleteIfExists(socketFile.toPath());
+    domainSocketEventLoopGroup = new EpollEventLoopGroup(1);
+    ServerBootstrap domainSocketBootstrap = new ServerBootstrap().group(domainSocketEventLoopGroup)
+        .channel(EpollServerDomainSocketChannel.class)
+        .childHandler(new MainIngestionReportChannelInitializer(this, Optional.empty()))
+        .option(ChannelOption.SO_BACKLOG, 1000);
+    domainSocketServerFuture = domainSocketBootstrap.bind(new DomainSocketAddress(socketFile)).sync();
+    Files.setPosixFilePermissions(socketFile.toPath(), PosixFilePermissions.fromString("rw-------"));
+    LOGGER.info("Report listener service started on domain socket: {}", socketFile);
   }
 
   public void addIngestionNotifier(VeniceNotifier ingestionListener) {
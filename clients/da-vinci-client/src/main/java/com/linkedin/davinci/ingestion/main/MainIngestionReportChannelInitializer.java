@@ -4,15 +4,15 @@ import com.linkedin.alpini.netty4.ssl.SslInitializer;
 import com.linkedin.venice.listener.VerifySslHandler;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.SslUtils;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
 import java.util.Optional;
 
 
-public class MainIngestionReportChannelInitializer extends ChannelInitializer<SocketChannel> {
+public class MainIngestionReportChannelInitializer extends ChannelInitializer<Channel> {
   private final MainIngestionMonitorService mainIngestionMonitorService;
   private final Optional<SSLFactory> sslFactory;
   private final VerifySslHandler verifySslHandler = new VerifySslHandler();
@@ -25,7 +25,7 @@ public class MainIngestionReportChannelInitializer extends ChannelInitializer<So
   }
 
   @Override
-  protected void initChannel(SocketChannel ch) {
+  protected void initChannel(Channel ch) {
     sslFactory.ifPresent(
         sslFactory -> ch.pipeline().addLast(new SslInitializer(SslUtils.toAlpiniSSLFactory(sslFactory), false)));
     ch.pipeline().addLast(new HttpRequestDecoder());
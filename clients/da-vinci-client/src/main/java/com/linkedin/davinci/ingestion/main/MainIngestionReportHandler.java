@@ -61,7 +61,11 @@ public class MainIngestionReportHandler extends SimpleChannelInboundHandler<Full
         default:
           throw new UnsupportedOperationException("Unrecognized ingestion action: " + action);
       }
-      ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.OK, getDummyContent()));
+      /**
+       * The response is flushed in {@link #channelReadComplete}, so that the responses of pipelined reports read in the
+       * same batch are written back with a single flush.
+       */
+      ctx.write(buildHttpResponse(HttpResponseStatus.OK, getDummyContent()));
     } catch (UnsupportedOperationException e) {
       // Here we only handles the bad requests exception. Other errors are handled in exceptionCaught() method.
       LOGGER.error("Caught unrecognized request action:", e);
@@ -18,6 +18,7 @@ import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.SHUTD
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionAction.UPDATE_METADATA;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServerAclHandler;
 import com.linkedin.venice.authorization.DefaultIdentityParser;
@@ -51,6 +52,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -96,7 +98,19 @@ public class IsolatedIngestionUtils {
   public static final String ISOLATED_INGESTION_KAFKA_CLUSTER_MAP_FILENAME = "IsolatedIngestionKafkaClusterMap.conf";
   public static final String FORKED_PROCESS_METADATA_FILENAME = "ForkedProcessMetadata.conf";
 
+  /**
+   * The report socket is created in this directory under the data base path, which is only accessible to the user
+   * running the processes, so that the socket is never exposed to other users, not even before its own permissions
+   * are set.
+   */
+  public static final String INGESTION_REPORT_SOCKET_DIRECTORY = "ingestion-report";
+  public static final String INGESTION_REPORT_SOCKET_FILENAME_PREFIX = "IngestionReport-";
+
   public static final String PID = "pid";
+  /**
+   * Linux limits the path of a Unix domain socket to 108 bytes, including the trailing NUL character.
+   */
+  private static final int MAX_DOMAIN_SOCKET_PATH_LENGTH = 107;
 
   private static final Logger LOGGER = LogManager.getLogger(IsolatedIngestionUtils.class);
   private static final int SHELL_COMMAND_WAIT_TIME = 1000;
@@ -566,6 +580,35 @@ public class IsolatedIngestionUtils {
     }
   }
 
+  /**
+   * Returns the Unix domain socket on which the main process listens for the reports of the forked ingestion process,
+   * or empty if the domain socket transport is disabled or cannot be used on this host, in which case both processes
+   * keep using the loopback port.
+   */
+  public static Optional<File> getIngestionReportSocketFile(VeniceServerConfig serverConfig) {
+    if (!serverConfig.isIngestionIsolationDomainSocketEnabled()) {
+      return Optional.empty();
+    }
+    if (!Epoll.isAvailable()) {
+      LOGGER.warn(
+          "Native epoll transport is not available, will report over loopback HTTP.",
+          Epoll.unavailabilityCause());
+      return Optional.empty();
+    }
+    File socketFile = Paths
+        .get(
+            serverConfig.getDataBasePath(),
+            INGESTION_REPORT_SOCKET_DIRECTORY,
+            INGESTION_REPORT_SOCKET_FILENAME_PREFIX + serverConfig.getIngestionApplicationPort() + ".sock")
+        .toAbsolutePath()
+        .toFile();
+    if (socketFile.getPath().getBytes(StandardCharsets.UTF_8).length > MAX_DOMAIN_SOCKET_PATH_LENGTH) {
+      LOGGER.warn("Domain socket path: {} is too long, will report over loopback HTTP.", socketFile);
+      return Optional.empty();
+    }
+    return Optional.of(socketFile);
+  }
+
   public static boolean isolatedIngestionServerSslEnabled(VeniceConfigLoader configLoader) {
     return configLoader.getCombinedProperties().getBoolean(SERVER_INGESTION_ISOLATION_SSL_ENABLED, false);
   }
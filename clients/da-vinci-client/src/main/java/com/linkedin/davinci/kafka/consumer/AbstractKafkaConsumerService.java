@@ -43,4 +43,25 @@ public abstract class AbstractKafkaConsumerService extends AbstractVeniceService
   public abstract Map<PubSubTopicPartition, TopicPartitionIngestionInfo> getIngestionInfoFromConsumer(
       PubSubTopic versionTopic,
       PubSubTopicPartition pubSubTopicPartition);
+
+  public void pauseConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    SharedKafkaConsumer consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
+    if (consumer != null) {
+      consumer.pause(pubSubTopicPartition);
+    }
+  }
+
+  public void resumeConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    SharedKafkaConsumer consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
+    if (consumer != null) {
+      consumer.resume(pubSubTopicPartition);
+    }
+  }
+
+  public void resetOffsetFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    SharedKafkaConsumer consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
+    if (consumer != null) {
+      consumer.resetOffset(pubSubTopicPartition);
+    }
+  }
 }
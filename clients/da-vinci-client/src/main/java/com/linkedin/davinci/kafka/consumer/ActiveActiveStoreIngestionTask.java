@@ -56,7 +56,6 @@ import com.linkedin.venice.writer.DeleteMetadata;
 import com.linkedin.venice.writer.LeaderMetadataWrapper;
 import com.linkedin.venice.writer.PutMetadata;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -534,25 +533,32 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
               oldValueSchemaId,
               mergeConflictResult.getRmdRecord());
         }
+        // The record is produced after the consumer is done with it, so it must not be recycled in the meantime
+        consumerRecord.retain();
         CompletableFuture.allOf(viewWriterFutures).whenCompleteAsync((value, exception) -> {
-          hostLevelIngestionStats.recordViewProducerLatency(LatencyUtils.getElapsedTimeFromMsToMs(preprocessingTime));
-          if (exception == null) {
-            producePutOrDeleteToKafka(
-                mergeConflictResult,
-                partitionConsumptionState,
-                keyBytes,
-                consumerRecord,
-                partition,
-                kafkaUrl,
-                kafkaClusterId,
-                beforeProcessingRecordTimestampNs,
-                valueManifestContainer.getManifest(),
-                rmdWithValueSchemaID == null ? null : rmdWithValueSchemaID.getRmdManifest());
-            currentVersionTopicWrite.complete(null);
-          } else {
-            VeniceException veniceException = new VeniceException(exception);
-            this.setIngestionException(partitionConsumptionState.getPartition(), veniceException);
-            currentVersionTopicWrite.completeExceptionally(veniceException);
+          try {
+            hostLevelIngestionStats
+                .recordViewProducerLatency(LatencyUtils.getElapsedTimeFromMsToMs(preprocessingTime));
+            if (exception == null) {
+              producePutOrDeleteToKafka(
+                  mergeConflictResult,
+                  partitionConsumptionState,
+                  keyBytes,
+                  consumerRecord,
+                  partition,
+                  kafkaUrl,
+                  kafkaClusterId,
+                  beforeProcessingRecordTimestampNs,
+                  valueManifestContainer.getManifest(),
+                  rmdWithValueSchemaID == null ? null : rmdWithValueSchemaID.getRmdManifest());
+              currentVersionTopicWrite.complete(null);
+            } else {
+              VeniceException veniceException = new VeniceException(exception);
+              this.setIngestionException(partitionConsumptionState.getPartition(), veniceException);
+              currentVersionTopicWrite.completeExceptionally(veniceException);
+            }
+          } finally {
+            consumerRecord.release();
           }
         });
         partitionConsumptionState.setLastVTProduceCallFuture(currentVersionTopicWrite);
@@ -680,19 +686,6 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     return originalValue;
   }
 
-  ByteBuffer getCurrentValueFromTransientRecord(PartitionConsumptionState.TransientRecord transientRecord) {
-    ByteBuffer compressedValue =
-        ByteBuffer.wrap(transientRecord.getValue(), transientRecord.getValueOffset(), transientRecord.getValueLen());
-    try {
-      return getCompressionStrategy().isCompressionEnabled()
-          ? getCompressor().get()
-              .decompress(compressedValue.array(), compressedValue.position(), compressedValue.remaining())
-          : compressedValue;
-    } catch (IOException e) {
-      throw new VeniceException(e);
-    }
-  }
-
   /**
    * This function parses the {@link MergeConflictResult} and decides if the update should be ignored or emit a PUT or a
    * DELETE record to VT.
@@ -12,7 +12,6 @@ import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
-import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
@@ -357,12 +356,8 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
   }
 
   void resetOffsetFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
-    PubSubConsumerAdapter consumer;
     for (AbstractKafkaConsumerService consumerService: kafkaServerToConsumerServiceMap.values()) {
-      consumer = consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
-      if (consumer != null) {
-        consumer.resetOffset(pubSubTopicPartition);
-      }
+      consumerService.resetOffsetFor(versionTopic, pubSubTopicPartition);
     }
   }
 
@@ -442,22 +437,14 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
   }
 
   void pauseConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
-    PubSubConsumerAdapter consumer;
     for (AbstractKafkaConsumerService consumerService: kafkaServerToConsumerServiceMap.values()) {
-      consumer = consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
-      if (consumer != null) {
-        consumer.pause(pubSubTopicPartition);
-      }
+      consumerService.pauseConsumerFor(versionTopic, pubSubTopicPartition);
     }
   }
 
   void resumeConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
-    PubSubConsumerAdapter consumer;
     for (AbstractKafkaConsumerService consumerService: kafkaServerToConsumerServiceMap.values()) {
-      consumer = consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
-      if (consumer != null) {
-        consumer.resume(pubSubTopicPartition);
-      }
+      consumerService.resumeConsumerFor(versionTopic, pubSubTopicPartition);
     }
   }
 
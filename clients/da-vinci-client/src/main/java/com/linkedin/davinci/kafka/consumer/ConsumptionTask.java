@@ -1,7 +1,9 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
+import com.linkedin.davinci.ingestion.consumption.IngestionPriorityClass;
 import com.linkedin.davinci.stats.AggKafkaConsumerServiceStats;
+import com.linkedin.davinci.stats.IngestionPriorityClassStats;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.Version;
@@ -13,11 +15,14 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricConfig;
 import io.tehuti.metrics.stats.Rate;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -37,7 +42,9 @@ import org.apache.logging.log4j.Logger;
  *
  * Besides polling, on each iteration of the {@link #run()} loop, the following responsibilities are also fulfilled:
  * 1. Invoking the functions in {@link ConsumerSubscriptionCleaner} to ensure the consumer's subscriptions are valid.
- * 2. Invoking two throttlers, for bandwidth and records throughput.
+ * 2. Invoking two throttlers, for bandwidth and records throughput. A {@link FairShareIngestionThrottler} is invoked
+ *    once per {@link IngestionPriorityClass} of the polled records, and instead of sleeping, which would also delay the
+ *    other classes sharing the consumer, the partitions of a class exceeding its share are paused for a while.
  * 3. Recording some stats.
  */
 class ConsumptionTask implements Runnable {
@@ -49,9 +56,23 @@ class ConsumptionTask implements Runnable {
   private final Supplier<Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>>> pollFunction;
   private final IntConsumer bandwidthThrottler;
   private final IntConsumer recordsThrottler;
+  private final FairShareIngestionThrottler fairShareBandwidthThrottler;
+  private final FairShareIngestionThrottler fairShareRecordsThrottler;
+  private final boolean isFairShareThrottlingEnabled;
+  private final IngestionPriorityClassStats priorityClassStats;
+  private final Consumer<PubSubTopicPartition> pauseFunction;
+  private final Consumer<PubSubTopicPartition> resumeFunction;
   private final AggKafkaConsumerServiceStats aggStats;
   private final ConsumerSubscriptionCleaner cleaner;
 
+  /**
+   * The partitions paused by the fair share throttling, per {@link IngestionPriorityClass}, and until when. Only
+   * accessed by the consumer thread, except for the removal of the partitions migrated to another consumer, see
+   * {@link #removeDataReceiver(PubSubTopicPartition)}.
+   */
+  private final Set<PubSubTopicPartition>[] throttledTopicPartitions = new Set[IngestionPriorityClass.size()];
+  private final long[] throttledUntilTimestamps = new long[IngestionPriorityClass.size()];
+
   /**
    * Maintain rate counter with default window size to calculate the message and bytes rate at topic partition level.
    * Those topic partition level information will not be emitted out as a metric, to avoid emitting too many metrics per
@@ -84,6 +105,10 @@ class ConsumptionTask implements Runnable {
       final Supplier<Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>>> pollFunction,
       final IntConsumer bandwidthThrottler,
       final IntConsumer recordsThrottler,
+      final FairShareIngestionThrottler fairShareBandwidthThrottler,
+      final FairShareIngestionThrottler fairShareRecordsThrottler,
+      final Consumer<PubSubTopicPartition> pauseFunction,
+      final Consumer<PubSubTopicPartition> resumeFunction,
       final AggKafkaConsumerServiceStats aggStats,
       final ConsumerSubscriptionCleaner cleaner) {
     this.taskId = taskId;
@@ -91,6 +116,17 @@ class ConsumptionTask implements Runnable {
     this.pollFunction = pollFunction;
     this.bandwidthThrottler = bandwidthThrottler;
     this.recordsThrottler = recordsThrottler;
+    this.fairShareBandwidthThrottler = fairShareBandwidthThrottler;
+    this.fairShareRecordsThrottler = fairShareRecordsThrottler;
+    this.isFairShareThrottlingEnabled = fairShareBandwidthThrottler != null || fairShareRecordsThrottler != null;
+    this.priorityClassStats = fairShareBandwidthThrottler != null
+        ? fairShareBandwidthThrottler.getPriorityClassStats()
+        : (fairShareRecordsThrottler != null ? fairShareRecordsThrottler.getPriorityClassStats() : null);
+    this.pauseFunction = pauseFunction;
+    this.resumeFunction = resumeFunction;
+    for (int i = 0; i < throttledTopicPartitions.length; i++) {
+      throttledTopicPartitions[i] = ConcurrentHashMap.newKeySet();
+    }
     this.aggStats = aggStats;
     this.cleaner = cleaner;
     String kafkaUrlForLogger = Utils.getSanitizedStringForLogger(kafkaUrl);
@@ -110,6 +146,9 @@ class ConsumptionTask implements Runnable {
     int payloadBytesConsumedInOnePoll;
     int polledPubSubMessagesCount = 0;
     Map<String, StorePollCounter> storePollCounterMap = new HashMap<>();
+    IngestionPriorityClass priorityClass;
+    int[] payloadBytesPerPriorityClass = new int[IngestionPriorityClass.size()];
+    int[] polledPubSubMessagesCountPerPriorityClass = new int[IngestionPriorityClass.size()];
     try {
       while (running) {
         try {
@@ -124,6 +163,9 @@ class ConsumptionTask implements Runnable {
             addSomeDelay = false;
           }
           beforePollingTimeStamp = System.currentTimeMillis();
+          if (isFairShareThrottlingEnabled) {
+            resumeThrottledTopicPartitions(beforePollingTimeStamp);
+          }
           topicPartitionsToUnsub = cleaner.getTopicPartitionsToUnsubscribe(topicPartitionsToUnsub); // N.B. cheap call
           for (PubSubTopicPartition topicPartitionToUnSub: topicPartitionsToUnsub) {
             ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
@@ -145,6 +187,8 @@ class ConsumptionTask implements Runnable {
           if (!polledPubSubMessages.isEmpty()) {
             payloadBytesConsumedInOnePoll = 0;
             polledPubSubMessagesCount = 0;
+            Arrays.fill(payloadBytesPerPriorityClass, 0);
+            Arrays.fill(polledPubSubMessagesCountPerPriorityClass, 0);
             beforeProducingToWriteBufferTimestamp = System.currentTimeMillis();
             for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: polledPubSubMessages
                 .entrySet()) {
@@ -170,6 +214,17 @@ class ConsumptionTask implements Runnable {
               }
               counter.byteSize += payloadSizePerTopicPartition;
               payloadBytesConsumedInOnePoll += payloadSizePerTopicPartition;
+              if (isFairShareThrottlingEnabled) {
+                priorityClass = consumedDataReceiver.getPriorityClass();
+                payloadBytesPerPriorityClass[priorityClass.ordinal()] += payloadSizePerTopicPartition;
+                polledPubSubMessagesCountPerPriorityClass[priorityClass.ordinal()] += topicPartitionMessages.size();
+                if (priorityClassStats != null && !topicPartitionMessages.isEmpty()) {
+                  priorityClassStats.recordConsumptionLag(
+                      priorityClass,
+                      lastSuccessfulPollTimestamp
+                          - topicPartitionMessages.get(topicPartitionMessages.size() - 1).getPubSubMessageTime());
+                }
+              }
 
               lastSuccessfulPollTimestampPerTopicPartition.put(pubSubTopicPartition, lastSuccessfulPollTimestamp);
               messageRatePerTopicPartition
@@ -188,8 +243,18 @@ class ConsumptionTask implements Runnable {
               aggStats.getStoreStats(storeName).recordPollResultNum(counter.msgCount);
               aggStats.getStoreStats(storeName).recordByteSizePerPoll(counter.byteSize);
             });
-            bandwidthThrottler.accept(payloadBytesConsumedInOnePoll);
-            recordsThrottler.accept(polledPubSubMessagesCount);
+            if (fairShareBandwidthThrottler == null) {
+              bandwidthThrottler.accept(payloadBytesConsumedInOnePoll);
+            }
+            if (fairShareRecordsThrottler == null) {
+              recordsThrottler.accept(polledPubSubMessagesCount);
+            }
+            if (isFairShareThrottlingEnabled) {
+              throttleByPriorityClass(
+                  payloadBytesPerPriorityClass,
+                  polledPubSubMessagesCountPerPriorityClass,
+                  lastSuccessfulPollTimestamp);
+            }
             cleaner.unsubscribe(topicPartitionsToUnsub);
             aggStats.recordTotalDetectedNoRunningIngestionTopicPartitionNum(topicPartitionsToUnsub.size());
             storePollCounterMap.clear();
@@ -219,6 +284,65 @@ class ConsumptionTask implements Runnable {
     }
   }
 
+  /**
+   * Throttles the records of a poll class by class. Since the consumer thread is shared, a class exceeding its share is
+   * not slowed down by sleeping, which would also delay the other classes, but by pausing its partitions until
+   * {@link #resumeThrottledTopicPartitions(long)} resumes them.
+   */
+  private void throttleByPriorityClass(
+      int[] payloadBytesPerPriorityClass,
+      int[] polledMessagesCountPerPriorityClass,
+      long now) {
+    for (int i = 0; i < polledMessagesCountPerPriorityClass.length; i++) {
+      if (polledMessagesCountPerPriorityClass[i] == 0) {
+        continue;
+      }
+      IngestionPriorityClass priorityClass = IngestionPriorityClass.valueOf(i);
+      long pauseTimeMs = 0;
+      if (fairShareBandwidthThrottler != null) {
+        pauseTimeMs = fairShareBandwidthThrottler.getPauseTimeMs(priorityClass, payloadBytesPerPriorityClass[i]);
+      }
+      if (fairShareRecordsThrottler != null) {
+        pauseTimeMs = Math.max(
+            pauseTimeMs,
+            fairShareRecordsThrottler.getPauseTimeMs(priorityClass, polledMessagesCountPerPriorityClass[i]));
+      }
+      if (pauseTimeMs > 0) {
+        pausePriorityClass(priorityClass, now + pauseTimeMs);
+      }
+    }
+  }
+
+  /**
+   * Pauses the partitions of the given class until the given time. The pause and resume functions only add and lift the
+   * throttling reason to pause a partition, so a partition also paused for another reason stays paused when the
+   * throttled ones are resumed, see {@link SharedKafkaConsumer.PauseReason}.
+   */
+  private void pausePriorityClass(IngestionPriorityClass priorityClass, long pausedUntilTimestamp) {
+    int index = priorityClass.ordinal();
+    throttledUntilTimestamps[index] = Math.max(throttledUntilTimestamps[index], pausedUntilTimestamp);
+    Set<PubSubTopicPartition> throttledTopicPartitionsOfClass = throttledTopicPartitions[index];
+    for (Map.Entry<PubSubTopicPartition, ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>>> entry: dataReceiverMap
+        .entrySet()) {
+      PubSubTopicPartition topicPartition = entry.getKey();
+      if (entry.getValue().getPriorityClass() == priorityClass
+          && !throttledTopicPartitionsOfClass.contains(topicPartition)) {
+        pauseFunction.accept(topicPartition);
+        throttledTopicPartitionsOfClass.add(topicPartition);
+      }
+    }
+  }
+
+  private void resumeThrottledTopicPartitions(long now) {
+    for (int i = 0; i < throttledTopicPartitions.length; i++) {
+      if (throttledUntilTimestamps[i] <= now && !throttledTopicPartitions[i].isEmpty()) {
+        // N.B. Resuming a partition which has been unsubscribed in the meantime is a no-op
+        throttledTopicPartitions[i].forEach(resumeFunction);
+        throttledTopicPartitions[i].clear();
+      }
+    }
+  }
+
   void stop() {
     running = false;
     synchronized (this) {
@@ -279,8 +403,20 @@ class ConsumptionTask implements Runnable {
     return DEFAULT_TOPIC_PARTITION_NO_POLL_TIMESTAMP;
   }
 
+  ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> getDataReceiver(
+      PubSubTopicPartition topicPartition) {
+    return dataReceiverMap.get(topicPartition);
+  }
+
+  /**
+   * Also forgets about the throttling of the partition, which is not carried over to the consumer taking it over: the
+   * throttling is only lifted by the consumer thread of this task, which does not poll the partition anymore.
+   */
   void removeDataReceiver(PubSubTopicPartition topicPartition) {
     dataReceiverMap.remove(topicPartition);
+    for (Set<PubSubTopicPartition> throttledTopicPartitionsOfClass: throttledTopicPartitions) {
+      throttledTopicPartitionsOfClass.remove(topicPartition);
+    }
   }
 
   /**
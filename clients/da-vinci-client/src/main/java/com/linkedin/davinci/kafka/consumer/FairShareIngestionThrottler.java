@@ -0,0 +1,159 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.ingestion.consumption.IngestionPriorityClass;
+import com.linkedin.davinci.stats.IngestionPriorityClassStats;
+import com.linkedin.venice.throttle.EventThrottler;
+import io.tehuti.metrics.MetricConfig;
+import io.tehuti.metrics.stats.Rate;
+import io.tehuti.utils.SystemTime;
+import io.tehuti.utils.Time;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An {@link EventThrottler} which shares its quota among the {@link IngestionPriorityClass}es of the consumed data.
+ *
+ * As long as the total rate of the host is within the quota, nothing is throttled. Once it is exceeded, each class is
+ * entitled to a share of the quota proportional to its weight among the classes which consumed anything during the
+ * last enforcement interval, and only the classes consuming beyond their share are slowed down. A future-version push
+ * is thus throttled first, instead of slowing down the real-time ingestion of the current versions as much as itself,
+ * while it can still use the whole quota when nothing else is consuming.
+ *
+ * Unlike {@link EventThrottler#maybeThrottle(double)}, this throttler does not sleep, since the consumer threads are
+ * shared among the classes. It tells for how long the partitions of an over-share class should be paused instead, see
+ * {@link ConsumptionTask}.
+ *
+ * The rates are measured over the same rolling windows as {@link EventThrottler}.
+ */
+public class FairShareIngestionThrottler extends EventThrottler {
+  private static final Logger LOGGER = LogManager.getLogger(FairShareIngestionThrottler.class);
+
+  private final String throttlerName;
+  private final long enforcementIntervalMs;
+  private final int[] weights;
+  private final IngestionPriorityClassStats stats;
+  private final MetricConfig rateConfig;
+  // Guarded by this
+  private final Rate totalRate;
+  private final Rate[] classRates;
+  private final long[] lastConsumptionTimestamps;
+
+  /**
+   * @param weights overrides the {@link IngestionPriorityClass#getDefaultWeight()} of the given classes
+   * @param stats the stats of the priority classes, or null if they aren't reported
+   */
+  public FairShareIngestionThrottler(
+      LongSupplier maxRatePerSecondProvider,
+      long intervalMs,
+      String throttlerName,
+      Map<IngestionPriorityClass, Integer> weights,
+      IngestionPriorityClassStats stats) {
+    this(new SystemTime(), maxRatePerSecondProvider, intervalMs, throttlerName, weights, stats);
+  }
+
+  /**
+   * @param time Used to inject a {@link Time} in tests
+   * @param weights overrides the {@link IngestionPriorityClass#getDefaultWeight()} of the given classes
+   * @param stats the stats of the priority classes, or null if they aren't reported
+   */
+  public FairShareIngestionThrottler(
+      Time time,
+      LongSupplier maxRatePerSecondProvider,
+      long intervalMs,
+      String throttlerName,
+      Map<IngestionPriorityClass, Integer> weights,
+      IngestionPriorityClassStats stats) {
+    super(time, maxRatePerSecondProvider, intervalMs, throttlerName, false, EventThrottler.BLOCK_STRATEGY);
+    if (intervalMs <= 0) {
+      throw new IllegalArgumentException("intervalMs must be a positive number.");
+    }
+    this.throttlerName = throttlerName;
+    this.enforcementIntervalMs = intervalMs;
+    this.weights = new int[IngestionPriorityClass.size()];
+    for (IngestionPriorityClass priorityClass: IngestionPriorityClass.values()) {
+      int weight = weights.getOrDefault(priorityClass, priorityClass.getDefaultWeight());
+      if (weight < 1) {
+        throw new IllegalArgumentException(
+            "The weight of priority class: " + priorityClass + " must be a positive number, but got: " + weight);
+      }
+      this.weights[priorityClass.ordinal()] = weight;
+    }
+    this.stats = stats;
+    this.rateConfig = new MetricConfig().timeWindow(intervalMs, TimeUnit.MILLISECONDS);
+    long now = time.milliseconds();
+    this.totalRate = createRate(now);
+    this.classRates = new Rate[IngestionPriorityClass.size()];
+    for (int i = 0; i < classRates.length; i++) {
+      classRates[i] = createRate(now);
+    }
+    this.lastConsumptionTimestamps = new long[IngestionPriorityClass.size()];
+    Arrays.fill(lastConsumptionTimestamps, now - intervalMs);
+  }
+
+  /**
+   * Records the given events, and tells for how long the given class should be paused to slow it down to its share of
+   * the quota.
+   *
+   * @param priorityClass the class of the events seen
+   * @param eventsSeen Number of events seen since last invocation.
+   * @return the time to pause the consumption of the given class for, in ms
+   */
+  public long getPauseTimeMs(IngestionPriorityClass priorityClass, double eventsSeen) {
+    long maxRatePerSecond = getMaxRatePerSecond();
+    long now = getTime().milliseconds();
+    int index = priorityClass.ordinal();
+    double classRate;
+    double share;
+    synchronized (this) {
+      totalRate.record(eventsSeen, now);
+      classRates[index].record(eventsSeen, now);
+      lastConsumptionTimestamps[index] = now;
+      if (maxRatePerSecond < 0 || totalRate.measure(rateConfig, now) <= maxRatePerSecond) {
+        return 0;
+      }
+      int activeWeight = 0;
+      for (int i = 0; i < weights.length; i++) {
+        if (now - lastConsumptionTimestamps[i] < enforcementIntervalMs) {
+          activeWeight += weights[i];
+        }
+      }
+      share = (double) maxRatePerSecond * weights[index] / activeWeight;
+      classRate = classRates[index].measure(rateConfig, now);
+    }
+    if (classRate <= share) {
+      return 0;
+    }
+    long pauseTimeMs = share == 0
+        ? enforcementIntervalMs
+        : Math.min(enforcementIntervalMs, Math.round((classRate - share) / share * Time.MS_PER_SECOND));
+    LOGGER.debug(
+        "Throttler: {} priority class: {} exceeded its share: {} event/sec with rate: {} event/sec, pausing for {} ms",
+        throttlerName,
+        priorityClass,
+        share,
+        classRate,
+        pauseTimeMs);
+    if (stats != null) {
+      stats.recordThrottledTime(priorityClass, pauseTimeMs);
+    }
+    return pauseTimeMs;
+  }
+
+  /**
+   * @return the stats of the priority classes, or null if they aren't reported
+   */
+  public IngestionPriorityClassStats getPriorityClassStats() {
+    return stats;
+  }
+
+  private Rate createRate(long now) {
+    Rate rate = new Rate(TimeUnit.SECONDS);
+    rate.init(rateConfig, now);
+    return rate;
+  }
+}
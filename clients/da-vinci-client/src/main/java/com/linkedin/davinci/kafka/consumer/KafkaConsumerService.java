@@ -158,6 +158,10 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
           pollFunction,
           bandwidthThrottlerFunction,
           recordsThrottlerFunction,
+          getFairShareIngestionThrottler(bandwidthThrottler),
+          getFairShareIngestionThrottler(recordsThrottler),
+          topicPartition -> pubSubConsumer.pause(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE),
+          topicPartition -> pubSubConsumer.resume(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE),
           this.aggStats,
           cleaner);
       consumerToConsumptionTask.putByIndex(pubSubConsumer, consumptionTask, i);
@@ -166,6 +170,10 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     LOGGER.info("KafkaConsumerService was initialized with {} consumers.", numOfConsumersPerKafkaCluster);
   }
 
+  private static FairShareIngestionThrottler getFairShareIngestionThrottler(EventThrottler throttler) {
+    return throttler instanceof FairShareIngestionThrottler ? (FairShareIngestionThrottler) throttler : null;
+  }
+
   /** May be overridden to clean up state in sub-classes */
   void handleUnsubscription(SharedKafkaConsumer consumer, PubSubTopicPartition topicPartition) {
   }
@@ -513,11 +521,13 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
   /**
    * This consumer assignment strategy specify how consumers from consumer pool are allocated. Now we support two basic
    * strategies with topic-wise and partition-wise for supporting consumer shared in topic and topic-partition granularity,
-   * respectively. Each strategy will have a specific extension of {@link KafkaConsumerService}.
+   * respectively, and a load-aware partition-wise one, which keeps the throughput of the consumers balanced. Each
+   * strategy will have a specific extension of {@link KafkaConsumerService}.
    */
   public enum ConsumerAssignmentStrategy {
     TOPIC_WISE_SHARED_CONSUMER_ASSIGNMENT_STRATEGY(TopicWiseKafkaConsumerService::new),
-    PARTITION_WISE_SHARED_CONSUMER_ASSIGNMENT_STRATEGY(PartitionWiseKafkaConsumerService::new);
+    PARTITION_WISE_SHARED_CONSUMER_ASSIGNMENT_STRATEGY(PartitionWiseKafkaConsumerService::new),
+    LOAD_AWARE_PARTITION_WISE_SHARED_CONSUMER_ASSIGNMENT_STRATEGY(LoadAwarePartitionWiseKafkaConsumerService::new);
 
     final KCSConstructor constructor;
 
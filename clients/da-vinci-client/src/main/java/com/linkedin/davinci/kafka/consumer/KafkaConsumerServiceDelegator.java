@@ -103,6 +103,21 @@ public class KafkaConsumerServiceDelegator extends AbstractKafkaConsumerService
     }
   }
 
+  @Override
+  public void pauseConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    getKafkaConsumerService(versionTopic, pubSubTopicPartition).pauseConsumerFor(versionTopic, pubSubTopicPartition);
+  }
+
+  @Override
+  public void resumeConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    getKafkaConsumerService(versionTopic, pubSubTopicPartition).resumeConsumerFor(versionTopic, pubSubTopicPartition);
+  }
+
+  @Override
+  public void resetOffsetFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    getKafkaConsumerService(versionTopic, pubSubTopicPartition).resetOffsetFor(versionTopic, pubSubTopicPartition);
+  }
+
   @Override
   public boolean hasAnySubscriptionFor(PubSubTopic versionTopic) {
     return defaultConsumerService.hasAnySubscriptionFor(versionTopic)
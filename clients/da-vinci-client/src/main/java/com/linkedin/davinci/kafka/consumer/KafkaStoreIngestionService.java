@@ -27,6 +27,7 @@ import com.linkedin.davinci.notifier.VeniceNotifier;
 import com.linkedin.davinci.stats.AggHostLevelIngestionStats;
 import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
+import com.linkedin.davinci.stats.IngestionPriorityClassStats;
 import com.linkedin.davinci.stats.ParticipantStoreConsumptionStats;
 import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService;
 import com.linkedin.davinci.storage.StorageEngineRepository;
@@ -86,6 +87,8 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import com.linkedin.venice.utils.pools.ObjectPool;
+import com.linkedin.venice.utils.pools.RecyclingObjectPool;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
@@ -234,19 +237,38 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     VeniceWriterFactory veniceWriterFactoryForMetaStoreWriter =
         new VeniceWriterFactory(veniceWriterProperties, producerAdapterFactory, null);
 
-    EventThrottler bandwidthThrottler = new EventThrottler(
-        serverConfig.getKafkaFetchQuotaBytesPerSecond(),
-        serverConfig.getKafkaFetchQuotaTimeWindow(),
-        "kafka_consumption_bandwidth",
-        false,
-        EventThrottler.BLOCK_STRATEGY);
-
-    EventThrottler recordsThrottler = new EventThrottler(
-        serverConfig.getKafkaFetchQuotaRecordPerSecond(),
-        serverConfig.getKafkaFetchQuotaTimeWindow(),
-        "kafka_consumption_records_count",
-        false,
-        EventThrottler.BLOCK_STRATEGY);
+    EventThrottler bandwidthThrottler;
+    EventThrottler recordsThrottler;
+    if (serverConfig.isIngestionFairShareThrottlingEnabled()) {
+      IngestionPriorityClassStats priorityClassStats =
+          new IngestionPriorityClassStats(metricsRepository, "ingestion_priority_class");
+      bandwidthThrottler = new FairShareIngestionThrottler(
+          serverConfig::getKafkaFetchQuotaBytesPerSecond,
+          serverConfig.getKafkaFetchQuotaTimeWindow(),
+          "kafka_consumption_bandwidth",
+          serverConfig.getIngestionPriorityClassWeights(),
+          priorityClassStats);
+      recordsThrottler = new FairShareIngestionThrottler(
+          serverConfig::getKafkaFetchQuotaRecordPerSecond,
+          serverConfig.getKafkaFetchQuotaTimeWindow(),
+          "kafka_consumption_records_count",
+          serverConfig.getIngestionPriorityClassWeights(),
+          priorityClassStats);
+    } else {
+      bandwidthThrottler = new EventThrottler(
+          serverConfig.getKafkaFetchQuotaBytesPerSecond(),
+          serverConfig.getKafkaFetchQuotaTimeWindow(),
+          "kafka_consumption_bandwidth",
+          false,
+          EventThrottler.BLOCK_STRATEGY);
+
+      recordsThrottler = new EventThrottler(
+          serverConfig.getKafkaFetchQuotaRecordPerSecond(),
+          serverConfig.getKafkaFetchQuotaTimeWindow(),
+          "kafka_consumption_records_count",
+          false,
+          EventThrottler.BLOCK_STRATEGY);
+    }
 
     final Map<String, EventThrottler> kafkaUrlToRecordsThrottler;
     if (liveClusterConfigRepository != null) {
@@ -281,6 +303,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
             .setPubSubConsumerAdapterFactory(pubSubClientsFactory.getConsumerAdapterFactory())
             .setTopicMetadataFetcherThreadPoolSize(serverConfig.getTopicManagerMetadataFetcherThreadPoolSize())
             .setTopicMetadataFetcherConsumerPoolSize(serverConfig.getTopicManagerMetadataFetcherConsumerPoolSize())
+            .setBatchedEndOffsetRefreshEnabled(serverConfig.isTopicManagerBatchedEndOffsetRefreshEnabled())
             .build();
     this.topicManagerRepository =
         new TopicManagerRepository(topicManagerContext, serverConfig.getKafkaBootstrapServers());
@@ -391,8 +414,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     kafkaMessageEnvelopeSchemaReader.ifPresent(kafkaValueSerializer::setSchemaReader);
     PubSubMessageDeserializer pubSubDeserializer = new PubSubMessageDeserializer(
         kafkaValueSerializer,
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+        createMessageEnvelopePool(serverConfig),
+        createMessageEnvelopePool(serverConfig));
 
     aggKafkaConsumerService = new AggKafkaConsumerService(
         pubSubClientsFactory.getConsumerAdapterFactory(),
@@ -1049,6 +1072,18 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     return String.format(GROUP_ID_FORMAT, topic, Utils.getHostName());
   }
 
+  /**
+   * @return a pool recycling the envelopes of the consumed records once they are released, or a pool which always
+   *         allocates new ones when the recycling is disabled.
+   */
+  private static ObjectPool<KafkaMessageEnvelope> createMessageEnvelopePool(VeniceServerConfig serverConfig) {
+    int capacity = serverConfig.getIngestionMessageEnvelopePoolCapacity();
+    if (capacity <= 0) {
+      return new LandFillObjectPool<>(KafkaMessageEnvelope::new);
+    }
+    return new RecyclingObjectPool<>(KafkaMessageEnvelope::new, capacity, PubSubMessageDeserializer::recycleEnvelope);
+  }
+
   /**
    * So far, this function is only targeted to be used by shared consumer.
    * @param serverConfig
@@ -26,8 +26,10 @@ import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService
 import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
 import com.linkedin.davinci.storage.chunking.ChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.RawBytesChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
+import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.view.VeniceViewWriter;
 import com.linkedin.davinci.validation.KafkaDataIntegrityValidator;
@@ -65,6 +67,7 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
+import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
 import com.linkedin.venice.stats.StatsErrorCode;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
@@ -189,6 +192,27 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
 
   private final AtomicLong lastSendIngestionHeartbeatTimestamp = new AtomicLong(0);
 
+  /**
+   * Whether the consecutive UPDATE messages of a consumed batch which target the same key are applied to a single
+   * value, which is produced once. It is only done for non active-active stores, whose partitions are consumed by a
+   * single consumer at a time, and whose UPDATE messages don't need to be resolved field by field against the other
+   * regions.
+   */
+  private final boolean writeComputeUpdateCoalescingEnabled;
+
+  /**
+   * The UPDATE messages applied to a value whose production is deferred, per partition, see
+   * {@link #flushDeferredRecords(int)}.
+   */
+  private final Map<Integer, CoalescedUpdate> coalescedUpdates = new VeniceConcurrentHashMap<>();
+
+  /**
+   * Whether the UPDATE messages which only put new values in top-level fields are applied on the serialized current
+   * value, without deserializing it. Only done when the UPDATE messages aren't coalesced, since the coalesced ones are
+   * applied on a deserialized value.
+   */
+  private final boolean writeComputeBinarySplicingEnabled;
+
   public LeaderFollowerStoreIngestionTask(
       StoreIngestionTaskFactory.Builder builder,
       Store store,
@@ -229,6 +253,10 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
         schemaRepository,
         mergeRecordHelper,
         serverConfig.isComputeFastAvroEnabled());
+    this.writeComputeUpdateCoalescingEnabled =
+        serverConfig.isWriteComputeUpdateCoalescingEnabled() && !isActiveActiveReplicationEnabled();
+    this.writeComputeBinarySplicingEnabled = serverConfig.isWriteComputeBinarySplicingEnabled()
+        && !isActiveActiveReplicationEnabled() && !writeComputeUpdateCoalescingEnabled;
     this.isNativeReplicationEnabled = version.isNativeReplicationEnabled();
 
     /**
@@ -2122,6 +2150,7 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     try {
       KafkaKey kafkaKey = consumerRecord.getKey();
       KafkaMessageEnvelope kafkaValue = consumerRecord.getValue();
+      maybeFlushDeferredRecords(consumerRecord, partition, kafkaClusterId);
       /**
        * partitionConsumptionState must be in a valid state and no error reported. This is made sure by calling
        * {@link shouldProcessRecord} before processing any record.
@@ -3066,13 +3095,89 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       readerValueSchemaId = supersetSchemaEntry.getId();
       readerUpdateProtocolVersion = update.updateSchemaId;
     }
+    if (writeComputeUpdateCoalescingEnabled) {
+      CoalescedUpdate coalescedUpdate = coalescedUpdates.get(partitionConsumptionState.getPartition());
+      if (coalescedUpdate != null) {
+        if (coalescedUpdate.readerValueSchemaId == readerValueSchemaId) {
+          coalesceUpdate(coalescedUpdate, update, readerUpdateProtocolVersion);
+          coalescedUpdate.lastConsumerRecord = consumerRecord;
+          coalescedUpdate.beforeProcessingRecordTimestampNs = beforeProcessingRecordTimestampNs;
+          hostLevelIngestionStats.recordWriteComputeCoalescedUpdateCount();
+          return;
+        }
+        // The superset schema has changed, so the value can't be updated any further
+        flushDeferredRecords(partitionConsumptionState.getPartition());
+      }
+    }
+
     ChunkedValueManifestContainer valueManifestContainer = new ChunkedValueManifestContainer();
-    final GenericRecord currValue = readStoredValueRecord(
-        partitionConsumptionState,
-        keyBytes,
-        readerValueSchemaId,
-        consumerRecord.getTopicPartition(),
-        valueManifestContainer);
+    final GenericRecord currValue;
+    if (writeComputeBinarySplicingEnabled) {
+      ByteBufferValueRecord<ByteBuffer> currValueBytes = readStoredValueBytes(
+          partitionConsumptionState,
+          keyBytes,
+          consumerRecord.getTopicPartition(),
+          valueManifestContainer);
+      if (currValueBytes != null) {
+        byte[] splicedValueBytes =
+            spliceUpdate(update, currValueBytes, readerValueSchemaId, readerUpdateProtocolVersion);
+        if (splicedValueBytes != null) {
+          produceUpdatedValue(
+              keyBytes,
+              splicedValueBytes,
+              readerValueSchemaId,
+              valueManifestContainer.getManifest(),
+              consumerRecord,
+              kafkaUrl,
+              kafkaClusterId,
+              partitionConsumptionState,
+              beforeProcessingRecordTimestampNs);
+          return;
+        }
+      }
+      // The UPDATE message merges collections, or the current value is serialized with another value schema
+      currValue = deserializeStoredValue(currValueBytes, readerValueSchemaId);
+    } else {
+      currValue = readStoredValueRecord(
+          partitionConsumptionState,
+          keyBytes,
+          readerValueSchemaId,
+          consumerRecord.getTopicPartition(),
+          valueManifestContainer);
+    }
+
+    if (writeComputeUpdateCoalescingEnabled) {
+      final GenericRecord updatedValue;
+      long writeComputeStartTimeInNS = System.nanoTime();
+      try {
+        updatedValue = storeWriteComputeHandler.applyWriteComputeToRecord(
+            currValue,
+            update.schemaId,
+            readerValueSchemaId,
+            update.updateValue,
+            update.updateSchemaId,
+            readerUpdateProtocolVersion);
+      } catch (Exception e) {
+        writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
+        throw new RuntimeException(e);
+      }
+      if (updatedValue == null) {
+        checkNoValueDeletion(currValue);
+        return;
+      }
+      CoalescedUpdate coalescedUpdate = new CoalescedUpdate(
+          keyBytes,
+          readerValueSchemaId,
+          updatedValue,
+          valueManifestContainer.getManifest(),
+          consumerRecord,
+          kafkaUrl,
+          kafkaClusterId,
+          beforeProcessingRecordTimestampNs);
+      coalescedUpdate.writeComputeLatencyNs = System.nanoTime() - writeComputeStartTimeInNS;
+      coalescedUpdates.put(partitionConsumptionState.getPartition(), coalescedUpdate);
+      return;
+    }
 
     final byte[] updatedValueBytes;
     final ChunkedValueManifest oldValueManifest = valueManifestContainer.getManifest();
@@ -3098,61 +3203,283 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     }
 
     if (updatedValueBytes == null) {
-      if (currValue != null) {
-        throw new IllegalStateException(
-            "Detect a situation where the current value exists and the Write Compute request"
-                + "deletes the current value. It is unexpected because Write Compute only supports partial update and does "
-                + "not support record value deletion.");
-      } else {
-        // No-op. The fact that currValue does not exist on the leader means currValue does not exist on the follower
-        // either. So, there is no need to tell the follower replica to do anything.
-      }
+      checkNoValueDeletion(currValue);
     } else {
-      partitionConsumptionState.setTransientRecord(
-          kafkaClusterId,
-          consumerRecord.getOffset(),
+      produceUpdatedValue(
           keyBytes,
           updatedValueBytes,
-          0,
-          updatedValueBytes.length,
           readerValueSchemaId,
-          null);
-
-      ByteBuffer updateValueWithSchemaId =
-          ByteUtils.prependIntHeaderToByteBuffer(ByteBuffer.wrap(updatedValueBytes), readerValueSchemaId, false);
-
-      Put updatedPut = new Put();
-      updatedPut.putValue = updateValueWithSchemaId;
-      updatedPut.schemaId = readerValueSchemaId;
-
-      LeaderProducedRecordContext leaderProducedRecordContext =
-          LeaderProducedRecordContext.newPutRecord(kafkaClusterId, consumerRecord.getOffset(), keyBytes, updatedPut);
-
-      BiConsumer<ChunkAwareCallback, LeaderMetadataWrapper> produceFunction =
-          (callback, leaderMetadataWrapper) -> veniceWriter.get()
-              .put(
-                  keyBytes,
-                  updatedValueBytes,
-                  readerValueSchemaId,
-                  callback,
-                  leaderMetadataWrapper,
-                  APP_DEFAULT_LOGICAL_TS,
-                  null,
-                  oldValueManifest,
-                  null);
-
-      produceToLocalKafka(
+          oldValueManifest,
           consumerRecord,
-          partitionConsumptionState,
-          leaderProducedRecordContext,
-          produceFunction,
-          partitionConsumptionState.getPartition(),
           kafkaUrl,
           kafkaClusterId,
+          partitionConsumptionState,
           beforeProcessingRecordTimestampNs);
     }
   }
 
+  /**
+   * Applies an UPDATE message which only puts new values in top-level fields on the serialized current value.
+   *
+   * @return the compressed bytes of the updated value, or null if the UPDATE message can't be applied on the serialized
+   *         current value.
+   */
+  private byte[] spliceUpdate(
+      Update update,
+      ByteBufferValueRecord<ByteBuffer> currValueBytes,
+      int readerValueSchemaId,
+      int readerUpdateProtocolVersion) {
+    try {
+      long writeComputeStartTimeInNS = System.nanoTime();
+      byte[] updatedValueBytes = storeWriteComputeHandler.applyWriteComputeToBytes(
+          currValueBytes.value(),
+          currValueBytes.writerSchemaId(),
+          update.schemaId,
+          readerValueSchemaId,
+          update.updateValue.duplicate(),
+          update.updateSchemaId,
+          readerUpdateProtocolVersion);
+      if (updatedValueBytes == null) {
+        return null;
+      }
+      updatedValueBytes = compressor.get().compress(updatedValueBytes);
+      hostLevelIngestionStats
+          .recordWriteComputeUpdateLatency(LatencyUtils.getElapsedTimeFromNSToMS(writeComputeStartTimeInNS));
+      return updatedValueBytes;
+    } catch (Exception e) {
+      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void checkNoValueDeletion(GenericRecord currValue) {
+    if (currValue != null) {
+      throw new IllegalStateException(
+          "Detect a situation where the current value exists and the Write Compute request"
+              + "deletes the current value. It is unexpected because Write Compute only supports partial update and "
+              + "does not support record value deletion.");
+    } else {
+      // No-op. The fact that currValue does not exist on the leader means currValue does not exist on the follower
+      // either. So, there is no need to tell the follower replica to do anything.
+    }
+  }
+
+  /**
+   * Applies an UPDATE message to the deferred value of the previous UPDATE messages of the same key.
+   */
+  private void coalesceUpdate(CoalescedUpdate coalescedUpdate, Update update, int readerUpdateProtocolVersion) {
+    final GenericRecord updatedValue;
+    long writeComputeStartTimeInNS = System.nanoTime();
+    try {
+      updatedValue = storeWriteComputeHandler.applyWriteComputeToRecord(
+          coalescedUpdate.value,
+          update.schemaId,
+          coalescedUpdate.readerValueSchemaId,
+          update.updateValue,
+          update.updateSchemaId,
+          readerUpdateProtocolVersion);
+    } catch (Exception e) {
+      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
+      throw new RuntimeException(e);
+    }
+    if (updatedValue == null) {
+      checkNoValueDeletion(coalescedUpdate.value);
+    }
+    coalescedUpdate.value = updatedValue;
+    coalescedUpdate.writeComputeLatencyNs += System.nanoTime() - writeComputeStartTimeInNS;
+  }
+
+  /**
+   * Produces the value resulting from the deferred UPDATE messages of the partition, with the offset of the last one
+   * of them as the upstream offset. Until then, none of them is checkpointed, so they are consumed again if the leader
+   * fails before producing them. They are dropped if the partition is no longer led by this replica.
+   */
+  @Override
+  protected void flushDeferredRecords(int partition) {
+    CoalescedUpdate coalescedUpdate = coalescedUpdates.remove(partition);
+    if (coalescedUpdate == null) {
+      return;
+    }
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(partition);
+    if (partitionConsumptionState == null || !shouldProduceToVersionTopic(partitionConsumptionState)) {
+      return;
+    }
+    final byte[] updatedValueBytes;
+    long serializationStartTimeInNS = System.nanoTime();
+    try {
+      updatedValueBytes = compressor.get()
+          .compress(
+              storeWriteComputeHandler.serializeValue(coalescedUpdate.value, coalescedUpdate.readerValueSchemaId));
+    } catch (Exception e) {
+      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
+      throw new RuntimeException(e);
+    }
+    // The latency of the coalesced UPDATE messages is recorded once, as a whole
+    hostLevelIngestionStats.recordWriteComputeUpdateLatency(
+        LatencyUtils.convertNSToMS(
+            coalescedUpdate.writeComputeLatencyNs + System.nanoTime() - serializationStartTimeInNS));
+    produceUpdatedValue(
+        coalescedUpdate.keyBytes,
+        updatedValueBytes,
+        coalescedUpdate.readerValueSchemaId,
+        coalescedUpdate.oldValueManifest,
+        coalescedUpdate.lastConsumerRecord,
+        coalescedUpdate.kafkaUrl,
+        coalescedUpdate.kafkaClusterId,
+        partitionConsumptionState,
+        coalescedUpdate.beforeProcessingRecordTimestampNs);
+  }
+
+  /**
+   * Produces the deferred records of the partition before the given record is handled, unless the record can be folded
+   * into them.
+   */
+  protected void maybeFlushDeferredRecords(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      int partition,
+      int kafkaClusterId) {
+    if (!writeComputeUpdateCoalescingEnabled) {
+      return;
+    }
+    CoalescedUpdate coalescedUpdate = coalescedUpdates.get(partition);
+    if (coalescedUpdate != null && !coalescedUpdate.canCoalesce(consumerRecord, kafkaClusterId)) {
+      flushDeferredRecords(partition);
+    }
+  }
+
+  @Override
+  protected void discardDeferredRecords(int partition) {
+    coalescedUpdates.remove(partition);
+  }
+
+  private void produceUpdatedValue(
+      byte[] keyBytes,
+      byte[] updatedValueBytes,
+      int readerValueSchemaId,
+      ChunkedValueManifest oldValueManifest,
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      String kafkaUrl,
+      int kafkaClusterId,
+      PartitionConsumptionState partitionConsumptionState,
+      long beforeProcessingRecordTimestampNs) {
+    partitionConsumptionState.setTransientRecord(
+        kafkaClusterId,
+        consumerRecord.getOffset(),
+        keyBytes,
+        updatedValueBytes,
+        0,
+        updatedValueBytes.length,
+        readerValueSchemaId,
+        null);
+
+    ByteBuffer updateValueWithSchemaId =
+        ByteUtils.prependIntHeaderToByteBuffer(ByteBuffer.wrap(updatedValueBytes), readerValueSchemaId, false);
+
+    Put updatedPut = new Put();
+    updatedPut.putValue = updateValueWithSchemaId;
+    updatedPut.schemaId = readerValueSchemaId;
+
+    LeaderProducedRecordContext leaderProducedRecordContext =
+        LeaderProducedRecordContext.newPutRecord(kafkaClusterId, consumerRecord.getOffset(), keyBytes, updatedPut);
+
+    BiConsumer<ChunkAwareCallback, LeaderMetadataWrapper> produceFunction =
+        (callback, leaderMetadataWrapper) -> veniceWriter.get()
+            .put(
+                keyBytes,
+                updatedValueBytes,
+                readerValueSchemaId,
+                callback,
+                leaderMetadataWrapper,
+                APP_DEFAULT_LOGICAL_TS,
+                null,
+                oldValueManifest,
+                null);
+
+    produceToLocalKafka(
+        consumerRecord,
+        partitionConsumptionState,
+        leaderProducedRecordContext,
+        produceFunction,
+        partitionConsumptionState.getPartition(),
+        kafkaUrl,
+        kafkaClusterId,
+        beforeProcessingRecordTimestampNs);
+  }
+
+  /**
+   * Same as {@link #readStoredValueRecord}, but returns the serialized value, decompressed, along with the ID of the
+   * value schema it is serialized with.
+   * @return null if there is no value
+   */
+  private ByteBufferValueRecord<ByteBuffer> readStoredValueBytes(
+      PartitionConsumptionState partitionConsumptionState,
+      byte[] keyBytes,
+      PubSubTopicPartition topicPartition,
+      ChunkedValueManifestContainer manifestContainer) {
+    PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(keyBytes);
+    if (transientRecord == null) {
+      final ByteBufferValueRecord<ByteBuffer> valueRecord;
+      try {
+        long lookupStartTimeInNS = System.nanoTime();
+        valueRecord = RawBytesChunkingAdapter.INSTANCE.getWithSchemaId(
+            storageEngine,
+            topicPartition.getPartitionNumber(),
+            ByteBuffer.wrap(keyBytes),
+            isChunked,
+            null,
+            null,
+            RawBytesStoreDeserializerCache.getInstance(),
+            compressor.get(),
+            manifestContainer);
+        hostLevelIngestionStats
+            .recordWriteComputeLookUpLatency(LatencyUtils.getElapsedTimeFromNSToMS(lookupStartTimeInNS));
+      } catch (Exception e) {
+        writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_DESERIALIZATION_FAILURE.code;
+        throw e;
+      }
+      if (valueRecord.value() == null) {
+        return null;
+      }
+      ChunkedValueManifest manifest = manifestContainer.getManifest();
+      // The schema ID stored along with a chunked value is the one of its manifest
+      return manifest == null ? valueRecord : new ByteBufferValueRecord<>(valueRecord.value(), manifest.schemaId);
+    }
+    hostLevelIngestionStats.recordWriteComputeCacheHitCount();
+    if (transientRecord.getValue() == null) {
+      return null;
+    }
+    manifestContainer.setManifest(transientRecord.getValueManifest());
+    return new ByteBufferValueRecord<>(
+        getCurrentValueFromTransientRecord(transientRecord),
+        transientRecord.getValueSchemaId());
+  }
+
+  ByteBuffer getCurrentValueFromTransientRecord(PartitionConsumptionState.TransientRecord transientRecord) {
+    ByteBuffer compressedValue =
+        ByteBuffer.wrap(transientRecord.getValue(), transientRecord.getValueOffset(), transientRecord.getValueLen());
+    try {
+      return getCompressionStrategy().isCompressionEnabled()
+          ? getCompressor().get()
+              .decompress(compressedValue.array(), compressedValue.position(), compressedValue.remaining())
+          : compressedValue;
+    } catch (IOException e) {
+      throw new VeniceException(e);
+    }
+  }
+
+  private GenericRecord deserializeStoredValue(ByteBufferValueRecord<ByteBuffer> valueBytes, int readerValueSchemaId) {
+    if (valueBytes == null) {
+      return null;
+    }
+    try {
+      return storeDeserializerCache.getDeserializer(valueBytes.writerSchemaId(), readerValueSchemaId)
+          .deserialize(valueBytes.value());
+    } catch (Exception e) {
+      writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_DESERIALIZATION_FAILURE.code;
+      throw e;
+    }
+  }
+
   /**
    * Read the existing value. If a value for this key is found from the transient map then use that value, otherwise read
    * it from the storage engine.
@@ -3226,6 +3553,52 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     cloneProducerStates(partition, kafkaDataIntegrityValidatorForLeaders);
   }
 
+  /**
+   * The value resulting from consecutive UPDATE messages of the same key, not produced yet.
+   */
+  private static final class CoalescedUpdate {
+    private final byte[] keyBytes;
+    private final int readerValueSchemaId;
+    private final ChunkedValueManifest oldValueManifest;
+    private final String kafkaUrl;
+    private final int kafkaClusterId;
+    private GenericRecord value;
+    private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> lastConsumerRecord;
+    private long beforeProcessingRecordTimestampNs;
+    private long writeComputeLatencyNs;
+
+    private CoalescedUpdate(
+        byte[] keyBytes,
+        int readerValueSchemaId,
+        GenericRecord value,
+        ChunkedValueManifest oldValueManifest,
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> lastConsumerRecord,
+        String kafkaUrl,
+        int kafkaClusterId,
+        long beforeProcessingRecordTimestampNs) {
+      this.keyBytes = keyBytes;
+      this.readerValueSchemaId = readerValueSchemaId;
+      this.value = value;
+      this.oldValueManifest = oldValueManifest;
+      this.lastConsumerRecord = lastConsumerRecord;
+      this.kafkaUrl = kafkaUrl;
+      this.kafkaClusterId = kafkaClusterId;
+      this.beforeProcessingRecordTimestampNs = beforeProcessingRecordTimestampNs;
+    }
+
+    /**
+     * Only the UPDATE messages of the same key, right after the coalesced ones, can be applied to their value.
+     */
+    private boolean canCoalesce(
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+        int kafkaClusterId) {
+      KafkaKey kafkaKey = consumerRecord.getKey();
+      KafkaMessageEnvelope kafkaValue = consumerRecord.getValue();
+      return this.kafkaClusterId == kafkaClusterId && !kafkaKey.isControlMessage() && kafkaValue != null
+          && MessageType.valueOf(kafkaValue) == MessageType.UPDATE && Arrays.equals(keyBytes, kafkaKey.getKey());
+    }
+  }
+
   /**
    * A function to update version topic offset.
    */
@@ -39,6 +39,7 @@ public class LeaderProducerCallback implements ChunkAwareCallback {
   protected final LeaderProducedRecordContext leaderProducedRecordContext;
   private final long produceTimeNs;
   private final long beforeProcessingRecordTimestampNs;
+  private boolean isSourceConsumerRecordReleased = false;
 
   /**
    * The mutable fields below are determined by the {@link com.linkedin.venice.writer.VeniceWriter},
@@ -64,6 +65,11 @@ public class LeaderProducerCallback implements ChunkAwareCallback {
       long beforeProcessingRecordTimestampNs) {
     this.ingestionTask = ingestionTask;
     this.sourceConsumerRecord = sourceConsumerRecord;
+    /**
+     * The value of the source record may be pooled, so it is retained until it has been handed over to the drainer.
+     * It is only released once the produce succeeds, since the failed records are not reused anyway.
+     */
+    sourceConsumerRecord.retain();
     this.partitionConsumptionState = partitionConsumptionState;
     this.partition = partition;
     this.kafkaUrl = kafkaUrl;
@@ -227,6 +233,10 @@ public class LeaderProducerCallback implements ChunkAwareCallback {
           throw new RuntimeException(oe);
         }
       }
+      if (!isSourceConsumerRecordReleased) {
+        isSourceConsumerRecordReleased = true;
+        sourceConsumerRecord.release();
+      }
     }
   }
 
@@ -0,0 +1,417 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
+import com.linkedin.davinci.stats.AggKafkaConsumerServiceStats;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.throttle.EventThrottler;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@link LoadAwarePartitionWiseKafkaConsumerService} allocates shared consumers at partition granularity like
+ * {@link PartitionWiseKafkaConsumerService}, but based on the throughput of the consumers instead of round-robin, and
+ * it keeps rebalancing the partitions as their throughput changes. Otherwise, a few hot real-time partitions which
+ * ended up on the same consumer bound the ingestion throughput of all the partitions it serves, while other consumers
+ * idle.
+ *
+ * The throughput of a partition is the byte rate measured by its {@link ConsumptionTask}. Periodically, as long as the
+ * byte rate of the busiest consumer exceeds {@link #IMBALANCE_RATIO} times the one of the idlest consumer, the
+ * partition of the busiest consumer whose byte rate is the closest to half of their difference is migrated to the
+ * idlest one.
+ *
+ * A partition is migrated by unsubscribing it from its consumer once all the messages polled for it have been handed
+ * over to its data receiver, and by subscribing the other consumer to it from the position where the first one stopped,
+ * with the same data receiver and pause state. The ingestion task thus keeps receiving the same sequence of messages,
+ * with neither gap nor duplicate for the data integrity validation. The subscription changes requested by the ingestion
+ * tasks are serialized with the migrations.
+ *
+ * Since the records held by the {@link KafkaClusterBasedRecordThrottler} cannot be handed over, the partitions are not
+ * migrated when the live config based throttling is enabled.
+ */
+public class LoadAwarePartitionWiseKafkaConsumerService extends PartitionWiseKafkaConsumerService {
+  static final long REBALANCE_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+  static final double IMBALANCE_RATIO = 1.5;
+  static final double MIN_IMBALANCE_BYTES_PER_SECOND = 1024 * 1024;
+  static final int MAX_MIGRATIONS_PER_REBALANCE = 4;
+
+  private final Logger LOGGER;
+  private final ReadWriteLock assignmentLock = new ReentrantReadWriteLock();
+  private final ScheduledExecutorService rebalanceExecutor;
+
+  LoadAwarePartitionWiseKafkaConsumerService(
+      final PubSubConsumerAdapterFactory consumerFactory,
+      final Properties consumerProperties,
+      final long readCycleDelayMs,
+      final int numOfConsumersPerKafkaCluster,
+      final EventThrottler bandwidthThrottler,
+      final EventThrottler recordsThrottler,
+      final KafkaClusterBasedRecordThrottler kafkaClusterBasedRecordThrottler,
+      final MetricsRepository metricsRepository,
+      final String kafkaClusterAlias,
+      final long sharedConsumerNonExistingTopicCleanupDelayMS,
+      final TopicExistenceChecker topicExistenceChecker,
+      final boolean liveConfigBasedKafkaThrottlingEnabled,
+      final PubSubMessageDeserializer pubSubDeserializer,
+      final Time time,
+      final AggKafkaConsumerServiceStats stats,
+      final boolean isKafkaConsumerOffsetCollectionEnabled,
+      final ReadOnlyStoreRepository metadataRepository,
+      final boolean isUnregisterMetricForDeletedStoreEnabled) {
+    super(
+        consumerFactory,
+        consumerProperties,
+        readCycleDelayMs,
+        numOfConsumersPerKafkaCluster,
+        bandwidthThrottler,
+        recordsThrottler,
+        kafkaClusterBasedRecordThrottler,
+        metricsRepository,
+        kafkaClusterAlias,
+        sharedConsumerNonExistingTopicCleanupDelayMS,
+        topicExistenceChecker,
+        liveConfigBasedKafkaThrottlingEnabled,
+        pubSubDeserializer,
+        time,
+        stats,
+        isKafkaConsumerOffsetCollectionEnabled,
+        metadataRepository,
+        isUnregisterMetricForDeletedStoreEnabled);
+    this.LOGGER =
+        LogManager.getLogger(LoadAwarePartitionWiseKafkaConsumerService.class + " [" + kafkaUrlForLogger + "]");
+    this.rebalanceExecutor = liveConfigBasedKafkaThrottlingEnabled
+        ? null
+        : Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("venice-shared-consumer-rebalancer-for-" + kafkaUrl));
+  }
+
+  @Override
+  protected synchronized SharedKafkaConsumer pickConsumerForPartition(
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
+    double[] consumerLoads = new double[consumerToConsumptionTask.size()];
+    forEachAssignedPartition((assignedVersionTopic, assignedTopicPartition, consumerIndex, byteRate) -> {
+      consumerLoads[consumerIndex] += byteRate;
+    });
+    SharedKafkaConsumer leastLoadedConsumer = null;
+    int leastLoadedConsumerIndex = -1;
+    for (int consumerIndex = 0; consumerIndex < consumerLoads.length; consumerIndex++) {
+      SharedKafkaConsumer consumer = consumerToConsumptionTask.getByIndex(consumerIndex).getKey();
+      if (topicPartition.getPubSubTopic().isRealTime()
+          && alreadySubscribedRealtimeTopicPartition(consumer, topicPartition)) {
+        // One consumer cannot consume from several offsets of the same real-time topic-partition at the same time
+        continue;
+      }
+      if (leastLoadedConsumer == null || consumerLoads[consumerIndex] < consumerLoads[leastLoadedConsumerIndex]
+          || consumerLoads[consumerIndex] == consumerLoads[leastLoadedConsumerIndex]
+              && consumer.getAssignmentSize() < leastLoadedConsumer.getAssignmentSize()) {
+        leastLoadedConsumer = consumer;
+        leastLoadedConsumerIndex = consumerIndex;
+      }
+    }
+    if (leastLoadedConsumer == null) {
+      throw new VeniceException(
+          "Can not find consumer for topic: " + topicPartition.getPubSubTopic().getName() + " and partition: "
+              + topicPartition.getPartitionNumber() + " from the ingestion task belonging to version topic: "
+              + versionTopic);
+    }
+    recordRealtimeTopicPartitionConsumer(leastLoadedConsumer, topicPartition);
+    LOGGER.info(
+        "Get shared consumer for: {} from the ingestion task belonging to version topic: {} with index: {}",
+        topicPartition,
+        versionTopic,
+        leastLoadedConsumerIndex);
+    return leastLoadedConsumer;
+  }
+
+  /**
+   * Migrates the hottest partitions of the busiest consumers to the idlest ones, until the consumers are balanced or
+   * {@link #MAX_MIGRATIONS_PER_REBALANCE} partitions were migrated.
+   *
+   * The assignment lock is taken for one migration at a time, since each of them can wait for the next poll of the
+   * source consumer, so that the subscription changes of the ingestion tasks are not held back by the whole rebalance.
+   *
+   * Package private for unit testing.
+   *
+   * @return the number of partitions migrated
+   */
+  int rebalance() {
+    int migrationCount = 0;
+    try {
+      while (migrationCount < MAX_MIGRATIONS_PER_REBALANCE && migrateHottestPartition()) {
+        migrationCount++;
+      }
+    } catch (Exception e) {
+      LOGGER.error("Failed to rebalance the partitions across the shared consumers", e);
+    }
+    return migrationCount;
+  }
+
+  private boolean migrateHottestPartition() {
+    assignmentLock.writeLock().lock();
+    try {
+      return migrateHottestPartitionUnderLock();
+    } finally {
+      assignmentLock.writeLock().unlock();
+    }
+  }
+
+  private boolean migrateHottestPartitionUnderLock() {
+    int consumerCount = consumerToConsumptionTask.size();
+    double[] consumerLoads = new double[consumerCount];
+    forEachAssignedPartition((versionTopic, topicPartition, consumerIndex, byteRate) -> {
+      consumerLoads[consumerIndex] += byteRate;
+    });
+    int busiestConsumerIndex = 0;
+    int idlestConsumerIndex = 0;
+    for (int consumerIndex = 1; consumerIndex < consumerCount; consumerIndex++) {
+      if (consumerLoads[consumerIndex] > consumerLoads[busiestConsumerIndex]) {
+        busiestConsumerIndex = consumerIndex;
+      }
+      if (consumerLoads[consumerIndex] < consumerLoads[idlestConsumerIndex]) {
+        idlestConsumerIndex = consumerIndex;
+      }
+    }
+    double imbalance = consumerLoads[busiestConsumerIndex] - consumerLoads[idlestConsumerIndex];
+    if (imbalance < MIN_IMBALANCE_BYTES_PER_SECOND
+        || consumerLoads[busiestConsumerIndex] <= consumerLoads[idlestConsumerIndex] * IMBALANCE_RATIO) {
+      return false;
+    }
+
+    // The partition closest to half of the imbalance is the one which balances the two consumers the most
+    SharedKafkaConsumer busiestConsumer = consumerToConsumptionTask.getByIndex(busiestConsumerIndex).getKey();
+    SharedKafkaConsumer idlestConsumer = consumerToConsumptionTask.getByIndex(idlestConsumerIndex).getKey();
+    MigrationCandidate candidate = new MigrationCandidate();
+    int sourceConsumerIndex = busiestConsumerIndex;
+    forEachAssignedPartition((versionTopic, topicPartition, consumerIndex, byteRate) -> {
+      if (consumerIndex != sourceConsumerIndex || byteRate <= 0 || byteRate >= imbalance
+          || topicPartition.getPubSubTopic().isRealTime()
+              && alreadySubscribedRealtimeTopicPartition(idlestConsumer, topicPartition)) {
+        return;
+      }
+      double distance = Math.abs(byteRate - imbalance / 2);
+      if (candidate.topicPartition == null || distance < candidate.distance) {
+        candidate.versionTopic = versionTopic;
+        candidate.topicPartition = topicPartition;
+        candidate.distance = distance;
+      }
+    });
+    return candidate.topicPartition != null
+        && migrate(candidate.versionTopic, candidate.topicPartition, busiestConsumer, idlestConsumer);
+  }
+
+  private boolean migrate(
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition,
+      SharedKafkaConsumer source,
+      SharedKafkaConsumer destination) {
+    ConsumptionTask sourceTask = consumerToConsumptionTask.get(source);
+    ConsumptionTask destinationTask = consumerToConsumptionTask.get(destination);
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
+        sourceTask.getDataReceiver(topicPartition);
+    if (dataReceiver == null) {
+      return false;
+    }
+    boolean isPaused = source.isPaused(topicPartition, SharedKafkaConsumer.PauseReason.INGESTION_TASK);
+    long position = source.unSubscribeForMigration(topicPartition);
+    if (position < 0) {
+      if (source.hasSubscription(topicPartition)) {
+        // The unsubscription listener may have forgotten the real-time topic-partition of the source consumer
+        recordRealtimeTopicPartitionConsumer(source, topicPartition);
+      }
+      LOGGER.warn("Could not migrate: {} away from consumer with index: {}", topicPartition, sourceTask.getTaskId());
+      return false;
+    }
+
+    try {
+      handOver(
+          versionTopic,
+          topicPartition,
+          position,
+          isPaused,
+          dataReceiver,
+          sourceTask,
+          destination,
+          destinationTask);
+    } catch (Exception e) {
+      LOGGER.error(
+          "Failed to migrate: {} to consumer with index: {}, resuming its consumption with index: {}",
+          topicPartition,
+          destinationTask.getTaskId(),
+          sourceTask.getTaskId(),
+          e);
+      destination.unSubscribe(topicPartition);
+      handOver(versionTopic, topicPartition, position, isPaused, dataReceiver, destinationTask, source, sourceTask);
+      return false;
+    }
+    versionTopicToTopicPartitionToConsumer.computeIfAbsent(versionTopic, k -> new VeniceConcurrentHashMap<>())
+        .put(topicPartition, destination);
+    LOGGER.info(
+        "Migrated: {} of version topic: {} from consumer with index: {} to consumer with index: {} at position: {}",
+        topicPartition,
+        versionTopic,
+        sourceTask.getTaskId(),
+        destinationTask.getTaskId(),
+        position);
+    return true;
+  }
+
+  /**
+   * Subscribes the given consumer to the topic-partition from the given position, on behalf of its data receiver. Only
+   * a pause of the ingestion task is carried over: the partition is not throttled by the given consumer until its own
+   * consumption task finds the priority class of the partition over its share again.
+   */
+  private void handOver(
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition,
+      long position,
+      boolean isPaused,
+      ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver,
+      ConsumptionTask previousTask,
+      SharedKafkaConsumer consumer,
+      ConsumptionTask task) {
+    previousTask.removeDataReceiver(topicPartition);
+    task.setDataReceiver(topicPartition, dataReceiver);
+    recordRealtimeTopicPartitionConsumer(consumer, topicPartition);
+    consumer.subscribe(versionTopic, topicPartition, position - 1);
+    if (isPaused) {
+      consumer.pause(topicPartition);
+    }
+  }
+
+  private void forEachAssignedPartition(AssignedPartitionConsumer assignedPartitionConsumer) {
+    for (Map.Entry<PubSubTopic, Map<PubSubTopicPartition, SharedKafkaConsumer>> versionTopicEntry: versionTopicToTopicPartitionToConsumer
+        .entrySet()) {
+      for (Map.Entry<PubSubTopicPartition, SharedKafkaConsumer> entry: versionTopicEntry.getValue().entrySet()) {
+        int consumerIndex = consumerToConsumptionTask.indexOf(entry.getValue());
+        if (consumerIndex < 0) {
+          continue;
+        }
+        double byteRate = consumerToConsumptionTask.getByIndex(consumerIndex).getValue().getByteRate(entry.getKey());
+        assignedPartitionConsumer.accept(versionTopicEntry.getKey(), entry.getKey(), consumerIndex, byteRate);
+      }
+    }
+  }
+
+  @Override
+  public void startConsumptionIntoDataReceiver(
+      PubSubTopicPartition topicPartition,
+      long lastReadOffset,
+      ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> consumedDataReceiver) {
+    assignmentLock.readLock().lock();
+    try {
+      super.startConsumptionIntoDataReceiver(topicPartition, lastReadOffset, consumedDataReceiver);
+    } finally {
+      assignmentLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void unsubscribeAll(PubSubTopic versionTopic) {
+    assignmentLock.readLock().lock();
+    try {
+      super.unsubscribeAll(versionTopic);
+    } finally {
+      assignmentLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void unSubscribe(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    assignmentLock.readLock().lock();
+    try {
+      super.unSubscribe(versionTopic, pubSubTopicPartition);
+    } finally {
+      assignmentLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void batchUnsubscribe(PubSubTopic versionTopic, Set<PubSubTopicPartition> topicPartitionsToUnSub) {
+    assignmentLock.readLock().lock();
+    try {
+      super.batchUnsubscribe(versionTopic, topicPartitionsToUnSub);
+    } finally {
+      assignmentLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void pauseConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    assignmentLock.readLock().lock();
+    try {
+      super.pauseConsumerFor(versionTopic, pubSubTopicPartition);
+    } finally {
+      assignmentLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void resumeConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    assignmentLock.readLock().lock();
+    try {
+      super.resumeConsumerFor(versionTopic, pubSubTopicPartition);
+    } finally {
+      assignmentLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void resetOffsetFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    assignmentLock.readLock().lock();
+    try {
+      super.resetOffsetFor(versionTopic, pubSubTopicPartition);
+    } finally {
+      assignmentLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean startInner() {
+    boolean started = super.startInner();
+    if (rebalanceExecutor != null) {
+      rebalanceExecutor
+          .scheduleWithFixedDelay(this::rebalance, REBALANCE_INTERVAL_MS, REBALANCE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+    return started;
+  }
+
+  @Override
+  public void stopInner() throws Exception {
+    if (rebalanceExecutor != null) {
+      rebalanceExecutor.shutdownNow();
+    }
+    super.stopInner();
+  }
+
+  private interface AssignedPartitionConsumer {
+    void accept(PubSubTopic versionTopic, PubSubTopicPartition topicPartition, int consumerIndex, double byteRate);
+  }
+
+  private static class MigrationCandidate {
+    private PubSubTopic versionTopic;
+    private PubSubTopicPartition topicPartition;
+    private double distance;
+  }
+}
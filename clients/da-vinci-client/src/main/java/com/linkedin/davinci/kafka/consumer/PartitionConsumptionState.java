@@ -86,6 +86,13 @@ public class PartitionConsumptionState {
    */
   private long processedRecordSizeSinceLastSync;
 
+  /**
+   * A copy of the {@link OffsetRecord} taken at the last sync, which is only persisted at the next one, when the SST
+   * files of the deferred write mode are verified in the background, see
+   * {@link com.linkedin.davinci.store.rocksdb.RocksDBSstFileWriter#sync()}.
+   */
+  private OffsetRecord offsetRecordPendingSSTFileVerification;
+
   /**
    * An in-memory state to track whether the leader consumer is consuming from remote or not; it will be updated with
    * correct value during ingestion.
@@ -397,6 +404,14 @@ public class PartitionConsumptionState {
     this.processedRecordSizeSinceLastSync = 0;
   }
 
+  public OffsetRecord getOffsetRecordPendingSSTFileVerification() {
+    return this.offsetRecordPendingSSTFileVerification;
+  }
+
+  public void setOffsetRecordPendingSSTFileVerification(OffsetRecord offsetRecord) {
+    this.offsetRecordPendingSSTFileVerification = offsetRecord;
+  }
+
   public void setLeaderFollowerState(LeaderFollowerStateType state) {
     this.leaderFollowerState = state;
   }
@@ -120,7 +120,7 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
               topicPartition);
           seekNewConsumer = true;
         } else {
-          rtTopicPartitionToConsumerMap.computeIfAbsent(topicPartition, key -> new HashSet<>()).add(consumer);
+          recordRealtimeTopicPartitionConsumer(consumer, topicPartition);
         }
       }
 
@@ -138,13 +138,21 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
     return consumer;
   }
 
-  private boolean alreadySubscribedRealtimeTopicPartition(
+  protected boolean alreadySubscribedRealtimeTopicPartition(
       SharedKafkaConsumer consumer,
       PubSubTopicPartition topicPartition) {
     Set<PubSubConsumerAdapter> consumers = rtTopicPartitionToConsumerMap.get(topicPartition);
     return consumers != null && consumers.contains(consumer);
   }
 
+  protected void recordRealtimeTopicPartitionConsumer(
+      SharedKafkaConsumer consumer,
+      PubSubTopicPartition topicPartition) {
+    if (topicPartition.getPubSubTopic().isRealTime()) {
+      rtTopicPartitionToConsumerMap.computeIfAbsent(topicPartition, key -> new HashSet<>()).add(consumer);
+    }
+  }
+
   @Override
   void handleUnsubscription(SharedKafkaConsumer consumer, PubSubTopicPartition pubSubTopicPartition) {
     if (pubSubTopicPartition.getPubSubTopic().isRealTime()) {
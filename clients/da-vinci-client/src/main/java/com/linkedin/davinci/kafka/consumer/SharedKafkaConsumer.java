@@ -17,6 +17,8 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -77,6 +79,28 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
    */
   private Set<PubSubTopicPartition> currentAssignment;
 
+  /**
+   * Why a topic-partition is paused. A topic-partition paused for several reasons is only resumed once all of them have
+   * been lifted, so that e.g. the end of a throttling window does not resume a partition paused by its ingestion task.
+   */
+  enum PauseReason {
+    /**
+     * Paused through {@link #pause(PubSubTopicPartition)}, e.g. by the ingestion task because of a disk quota violation
+     * or a memory limit.
+     */
+    INGESTION_TASK,
+    /**
+     * Paused by the {@link ConsumptionTask} polling this consumer, while its priority class exceeds its fair share.
+     */
+    THROTTLE
+  }
+
+  /**
+   * The reasons why the subscribed topic-partitions are paused, guarded by this consumer. Topic-partitions which are
+   * not paused are absent.
+   */
+  private final Map<PubSubTopicPartition, Set<PauseReason>> pauseReasons = new HashMap<>();
+
   /**
    * an ever-increasing count of number of time poll has been invoked.
    */
@@ -156,6 +180,7 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
     unSubscribeAction(() -> {
       this.delegate.unSubscribe(pubSubTopicPartition);
       subscribedTopicPartitionToVersionTopic.remove(pubSubTopicPartition);
+      pauseReasons.remove(pubSubTopicPartition);
       unsubscriptionListener.call(this, pubSubTopicPartition);
       return Collections.singleton(pubSubTopicPartition);
     });
@@ -167,12 +192,44 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
       this.delegate.batchUnsubscribe(pubSubTopicPartitionSet);
       for (PubSubTopicPartition pubSubTopicPartition: pubSubTopicPartitionSet) {
         subscribedTopicPartitionToVersionTopic.remove(pubSubTopicPartition);
+        pauseReasons.remove(pubSubTopicPartition);
         unsubscriptionListener.call(this, pubSubTopicPartition);
       }
       return pubSubTopicPartitionSet;
     });
   }
 
+  /**
+   * Unsubscribes the given topic-partition so that its consumption can be resumed by another consumer from where this
+   * one stopped. All the messages polled for it must have been handed over to its data receiver by then, which is the
+   * case once the next poll happened after the unsubscription, since {@link ConsumptionTask#run()} polls and produces
+   * to the data receivers sequentially.
+   *
+   * @return the position of the topic-partition, or -1 if it stays subscribed to this consumer, because its position is
+   *         unknown, or because the next poll didn't happen in time and the messages polled before might still be on
+   *         their way to the data receiver.
+   */
+  synchronized long unSubscribeForMigration(PubSubTopicPartition pubSubTopicPartition) {
+    PubSubTopic versionTopic = subscribedTopicPartitionToVersionTopic.get(pubSubTopicPartition);
+    long position = delegate.getPosition(pubSubTopicPartition);
+    if (versionTopic == null || position < 0) {
+      return -1;
+    }
+    Set<PauseReason> reasons = pauseReasons.get(pubSubTopicPartition);
+    Set<PauseReason> previousPauseReasons = reasons == null ? Collections.emptySet() : EnumSet.copyOf(reasons);
+    long pollTimesBeforeUnsubscription = pollTimes;
+    unSubscribe(pubSubTopicPartition);
+    if (pollTimes > pollTimesBeforeUnsubscription) {
+      return position;
+    }
+    // The consumption resumes here, after the messages polled before, which are still handled by the same thread
+    subscribe(versionTopic, pubSubTopicPartition, position - 1);
+    for (PauseReason reason: previousPauseReasons) {
+      pause(pubSubTopicPartition, reason);
+    }
+    return -1;
+  }
+
   /**
    * This function encapsulates the logging, bookkeeping and required waiting period surrounding the action of
    * unsubscribing some partition(s).
@@ -285,13 +342,58 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
   }
 
   @Override
-  public synchronized void pause(PubSubTopicPartition pubSubTopicPartition) {
-    this.delegate.pause(pubSubTopicPartition);
+  public void pause(PubSubTopicPartition pubSubTopicPartition) {
+    pause(pubSubTopicPartition, PauseReason.INGESTION_TASK);
   }
 
   @Override
-  public synchronized void resume(PubSubTopicPartition pubSubTopicPartition) {
-    this.delegate.resume(pubSubTopicPartition);
+  public void resume(PubSubTopicPartition pubSubTopicPartition) {
+    resume(pubSubTopicPartition, PauseReason.INGESTION_TASK);
+  }
+
+  /**
+   * Pauses the topic-partition for the given reason, on top of the other reasons it might already be paused for.
+   * Throttling a topic-partition which is not subscribed anymore is a no-op.
+   */
+  synchronized void pause(PubSubTopicPartition pubSubTopicPartition, PauseReason reason) {
+    if (!subscribedTopicPartitionToVersionTopic.containsKey(pubSubTopicPartition)) {
+      if (reason == PauseReason.INGESTION_TASK) {
+        this.delegate.pause(pubSubTopicPartition);
+      }
+      return;
+    }
+    Set<PauseReason> reasons =
+        pauseReasons.computeIfAbsent(pubSubTopicPartition, k -> EnumSet.noneOf(PauseReason.class));
+    if (reasons.isEmpty()) {
+      this.delegate.pause(pubSubTopicPartition);
+    }
+    reasons.add(reason);
+  }
+
+  /**
+   * Lifts the given reason to pause the topic-partition, and only resumes it if it is not paused for any other reason.
+   */
+  synchronized void resume(PubSubTopicPartition pubSubTopicPartition, PauseReason reason) {
+    Set<PauseReason> reasons = pauseReasons.get(pubSubTopicPartition);
+    if (reasons == null) {
+      if (reason == PauseReason.INGESTION_TASK) {
+        this.delegate.resume(pubSubTopicPartition);
+      }
+      return;
+    }
+    if (reasons.remove(reason) && reasons.isEmpty()) {
+      pauseReasons.remove(pubSubTopicPartition);
+      this.delegate.resume(pubSubTopicPartition);
+    }
+  }
+
+  synchronized boolean isPaused(PubSubTopicPartition pubSubTopicPartition) {
+    return pauseReasons.containsKey(pubSubTopicPartition);
+  }
+
+  synchronized boolean isPaused(PubSubTopicPartition pubSubTopicPartition, PauseReason reason) {
+    Set<PauseReason> reasons = pauseReasons.get(pubSubTopicPartition);
+    return reasons != null && reasons.contains(reason);
   }
 
   @Override
@@ -319,6 +421,11 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
     return delegate.getLatestOffset(pubSubTopicPartition);
   }
 
+  @Override
+  public synchronized long getPosition(PubSubTopicPartition pubSubTopicPartition) {
+    return delegate.getPosition(pubSubTopicPartition);
+  }
+
   @Override
   public Long offsetForTime(PubSubTopicPartition pubSubTopicPartition, long timestamp, Duration timeout) {
     throw new UnsupportedOperationException("offsetForTime is not supported in SharedKafkaConsumer");
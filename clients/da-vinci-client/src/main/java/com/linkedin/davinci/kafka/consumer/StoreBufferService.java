@@ -140,7 +140,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, partition).put(
+      putQueueNode(
+          consumerRecord,
+          partition,
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
@@ -182,7 +184,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int partition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, partition).put(
+    putQueueNode(
+        consumerRecord,
+        partition,
         new LeaderQueueNode(
             consumerRecord,
             ingestionTask,
@@ -191,6 +195,23 @@ public class StoreBufferService extends AbstractStoreBufferService {
             leaderProducedRecordContext));
   }
 
+  /**
+   * The queued record is retained until its drainer is done with it, since its value may be pooled, and recycled as
+   * soon as the caller releases it.
+   */
+  private void putQueueNode(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      int partition,
+      QueueNode node) throws InterruptedException {
+    consumerRecord.retain();
+    try {
+      getDrainerForConsumerRecord(consumerRecord, partition).put(node);
+    } catch (Throwable e) {
+      consumerRecord.release();
+      throw e;
+    }
+  }
+
   private static void processRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
       StoreIngestionTask ingestionTask,
@@ -622,6 +643,12 @@ public class StoreBufferService extends AbstractStoreBufferService {
           } else {
             break;
           }
+        } finally {
+          if (node != null) {
+            // Gives up the reference taken when queueing the record, whose value may be recycled from here on
+            node.getConsumerRecord().release();
+            node = null;
+          }
         }
       }
       LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
@@ -24,6 +24,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModel;
 import com.linkedin.davinci.ingestion.LagType;
+import com.linkedin.davinci.ingestion.consumption.IngestionPriorityClass;
 import com.linkedin.davinci.listener.response.AdminResponse;
 import com.linkedin.davinci.notifier.VeniceNotifier;
 import com.linkedin.davinci.stats.AggVersionedDIVStats;
@@ -513,6 +514,18 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     return versionedIngestionStats.isFutureVersion(storeName, versionNumber);
   }
 
+  /**
+   * @return the {@link IngestionPriorityClass} of the given topic-partition consumed by this task
+   */
+  public IngestionPriorityClass getIngestionPriorityClass(PubSubTopicPartition pubSubTopicPartition) {
+    if (isCurrentVersion.getAsBoolean()) {
+      return pubSubTopicPartition.getPubSubTopic().isRealTime()
+          ? IngestionPriorityClass.CURRENT_VERSION_REAL_TIME
+          : IngestionPriorityClass.CURRENT_VERSION;
+    }
+    return isFutureVersion() ? IngestionPriorityClass.FUTURE_VERSION : IngestionPriorityClass.BACKUP_VERSION;
+  }
+
   protected void throwIfNotRunning() {
     if (!isRunning()) {
       throw new VeniceException(" Topic " + kafkaVersionTopic + " is shutting down, no more messages accepted");
@@ -1026,6 +1039,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     double elapsedTimeForPuttingIntoQueue = 0;
     boolean metricsEnabled = emitMetrics.get();
     long beforeProcessingBatchRecordsTimestampMs = System.currentTimeMillis();
+    // Whatever a previous batch which failed half-way has left deferred must not be produced
+    discardDeferredRecords(topicPartition.getPartitionNumber());
     for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
       long beforeProcessingPerRecordTimestampNs = System.nanoTime();
       PartitionConsumptionState partitionConsumptionState =
@@ -1037,6 +1052,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         if (partitionConsumptionState != null) {
           partitionConsumptionState.updateLatestIgnoredUpstreamRTOffset(kafkaUrl, record.getOffset());
         }
+        flushDeferredRecords(topicPartition.getPartitionNumber());
         continue;
       }
 
@@ -1102,6 +1118,16 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         partitionConsumptionState.setLatestMessageConsumedTimestampInMs(beforeProcessingBatchRecordsTimestampMs);
       }
     }
+    flushDeferredRecords(topicPartition.getPartitionNumber());
+
+    /**
+     * The records still in use by the drainers or by the leader producer callbacks have been retained by them, so the
+     * pooled values of the consumed records can be recycled as soon as nobody else holds them. The records of a batch
+     * which failed half-way are not released, and simply left to the garbage collector.
+     */
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      record.release();
+    }
 
     /**
      * Even if the records list is empty, we still need to check quota to potentially resume partition
@@ -1122,6 +1148,23 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Leaders may defer producing some of the consumed records of a partition, to fold them into the following records of
+   * the same batch, see {@link LeaderFollowerStoreIngestionTask}. The deferred records are produced before any record
+   * of the partition which can't be folded into them is handled, and at the latest at the end of the batch.
+   */
+  protected void flushDeferredRecords(int partition) {
+    // No record is deferred by default
+  }
+
+  /**
+   * Drops the deferred records of a partition. None of them has been produced yet, so the partition resumes from an
+   * offset before them after a failure.
+   */
+  protected void discardDeferredRecords(int partition) {
+    // No record is deferred by default
+  }
+
   // For testing purpose
   List<PartitionExceptionInfo> getPartitionIngestionExceptionList() {
     return this.partitionIngestionExceptionList;
@@ -2327,9 +2370,23 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       updateOffsetLagInMetadata(pcs);
     }
     OffsetRecord offsetRecord = pcs.getOffsetRecord();
-    // Check-pointing info required by the underlying storage engine
-    offsetRecord.setDatabaseInfo(dbCheckpointingInfoReference.get());
-    storageMetadataService.put(this.kafkaVersionTopic, partition, offsetRecord);
+    if (pcs.isDeferredWrite() && serverConfig.getRocksDBServerConfig().isSstFileAsyncFinalizationEnabled()) {
+      /**
+       * The SST file finished by this sync is verified in the background, so the storage engine only checkpoints the
+       * ones finished by the previous sync, which must be persisted along with the offset record of the previous sync.
+       */
+      OffsetRecord previousOffsetRecord = pcs.getOffsetRecordPendingSSTFileVerification();
+      pcs.setOffsetRecordPendingSSTFileVerification(new OffsetRecord(offsetRecord.toBytes(), partitionStateSerializer));
+      if (previousOffsetRecord != null) {
+        previousOffsetRecord.setDatabaseInfo(dbCheckpointingInfoReference.get());
+        storageMetadataService.put(this.kafkaVersionTopic, partition, previousOffsetRecord);
+      }
+    } else {
+      pcs.setOffsetRecordPendingSSTFileVerification(null);
+      // Check-pointing info required by the underlying storage engine
+      offsetRecord.setDatabaseInfo(dbCheckpointingInfoReference.get());
+      storageMetadataService.put(this.kafkaVersionTopic, partition, offsetRecord);
+    }
     pcs.resetProcessedRecordSizeSinceLastSync();
     String msg = "Offset synced for replica: " + pcs.getReplicaId() + " - localVtOffset: {}";
     if (!REDUNDANT_LOGGING_FILTER.isRedundantException(msg)) {
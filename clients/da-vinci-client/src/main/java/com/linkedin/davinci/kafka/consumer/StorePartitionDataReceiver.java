@@ -2,6 +2,7 @@ package com.linkedin.davinci.kafka.consumer;
 
 import com.linkedin.avroutil1.compatibility.shaded.org.apache.commons.lang3.Validate;
 import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
+import com.linkedin.davinci.ingestion.consumption.IngestionPriorityClass;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
@@ -91,6 +92,11 @@ public class StorePartitionDataReceiver
     storeIngestionTask.setLastConsumerException(new VeniceException("Topic " + topicName + " got deleted."));
   }
 
+  @Override
+  public IngestionPriorityClass getPriorityClass() {
+    return storeIngestionTask.getIngestionPriorityClass(topicPartition);
+  }
+
   private void handleDataReceiverException(Exception e) throws Exception {
     if (ExceptionUtils.recursiveClassEquals(e, InterruptedException.class)) {
       // We sometimes wrap InterruptedExceptions, so not taking any chances...
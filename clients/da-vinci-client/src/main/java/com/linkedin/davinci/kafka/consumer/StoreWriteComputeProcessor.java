@@ -100,20 +100,77 @@ public class StoreWriteComputeProcessor {
       ByteBuffer writeComputeBytes,
       int writerUpdateProtocolVersion,
       int readerUpdateProtocolVersion) {
+    GenericRecord updatedValue = applyWriteComputeToRecord(
+        currValue,
+        writerValueSchemaId,
+        readerValueSchemaId,
+        writeComputeBytes,
+        writerUpdateProtocolVersion,
+        readerUpdateProtocolVersion);
+
+    // If write compute is enabled and the record is deleted, the updatedValue will be null.
+    if (updatedValue == null) {
+      return null;
+    }
+    return serializeValue(updatedValue, readerValueSchemaId);
+  }
+
+  /**
+   * Same as {@link #applyWriteCompute}, but returns the updated value record without serializing it, so that several
+   * Update operations can be applied to it before it gets serialized once.
+   *
+   * @return the partially updated original value, which may be the given current value record updated in place.
+   */
+  public GenericRecord applyWriteComputeToRecord(
+      GenericRecord currValue,
+      int writerValueSchemaId,
+      int readerValueSchemaId,
+      ByteBuffer writeComputeBytes,
+      int writerUpdateProtocolVersion,
+      int readerUpdateProtocolVersion) {
     int writerSchemaUniqueId = getSchemaAndUniqueId(writerValueSchemaId, writerUpdateProtocolVersion).getUniqueId();
     SchemaAndUniqueId readerSchemaContainer = getSchemaAndUniqueId(readerValueSchemaId, readerUpdateProtocolVersion);
     RecordDeserializer<GenericRecord> deserializer =
         this.writeComputeDeserializerCache.get(writerSchemaUniqueId, readerSchemaContainer.getUniqueId());
     GenericRecord writeComputeRecord = deserializer.deserialize(writeComputeBytes);
 
-    GenericRecord updatedValue =
-        writeComputeProcessor.updateRecord(readerSchemaContainer.getValueSchema(), currValue, writeComputeRecord);
+    return writeComputeProcessor.updateRecord(readerSchemaContainer.getValueSchema(), currValue, writeComputeRecord);
+  }
 
-    // If write compute is enabled and the record is deleted, the updatedValue will be null.
-    if (updatedValue == null) {
+  /**
+   * Same as {@link #applyWriteCompute}, but applies the Update operation on the serialized current value, when it
+   * only puts new values in top-level fields and the current value is serialized with the reader value schema, so that
+   * the current value doesn't need to be deserialized and serialized back.
+   *
+   * @param currValueBytes serialized value that is currently stored on this Venice server, not compressed.
+   * @param currValueSchemaId ID of the value schema which the current value is serialized with.
+   *
+   * @return Bytes of partially updated original value, or null if the Update operation can't be applied on the
+   *         serialized current value, in which case {@link #applyWriteCompute} needs to be used instead.
+   */
+  public byte[] applyWriteComputeToBytes(
+      ByteBuffer currValueBytes,
+      int currValueSchemaId,
+      int writerValueSchemaId,
+      int readerValueSchemaId,
+      ByteBuffer writeComputeBytes,
+      int writerUpdateProtocolVersion,
+      int readerUpdateProtocolVersion) {
+    if (currValueSchemaId != readerValueSchemaId) {
       return null;
     }
-    return getValueSerializer(readerValueSchemaId).serialize(updatedValue);
+    int writerSchemaUniqueId = getSchemaAndUniqueId(writerValueSchemaId, writerUpdateProtocolVersion).getUniqueId();
+    SchemaAndUniqueId readerSchemaContainer = getSchemaAndUniqueId(readerValueSchemaId, readerUpdateProtocolVersion);
+    RecordDeserializer<GenericRecord> deserializer =
+        this.writeComputeDeserializerCache.get(writerSchemaUniqueId, readerSchemaContainer.getUniqueId());
+    GenericRecord writeComputeRecord = deserializer.deserialize(writeComputeBytes);
+
+    return writeComputeProcessor
+        .updateRecordBytes(readerSchemaContainer.getValueSchema(), currValueBytes, writeComputeRecord);
+  }
+
+  public byte[] serializeValue(GenericRecord value, int valueSchemaId) {
+    return getValueSerializer(valueSchemaId).serialize(value);
   }
 
   private SchemaAndUniqueId getSchemaAndUniqueId(int valueSchemaId, int writeComputeSchemaId) {
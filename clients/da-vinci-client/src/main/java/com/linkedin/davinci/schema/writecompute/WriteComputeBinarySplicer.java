@@ -0,0 +1,211 @@
+package com.linkedin.davinci.schema.writecompute;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.schema.writecompute.WriteComputeOperation;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+
+
+/**
+ * This class applies the write-compute records which only put new values in root level fields directly on the binary
+ * encoding of the current value, instead of deserializing the whole value, updating it and serializing it back.
+ *
+ * The Avro binary encoding of a record is the concatenation of the encodings of its fields, so the encoding of the
+ * updated value is made of the unchanged fields copied as-is, skipped over by their encoded length without decoding
+ * them, and of the new values of the updated fields encoded in their place. Only the new values get serialized, which
+ * makes the updates of a few small fields of large values much cheaper.
+ *
+ * The current value must be encoded with the given value schema itself, since the skipping doesn't resolve any other
+ * writer schema. The write-compute records with collection merging operations aren't handled either, and are left to
+ * {@link WriteComputeHandlerV2}.
+ */
+@ThreadSafe
+public class WriteComputeBinarySplicer {
+  /**
+   * @param valueSchema the value schema that the current value is encoded with, and that the write compute schema is
+   *                    derived from
+   * @return the binary encoding of the updated value, or null if the write-compute record can't be applied on the
+   *         binary encoding of the current value
+   */
+  public byte[] updateValueBytes(Schema valueSchema, ByteBuffer currValueBytes, GenericRecord writeComputeRecord) {
+    if (valueSchema.getType() != Schema.Type.RECORD || !WriteComputeOperation.isPartialUpdateOp(writeComputeRecord)) {
+      return null;
+    }
+    List<Schema.Field> valueFields = valueSchema.getFields();
+    Object[] newFieldValues = new Object[valueFields.size()];
+    boolean[] isUpdatedField = new boolean[valueFields.size()];
+    for (Schema.Field valueField: valueFields) {
+      Schema.Field writeComputeField = writeComputeRecord.getSchema().getField(valueField.name());
+      if (writeComputeField == null) {
+        return null;
+      }
+      Object writeComputeFieldValue = writeComputeRecord.get(writeComputeField.pos());
+      switch (WriteComputeOperation.getFieldOperationType(writeComputeFieldValue)) {
+        case NO_OP_ON_FIELD:
+          break;
+        case PUT_NEW_FIELD:
+          newFieldValues[valueField.pos()] = writeComputeFieldValue;
+          isUpdatedField[valueField.pos()] = true;
+          break;
+        default:
+          // Collection merging needs the current elements, which only the generic path decodes
+          return null;
+      }
+    }
+
+    byte[] bytes = currValueBytes.array();
+    int offset = currValueBytes.arrayOffset() + currValueBytes.position();
+    FieldSkipper skipper = new FieldSkipper(bytes, offset, offset + currValueBytes.remaining());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(currValueBytes.remaining());
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(outputStream, true, null);
+    try {
+      // The start of the bytes of the current value which are yet to be copied
+      int copyStart = offset;
+      for (Schema.Field valueField: valueFields) {
+        int fieldStart = skipper.position;
+        skipper.skip(valueField.schema());
+        if (skipper.isPastLimit()) {
+          return null;
+        }
+        if (isUpdatedField[valueField.pos()]) {
+          encoder.writeFixed(bytes, copyStart, fieldStart - copyStart);
+          new GenericDatumWriter<>(valueField.schema()).write(newFieldValues[valueField.pos()], encoder);
+          copyStart = skipper.position;
+        }
+      }
+      if (skipper.position != skipper.limit) {
+        // The current value isn't encoded with the given value schema
+        return null;
+      }
+      encoder.writeFixed(bytes, copyStart, skipper.limit - copyStart);
+      encoder.flush();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to encode the updated fields of value schema: " + valueSchema, e);
+    }
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Walks the binary encoding of a value by the encoded length of its parts, without decoding them. Once it runs past
+   * its limit, because the bytes don't match the encoding of the skipped schema, it stays past it.
+   */
+  private static final class FieldSkipper {
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    private FieldSkipper(byte[] bytes, int position, int limit) {
+      this.bytes = bytes;
+      this.position = position;
+      this.limit = limit;
+    }
+
+    private boolean isPastLimit() {
+      return position > limit;
+    }
+
+    private void skip(Schema schema) {
+      switch (schema.getType()) {
+        case NULL:
+          break;
+        case BOOLEAN:
+          skipBytes(1);
+          break;
+        case INT:
+        case LONG:
+        case ENUM:
+          readLong();
+          break;
+        case FLOAT:
+          skipBytes(4);
+          break;
+        case DOUBLE:
+          skipBytes(8);
+          break;
+        case STRING:
+        case BYTES:
+          skipBytes(readLong());
+          break;
+        case FIXED:
+          skipBytes(schema.getFixedSize());
+          break;
+        case ARRAY:
+          skipBlocks(schema.getElementType(), false);
+          break;
+        case MAP:
+          skipBlocks(schema.getValueType(), true);
+          break;
+        case UNION:
+          long index = readLong();
+          if (index < 0 || index >= schema.getTypes().size()) {
+            position = limit + 1;
+          } else {
+            skip(schema.getTypes().get((int) index));
+          }
+          break;
+        case RECORD:
+          for (Schema.Field field: schema.getFields()) {
+            skip(field.schema());
+          }
+          break;
+        default:
+          position = limit + 1;
+      }
+    }
+
+    /**
+     * Arrays and maps are encoded as a series of blocks, each one made of its item count followed by its items, and
+     * ended by an empty block. A negative count is followed by the byte size of the block.
+     */
+    private void skipBlocks(Schema itemSchema, boolean isMap) {
+      while (!isPastLimit()) {
+        long itemCount = readLong();
+        if (itemCount == 0) {
+          return;
+        }
+        if (itemCount < 0) {
+          skipBytes(readLong());
+          continue;
+        }
+        for (long i = 0; i < itemCount && !isPastLimit(); i++) {
+          if (isMap) {
+            // The keys are strings
+            skipBytes(readLong());
+          }
+          skip(itemSchema);
+        }
+      }
+    }
+
+    private void skipBytes(long length) {
+      if (length < 0 || length > limit - position) {
+        position = limit + 1;
+      } else {
+        position += (int) length;
+      }
+    }
+
+    /**
+     * @return the zig-zag variable-length long at the current position, or 0 once past the limit
+     */
+    private long readLong() {
+      long value = 0;
+      for (int shift = 0; shift < 64 && position < limit; shift += 7) {
+        byte b = bytes[position++];
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return (value >>> 1) ^ -(value & 1);
+        }
+      }
+      position = limit + 1;
+      return 0;
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.linkedin.davinci.schema.writecompute;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
 import com.linkedin.davinci.schema.merge.ValueAndRmd;
 import io.tehuti.utils.Utils;
+import java.nio.ByteBuffer;
 import javax.annotation.concurrent.ThreadSafe;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
@@ -39,9 +40,11 @@ public class WriteComputeProcessor {
    * may be necessary in the future.
    */
   private final WriteComputeHandlerV2 writeComputeHandlerV2;
+  private final WriteComputeBinarySplicer writeComputeBinarySplicer;
 
   public WriteComputeProcessor(MergeRecordHelper mergeRecordHelper) {
     this.writeComputeHandlerV2 = new WriteComputeHandlerV2(mergeRecordHelper);
+    this.writeComputeBinarySplicer = new WriteComputeBinarySplicer();
   }
 
   /**
@@ -55,6 +58,21 @@ public class WriteComputeProcessor {
         .updateValueRecord(Utils.notNull(valueSchema), currRecord, Utils.notNull(writeComputeRecord));
   }
 
+  /**
+   * Apply write-compute operations on the binary encoding of the given record, without deserializing it.
+   *
+   * @param valueSchema the value schema that the current record is encoded with, and that write compute schema is
+   *                    derived from
+   * @return the binary encoding of the write-compute updated record, or null if the write-compute operations are not
+   *         only field puts, in which case they need to be applied with {@link #updateRecord}
+   */
+  public byte[] updateRecordBytes(Schema valueSchema, ByteBuffer currRecordBytes, GenericRecord writeComputeRecord) {
+    return writeComputeBinarySplicer.updateValueBytes(
+        Utils.notNull(valueSchema),
+        Utils.notNull(currRecordBytes),
+        Utils.notNull(writeComputeRecord));
+  }
+
   public ValueAndRmd<GenericRecord> updateRecordWithRmd(
       Schema currValueSchema,
       ValueAndRmd<GenericRecord> oldRecordAndRmd,
@@ -15,6 +15,8 @@ public class AggVersionedStorageEngineStats extends
     AbstractVeniceAggVersionedStats<AggVersionedStorageEngineStats.StorageEngineStats, AggVersionedStorageEngineStats.StorageEngineStatsReporter> {
   private static final Logger LOGGER = LogManager.getLogger(AggVersionedStorageEngineStats.class);
 
+  private final StorageEngineRestoreStats restoreStats;
+
   public AggVersionedStorageEngineStats(
       MetricsRepository metricsRepository,
       ReadOnlyStoreRepository metadataRepository,
@@ -25,6 +27,7 @@ public class AggVersionedStorageEngineStats extends
         StorageEngineStats::new,
         StorageEngineStatsReporter::new,
         unregisterMetricForDeletedStoreEnabled);
+    this.restoreStats = new StorageEngineRestoreStats(metricsRepository);
   }
 
   public void setStorageEngine(String topicName, AbstractStorageEngine storageEngine) {
@@ -55,6 +58,22 @@ public class AggVersionedStorageEngineStats extends
     }
   }
 
+  public void recordStorageEngineRestoreScheduled(int pendingCount, int deferredCount) {
+    restoreStats.recordRestoreScheduled(pendingCount, deferredCount);
+  }
+
+  public void recordStorageEngineRestoreCompleted(boolean deferred, double latencyInMs) {
+    restoreStats.recordRestoreCompleted(deferred, latencyInMs);
+  }
+
+  public void recordStorageEngineRestoreFailed(boolean deferred) {
+    restoreStats.recordRestoreFailed(deferred);
+  }
+
+  public void recordStorageEngineDeferredRestoreCancelled() {
+    restoreStats.recordDeferredRestoreCancelled();
+  }
+
   static class StorageEngineStats {
     private AbstractStorageEngine storageEngine;
     private final AtomicInteger rocksDBOpenFailureCount = new AtomicInteger(0);
@@ -85,6 +85,12 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
    */
   private final Sensor writeComputeCacheHitCount;
 
+  /**
+   * Measure the number of UPDATE messages which were applied to the value of a previous UPDATE message of the same key,
+   * instead of being produced on their own.
+   */
+  private final Sensor writeComputeCoalescedUpdateCount;
+
   private final LongAdderRateGauge totalLeaderBytesConsumedRate;
   private final LongAdderRateGauge totalLeaderRecordsConsumedRate;
   private final LongAdderRateGauge totalFollowerBytesConsumedRate;
@@ -378,6 +384,12 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         () -> totalStats.writeComputeCacheHitCount,
         new OccurrenceRate());
 
+    this.writeComputeCoalescedUpdateCount = registerPerStoreAndTotalSensor(
+        "write_compute_coalesced_update_count",
+        totalStats,
+        () -> totalStats.writeComputeCoalescedUpdateCount,
+        new OccurrenceRate());
+
     this.checksumVerificationFailureSensor = registerPerStoreAndTotalSensor(
         "checksum_verification_failure",
         totalStats,
@@ -533,6 +545,10 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     writeComputeCacheHitCount.record();
   }
 
+  public void recordWriteComputeCoalescedUpdateCount() {
+    writeComputeCoalescedUpdateCount.record();
+  }
+
   public void recordIngestionReplicationMetadataCacheHitCount(long currentTimeMs) {
     leaderIngestionReplicationMetadataCacheHitCount.record(1, currentTimeMs);
   }
@@ -0,0 +1,40 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.davinci.ingestion.consumption.IngestionPriorityClass;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Total;
+import java.util.Locale;
+
+
+/**
+ * This class reports the consumption lag and the throttling of each {@link IngestionPriorityClass}.
+ */
+public class IngestionPriorityClassStats extends AbstractVeniceStats {
+  private final Sensor[] consumptionLagSensors = new Sensor[IngestionPriorityClass.size()];
+  private final Sensor[] throttledTimeSensors = new Sensor[IngestionPriorityClass.size()];
+
+  public IngestionPriorityClassStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+    for (IngestionPriorityClass priorityClass: IngestionPriorityClass.values()) {
+      String prefix = priorityClass.name().toLowerCase(Locale.ROOT);
+      int index = priorityClass.ordinal();
+      consumptionLagSensors[index] = registerSensor(prefix + "_consumption_lag_ms", new Avg(), new Max());
+      throttledTimeSensors[index] = registerSensor(prefix + "_throttled_time_ms", new Total(), new Max());
+    }
+  }
+
+  /**
+   * @param lagMs the time elapsed between the production of the last record of a poll and its consumption
+   */
+  public void recordConsumptionLag(IngestionPriorityClass priorityClass, long lagMs) {
+    consumptionLagSensors[priorityClass.ordinal()].record(lagMs);
+  }
+
+  public void recordThrottledTime(IngestionPriorityClass priorityClass, long throttledTimeMs) {
+    throttledTimeSensors[priorityClass.ordinal()].record(throttledTimeMs);
+  }
+}
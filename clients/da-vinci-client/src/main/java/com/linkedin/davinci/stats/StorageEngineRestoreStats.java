@@ -0,0 +1,52 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.AsyncGauge;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Host level stats tracking the progress of restoring the persisted storage engines during start up.
+ */
+public class StorageEngineRestoreStats extends AbstractVeniceStats {
+  private final AtomicInteger pendingRestoreCount = new AtomicInteger(0);
+  private final AtomicInteger deferredRestoreCount = new AtomicInteger(0);
+  private final Sensor restoreLatencySensor;
+  private final Sensor restoreFailureSensor;
+
+  public StorageEngineRestoreStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, "storage_engine_restore");
+
+    registerSensor(new AsyncGauge((ignored, ignored2) -> pendingRestoreCount.get(), "pending_store_version_count"));
+    registerSensor(new AsyncGauge((ignored, ignored2) -> deferredRestoreCount.get(), "deferred_store_version_count"));
+    this.restoreLatencySensor = registerSensor("store_version_restore_latency", new Avg(), new Max());
+    this.restoreFailureSensor = registerSensor("store_version_restore_failure", new OccurrenceRate());
+  }
+
+  public void recordRestoreScheduled(int pendingCount, int deferredCount) {
+    pendingRestoreCount.addAndGet(pendingCount);
+    deferredRestoreCount.addAndGet(deferredCount);
+  }
+
+  public void recordRestoreCompleted(boolean deferred, double latencyInMs) {
+    (deferred ? deferredRestoreCount : pendingRestoreCount).decrementAndGet();
+    restoreLatencySensor.record(latencyInMs);
+  }
+
+  public void recordRestoreFailed(boolean deferred) {
+    (deferred ? deferredRestoreCount : pendingRestoreCount).decrementAndGet();
+    restoreFailureSensor.record();
+  }
+
+  /**
+   * The deferred store version has either been opened on demand or dropped before being restored in the background.
+   */
+  public void recordDeferredRestoreCancelled() {
+    deferredRestoreCount.decrementAndGet();
+  }
+}
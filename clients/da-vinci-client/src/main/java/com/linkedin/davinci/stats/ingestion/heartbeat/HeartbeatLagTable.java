@@ -0,0 +1,249 @@
+package com.linkedin.davinci.stats.ingestion.heartbeat;
+
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * This class holds the last heartbeat timestamps of the monitored partitions, either as leader or as follower, in a
+ * flat table per store version: each version has a primitive slot per partition and region, indexed by the region id
+ * interned when the table is built, and the heartbeats update their slot without any lock nor allocation.
+ *
+ * Adding and removing partitions is expected to be serialized by the caller, while heartbeats can be recorded and the
+ * lags reported concurrently.
+ */
+class HeartbeatLagTable {
+  static final long NO_HEARTBEAT = Long.MIN_VALUE;
+
+  private final String[] regions;
+  // Read-only once built
+  private final Map<String, Integer> regionIds;
+  private final Map<String, StoreEntry> stores = new VeniceConcurrentHashMap<>();
+
+  HeartbeatLagTable(Collection<String> regions) {
+    this.regions = regions.toArray(new String[0]);
+    this.regionIds = new HashMap<>(this.regions.length);
+    for (int regionId = 0; regionId < this.regions.length; regionId++) {
+      this.regionIds.put(this.regions[regionId], regionId);
+    }
+  }
+
+  /**
+   * Starts monitoring the given partition from the given regions, if it isn't monitored yet.
+   */
+  void addPartition(
+      String storeName,
+      int version,
+      int partitionCount,
+      int partition,
+      Collection<String> initialRegions,
+      long initialTimestamp) {
+    StoreEntry storeEntry = stores.computeIfAbsent(storeName, k -> new StoreEntry());
+    VersionEntry versionEntry = storeEntry.getVersion(version);
+    if (versionEntry == null || partition >= versionEntry.partitionCount) {
+      VersionEntry newVersionEntry = new VersionEntry(version, Math.max(partitionCount, partition + 1), regions.length);
+      if (versionEntry != null) {
+        newVersionEntry.copyFrom(versionEntry);
+      }
+      storeEntry.putVersion(newVersionEntry);
+      versionEntry = newVersionEntry;
+    }
+    if (versionEntry.isMonitored(partition)) {
+      return;
+    }
+    for (int regionId = 0; regionId < regions.length; regionId++) {
+      versionEntry.timestamps.set(versionEntry.getSlot(partition, regionId), NO_HEARTBEAT);
+    }
+    for (String region: initialRegions) {
+      Integer regionId = regionIds.get(region);
+      if (regionId != null) {
+        versionEntry.timestamps.set(versionEntry.getSlot(partition, regionId), initialTimestamp);
+      }
+    }
+    versionEntry.monitoredPartitions.set(partition, 1);
+  }
+
+  /**
+   * Stops monitoring the given partition, and drops the version and the store once they have no partition left.
+   */
+  void removePartition(String storeName, int version, int partition) {
+    StoreEntry storeEntry = stores.get(storeName);
+    if (storeEntry == null) {
+      return;
+    }
+    VersionEntry versionEntry = storeEntry.getVersion(version);
+    if (versionEntry == null || partition >= versionEntry.partitionCount) {
+      return;
+    }
+    versionEntry.monitoredPartitions.set(partition, 0);
+    if (versionEntry.getMonitoredPartitionCount() == 0) {
+      storeEntry.removeVersion(version);
+      if (storeEntry.versions.length == 0) {
+        stores.remove(storeName);
+      }
+    }
+  }
+
+  /**
+   * Records the heartbeat of a monitored partition, the heartbeats of the other partitions and of the unknown regions
+   * are ignored.
+   */
+  void recordHeartbeat(String storeName, int version, int partition, String region, long timestamp) {
+    StoreEntry storeEntry = stores.get(storeName);
+    if (storeEntry == null) {
+      return;
+    }
+    VersionEntry versionEntry = storeEntry.getVersion(version);
+    Integer regionId = regionIds.get(region);
+    if (versionEntry == null || regionId == null || partition < 0 || partition >= versionEntry.partitionCount
+        || !versionEntry.isMonitored(partition)) {
+      return;
+    }
+    versionEntry.timestamps.set(versionEntry.getSlot(partition, regionId), timestamp);
+  }
+
+  /**
+   * @return the last heartbeat timestamp of the given partition from the given region, or {@link #NO_HEARTBEAT}
+   */
+  long getHeartbeatTimestamp(String storeName, int version, int partition, String region) {
+    StoreEntry storeEntry = stores.get(storeName);
+    VersionEntry versionEntry = storeEntry == null ? null : storeEntry.getVersion(version);
+    Integer regionId = regionIds.get(region);
+    if (versionEntry == null || regionId == null || partition < 0 || partition >= versionEntry.partitionCount
+        || !versionEntry.isMonitored(partition)) {
+      return NO_HEARTBEAT;
+    }
+    return versionEntry.timestamps.get(versionEntry.getSlot(partition, regionId));
+  }
+
+  boolean containsStore(String storeName) {
+    return stores.containsKey(storeName);
+  }
+
+  boolean containsVersion(String storeName, int version) {
+    StoreEntry storeEntry = stores.get(storeName);
+    return storeEntry != null && storeEntry.getVersion(version) != null;
+  }
+
+  boolean containsPartition(String storeName, int version, int partition) {
+    StoreEntry storeEntry = stores.get(storeName);
+    VersionEntry versionEntry = storeEntry == null ? null : storeEntry.getVersion(version);
+    return versionEntry != null && partition < versionEntry.partitionCount && versionEntry.isMonitored(partition);
+  }
+
+  /**
+   * @return the number of regions the given partition has received a heartbeat from, or was initialized with
+   */
+  int getRegionCount(String storeName, int version, int partition) {
+    int regionCount = 0;
+    for (String region: regions) {
+      if (getHeartbeatTimestamp(storeName, version, partition, region) != NO_HEARTBEAT) {
+        regionCount++;
+      }
+    }
+    return regionCount;
+  }
+
+  /**
+   * Walks the heartbeat timestamps of all the monitored partitions.
+   */
+  void forEachHeartbeat(HeartbeatMonitoringService.ReportLagFunction function) {
+    for (Map.Entry<String, StoreEntry> storeEntry: stores.entrySet()) {
+      for (VersionEntry versionEntry: storeEntry.getValue().versions) {
+        for (int partition = 0; partition < versionEntry.partitionCount; partition++) {
+          if (!versionEntry.isMonitored(partition)) {
+            continue;
+          }
+          for (int regionId = 0; regionId < regions.length; regionId++) {
+            long timestamp = versionEntry.timestamps.get(versionEntry.getSlot(partition, regionId));
+            if (timestamp != NO_HEARTBEAT) {
+              function.apply(storeEntry.getKey(), versionEntry.version, regions[regionId], timestamp);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * The versions of a store, which are few, are kept in a copy-on-write array.
+   */
+  private static final class StoreEntry {
+    private volatile VersionEntry[] versions = new VersionEntry[0];
+
+    private VersionEntry getVersion(int version) {
+      for (VersionEntry versionEntry: versions) {
+        if (versionEntry.version == version) {
+          return versionEntry;
+        }
+      }
+      return null;
+    }
+
+    private void putVersion(VersionEntry versionEntry) {
+      List<VersionEntry> newVersions = new ArrayList<>(versions.length + 1);
+      for (VersionEntry existingVersionEntry: versions) {
+        if (existingVersionEntry.version != versionEntry.version) {
+          newVersions.add(existingVersionEntry);
+        }
+      }
+      newVersions.add(versionEntry);
+      versions = newVersions.toArray(new VersionEntry[0]);
+    }
+
+    private void removeVersion(int version) {
+      versions = Arrays.stream(versions).filter(v -> v.version != version).toArray(VersionEntry[]::new);
+    }
+  }
+
+  private static final class VersionEntry {
+    private final int version;
+    private final int partitionCount;
+    private final int regionCount;
+    private final AtomicIntegerArray monitoredPartitions;
+    // partition -> region -> timestamp, flattened
+    private final AtomicLongArray timestamps;
+
+    private VersionEntry(int version, int partitionCount, int regionCount) {
+      this.version = version;
+      this.partitionCount = partitionCount;
+      this.regionCount = regionCount;
+      this.monitoredPartitions = new AtomicIntegerArray(partitionCount);
+      this.timestamps = new AtomicLongArray(partitionCount * regionCount);
+    }
+
+    private int getSlot(int partition, int regionId) {
+      return partition * regionCount + regionId;
+    }
+
+    private boolean isMonitored(int partition) {
+      return monitoredPartitions.get(partition) != 0;
+    }
+
+    private int getMonitoredPartitionCount() {
+      int monitoredPartitionCount = 0;
+      for (int partition = 0; partition < partitionCount; partition++) {
+        if (isMonitored(partition)) {
+          monitoredPartitionCount++;
+        }
+      }
+      return monitoredPartitionCount;
+    }
+
+    private void copyFrom(VersionEntry other) {
+      for (int partition = 0; partition < other.partitionCount; partition++) {
+        monitoredPartitions.set(partition, other.monitoredPartitions.get(partition));
+        for (int regionId = 0; regionId < regionCount; regionId++) {
+          timestamps.set(getSlot(partition, regionId), other.timestamps.get(other.getSlot(partition, regionId)));
+        }
+      }
+    }
+  }
+}
@@ -3,10 +3,11 @@ package com.linkedin.davinci.stats.ingestion.heartbeat;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.service.AbstractVeniceService;
-import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricConfig;
 import io.tehuti.metrics.MetricsRepository;
-import java.util.Map;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
@@ -31,6 +32,9 @@ import org.apache.logging.log4j.Logger;
  * Lag will stop being reported for partitions which have the monitor removed.
  *
  * Each region gets a different lag monitor
+ *
+ * The heartbeat timestamps are kept in a {@link HeartbeatLagTable} for the leaders and another one for the followers,
+ * so that recording a heartbeat neither locks nor allocates.
  */
 public class HeartbeatMonitoringService extends AbstractVeniceService {
   private final Thread reportingThread;
@@ -40,9 +44,8 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
   private final Set<String> regionNames;
   private final String localRegionName;
 
-  // store -> version -> partition -> region -> timestamp
-  private final Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> followerHeartbeatTimeStamps;
-  private final Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> leaderHeartbeatTimeStamps;
+  private final HeartbeatLagTable followerHeartbeatTimeStamps;
+  private final HeartbeatLagTable leaderHeartbeatTimeStamps;
   HeartbeatVersionedStats versionStatsReporter;
 
   public HeartbeatMonitoringService(
@@ -53,8 +56,10 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
     this.regionNames = regionNames;
     this.localRegionName = localRegionName;
     this.reportingThread = new HeartbeatReporterThread();
-    followerHeartbeatTimeStamps = new VeniceConcurrentHashMap<>();
-    leaderHeartbeatTimeStamps = new VeniceConcurrentHashMap<>();
+    Set<String> monitoredRegions = new LinkedHashSet<>(regionNames);
+    monitoredRegions.add(localRegionName);
+    followerHeartbeatTimeStamps = new HeartbeatLagTable(monitoredRegions);
+    leaderHeartbeatTimeStamps = new HeartbeatLagTable(monitoredRegions);
     versionStatsReporter = new HeartbeatVersionedStats(
         metricsRepository,
         metadataRepository,
@@ -65,7 +70,7 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
   }
 
   private synchronized void initializeEntry(
-      Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> heartbeatTimestamps,
+      HeartbeatLagTable heartbeatTimestamps,
       Version version,
       int partition,
       boolean isFollower) {
@@ -73,32 +78,20 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
     if (version.getHybridStoreConfig() == null) {
       return;
     }
-    heartbeatTimestamps.computeIfAbsent(version.getStoreName(), storeKey -> new VeniceConcurrentHashMap<>())
-        .computeIfAbsent(version.getNumber(), versionKey -> new VeniceConcurrentHashMap<>())
-        .computeIfAbsent(partition, partitionKey -> {
-          Map<String, Long> regionTimestamps = new VeniceConcurrentHashMap<>();
-          if (version.isActiveActiveReplicationEnabled() && !isFollower) {
-            for (String region: regionNames) {
-              regionTimestamps.put(region, System.currentTimeMillis());
-            }
-          } else {
-            regionTimestamps.put(localRegionName, System.currentTimeMillis());
-          }
-          return regionTimestamps;
-        });
-  }
-
-  private synchronized void removeEntry(
-      Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> heartbeatTimestamps,
-      Version version,
-      int partition) {
-    heartbeatTimestamps.computeIfPresent(version.getStoreName(), (storeKey, versionMap) -> {
-      versionMap.computeIfPresent(version.getNumber(), (versionKey, partitionMap) -> {
-        partitionMap.remove(partition);
-        return partitionMap;
-      });
-      return versionMap;
-    });
+    Collection<String> initialRegions = version.isActiveActiveReplicationEnabled() && !isFollower
+        ? regionNames
+        : Collections.singleton(localRegionName);
+    heartbeatTimestamps.addPartition(
+        version.getStoreName(),
+        version.getNumber(),
+        version.getPartitionCount(),
+        partition,
+        initialRegions,
+        System.currentTimeMillis());
+  }
+
+  private synchronized void removeEntry(HeartbeatLagTable heartbeatTimestamps, Version version, int partition) {
+    heartbeatTimestamps.removePartition(version.getStoreName(), version.getNumber(), partition);
   }
 
   /**
@@ -156,7 +149,7 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
    * @param region the region this heartbeat is from
    * @param timestamp the time of this heartbeat
    */
-  public void recordLeaderHeartbeat(String store, int version, int partition, String region, Long timestamp) {
+  public void recordLeaderHeartbeat(String store, int version, int partition, String region, long timestamp) {
     recordHeartbeat(store, version, partition, region, timestamp, leaderHeartbeatTimeStamps);
   }
 
@@ -169,7 +162,7 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
    * @param region the region this heartbeat is from
    * @param timestamp the time of this heartbeat
    */
-  public void recordFollowerHeartbeat(String store, int version, int partition, String region, Long timestamp) {
+  public void recordFollowerHeartbeat(String store, int version, int partition, String region, long timestamp) {
     recordHeartbeat(store, version, partition, region, timestamp, followerHeartbeatTimeStamps);
   }
 
@@ -178,42 +171,23 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
       int version,
       int partition,
       String region,
-      Long timestamp,
-      Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> heartbeatTimestamps) {
+      long timestamp,
+      HeartbeatLagTable heartbeatTimestamps) {
     if (region != null) {
-      heartbeatTimestamps.computeIfPresent(store, (storeKey, perVersionMap) -> {
-        perVersionMap.computeIfPresent(version, (versionKey, perPartitionMap) -> {
-          perPartitionMap.computeIfPresent(partition, (partitionKey, perRegionMap) -> {
-            perRegionMap.put(region, timestamp);
-            return perRegionMap;
-          });
-          return perPartitionMap;
-        });
-        return perVersionMap;
-      });
+      heartbeatTimestamps.recordHeartbeat(store, version, partition, region, timestamp);
     }
   }
 
-  protected Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> getLeaderHeartbeatTimeStamps() {
+  HeartbeatLagTable getLeaderHeartbeatTimeStamps() {
     return leaderHeartbeatTimeStamps;
   }
 
-  protected Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> getFollowerHeartbeatTimeStamps() {
+  HeartbeatLagTable getFollowerHeartbeatTimeStamps() {
     return followerHeartbeatTimeStamps;
   }
 
-  protected void recordLags(
-      Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> heartbeatTimestamps,
-      ReportLagFunction lagFunction) {
-    for (Map.Entry<String, Map<Integer, Map<Integer, Map<String, Long>>>> storeName: heartbeatTimestamps.entrySet()) {
-      for (Map.Entry<Integer, Map<Integer, Map<String, Long>>> version: storeName.getValue().entrySet()) {
-        for (Map.Entry<Integer, Map<String, Long>> partition: version.getValue().entrySet()) {
-          for (Map.Entry<String, Long> region: partition.getValue().entrySet()) {
-            lagFunction.apply(storeName.getKey(), version.getKey(), region.getKey(), region.getValue());
-          }
-        }
-      }
-    }
+  protected void recordLags(HeartbeatLagTable heartbeatTimestamps, ReportLagFunction lagFunction) {
+    heartbeatTimestamps.forEachHeartbeat(lagFunction);
   }
 
   protected void record() {
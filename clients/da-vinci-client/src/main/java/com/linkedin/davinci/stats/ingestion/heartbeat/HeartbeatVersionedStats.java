@@ -5,21 +5,20 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.stats.StatsSupplier;
 import io.tehuti.metrics.MetricsRepository;
-import java.util.Map;
 import java.util.function.Supplier;
 
 
 public class HeartbeatVersionedStats extends AbstractVeniceAggVersionedStats<HeartbeatStat, HeartbeatStatReporter> {
-  private final Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> leaderMonitors;
-  private final Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> followerMonitors;
+  private final HeartbeatLagTable leaderMonitors;
+  private final HeartbeatLagTable followerMonitors;
 
-  public HeartbeatVersionedStats(
+  HeartbeatVersionedStats(
       MetricsRepository metricsRepository,
       ReadOnlyStoreRepository metadataRepository,
       Supplier<HeartbeatStat> statsInitiator,
       StatsSupplier<HeartbeatStatReporter> reporterSupplier,
-      Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> leaderMonitors,
-      Map<String, Map<Integer, Map<Integer, Map<String, Long>>>> followerMonitors) {
+      HeartbeatLagTable leaderMonitors,
+      HeartbeatLagTable followerMonitors) {
     super(metricsRepository, metadataRepository, statsInitiator, reporterSupplier, true);
     this.leaderMonitors = leaderMonitors;
     this.followerMonitors = followerMonitors;
@@ -56,6 +55,6 @@ public class HeartbeatVersionedStats extends AbstractVeniceAggVersionedStats<Hea
       // of the superclass of this class. We shouldn't have to do this
       return false;
     }
-    return leaderMonitors.containsKey(store) || followerMonitors.containsKey(store);
+    return leaderMonitors.containsStore(store) || followerMonitors.containsStore(store);
   }
 }
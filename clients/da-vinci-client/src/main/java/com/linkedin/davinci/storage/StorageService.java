@@ -25,9 +25,11 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,6 +41,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -65,6 +71,13 @@ public class StorageService extends AbstractVeniceService {
   private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
   private final ReadOnlyStoreRepository storeRepository;
+  private final Set<String> deferredStoreVersions = VeniceConcurrentHashMap.newKeySet();
+  /**
+   * The deferred store versions being opened in the background, outside the lock of this service. Guarded by the lock
+   * of this service, which is notified once each of them is done.
+   */
+  private final Set<String> restoringStoreVersions = new HashSet<>();
+  private ExecutorService deferredRestoreExecutor;
 
   /**
    * Allocates a new {@code StorageService} object.
@@ -77,6 +90,8 @@ public class StorageService extends AbstractVeniceService {
    * @param restoreDataPartitions indicates if store data needs to be restored.
    * @param restoreMetadataPartitions indicates if meta data needs to be restored.
    * @param checkWhetherStorageEngineShouldBeKeptOrNot check whether the local storage engine should be kept or not.
+   * @param lazyRestoreAllowed indicates if backup and future versions may be restored in the background, which is only
+   *                           safe when the storage engines are owned by this service for its whole lifetime.
    */
   StorageService(
       VeniceConfigLoader configLoader,
@@ -88,7 +103,8 @@ public class StorageService extends AbstractVeniceService {
       boolean restoreDataPartitions,
       boolean restoreMetadataPartitions,
       Function<String, Boolean> checkWhetherStorageEngineShouldBeKeptOrNot,
-      Optional<Map<PersistenceType, StorageEngineFactory>> persistenceTypeToStorageEngineFactoryMapOptional) {
+      Optional<Map<PersistenceType, StorageEngineFactory>> persistenceTypeToStorageEngineFactoryMapOptional,
+      boolean lazyRestoreAllowed) {
     String dataPath = configLoader.getVeniceServerConfig().getDataBasePath();
     if (!Utils.directoryExists(dataPath)) {
       if (!configLoader.getVeniceServerConfig().isAutoCreateDataPath()) {
@@ -122,7 +138,8 @@ public class StorageService extends AbstractVeniceService {
           configLoader,
           restoreDataPartitions,
           restoreMetadataPartitions,
-          checkWhetherStorageEngineShouldBeKeptOrNot);
+          checkWhetherStorageEngineShouldBeKeptOrNot,
+          lazyRestoreAllowed);
     }
   }
 
@@ -146,7 +163,8 @@ public class StorageService extends AbstractVeniceService {
         restoreDataPartitions,
         restoreMetadataPartitions,
         checkWhetherStorageEngineShouldBeKeptOrNot,
-        Optional.empty());
+        Optional.empty(),
+        false);
   }
 
   public StorageService(
@@ -188,6 +206,9 @@ public class StorageService extends AbstractVeniceService {
         partitionStateSerializer,
         storeRepository,
         true,
+        true,
+        s -> true,
+        Optional.empty(),
         true);
   }
 
@@ -233,15 +254,18 @@ public class StorageService extends AbstractVeniceService {
       VeniceConfigLoader configLoader,
       boolean restoreDataPartitions,
       boolean restoreMetadataPartitions,
-      Function<String, Boolean> checkWhetherStorageEngineShouldBeKeptOrNot) {
+      Function<String, Boolean> checkWhetherStorageEngineShouldBeKeptOrNot,
+      boolean lazyRestoreAllowed) {
     LOGGER.info("Start restoring all the stores persisted previously");
+    boolean lazyRestore = lazyRestoreAllowed && serverConfig.isStorageEngineLazyRestoreEnabled();
+    List<VeniceStoreVersionConfig> storeConfigsToRestore = new ArrayList<>();
+    List<VeniceStoreVersionConfig> storeConfigsToDefer = new ArrayList<>();
     for (Map.Entry<PersistenceType, StorageEngineFactory> entry: persistenceTypeToStorageEngineFactoryMap.entrySet()) {
       PersistenceType pType = entry.getKey();
       StorageEngineFactory factory = entry.getValue();
       LOGGER.info("Start restoring all the stores with type: {}", pType);
       Set<String> storeNames = factory.getPersistedStoreNames();
       for (String storeName: storeNames) {
-        LOGGER.info("Start restoring store: {} with type: {}", storeName, pType);
         /**
          * Setup store-level persistence type based on current database setup.
          */
@@ -249,40 +273,193 @@ public class StorageService extends AbstractVeniceService {
         // Load the metadata & data restore settings from config loader.
         storeConfig.setRestoreDataPartitions(restoreDataPartitions);
         storeConfig.setRestoreMetadataPartition(restoreMetadataPartitions);
-        AbstractStorageEngine storageEngine;
-
-        if (checkWhetherStorageEngineShouldBeKeptOrNot.apply(storeName)) {
-          try {
-            storageEngine = openStore(storeConfig, () -> null);
-          } catch (Exception e) {
-            if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
-              LOGGER.warn("Encountered RocksDB error while opening store: {}", storeName, e);
-              // if store version does not exist, clean up the resources.
-              deleteStorageEngineOnRocksDBError(storeName, storeRepository, factory);
-              continue;
-            }
-            LOGGER.error("Could not load the following store : " + storeName, e);
-            aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
-            throw new VeniceException("Error caught during opening store " + storeName, e);
-          }
 
-          Set<Integer> partitionIds = storageEngine.getPartitionIds();
-          LOGGER.info(
-              "Loaded the following partitions: {}, for store: {}",
-              Arrays.toString(partitionIds.toArray()),
-              storeName);
-          LOGGER.info("Done restoring store: {} with type: {}", storeName, pType);
-        } else {
+        if (!checkWhetherStorageEngineShouldBeKeptOrNot.apply(storeName)) {
           LOGGER.info("Starting deleting local storage engine: {} with type: {}", storeName, pType);
           factory.removeStorageEngine(storeName);
           LOGGER.info("Done deleting local storage engine: {} with type: {}", storeName, pType);
+        } else if (lazyRestore && isBackupOrFutureVersion(storeName)) {
+          storeConfigsToDefer.add(storeConfig);
+        } else {
+          storeConfigsToRestore.add(storeConfig);
         }
       }
-      LOGGER.info("Done restoring all the stores with type: {}", pType);
+    }
+
+    LOGGER.info(
+        "Restoring {} stores with parallelism: {}, deferring {} backup and future versions",
+        storeConfigsToRestore.size(),
+        serverConfig.getStorageEngineRestoreParallelism(),
+        storeConfigsToDefer.size());
+    aggVersionedStorageEngineStats
+        .recordStorageEngineRestoreScheduled(storeConfigsToRestore.size(), storeConfigsToDefer.size());
+    restoreStores(storeConfigsToRestore);
+    if (!storeConfigsToDefer.isEmpty()) {
+      scheduleDeferredRestore(storeConfigsToDefer);
     }
     LOGGER.info("Done restoring all the stores persisted previously");
   }
 
+  /**
+   * Open the given store versions, with at most {@link VeniceServerConfig#getStorageEngineRestoreParallelism()} of them
+   * being opened concurrently. Every store version gets a chance to be restored before the first failure is rethrown.
+   */
+  private void restoreStores(List<VeniceStoreVersionConfig> storeConfigs) {
+    int parallelism = Math.min(serverConfig.getStorageEngineRestoreParallelism(), storeConfigs.size());
+    if (parallelism <= 1) {
+      for (VeniceStoreVersionConfig storeConfig: storeConfigs) {
+        restoreStore(storeConfig, false);
+      }
+      return;
+    }
+
+    ExecutorService restoreExecutor =
+        Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("StorageEngineRestore"));
+    try {
+      List<Future<?>> restoreFutures = new ArrayList<>(storeConfigs.size());
+      for (VeniceStoreVersionConfig storeConfig: storeConfigs) {
+        restoreFutures.add(restoreExecutor.submit(() -> restoreStore(storeConfig, false)));
+      }
+      VeniceException restoreException = null;
+      for (Future<?> restoreFuture: restoreFutures) {
+        try {
+          restoreFuture.get();
+        } catch (ExecutionException e) {
+          if (restoreException == null) {
+            restoreException = e.getCause() instanceof VeniceException
+                ? (VeniceException) e.getCause()
+                : new VeniceException("Error caught during restoring stores", e.getCause());
+          }
+        }
+      }
+      if (restoreException != null) {
+        throw restoreException;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while restoring stores", e);
+    } finally {
+      restoreExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Open the storage engine of a persisted store version. The storage engine is created without holding the lock of
+   * this service, so that multiple store versions can be restored in parallel, and registered under the lock.
+   */
+  private void restoreStore(VeniceStoreVersionConfig storeConfig, boolean deferred) {
+    String storeName = storeConfig.getStoreVersionName();
+    PersistenceType pType = storeConfig.getStorePersistenceType();
+    LOGGER.info("Start restoring store: {} with type: {}", storeName, pType);
+    long startTimeInNs = System.nanoTime();
+    AbstractStorageEngine storageEngine;
+    try {
+      storageEngine = createStorageEngine(storeConfig);
+      synchronized (this) {
+        registerStorageEngine(storageEngine, () -> null);
+      }
+    } catch (Exception e) {
+      aggVersionedStorageEngineStats.recordStorageEngineRestoreFailed(deferred);
+      if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
+        LOGGER.warn("Encountered RocksDB error while opening store: {}", storeName, e);
+        // if store version does not exist, clean up the resources.
+        deleteStorageEngineOnRocksDBError(storeName, storeRepository, getInternalStorageEngineFactory(storeConfig));
+        return;
+      }
+      LOGGER.error("Could not load the following store : " + storeName, e);
+      aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
+      throw new VeniceException("Error caught during opening store " + storeName, e);
+    }
+    aggVersionedStorageEngineStats
+        .recordStorageEngineRestoreCompleted(deferred, LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs));
+
+    Set<Integer> partitionIds = storageEngine.getPartitionIds();
+    LOGGER.info(
+        "Loaded the following partitions: {}, for store: {}",
+        Arrays.toString(partitionIds.toArray()),
+        storeName);
+    LOGGER.info("Done restoring store: {} with type: {}", storeName, pType);
+  }
+
+  /**
+   * Open the given backup and future versions one by one in the background. Any of them which is needed before that,
+   * gets opened on demand by {@link #openStore}, and the ones dropped in the meantime are not restored anymore.
+   */
+  private void scheduleDeferredRestore(List<VeniceStoreVersionConfig> storeConfigs) {
+    for (VeniceStoreVersionConfig storeConfig: storeConfigs) {
+      deferredStoreVersions.add(storeConfig.getStoreVersionName());
+    }
+    deferredRestoreExecutor =
+        Executors.newSingleThreadExecutor(new DaemonThreadFactory("DeferredStorageEngineRestore"));
+    for (VeniceStoreVersionConfig storeConfig: storeConfigs) {
+      deferredRestoreExecutor.submit(() -> restoreDeferredStore(storeConfig));
+    }
+    deferredRestoreExecutor.shutdown();
+  }
+
+  /**
+   * The storage engine is opened without holding the lock of this service, so that the other store versions can be
+   * opened, dropped or closed in the meantime. The operations on this store version wait for the restore to be done,
+   * see {@link #awaitDeferredRestore}.
+   */
+  private void restoreDeferredStore(VeniceStoreVersionConfig storeConfig) {
+    String topicName = storeConfig.getStoreVersionName();
+    synchronized (this) {
+      if (!deferredStoreVersions.remove(topicName)) {
+        // The store version has been opened on demand or dropped in the meantime.
+        return;
+      }
+      restoringStoreVersions.add(topicName);
+    }
+    try {
+      restoreStore(storeConfig, true);
+    } catch (Exception e) {
+      LOGGER.error("Failed to restore deferred store: {}", topicName, e);
+    } finally {
+      synchronized (this) {
+        restoringStoreVersions.remove(topicName);
+        notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Cancels the deferred restore of the store version if it hasn't started yet, or waits for it to be done otherwise.
+   * Must be called while holding the lock of this service, which is released while waiting, so the state of the store
+   * version must be read after this call.
+   */
+  private void awaitDeferredRestore(String topicName) {
+    if (deferredStoreVersions.remove(topicName)) {
+      LOGGER.info("Deferred restore of store: {} is not needed anymore", topicName);
+      aggVersionedStorageEngineStats.recordStorageEngineDeferredRestoreCancelled();
+      return;
+    }
+    while (restoringStoreVersions.contains(topicName)) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new VeniceException("Interrupted while waiting for the deferred restore of store: " + topicName, e);
+      }
+    }
+  }
+
+  private boolean isBackupOrFutureVersion(String topicName) {
+    if (!Version.isVersionTopicOrStreamReprocessingTopic(topicName)) {
+      return false;
+    }
+    Store store = storeRepository.getStore(Version.parseStoreFromKafkaTopicName(topicName));
+    // Unknown stores are restored eagerly, as this node might still need them.
+    return store != null && store.getCurrentVersion() != Version.parseVersionFromKafkaTopicName(topicName);
+  }
+
+  /**
+   * @return the number of store versions whose restore has been deferred and which have not been opened yet.
+   */
+  public int getDeferredRestoreStoreCount() {
+    return deferredStoreVersions.size();
+  }
+
   public synchronized AbstractStorageEngine openStoreForNewPartition(
       VeniceStoreVersionConfig storeConfig,
       int partitionId,
@@ -342,11 +519,19 @@ public class StorageService extends AbstractVeniceService {
       VeniceStoreVersionConfig storeConfig,
       Supplier<StoreVersionState> initialStoreVersionStateSupplier) {
     String topicName = storeConfig.getStoreVersionName();
+    awaitDeferredRestore(topicName);
     AbstractStorageEngine engine = storageEngineRepository.getLocalStorageEngine(topicName);
     if (engine != null) {
       return engine;
     }
 
+    engine = createStorageEngine(storeConfig);
+    registerStorageEngine(engine, initialStoreVersionStateSupplier);
+    return engine;
+  }
+
+  private AbstractStorageEngine createStorageEngine(VeniceStoreVersionConfig storeConfig) {
+    String topicName = storeConfig.getStoreVersionName();
     long startTimeInBuildingNewEngine = System.nanoTime();
     /**
      * For new store, it will use the storage engine configured in host level if it is not known.
@@ -357,12 +542,8 @@ public class StorageService extends AbstractVeniceService {
 
     LOGGER.info("Creating/Opening Storage Engine {} with type: {}", topicName, storeConfig.getStorePersistenceType());
     StorageEngineFactory factory = getInternalStorageEngineFactory(storeConfig);
-    engine =
+    AbstractStorageEngine engine =
         factory.getStorageEngine(storeConfig, isReplicationMetadataEnabled(topicName, factory.getPersistenceType()));
-    engine.updateStoreVersionStateCache(initialStoreVersionStateSupplier.get());
-    storageEngineRepository.addLocalStorageEngine(engine);
-    // Setup storage engine stats
-    aggVersionedStorageEngineStats.setStorageEngine(topicName, engine);
 
     LOGGER.info(
         "time spent on creating new storage Engine for store {}: {} ms",
@@ -371,6 +552,18 @@ public class StorageService extends AbstractVeniceService {
     return engine;
   }
 
+  /**
+   * Must be called while holding the lock of this service.
+   */
+  private void registerStorageEngine(
+      AbstractStorageEngine engine,
+      Supplier<StoreVersionState> initialStoreVersionStateSupplier) {
+    engine.updateStoreVersionStateCache(initialStoreVersionStateSupplier.get());
+    storageEngineRepository.addLocalStorageEngine(engine);
+    // Setup storage engine stats
+    aggVersionedStorageEngineStats.setStorageEngine(engine.getStoreVersionName(), engine);
+  }
+
   /**
    * Drops the partition of the specified store version in the storage service. When all data partitions are dropped,
    * it will also drop the storage engine of the specific store version.
@@ -393,6 +586,7 @@ public class StorageService extends AbstractVeniceService {
       int partition,
       boolean removeEmptyStorageEngine) {
     String kafkaTopic = storeConfig.getStoreVersionName();
+    awaitDeferredRestore(kafkaTopic);
     AbstractStorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(kafkaTopic);
     if (storageEngine == null) {
       LOGGER.warn("Storage engine {} does not exist, directly deleting DB files.", kafkaTopic);
@@ -425,6 +619,7 @@ public class StorageService extends AbstractVeniceService {
   }
 
   public synchronized void removeStorageEngine(String kafkaTopic) {
+    awaitDeferredRestore(kafkaTopic);
     AbstractStorageEngine<?> storageEngine = getStorageEngineRepository().removeLocalStorageEngine(kafkaTopic);
     if (storageEngine == null) {
       LOGGER.warn("Storage engine {} does not exist, ignoring remove request.", kafkaTopic);
@@ -446,10 +641,12 @@ public class StorageService extends AbstractVeniceService {
    * {@link AbstractStorageEngine}
    */
   public synchronized void forceStorageEngineCleanup(String kafkaTopic) {
+    awaitDeferredRestore(kafkaTopic);
     persistenceTypeToStorageEngineFactoryMap.values().forEach(factory -> factory.removeStorageEngine(kafkaTopic));
   }
 
   public synchronized void closeStorageEngine(String kafkaTopic) {
+    awaitDeferredRestore(kafkaTopic);
     AbstractStorageEngine<?> storageEngine = getStorageEngineRepository().removeLocalStorageEngine(kafkaTopic);
     if (storageEngine == null) {
       LOGGER.warn("Storage engine {} does not exist, ignoring close request.", kafkaTopic);
@@ -467,7 +664,7 @@ public class StorageService extends AbstractVeniceService {
   public void cleanupAllStores(VeniceConfigLoader configLoader) {
     // Load local storage and delete them safely.
     // TODO Just clean the data dir in case loading and deleting is too slow.
-    restoreAllStores(configLoader, true, true, s -> true);
+    restoreAllStores(configLoader, true, true, s -> true, false);
     LOGGER.info("Start cleaning up all the stores persisted previously");
     storageEngineRepository.getAllLocalStorageEngines().stream().forEach(storageEngine -> {
       String storeName = storageEngine.getStoreVersionName();
@@ -540,6 +737,9 @@ public class StorageService extends AbstractVeniceService {
 
   @Override
   public void stopInner() throws VeniceException {
+    if (deferredRestoreExecutor != null) {
+      deferredRestoreExecutor.shutdownNow();
+    }
     VeniceException lastException = null;
     try {
       this.storageEngineRepository.close();
@@ -16,7 +16,6 @@ import com.linkedin.venice.utils.LatencyUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
-import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
 
@@ -180,19 +179,19 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
-  public void getByPartialKey(
+  public <K> void getByPartialKey(
       AbstractStorageEngine store,
       int userPartition,
       byte[] keyPrefixBytes,
       T reusedValue,
       BinaryDecoder reusedDecoder,
-      RecordDeserializer<GenericRecord> keyRecordDeserializer,
+      RecordDeserializer<K> keyRecordDeserializer,
       boolean isChunked,
       ReadResponse response,
       int readerSchemaId,
       StoreDeserializerCache<T> storeDeserializerCache,
       VeniceCompressor compressor,
-      StreamingCallback<GenericRecord, GenericRecord> computingCallback) {
+      StreamingCallback<K, T> computingCallback) {
 
     if (isChunked) {
       throw new VeniceException("Filtering by key prefix is not supported when chunking is enabled.");
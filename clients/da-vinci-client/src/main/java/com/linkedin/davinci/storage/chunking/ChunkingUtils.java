@@ -19,7 +19,6 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
-import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
 
@@ -133,24 +132,24 @@ public class ChunkingUtils {
         null);
   }
 
-  static <CHUNKS_CONTAINER, VALUE> void getFromStorageByPartialKey(
+  static <KEY, CHUNKS_CONTAINER, VALUE> void getFromStorageByPartialKey(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       AbstractStorageEngine store,
       int partition,
       byte[] keyPrefixBytes,
       VALUE reusedValue,
-      RecordDeserializer<GenericRecord> keyRecordDeserializer,
+      RecordDeserializer<KEY> keyRecordDeserializer,
       BinaryDecoder reusedDecoder,
       ReadResponse response,
       int readerSchemaId,
       StoreDeserializerCache<VALUE> storeDeserializerCache,
       VeniceCompressor compressor,
-      StreamingCallback<GenericRecord, GenericRecord> computingCallback) {
+      StreamingCallback<KEY, VALUE> computingCallback) {
 
     long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
 
     BytesStreamingCallback callback = new BytesStreamingCallback() {
-      GenericRecord deserializedValueRecord;
+      VALUE deserializedValueRecord;
 
       @Override
       public void onRecordReceived(byte[] key, byte[] value) {
@@ -167,9 +166,9 @@ public class ChunkingUtils {
             response.addDatabaseLookupLatency(LatencyUtils.getElapsedTimeFromNSToMS(databaseLookupStartTimeInNS));
           }
 
-          GenericRecord deserializedKey = keyRecordDeserializer.deserialize(key);
+          KEY deserializedKey = keyRecordDeserializer.deserialize(key);
 
-          deserializedValueRecord = (GenericRecord) adapter.constructValue(
+          deserializedValueRecord = adapter.constructValue(
               value,
               value.length,
               reusedValue,
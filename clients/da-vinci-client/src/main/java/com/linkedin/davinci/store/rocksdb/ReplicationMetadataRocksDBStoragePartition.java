@@ -62,7 +62,8 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
           fullPathForTempSSTFileDir,
           true,
           rocksDBServerConfig,
-          super.getBlobTransferEnabled());
+          super.getBlobTransferEnabled(),
+          factory.getSstFileFinalizationExecutor());
     }
   }
 
@@ -218,10 +219,11 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
 
   @Override
   public synchronized void close() {
-    super.close();
+    // Before closing the options, which the SST file being finalized in the background might still be using
     if (deferredWrite) {
       rocksDBSstFileWriter.close();
     }
+    super.close();
   }
 
   @Override
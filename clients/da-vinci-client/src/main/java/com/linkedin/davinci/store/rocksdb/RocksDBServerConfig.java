@@ -196,6 +196,15 @@ public class RocksDBServerConfig {
 
   public static final String ROCKSDB_PUT_REUSE_BYTE_BUFFER = "rocksdb.put.reuse.byte.buffer";
 
+  /**
+   * Whether to finish and verify the SST files written by the batch ingestion on a background pool, while the ingestion
+   * goes on with the next SST file, instead of on the drainer thread at every offset checkpoint. The offset checkpoint
+   * then lags one sync behind, so that it only ever covers verified SST files.
+   */
+  public static final String ROCKSDB_SST_FILE_ASYNC_FINALIZATION_ENABLED =
+      "rocksdb.sst.file.async.finalization.enabled";
+  public static final String ROCKSDB_SST_FILE_FINALIZATION_POOL_SIZE = "rocksdb.sst.file.finalization.pool.size";
+
   /**
    * Every time, when RocksDB tries to open a database, it will spin up multiple threads to load the file metadata
    * in parallel, and the application could hit the thread limit issue if there are many RocksDB open operations
@@ -219,6 +228,12 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
   public static final String RECORD_TRANSFORMER_VALUE_SCHEMA = "record.transformer.value.schema";
 
+  /**
+   * Read-ahead size used by the iterators scanning a whole partition, so that a full scan reads the SST files in large
+   * sequential chunks instead of block by block. 0 leaves it to the automatic read-ahead of RocksDB.
+   */
+  public static final String ROCKSDB_FULL_SCAN_READ_AHEAD_SIZE_IN_BYTES = "rocksdb.full.scan.read.ahead.size.in.bytes";
+
   private final boolean rocksDBUseDirectReads;
 
   private final int rocksDBEnvFlushPoolSize;
@@ -279,12 +294,15 @@ public class RocksDBServerConfig {
   private final boolean level0CompactionTuningForReadWriteLeaderEnabled;
 
   private final boolean putReuseByteBufferEnabled;
+  private final boolean sstFileAsyncFinalizationEnabled;
+  private final int sstFileFinalizationPoolSize;
   private final boolean atomicFlushEnabled;
   private final boolean separateRMDCacheEnabled;
   private int blockBaseFormatVersion;
   private final int maxLogFileNum;
   private final long maxLogFileSize;
   private final String transformerValueSchema;
+  private final long fullScanReadAheadSizeInBytes;
 
   public RocksDBServerConfig(VeniceProperties props) {
     // Do not use Direct IO for reads by default
@@ -396,6 +414,8 @@ public class RocksDBServerConfig {
         props.getBoolean(ROCKSDB_LEVEL0_COMPACTION_TUNING_FOR_READ_WRITE_LEADER_ENABLED, false);
 
     this.putReuseByteBufferEnabled = props.getBoolean(ROCKSDB_PUT_REUSE_BYTE_BUFFER, false);
+    this.sstFileAsyncFinalizationEnabled = props.getBoolean(ROCKSDB_SST_FILE_ASYNC_FINALIZATION_ENABLED, false);
+    this.sstFileFinalizationPoolSize = props.getInt(ROCKSDB_SST_FILE_FINALIZATION_POOL_SIZE, 4);
     this.atomicFlushEnabled = props.getBoolean(ROCKSDB_ATOMIC_FLUSH_ENABLED, true);
     this.separateRMDCacheEnabled = props.getBoolean(ROCKSDB_SEPARATE_RMD_CACHE_ENABLED, false);
 
@@ -408,6 +428,8 @@ public class RocksDBServerConfig {
     this.maxLogFileSize = props.getSizeInBytes(ROCKSDB_MAX_LOG_FILE_SIZE, 10 * 1024 * 1024); // 10MB;
     this.transformerValueSchema =
         props.containsKey(RECORD_TRANSFORMER_VALUE_SCHEMA) ? props.getString(RECORD_TRANSFORMER_VALUE_SCHEMA) : "null";
+    this.fullScanReadAheadSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_FULL_SCAN_READ_AHEAD_SIZE_IN_BYTES, 2 * 1024 * 1024); // 2MB
   }
 
   public int getLevel0FileNumCompactionTriggerWriteOnlyVersion() {
@@ -584,6 +606,14 @@ public class RocksDBServerConfig {
     return putReuseByteBufferEnabled;
   }
 
+  public boolean isSstFileAsyncFinalizationEnabled() {
+    return sstFileAsyncFinalizationEnabled;
+  }
+
+  public int getSstFileFinalizationPoolSize() {
+    return sstFileFinalizationPoolSize;
+  }
+
   public boolean isAtomicFlushEnabled() {
     return atomicFlushEnabled;
   }
@@ -617,4 +647,8 @@ public class RocksDBServerConfig {
     return transformerValueSchema;
   }
 
+  public long getFullScanReadAheadSizeInBytes() {
+    return fullScanReadAheadSizeInBytes;
+  }
+
 }
@@ -19,6 +19,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -87,6 +90,15 @@ public class RocksDBSstFileWriter {
   private final Options options;
   private final boolean isRMD;
   private final RocksDBServerConfig rocksDBServerConfig;
+  /**
+   * Finishes and verifies the SST files in the background, null if it is done synchronously in {@link #sync()}.
+   */
+  private final ExecutorService sstFileFinalizationExecutor;
+  /**
+   * The finalization of the last finished SST file, if it is still pending. Only one SST file is finalized at a time,
+   * so that its verification overlaps with the writing of the next one without letting unverified files pile up.
+   */
+  private Future<?> pendingSSTFileFinalization;
 
   @VisibleForTesting
   protected Checkpoint createCheckpoint(RocksDB rocksDB) {
@@ -110,6 +122,30 @@ public class RocksDBSstFileWriter {
       boolean isRMD,
       RocksDBServerConfig rocksDBServerConfig,
       boolean blobTransferEnabled) {
+    this(
+        storeName,
+        partitionId,
+        dbDir,
+        envOptions,
+        options,
+        fullPathForTempSSTFileDir,
+        isRMD,
+        rocksDBServerConfig,
+        blobTransferEnabled,
+        null);
+  }
+
+  public RocksDBSstFileWriter(
+      String storeName,
+      int partitionId,
+      String dbDir,
+      EnvOptions envOptions,
+      Options options,
+      String fullPathForTempSSTFileDir,
+      boolean isRMD,
+      RocksDBServerConfig rocksDBServerConfig,
+      boolean blobTransferEnabled,
+      ExecutorService sstFileFinalizationExecutor) {
     this.storeName = storeName;
     this.partitionId = partitionId;
     this.envOptions = envOptions;
@@ -120,6 +156,7 @@ public class RocksDBSstFileWriter {
     this.isRMD = isRMD;
     this.lastCheckPointedSSTFileNum = isRMD ? ROCKSDB_LAST_FINISHED_RMD_SST_FILE_NO : ROCKSDB_LAST_FINISHED_SST_FILE_NO;
     this.rocksDBServerConfig = rocksDBServerConfig;
+    this.sstFileFinalizationExecutor = sstFileFinalizationExecutor;
   }
 
   public void put(byte[] key, ByteBuffer valueBuffer) throws RocksDBException {
@@ -213,6 +250,8 @@ public class RocksDBSstFileWriter {
         storeName,
         partitionId,
         checkpointedInfo);
+    // A failed finalization of a previous ingestion can be ignored, as only verified sst files are checkpointed
+    drainPendingSSTFileFinalization();
     if (!checkDatabaseIntegrity(checkpointedInfo)) {
       // defensive check: this issue should have been dealt with while subscribing to the partition
       throw new VeniceException(
@@ -231,6 +270,7 @@ public class RocksDBSstFileWriter {
   }
 
   public void close() {
+    drainPendingSSTFileFinalization();
     if (currentSSTFileWriter != null) {
       currentSSTFileWriter.close();
     }
@@ -239,13 +279,23 @@ public class RocksDBSstFileWriter {
   /**
    * Closes currentSSTFileWriter, update lastCheckPointedSSTFileNum with the current SST file number,
    * validates checksum on this SST file and return updated checkpointingInfo with this lastCheckPointedSSTFileNum.
+   *
+   * When {@link #sstFileFinalizationExecutor} is set, the current SST file is finished and validated in the background
+   * instead, see {@link #rollOverToNextSSTFile()}, and only the SST files finished by the previous sync, whose
+   * validation is waited for here, are checkpointed. The caller must then persist the returned checkpointing info
+   * along with the offset of the previous sync, as the records of the current SST file are not covered by it.
    */
   public Map<String, String> sync() {
+    // Surfaces the failure of the last finalization before anything after it gets checkpointed
+    waitForPendingSSTFileFinalization();
+    int lastVerifiedSSTFileNo = lastFinishedSSTFileNo;
     try {
       /**
        * {@link SstFileWriter#finish()} will throw exception if the current SST file is empty.
        */
-      if (recordNumInCurrentSSTFile > 0) {
+      if (recordNumInCurrentSSTFile > 0 && sstFileFinalizationExecutor != null) {
+        rollOverToNextSSTFile();
+      } else if (recordNumInCurrentSSTFile > 0) {
         currentSSTFileWriter.finish();
         lastFinishedSSTFileNo = currentSSTFileNo;
         ++currentSSTFileNo;
@@ -286,12 +336,111 @@ public class RocksDBSstFileWriter {
      * Return the recovery related info to upper layer to checkpoint.
      */
     Map<String, String> checkpointingInfo = new HashMap<>();
-    if (lastFinishedSSTFileNo >= 0) {
-      checkpointingInfo.put(lastCheckPointedSSTFileNum, Integer.toString(lastFinishedSSTFileNo));
+    int checkpointedSSTFileNo = sstFileFinalizationExecutor != null ? lastVerifiedSSTFileNo : lastFinishedSSTFileNo;
+    if (checkpointedSSTFileNo >= 0) {
+      checkpointingInfo.put(lastCheckPointedSSTFileNum, Integer.toString(checkpointedSSTFileNo));
     }
     return checkpointingInfo;
   }
 
+  /**
+   * Switches to a new writer for the next SST file right away, and finishes and validates the current SST file in the
+   * background. The previous one must have been finalized already.
+   */
+  private void rollOverToNextSSTFile() throws RocksDBException {
+    String fullPathForLastFinishedSSTFile = composeFullPathForSSTFile(currentSSTFileNo);
+    String fullPathForCurrentSSTFile = composeFullPathForSSTFile(currentSSTFileNo + 1);
+    SstFileWriter nextSSTFileWriter = new SstFileWriter(envOptions, options);
+    try {
+      nextSSTFileWriter.open(fullPathForCurrentSSTFile);
+    } catch (RocksDBException e) {
+      nextSSTFileWriter.close();
+      throw e;
+    }
+    SstFileWriter lastSSTFileWriter = currentSSTFileWriter;
+    currentSSTFileWriter = nextSSTFileWriter;
+    lastFinishedSSTFileNo = currentSSTFileNo;
+    ++currentSSTFileNo;
+
+    LOGGER.info(
+        "Sync gets invoked for store: {}, partition id: {}, last finished sst file: {} current sst file: {}",
+        storeName,
+        partitionId,
+        fullPathForLastFinishedSSTFile,
+        fullPathForCurrentSSTFile);
+    long recordNumInLastSSTFile = recordNumInCurrentSSTFile;
+    recordNumInCurrentSSTFile = 0;
+    byte[] checksumToMatch =
+        !isRMD && expectedChecksumSupplier.isPresent() ? expectedChecksumSupplier.get().get() : null;
+
+    pendingSSTFileFinalization = sstFileFinalizationExecutor.submit(
+        () -> finalizeSSTFile(
+            lastSSTFileWriter,
+            fullPathForLastFinishedSSTFile,
+            recordNumInLastSSTFile,
+            checksumToMatch));
+  }
+
+  private void finalizeSSTFile(
+      SstFileWriter sstFileWriter,
+      String fullPathForSSTFile,
+      long recordNumInSSTFile,
+      byte[] checksumToMatch) {
+    long startMs = System.currentTimeMillis();
+    try {
+      sstFileWriter.finish();
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to finish sst file: " + fullPathForSSTFile, e);
+    } finally {
+      sstFileWriter.close();
+    }
+    if (checksumToMatch != null && !verifyChecksum(fullPathForSSTFile, recordNumInSSTFile, checksumToMatch)) {
+      throw new VeniceChecksumException(
+          "verifyChecksum: failure. last sstFile checksum didn't match for store: " + storeName + ", partition: "
+              + partitionId + ", sstFile: " + fullPathForSSTFile + ", records: " + recordNumInSSTFile
+              + ", latency(ms): " + LatencyUtils.getElapsedTimeFromMsToMs(startMs));
+    }
+  }
+
+  /**
+   * Blocks until the pending SST file finalization, if any, is done, and rethrows its failure.
+   */
+  private void waitForPendingSSTFileFinalization() {
+    if (pendingSSTFileFinalization == null) {
+      return;
+    }
+    try {
+      pendingSSTFileFinalization.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException(
+          "Interrupted while waiting for the last sst file to be finalized for store: " + storeName + ", partition: "
+              + partitionId,
+          e);
+    } catch (ExecutionException e) {
+      pendingSSTFileFinalization = null;
+      if (e.getCause() instanceof VeniceException) {
+        throw (VeniceException) e.getCause();
+      }
+      throw new VeniceException(
+          "Failed to finalize the last sst file for store: " + storeName + ", partition: " + partitionId,
+          e.getCause());
+    }
+    pendingSSTFileFinalization = null;
+  }
+
+  private void drainPendingSSTFileFinalization() {
+    if (pendingSSTFileFinalization == null) {
+      return;
+    }
+    try {
+      waitForPendingSSTFileFinalization();
+    } catch (Exception e) {
+      LOGGER.warn("Failed to finalize the last sst file for store: {}, partition id: {}", storeName, partitionId, e);
+      pendingSSTFileFinalization = null;
+    }
+  }
+
   private void removeSSTFilesAfterCheckpointing(int lastFinishedSSTFileNo) {
     File tempSSTFileDir = new File(fullPathForTempSSTFileDir);
     String[] sstFiles = tempSSTFileDir.list((File dir, String name) -> RocksDBUtils.isTempSSTFile(name));
@@ -372,7 +521,7 @@ public class RocksDBSstFileWriter {
    *
    * @param sstFilePath the full absolute path of the SST file
    * @param expectedRecordNumInSSTFile expected number of key/value pairs in the SST File
-   * @param checksumToMatch pre-calculated checksum to match against.
+   * @param checksumToMatch pre-calculated checksum to match against, or null to only verify the number of records.
    * @return true if the sstFile checksum matches with the provided checksum.
    */
   private boolean verifyChecksum(String sstFilePath, long expectedRecordNumInSSTFile, byte[] checksumToMatch) {
@@ -394,6 +543,9 @@ public class RocksDBSstFileWriter {
             actualRecordCounts);
         return false;
       }
+      if (checksumToMatch == null) {
+        return true;
+      }
 
       long recordCount = 0;
       CheckSum sstFileFinalCheckSum = CheckSum.getInstance(CheckSumType.MD5);
@@ -470,6 +622,7 @@ public class RocksDBSstFileWriter {
   }
 
   public void ingestSSTFiles(RocksDB rocksDB, List<ColumnFamilyHandle> columnFamilyHandleList) {
+    waitForPendingSSTFileFinalization();
     List<String> sstFilePaths = getTemporarySSTFilePaths();
     if (sstFilePaths.isEmpty()) {
       LOGGER.info(
@@ -17,15 +17,18 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -64,7 +67,12 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   private final String rocksDBPath;
   private final Cache sharedCache;
   private Cache sharedRMDCache;
-  private final Map<String, RocksDBStorageEngine> storageEngineMap = new HashMap<>();
+  /**
+   * Storage engines are opened outside the factory lock, so that distinct store versions can be opened in parallel
+   * during restore, and published with {@link Map#putIfAbsent}. {@link com.linkedin.davinci.storage.StorageService}
+   * never opens the same store version concurrently, so the engine losing such a race is only closed defensively.
+   */
+  private final Map<String, RocksDBStorageEngine> storageEngineMap = new VeniceConcurrentHashMap<>();
   private final Optional<Statistics> aggStatistics;
 
   /**
@@ -108,6 +116,11 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
 
   private final VeniceServerConfig serverConfig;
 
+  /**
+   * Shared pool to finish and verify the SST files written by the batch ingestion, null if it is done synchronously.
+   */
+  private final ExecutorService sstFileFinalizationExecutor;
+
   public RocksDBStorageEngineFactory(VeniceServerConfig serverConfig) {
     this(
         serverConfig,
@@ -200,6 +213,11 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
         DEFAULT_FAIRNESS,
         DEFAULT_MODE,
         rocksDBServerConfig.isAutoTunedRateLimiterEnabled());
+    this.sstFileFinalizationExecutor = rocksDBServerConfig.isSstFileAsyncFinalizationEnabled()
+        ? Executors.newFixedThreadPool(
+            rocksDBServerConfig.getSstFileFinalizationPoolSize(),
+            new DaemonThreadFactory("RocksDB-SST-File-Finalization"))
+        : null;
   }
 
   public long getMemoryLimit() {
@@ -230,6 +248,10 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return sstFileManagerForMemoryLimiter;
   }
 
+  public ExecutorService getSstFileFinalizationExecutor() {
+    return sstFileFinalizationExecutor;
+  }
+
   /**
    * Whether memory limiter applies or not.
    */
@@ -246,33 +268,41 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   }
 
   @Override
-  public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+  public AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
       throws StorageInitializationException {
     return getStorageEngine(storeConfig, false);
   }
 
   @Override
-  public synchronized AbstractStorageEngine getStorageEngine(
+  public AbstractStorageEngine getStorageEngine(
       VeniceStoreVersionConfig storeConfig,
       boolean replicationMetadataEnabled) throws StorageInitializationException {
     verifyPersistenceType(storeConfig);
     final String storeName = storeConfig.getStoreVersionName();
+    RocksDBStorageEngine storageEngine = storageEngineMap.get(storeName);
+    if (storageEngine != null) {
+      return storageEngine;
+    }
     try {
-      return storageEngineMap.computeIfAbsent(
-          storeName,
-          ignored -> new RocksDBStorageEngine(
-              storeConfig,
-              this,
-              rocksDBPath,
-              rocksDBMemoryStats,
-              rocksDBThrottler,
-              rocksDBServerConfig,
-              storeVersionStateSerializer,
-              partitionStateSerializer,
-              replicationMetadataEnabled));
+      storageEngine = new RocksDBStorageEngine(
+          storeConfig,
+          this,
+          rocksDBPath,
+          rocksDBMemoryStats,
+          rocksDBThrottler,
+          rocksDBServerConfig,
+          storeVersionStateSerializer,
+          partitionStateSerializer,
+          replicationMetadataEnabled);
     } catch (Exception e) {
       throw new StorageInitializationException(e);
     }
+    RocksDBStorageEngine existingStorageEngine = storageEngineMap.putIfAbsent(storeName, storageEngine);
+    if (existingStorageEngine != null) {
+      storageEngine.close();
+      return existingStorageEngine;
+    }
+    return storageEngine;
   }
 
   @Override
@@ -297,6 +327,9 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       storageEngine.close();
     });
     storageEngineMap.clear();
+    if (sstFileFinalizationExecutor != null) {
+      sstFileFinalizationExecutor.shutdownNow();
+    }
     sharedCache.close();
     if (sharedRMDCache != null) {
       sharedRMDCache.close();
@@ -218,7 +218,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
           fullPathForTempSSTFileDir,
           false,
           rocksDBServerConfig,
-          blobTransferEnabled);
+          blobTransferEnabled,
+          factory.getSstFileFinalizationExecutor());
     }
 
     /**
@@ -713,9 +714,15 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     return rocksDBSstFileWriter.validateBatchIngestion();
   }
 
+  /**
+   * N.B. An iterator reads from the implicit snapshot taken when it is created, so a scan sees a consistent view of the
+   * partition even while ingestion keeps writing to it, without having to pin an explicit snapshot.
+   */
   private ReadOptions getReadOptionsForIteration(byte[] keyPrefix) {
     if (keyPrefix == null) {
-      return new ReadOptions();
+      // A full scan touches every block once, so it reads ahead and does not evict the hot blocks of the point lookups.
+      return new ReadOptions().setReadaheadSize(rocksDBServerConfig.getFullScanReadAheadSizeInBytes())
+          .setFillCache(false);
     } else {
       return new ReadOptions().setIterateUpperBound(getPrefixIterationUpperBound(keyPrefix));
     }
@@ -856,12 +863,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       isClosed = true;
       readCloseRWLock.writeLock().unlock();
     }
-    if (envOptions != null) {
-      envOptions.close();
-    }
     if (deferredWrite) {
+      // Before closing the options, which the SST file being finalized in the background might still be using
       rocksDBSstFileWriter.close();
     }
+    if (envOptions != null) {
+      envOptions.close();
+    }
     options.close();
     if (writeOptions != null) {
       writeOptions.close();
@@ -5,10 +5,14 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
@@ -17,8 +21,10 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import org.apache.avro.Schema;
 import org.testng.Assert;
@@ -103,4 +109,32 @@ public class AvroGenericDaVinciClientTest {
       assertEquals(resultMap.get(keyPrefix + i), testValue);
     }
   }
+
+  @Test(timeOut = 60_000)
+  public void testScanPartitionsInParallel() {
+    AvroGenericDaVinciClient<String, String> dvcClient = mock(AvroGenericDaVinciClient.class);
+    when(dvcClient.getDaVinciConfig()).thenReturn(new DaVinciConfig().setScanParallelism(4));
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    int partitionCount = 10;
+    when(versionBackend.getPartitionCount()).thenReturn(partitionCount);
+    when(dvcClient.isPartitionReadyToServe(any(), anyInt())).thenAnswer(invocation -> {
+      int partition = invocation.getArgument(1);
+      return partition != 3;
+    });
+    when(dvcClient.scanPartitions(any(), any())).thenCallRealMethod();
+
+    Set<Integer> scannedPartitions = ConcurrentHashMap.newKeySet();
+    Optional<Exception> exception = dvcClient.scanPartitions(versionBackend, scannedPartitions::add);
+    assertFalse(exception.isPresent());
+    assertEquals(scannedPartitions.size(), partitionCount - 1);
+    assertFalse(scannedPartitions.contains(3));
+
+    // A failure is reported once all the partitions being scanned are done, and the remaining ones are skipped.
+    VeniceException failure = new VeniceException("Scan failure");
+    exception = dvcClient.scanPartitions(versionBackend, partition -> {
+      throw failure;
+    });
+    assertTrue(exception.isPresent());
+    assertSame(exception.get(), failure);
+  }
 }
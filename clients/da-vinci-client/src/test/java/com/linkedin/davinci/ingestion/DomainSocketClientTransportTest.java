@@ -0,0 +1,82 @@
+package com.linkedin.davinci.ingestion;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.ingestion.main.MainIngestionMonitorService;
+import com.linkedin.davinci.ingestion.main.MainIngestionReportChannelInitializer;
+import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
+import com.linkedin.davinci.notifier.VeniceNotifier;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskCommand;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
+import com.linkedin.venice.utils.Utils;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.mockito.InOrder;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+
+public class DomainSocketClientTransportTest {
+  private static final int TIMEOUT_IN_MILLIS = 60_000;
+
+  @Test(timeOut = TIMEOUT_IN_MILLIS)
+  public void testPipelinedReportsAreHandledInOrder() throws Exception {
+    if (!Epoll.isAvailable()) {
+      throw new SkipException("Domain socket transport requires native epoll");
+    }
+    String topic = Utils.getUniqueString("topic");
+    int reportCount = 100;
+    VeniceNotifier notifier = mock(VeniceNotifier.class);
+    MainIngestionMonitorService monitorService = mock(MainIngestionMonitorService.class);
+    when(monitorService.getIngestionNotifier()).thenReturn(Collections.singletonList(notifier));
+
+    File socketFile = new File(Utils.getTempDataDirectory(), "report.sock");
+    EventLoopGroup eventLoopGroup = new EpollEventLoopGroup(1);
+    try (DomainSocketClientTransport transport = new DomainSocketClientTransport(socketFile, 10)) {
+      Channel serverChannel = new ServerBootstrap().group(eventLoopGroup)
+          .channel(EpollServerDomainSocketChannel.class)
+          .childHandler(new MainIngestionReportChannelInitializer(monitorService, Optional.empty()))
+          .bind(new DomainSocketAddress(socketFile))
+          .sync()
+          .channel();
+
+      List<CompletableFuture<IngestionTaskCommand>> futures = new ArrayList<>(reportCount);
+      for (int offset = 0; offset < reportCount; offset++) {
+        futures.add(
+            transport.sendRequestAsync(
+                IngestionAction.REPORT,
+                IsolatedIngestionUtils
+                    .createIngestionTaskReport(IngestionReportType.PROGRESS, topic, 0, offset, "")));
+      }
+      // The synchronous request shares the connection, so it is only acknowledged after all the pipelined ones.
+      transport.sendRequest(
+          IngestionAction.REPORT,
+          IsolatedIngestionUtils.createIngestionTaskReport(IngestionReportType.COMPLETED, topic, 0, reportCount, ""));
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+      InOrder inOrder = inOrder(notifier);
+      for (int offset = 0; offset < reportCount; offset++) {
+        inOrder.verify(notifier).progress(topic, 0, offset);
+      }
+      inOrder.verify(notifier).completed(topic, 0, reportCount, "");
+      serverChannel.close().sync();
+    } finally {
+      eventLoopGroup.shutdownGracefully();
+    }
+  }
+}
@@ -3,15 +3,29 @@ package com.linkedin.davinci.ingestion.isolated;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SSL_ENABLED;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.ingestion.DomainSocketClientTransport;
 import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.mockito.InOrder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -39,4 +53,48 @@ public class IsolatedIngestionRequestClientTest {
     when(transport.sendRequest(any(), any())).thenThrow(new VeniceException("test"));
     Assert.assertFalse(client.reportIngestionStatus(report));
   }
+
+  @Test(timeOut = 60 * 1000)
+  public void testFailedAsyncReportsAreSentAgainInOrder() throws Exception {
+    VeniceProperties properties = mock(VeniceProperties.class);
+    when(properties.getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120)).thenReturn(120);
+    VeniceServerConfig veniceServerConfig = mock(VeniceServerConfig.class);
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    when(configLoader.getVeniceServerConfig()).thenReturn(veniceServerConfig);
+    when(configLoader.getCombinedProperties()).thenReturn(properties);
+    HttpClientTransport httpTransport = mock(HttpClientTransport.class);
+    DomainSocketClientTransport domainSocketTransport = mock(DomainSocketClientTransport.class);
+    // The connection is broken and can not be established again, so every report has to go through loopback HTTP.
+    CompletableFuture<Object> brokenConnectionFuture = new CompletableFuture<>();
+    brokenConnectionFuture.completeExceptionally(new VeniceException("Connection closed"));
+    doReturn(brokenConnectionFuture).when(domainSocketTransport)
+        .sendRequestAsync(eq(IngestionAction.REPORT), any(), eq(false));
+    doThrow(new VeniceException("Connection refused")).when(domainSocketTransport)
+        .sendRequestWithRetry(any(), any(), anyInt());
+
+    try (IsolatedIngestionRequestClient client = new IsolatedIngestionRequestClient(configLoader)) {
+      client.setHttpClientTransport(httpTransport);
+      client.setDomainSocketClientTransport(domainSocketTransport);
+      List<IngestionTaskReport> reports = new ArrayList<>();
+      List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+      for (int offset = 0; offset < 10; offset++) {
+        IngestionTaskReport report =
+            IsolatedIngestionUtils.createIngestionTaskReport(IngestionReportType.PROGRESS, "topic", 0, offset, "");
+        reports.add(report);
+        futures.add(client.reportIngestionStatusAsync(report));
+      }
+      IngestionTaskReport completedReport =
+          IsolatedIngestionUtils.createIngestionTaskReport(IngestionReportType.COMPLETED, "topic", 0, 10, "");
+      reports.add(completedReport);
+      // The terminal report is only delivered after all the reports sent before it.
+      Assert.assertTrue(client.reportIngestionStatus(completedReport));
+      for (CompletableFuture<Boolean> future: futures) {
+        Assert.assertTrue(future.get(10, TimeUnit.SECONDS));
+      }
+      InOrder inOrder = inOrder(httpTransport);
+      for (IngestionTaskReport report: reports) {
+        inOrder.verify(httpTransport).sendRequest(IngestionAction.REPORT, report);
+      }
+    }
+  }
 }
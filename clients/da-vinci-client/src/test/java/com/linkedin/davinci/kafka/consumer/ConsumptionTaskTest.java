@@ -0,0 +1,109 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
+import com.linkedin.davinci.ingestion.consumption.IngestionPriorityClass;
+import com.linkedin.davinci.stats.AggKafkaConsumerServiceStats;
+import com.linkedin.davinci.stats.KafkaConsumerServiceStats;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.testng.annotations.Test;
+
+
+public class ConsumptionTaskTest {
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+
+  @Test(timeOut = 10000)
+  public void testOverSharePriorityClassIsPausedInsteadOfSleeping() throws Exception {
+    PubSubTopicPartition futureVersionPartition =
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic("test_store_v2"), 0);
+    PubSubTopicPartition currentVersionPartition =
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic("test_store_v1"), 0);
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messages = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message = mock(PubSubMessage.class);
+      doReturn(100).when(message).getPayloadSize();
+      messages.add(message);
+    }
+    // Only the future version has anything to consume, and only once
+    AtomicBoolean polled = new AtomicBoolean(false);
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> polledMessages =
+        Collections.singletonMap(futureVersionPartition, messages);
+    Supplier<Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>>> pollFunction =
+        () -> polled.getAndSet(true) ? Collections.emptyMap() : polledMessages;
+
+    FairShareIngestionThrottler recordsThrottler =
+        new FairShareIngestionThrottler(() -> 1, 100, "test", Collections.emptyMap(), null);
+    Consumer<PubSubTopicPartition> pauseFunction = mock(Consumer.class);
+    Consumer<PubSubTopicPartition> resumeFunction = mock(Consumer.class);
+    AggKafkaConsumerServiceStats aggStats = mock(AggKafkaConsumerServiceStats.class);
+    doReturn(mock(KafkaConsumerServiceStats.class)).when(aggStats).getStoreStats(anyString());
+    ConsumerSubscriptionCleaner cleaner = mock(ConsumerSubscriptionCleaner.class);
+    doAnswer(invocation -> invocation.getArgument(0)).when(cleaner).getTopicPartitionsToUnsubscribe(any());
+
+    ConsumptionTask consumptionTask = new ConsumptionTask(
+        "localhost:1234",
+        0,
+        10,
+        pollFunction,
+        bytes -> {},
+        records -> {},
+        null,
+        recordsThrottler,
+        pauseFunction,
+        resumeFunction,
+        aggStats,
+        cleaner);
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> futureVersionReceiver =
+        mockDataReceiver(futureVersionPartition, IngestionPriorityClass.FUTURE_VERSION);
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> currentVersionReceiver =
+        mockDataReceiver(currentVersionPartition, IngestionPriorityClass.CURRENT_VERSION);
+    consumptionTask.setDataReceiver(futureVersionPartition, futureVersionReceiver);
+    consumptionTask.setDataReceiver(currentVersionPartition, currentVersionReceiver);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(consumptionTask);
+      verify(futureVersionReceiver, timeout(5000)).write(messages);
+      // The partitions of the over-share class are paused for a while, and the others keep being consumed
+      verify(pauseFunction, timeout(5000)).accept(futureVersionPartition);
+      verify(resumeFunction, timeout(5000)).accept(futureVersionPartition);
+      verify(pauseFunction, never()).accept(currentVersionPartition);
+      verify(resumeFunction, never()).accept(currentVersionPartition);
+    } finally {
+      consumptionTask.stop();
+      executor.shutdownNow();
+    }
+  }
+
+  private ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> mockDataReceiver(
+      PubSubTopicPartition topicPartition,
+      IngestionPriorityClass priorityClass) {
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
+        mock(ConsumedDataReceiver.class);
+    doReturn(topicPartition.getPubSubTopic()).when(dataReceiver).destinationIdentifier();
+    doReturn(priorityClass).when(dataReceiver).getPriorityClass();
+    return dataReceiver;
+  }
+}
@@ -0,0 +1,82 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+import com.linkedin.davinci.ingestion.consumption.IngestionPriorityClass;
+import com.linkedin.davinci.stats.IngestionPriorityClassStats;
+import com.linkedin.venice.utils.TestMockTime;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Collections;
+import org.testng.annotations.Test;
+
+
+public class FairShareIngestionThrottlerTest {
+  private static final long QUOTA = 100;
+  private static final long INTERVAL_MS = 1000;
+
+  @Test
+  public void testSingleClassCanUseTheWholeQuota() {
+    TestMockTime time = new TestMockTime();
+    FairShareIngestionThrottler throttler = new FairShareIngestionThrottler(
+        time,
+        () -> QUOTA,
+        INTERVAL_MS,
+        "test",
+        Collections.emptyMap(),
+        null);
+    assertEquals(throttler.getPauseTimeMs(IngestionPriorityClass.FUTURE_VERSION, 100), 0);
+    // Only the excess over the whole quota is compensated
+    assertEquals(throttler.getPauseTimeMs(IngestionPriorityClass.FUTURE_VERSION, 50), 500);
+  }
+
+  @Test
+  public void testLowerPriorityClassIsThrottledFirst() {
+    TestMockTime time = new TestMockTime();
+    MetricsRepository metricsRepository = new MetricsRepository();
+    FairShareIngestionThrottler throttler = new FairShareIngestionThrottler(
+        time,
+        () -> QUOTA,
+        INTERVAL_MS,
+        "test",
+        Collections.emptyMap(),
+        new IngestionPriorityClassStats(metricsRepository, "priority"));
+    assertEquals(throttler.getPauseTimeMs(IngestionPriorityClass.CURRENT_VERSION_REAL_TIME, 30), 0);
+    // The future version is entitled to 2/10 of the quota, and is slowed down for a whole interval
+    assertEquals(throttler.getPauseTimeMs(IngestionPriorityClass.FUTURE_VERSION, 120), INTERVAL_MS);
+    // While the future version is paused
+    time.sleep(INTERVAL_MS);
+    // The real-time ingestion keeps going while it is within its share, even though the quota is exceeded
+    assertEquals(throttler.getPauseTimeMs(IngestionPriorityClass.CURRENT_VERSION_REAL_TIME, 10), 0);
+    assertEquals(
+        metricsRepository.getMetric(".priority--future_version_throttled_time_ms.Max").value(),
+        (double) INTERVAL_MS);
+  }
+
+  @Test
+  public void testNothingIsThrottledWithoutQuota() {
+    FairShareIngestionThrottler throttler = new FairShareIngestionThrottler(
+        new TestMockTime(),
+        () -> -1,
+        INTERVAL_MS,
+        "test",
+        Collections.emptyMap(),
+        null);
+    for (IngestionPriorityClass priorityClass: IngestionPriorityClass.values()) {
+      assertEquals(throttler.getPauseTimeMs(priorityClass, Integer.MAX_VALUE), 0);
+    }
+  }
+
+  @Test
+  public void testWeightsMustBePositive() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new FairShareIngestionThrottler(
+            new TestMockTime(),
+            () -> QUOTA,
+            INTERVAL_MS,
+            "test",
+            Collections.singletonMap(IngestionPriorityClass.BACKUP_VERSION, 0),
+            null));
+  }
+}
@@ -0,0 +1,319 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggHostLevelIngestionStats;
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.Delete;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.VersionStatus;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class LeaderFollowerStoreIngestionTaskTest {
+  private static final String STORE_NAME = "testStore";
+  private static final String KAFKA_URL = "localhost";
+  private static final int KAFKA_CLUSTER_ID = 0;
+  private static final int PARTITION = 0;
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final int UPDATE_SCHEMA_ID = 1;
+  private static final String VALUE_SCHEMA_STR = "{\"type\": \"record\", \"name\": \"TestValue\", \"fields\": ["
+      + "{\"name\": \"name\", \"type\": \"string\", \"default\": \"\"},"
+      + "{\"name\": \"count\", \"type\": \"int\", \"default\": 0}]}";
+
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+  private final Schema valueSchema = AvroCompatibilityHelper.parse(VALUE_SCHEMA_STR);
+  private final Schema updateSchema =
+      WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(valueSchema);
+  private final RecordSerializer<GenericRecord> updateSerializer =
+      SerializerDeserializerFactory.getAvroGenericSerializer(updateSchema);
+  private final RecordDeserializer<GenericRecord> valueDeserializer =
+      SerializerDeserializerFactory.getAvroGenericDeserializer(valueSchema, valueSchema);
+  private final PubSubTopicPartition realTimeTopicPartition =
+      new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(Version.composeRealTimeTopic(STORE_NAME)), PARTITION);
+
+  private HostLevelIngestionStats hostLevelIngestionStats;
+  private PartitionConsumptionState partitionConsumptionState;
+  private LeaderFollowerStoreIngestionTask ingestionTask;
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> failingRecord;
+
+  @BeforeMethod
+  public void setUp() {
+    StoreIngestionTaskFactory.Builder builder = mock(StoreIngestionTaskFactory.Builder.class);
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    doReturn(mock(AbstractStorageEngine.class)).when(storageEngineRepository).getLocalStorageEngine(anyString());
+    doReturn(storageEngineRepository).when(builder).getStorageEngineRepository();
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(VeniceProperties.empty()).when(serverConfig).getClusterProperties();
+    doReturn(VeniceProperties.empty()).when(serverConfig).getKafkaConsumerConfigsForLocalConsumption();
+    doReturn(VeniceProperties.empty()).when(serverConfig).getKafkaConsumerConfigsForRemoteConsumption();
+    doReturn(Object2IntMaps.emptyMap()).when(serverConfig).getKafkaClusterUrlToIdMap();
+    doReturn(true).when(serverConfig).isWriteComputeUpdateCoalescingEnabled();
+    doReturn(serverConfig).when(builder).getServerConfig();
+    doReturn(mock(ReadOnlyStoreRepository.class)).when(builder).getMetadataRepo();
+    doReturn(mock(AggKafkaConsumerService.class)).when(builder).getAggKafkaConsumerService();
+    doReturn(pubSubTopicRepository).when(builder).getPubSubTopicRepository();
+
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    SchemaEntry valueSchemaEntry = new SchemaEntry(VALUE_SCHEMA_ID, valueSchema);
+    doReturn(valueSchemaEntry).when(schemaRepository).getSupersetSchema(STORE_NAME);
+    doReturn(valueSchemaEntry).when(schemaRepository).getValueSchema(STORE_NAME, VALUE_SCHEMA_ID);
+    doReturn(true).when(schemaRepository).hasValueSchema(STORE_NAME, VALUE_SCHEMA_ID);
+    doReturn(new DerivedSchemaEntry(VALUE_SCHEMA_ID, UPDATE_SCHEMA_ID, updateSchema)).when(schemaRepository)
+        .getDerivedSchema(STORE_NAME, VALUE_SCHEMA_ID, UPDATE_SCHEMA_ID);
+    doReturn(schemaRepository).when(builder).getSchemaRepo();
+
+    AggHostLevelIngestionStats aggHostLevelIngestionStats = mock(AggHostLevelIngestionStats.class);
+    hostLevelIngestionStats = mock(HostLevelIngestionStats.class);
+    doReturn(hostLevelIngestionStats).when(aggHostLevelIngestionStats).getStoreStats(anyString());
+    doReturn(aggHostLevelIngestionStats).when(builder).getIngestionStats();
+    StorageEngineBackedCompressorFactory compressorFactory = mock(StorageEngineBackedCompressorFactory.class);
+    doReturn(new NoopCompressor()).when(compressorFactory).getCompressor(any(), anyString());
+    doReturn(compressorFactory).when(builder).getCompressorFactory();
+
+    Version version = mock(Version.class);
+    doReturn(1).when(version).getPartitionCount();
+    doReturn(VersionStatus.ONLINE).when(version).getStatus();
+    doReturn(KAFKA_URL).when(version).getPushStreamSourceAddress();
+    Store store = mock(Store.class);
+    doReturn(version).when(store).getVersion(eq(1));
+    VeniceStoreVersionConfig storeConfig = mock(VeniceStoreVersionConfig.class);
+    doReturn(Version.composeKafkaTopic(STORE_NAME, 1)).when(storeConfig).getStoreVersionName();
+
+    ingestionTask = spy(
+        new LeaderFollowerStoreIngestionTask(
+            builder,
+            store,
+            version,
+            mock(Properties.class),
+            mock(BooleanSupplier.class),
+            storeConfig,
+            -1,
+            false,
+            Optional.empty(),
+            null));
+
+    // There is no stored value for any key
+    partitionConsumptionState = mock(PartitionConsumptionState.class);
+    doReturn(PARTITION).when(partitionConsumptionState).getPartition();
+    doReturn(true).when(partitionConsumptionState).isEndOfPushReceived();
+    doReturn(new PartitionConsumptionState.TransientRecord(null, 0, 0, -1, KAFKA_CLUSTER_ID, 0))
+        .when(partitionConsumptionState)
+        .getTransientRecord(any());
+    ingestionTask.addPartitionConsumptionState(PARTITION, partitionConsumptionState);
+
+    doReturn(true).when(ingestionTask).shouldProduceToVersionTopic(any());
+    doReturn(true).when(ingestionTask).shouldProcessRecord(any());
+    doNothing().when(ingestionTask)
+        .produceToLocalKafka(any(), any(), any(), any(), anyInt(), anyString(), anyInt(), anyLong());
+    // Only the steps of the leader which deal with the deferred records are run for each consumed record
+    failingRecord = null;
+    doAnswer(invocation -> {
+      if (invocation.getArgument(0) == failingRecord) {
+        throw new VeniceException("Failed to process record");
+      }
+      delegate(invocation.getArgument(0));
+      return StoreIngestionTask.DelegateConsumerRecordResult.PRODUCED_TO_KAFKA;
+    }).when(ingestionTask).delegateConsumerRecord(any(), anyInt(), anyString(), anyInt(), anyLong(), anyLong());
+  }
+
+  @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
+  public void testCoalescedUpdatesAreFlushedBeforeOtherRecord(boolean otherKey) {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> firstUpdate = update("key", 10, "name", "a");
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> lastUpdate = update("key", 11, "count", 2);
+    delegate(firstUpdate);
+    delegate(lastUpdate);
+    verify(ingestionTask, never())
+        .produceToLocalKafka(any(), any(), any(), any(), anyInt(), anyString(), anyInt(), anyLong());
+    verify(hostLevelIngestionStats, times(1)).recordWriteComputeCoalescedUpdateCount();
+
+    // Neither an UPDATE message of another key nor another message type of the same key can be coalesced
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> otherRecord = otherKey ? update("otherKey", 12, "count", 3)
+        : record("key", 12, MessageType.DELETE, new Delete());
+    ingestionTask.maybeFlushDeferredRecords(otherRecord, PARTITION, KAFKA_CLUSTER_ID);
+
+    GenericRecord producedValue = verifyProducedValue(lastUpdate);
+    Assert.assertEquals(producedValue.get("name").toString(), "a");
+    Assert.assertEquals(producedValue.get("count"), 2);
+  }
+
+  @Test
+  public void testCoalescedUpdatesAreFlushedAtEndOfBatch() throws InterruptedException {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> lastUpdate = update("key", 12, "count", 3);
+    ingestionTask.produceToStoreBufferServiceOrKafka(
+        Arrays.asList(update("key", 10, "name", "a"), update("key", 11, "count", 2), lastUpdate),
+        realTimeTopicPartition,
+        KAFKA_URL,
+        KAFKA_CLUSTER_ID);
+
+    // The produced value carries the offset of the last coalesced message as its upstream offset
+    GenericRecord producedValue = verifyProducedValue(lastUpdate);
+    Assert.assertEquals(producedValue.get("name").toString(), "a");
+    Assert.assertEquals(producedValue.get("count"), 3);
+    verify(hostLevelIngestionStats, times(2)).recordWriteComputeCoalescedUpdateCount();
+  }
+
+  @Test
+  public void testCoalescedUpdatesAreDroppedAfterLosingLeadership() {
+    delegate(update("key", 10, "name", "a"));
+    delegate(update("key", 11, "count", 2));
+
+    doReturn(false).when(ingestionTask).shouldProduceToVersionTopic(any());
+    ingestionTask.flushDeferredRecords(PARTITION);
+    doReturn(true).when(ingestionTask).shouldProduceToVersionTopic(any());
+    ingestionTask.flushDeferredRecords(PARTITION);
+
+    verify(ingestionTask, never())
+        .produceToLocalKafka(any(), any(), any(), any(), anyInt(), anyString(), anyInt(), anyLong());
+  }
+
+  @Test
+  public void testCoalescedUpdatesAreDiscardedAfterBatchFailure() throws InterruptedException {
+    // The batch fails after its UPDATE messages were coalesced
+    failingRecord = update("key", 12, "count", 3);
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> failingBatch =
+        Arrays.asList(update("key", 10, "name", "a"), update("key", 11, "count", 2), failingRecord);
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> ingestionTask
+            .produceToStoreBufferServiceOrKafka(failingBatch, realTimeTopicPartition, KAFKA_URL, KAFKA_CLUSTER_ID));
+
+    // The next batch starts from an offset before them, so they must not be produced along with it
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> retriedUpdate = update("key", 10, "name", "b");
+    ingestionTask.produceToStoreBufferServiceOrKafka(
+        Collections.singletonList(retriedUpdate),
+        realTimeTopicPartition,
+        KAFKA_URL,
+        KAFKA_CLUSTER_ID);
+
+    GenericRecord producedValue = verifyProducedValue(retriedUpdate);
+    Assert.assertEquals(producedValue.get("name").toString(), "b");
+    Assert.assertEquals(producedValue.get("count"), 0);
+  }
+
+  /**
+   * Runs the steps of {@link LeaderFollowerStoreIngestionTask#delegateConsumerRecord} which deal with the deferred
+   * records.
+   */
+  private void delegate(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord) {
+    ingestionTask.maybeFlushDeferredRecords(consumerRecord, PARTITION, KAFKA_CLUSTER_ID);
+    ingestionTask.processMessageAndMaybeProduceToKafka(
+        consumerRecord,
+        partitionConsumptionState,
+        PARTITION,
+        KAFKA_URL,
+        KAFKA_CLUSTER_ID,
+        System.nanoTime(),
+        System.currentTimeMillis());
+  }
+
+  /**
+   * Verifies that a single value was produced, on behalf of the given consumed record, and returns it.
+   */
+  private GenericRecord verifyProducedValue(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord) {
+    ArgumentCaptor<LeaderProducedRecordContext> contextCaptor =
+        ArgumentCaptor.forClass(LeaderProducedRecordContext.class);
+    verify(ingestionTask, times(1)).produceToLocalKafka(
+        eq(consumerRecord),
+        eq(partitionConsumptionState),
+        contextCaptor.capture(),
+        any(),
+        eq(PARTITION),
+        eq(KAFKA_URL),
+        eq(KAFKA_CLUSTER_ID),
+        anyLong());
+    LeaderProducedRecordContext context = contextCaptor.getValue();
+    Assert.assertEquals(context.getConsumedOffset(), consumerRecord.getOffset());
+    Put put = (Put) context.getValueUnion();
+    Assert.assertEquals(put.schemaId, VALUE_SCHEMA_ID);
+    ByteBuffer putValue = put.putValue;
+    byte[] valueBytes = new byte[putValue.remaining()];
+    putValue.duplicate().get(valueBytes);
+    return valueDeserializer.deserialize(valueBytes);
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> update(
+      String key,
+      long offset,
+      String fieldName,
+      Object fieldValue) {
+    GenericRecord updateRecord = new UpdateBuilderImpl(updateSchema).setNewFieldValue(fieldName, fieldValue).build();
+    Update update = new Update();
+    update.schemaId = VALUE_SCHEMA_ID;
+    update.updateSchemaId = UPDATE_SCHEMA_ID;
+    update.updateValue = ByteBuffer.wrap(updateSerializer.serialize(updateRecord));
+    return record(key, offset, MessageType.UPDATE, update);
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record(
+      String key,
+      long offset,
+      MessageType messageType,
+      Object payload) {
+    KafkaMessageEnvelope kafkaValue = new KafkaMessageEnvelope();
+    kafkaValue.messageType = messageType.getValue();
+    kafkaValue.payloadUnion = payload;
+    return new ImmutablePubSubMessage<>(
+        new KafkaKey(messageType, key.getBytes()),
+        kafkaValue,
+        realTimeTopicPartition,
+        offset,
+        0,
+        0);
+  }
+}
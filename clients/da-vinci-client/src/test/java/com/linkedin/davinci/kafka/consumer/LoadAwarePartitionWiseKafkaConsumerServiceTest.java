@@ -0,0 +1,269 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
+import com.linkedin.davinci.stats.AggKafkaConsumerServiceStats;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
+import com.linkedin.venice.throttle.EventThrottler;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class LoadAwarePartitionWiseKafkaConsumerServiceTest {
+  private static final double MB = 1024 * 1024;
+  private static final long POSITION = 100L;
+
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+  private final PubSubMessageDeserializer pubSubDeserializer = new PubSubMessageDeserializer(
+      new OptimizedKafkaValueSerializer(),
+      new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+      new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+  private final PubSubTopic versionTopic = pubSubTopicRepository.getTopic("store_v1");
+  private final PubSubTopicPartition[] topicPartitions = new PubSubTopicPartition[4];
+
+  private PubSubConsumerAdapter[] delegates;
+  private Map<PubSubTopicPartition, Double> byteRates;
+  private LoadAwarePartitionWiseKafkaConsumerService consumerService;
+
+  @BeforeMethod
+  public void setUp() {
+    for (int i = 0; i < topicPartitions.length; i++) {
+      topicPartitions[i] = new PubSubTopicPartitionImpl(versionTopic, i);
+    }
+    byteRates = new VeniceConcurrentHashMap<>();
+  }
+
+  @Test
+  public void testPickLeastLoadedConsumer() {
+    createConsumerService(3);
+    byteRates.put(topicPartitions[0], 3 * MB);
+    byteRates.put(topicPartitions[1], MB);
+    byteRates.put(topicPartitions[2], 2 * MB);
+    byteRates.put(topicPartitions[3], MB / 2);
+
+    SharedKafkaConsumer consumerForP0 = consumerService.assignConsumerFor(versionTopic, topicPartitions[0]);
+    SharedKafkaConsumer consumerForP1 = consumerService.assignConsumerFor(versionTopic, topicPartitions[1]);
+    SharedKafkaConsumer consumerForP2 = consumerService.assignConsumerFor(versionTopic, topicPartitions[2]);
+    // The consumer of p1 is the least loaded one by then
+    SharedKafkaConsumer consumerForP3 = consumerService.assignConsumerFor(versionTopic, topicPartitions[3]);
+
+    Assert.assertSame(consumerForP0, getConsumer(0));
+    Assert.assertSame(consumerForP1, getConsumer(1));
+    Assert.assertSame(consumerForP2, getConsumer(2));
+    Assert.assertSame(consumerForP3, getConsumer(1));
+  }
+
+  @Test
+  public void testRebalanceMigratesHottestPartition() throws InterruptedException {
+    createConsumerService(2);
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
+        subscribeToConsumer0();
+    SharedKafkaConsumer source = getConsumer(0);
+    SharedKafkaConsumer destination = getConsumer(1);
+
+    // The consumers are balanced the most by migrating the partition closest to half of the imbalance
+    Thread pollingThread = new Thread(() -> {
+      while (!Thread.currentThread().isInterrupted()) {
+        source.poll(0);
+      }
+    });
+    pollingThread.start();
+    try {
+      Assert.assertEquals(consumerService.rebalance(), 1);
+    } finally {
+      pollingThread.interrupt();
+      pollingThread.join();
+    }
+
+    Assert.assertSame(getAssignedConsumer(topicPartitions[0]), destination);
+    Assert.assertSame(getAssignedConsumer(topicPartitions[1]), source);
+    Assert.assertSame(getAssignedConsumer(topicPartitions[2]), source);
+    Assert.assertNull(getConsumptionTask(0).getDataReceiver(topicPartitions[0]));
+    Assert.assertSame(getConsumptionTask(1).getDataReceiver(topicPartitions[0]), dataReceiver);
+    // The consumption resumes from the position where the source consumer stopped, with the same pause state
+    verify(delegates[0]).unSubscribe(topicPartitions[0]);
+    verify(delegates[1]).subscribe(topicPartitions[0], POSITION - 1);
+    Assert.assertFalse(source.isPaused(topicPartitions[0]));
+    Assert.assertTrue(destination.isPaused(topicPartitions[0]));
+  }
+
+  @Test
+  public void testRebalanceKeepsPartitionWithoutPoll() {
+    createConsumerService(2);
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
+        subscribeToConsumer0();
+    SharedKafkaConsumer source = getConsumer(0);
+    source.setNextPollTimeoutSeconds(0);
+
+    // Without any poll after the unsubscription, the messages polled before might still be on their way
+    Assert.assertEquals(consumerService.rebalance(), 0);
+
+    Assert.assertSame(getAssignedConsumer(topicPartitions[0]), source);
+    Assert.assertSame(getConsumptionTask(0).getDataReceiver(topicPartitions[0]), dataReceiver);
+    Assert.assertNull(getConsumptionTask(1).getDataReceiver(topicPartitions[0]));
+    // Resubscribed from the position where it stopped
+    verify(delegates[0], times(2)).subscribe(topicPartitions[0], POSITION - 1);
+    verify(delegates[1], never()).subscribe(any(), anyLong());
+    Assert.assertTrue(source.isPaused(topicPartitions[0]));
+  }
+
+  @Test
+  public void testRebalanceDoesNotCarryOverThrottling() throws InterruptedException {
+    // Both the fair share throttling and the load-aware assignment are enabled
+    createConsumerService(2, true);
+    subscribeToConsumer0();
+    SharedKafkaConsumer source = getConsumer(0);
+    SharedKafkaConsumer destination = getConsumer(1);
+    // The partition is paused by its ingestion task during a throttling window of the source consumer
+    source.pause(topicPartitions[0], SharedKafkaConsumer.PauseReason.THROTTLE);
+
+    Thread pollingThread = new Thread(() -> {
+      while (!Thread.currentThread().isInterrupted()) {
+        source.poll(0);
+      }
+    });
+    pollingThread.start();
+    try {
+      Assert.assertEquals(consumerService.rebalance(), 1);
+    } finally {
+      pollingThread.interrupt();
+      pollingThread.join();
+    }
+
+    Assert.assertSame(getAssignedConsumer(topicPartitions[0]), destination);
+    Assert.assertTrue(destination.isPaused(topicPartitions[0], SharedKafkaConsumer.PauseReason.INGESTION_TASK));
+    Assert.assertFalse(destination.isPaused(topicPartitions[0], SharedKafkaConsumer.PauseReason.THROTTLE));
+    // The end of the throttling window of the source consumer does not affect the migrated partition
+    source.resume(topicPartitions[0], SharedKafkaConsumer.PauseReason.THROTTLE);
+    verify(delegates[0], never()).resume(topicPartitions[0]);
+    Assert.assertTrue(destination.isPaused(topicPartitions[0]));
+    // Once its ingestion task resumes it, the partition is consumed again
+    destination.resume(topicPartitions[0]);
+    verify(delegates[1]).resume(topicPartitions[0]);
+    Assert.assertFalse(destination.isPaused(topicPartitions[0]));
+  }
+
+  /**
+   * Subscribes the first three partitions to the first consumer, pausing the first one, and sets their byte rates so
+   * that the first partition is the one to migrate.
+   */
+  private ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> subscribeToConsumer0() {
+    ConsumedDataReceiver<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> dataReceiver =
+        mock(ConsumedDataReceiver.class);
+    when(dataReceiver.destinationIdentifier()).thenReturn(versionTopic);
+    // Without any load, the partitions all go to the first consumer
+    for (int i = 0; i < 3; i++) {
+      consumerService.startConsumptionIntoDataReceiver(topicPartitions[i], POSITION - 1, dataReceiver);
+    }
+    for (int i = 0; i < 3; i++) {
+      Assert.assertSame(getAssignedConsumer(topicPartitions[i]), getConsumer(0));
+    }
+    getConsumer(0).pause(topicPartitions[0]);
+
+    // Half of the imbalance is 2.75 MB/s
+    byteRates.put(topicPartitions[0], 3 * MB);
+    byteRates.put(topicPartitions[1], 2 * MB);
+    byteRates.put(topicPartitions[2], MB / 2);
+    return dataReceiver;
+  }
+
+  private void createConsumerService(int consumerCount) {
+    createConsumerService(consumerCount, false);
+  }
+
+  private void createConsumerService(int consumerCount, boolean fairShareThrottlingEnabled) {
+    delegates = new PubSubConsumerAdapter[consumerCount];
+    for (int i = 0; i < consumerCount; i++) {
+      delegates[i] = mock(PubSubConsumerAdapter.class);
+      for (PubSubTopicPartition topicPartition: topicPartitions) {
+        when(delegates[i].getPosition(topicPartition)).thenReturn(POSITION);
+      }
+    }
+    PubSubConsumerAdapterFactory factory = mock(PubSubConsumerAdapterFactory.class);
+    PubSubConsumerAdapter[] otherDelegates = new PubSubConsumerAdapter[consumerCount - 1];
+    System.arraycopy(delegates, 1, otherDelegates, 0, consumerCount - 1);
+    when(factory.create(any(), anyBoolean(), any(), any())).thenReturn(delegates[0], otherDelegates);
+
+    Properties properties = new Properties();
+    properties.put(KAFKA_BOOTSTRAP_SERVERS, "test_kafka_url");
+    MetricsRepository mockMetricsRepository = mock(MetricsRepository.class);
+    doReturn(mock(Sensor.class)).when(mockMetricsRepository).sensor(anyString(), any());
+    consumerService = new LoadAwarePartitionWiseKafkaConsumerService(
+        factory,
+        properties,
+        1000L,
+        consumerCount,
+        mock(EventThrottler.class),
+        fairShareThrottlingEnabled
+            ? new FairShareIngestionThrottler(() -> 1, 100, "test", Collections.emptyMap(), null)
+            : mock(EventThrottler.class),
+        mock(KafkaClusterBasedRecordThrottler.class),
+        mockMetricsRepository,
+        "test_kafka_cluster_alias",
+        TimeUnit.MINUTES.toMillis(1),
+        mock(TopicExistenceChecker.class),
+        false,
+        pubSubDeserializer,
+        SystemTime.INSTANCE,
+        mock(AggKafkaConsumerServiceStats.class),
+        false,
+        mock(ReadOnlyStoreRepository.class),
+        false);
+
+    // The byte rates of the partitions are controlled by the test
+    for (int i = 0; i < consumerCount; i++) {
+      Map.Entry<SharedKafkaConsumer, ConsumptionTask> entry = consumerService.consumerToConsumptionTask.getByIndex(i);
+      ConsumptionTask consumptionTask = spy(entry.getValue());
+      doAnswer(invocation -> byteRates.getOrDefault(invocation.getArgument(0), 0.0D)).when(consumptionTask)
+          .getByteRate(any());
+      consumerService.consumerToConsumptionTask.putByIndex(entry.getKey(), consumptionTask, i);
+    }
+  }
+
+  private SharedKafkaConsumer getAssignedConsumer(PubSubTopicPartition topicPartition) {
+    return consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, topicPartition);
+  }
+
+  private SharedKafkaConsumer getConsumer(int index) {
+    return consumerService.consumerToConsumptionTask.getByIndex(index).getKey();
+  }
+
+  private ConsumptionTask getConsumptionTask(int index) {
+    return consumerService.consumerToConsumptionTask.getByIndex(index).getValue();
+  }
+}
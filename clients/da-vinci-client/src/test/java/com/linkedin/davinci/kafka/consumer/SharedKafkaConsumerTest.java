@@ -3,6 +3,7 @@ package com.linkedin.davinci.kafka.consumer;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -100,4 +101,84 @@ public class SharedKafkaConsumerTest {
     // be found in the logs.
     Assert.assertEquals(poolTimesBeforeUnsubscribe, sharedKafkaConsumer.getPollTimes());
   }
+
+  @Test
+  public void testUnSubscribeForMigration() throws InterruptedException {
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic("store_v1");
+    PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(versionTopic, 0);
+    SharedKafkaConsumer sharedConsumer = new SharedKafkaConsumer(consumer, stats, () -> {}, (c, tp) -> {});
+    sharedConsumer.setNextPollTimeoutSeconds(1);
+    when(consumer.getAssignment()).thenReturn(Collections.singleton(topicPartition));
+    when(consumer.getPosition(topicPartition)).thenReturn(42L);
+
+    // Unknown topic-partitions cannot be migrated
+    Assert.assertEquals(
+        sharedConsumer.unSubscribeForMigration(new PubSubTopicPartitionImpl(versionTopic, 1)),
+        -1L);
+
+    sharedConsumer.subscribe(versionTopic, topicPartition, 10);
+    sharedConsumer.pause(topicPartition);
+    Assert.assertTrue(sharedConsumer.isPaused(topicPartition));
+
+    // Without any poll after the unsubscription, the topic-partition is resubscribed from the same position
+    Assert.assertEquals(sharedConsumer.unSubscribeForMigration(topicPartition), -1L);
+    verify(consumer, times(1)).subscribe(topicPartition, 41L);
+    verify(consumer, times(2)).pause(topicPartition);
+    Assert.assertTrue(sharedConsumer.hasSubscription(topicPartition));
+    Assert.assertTrue(sharedConsumer.isPaused(topicPartition));
+
+    Thread pollingThread = new Thread(() -> {
+      while (!Thread.currentThread().isInterrupted()) {
+        sharedConsumer.poll(0);
+      }
+    });
+    pollingThread.start();
+    try {
+      Assert.assertEquals(sharedConsumer.unSubscribeForMigration(topicPartition), 42L);
+    } finally {
+      pollingThread.interrupt();
+      pollingThread.join();
+    }
+    Assert.assertFalse(sharedConsumer.isPaused(topicPartition));
+    verify(consumer, times(2)).unSubscribe(topicPartition);
+  }
+
+  @Test
+  public void testPartitionIsOnlyResumedOnceAllPauseReasonsAreLifted() {
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic("store_v1");
+    PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(versionTopic, 0);
+    SharedKafkaConsumer sharedConsumer = new SharedKafkaConsumer(consumer, stats, () -> {}, (c, tp) -> {});
+    when(consumer.getAssignment()).thenReturn(Collections.singleton(topicPartition));
+    sharedConsumer.subscribe(versionTopic, topicPartition, 10);
+
+    // The ingestion task pauses the partition during a throttling window, which ends first
+    sharedConsumer.pause(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE);
+    sharedConsumer.pause(topicPartition);
+    verify(consumer, times(1)).pause(topicPartition);
+    sharedConsumer.resume(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE);
+    verify(consumer, never()).resume(topicPartition);
+    Assert.assertTrue(sharedConsumer.isPaused(topicPartition, SharedKafkaConsumer.PauseReason.INGESTION_TASK));
+    Assert.assertFalse(sharedConsumer.isPaused(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE));
+    sharedConsumer.resume(topicPartition);
+    verify(consumer, times(1)).resume(topicPartition);
+    Assert.assertFalse(sharedConsumer.isPaused(topicPartition));
+
+    // The ingestion task resumes the partition before the end of a throttling window
+    sharedConsumer.pause(topicPartition);
+    sharedConsumer.pause(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE);
+    sharedConsumer.resume(topicPartition);
+    verify(consumer, times(1)).resume(topicPartition);
+    Assert.assertTrue(sharedConsumer.isPaused(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE));
+    sharedConsumer.resume(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE);
+    verify(consumer, times(2)).resume(topicPartition);
+    Assert.assertFalse(sharedConsumer.isPaused(topicPartition));
+
+    // Throttling a partition which is not subscribed anymore does not reach the delegate
+    sharedConsumer.setNextPollTimeoutSeconds(0);
+    sharedConsumer.unSubscribe(topicPartition);
+    sharedConsumer.pause(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE);
+    sharedConsumer.resume(topicPartition, SharedKafkaConsumer.PauseReason.THROTTLE);
+    verify(consumer, times(2)).pause(topicPartition);
+    verify(consumer, times(2)).resume(topicPartition);
+  }
 }
@@ -22,16 +22,21 @@ import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PooledPubSubMessage;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.pools.RecyclingObjectPool;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -262,6 +267,54 @@ public class StoreBufferServiceTest {
     bufferService.stop();
   }
 
+  @Test
+  public void testQueuedRecordsAreReleasedOnceProcessed() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, true, mockedStats);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopic, 1);
+    String kafkaUrl = "blah";
+    RecyclingObjectPool<KafkaMessageEnvelope> envelopePool =
+        new RecyclingObjectPool<>(KafkaMessageEnvelope::new, 10, PubSubMessageDeserializer::recycleEnvelope);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> followerRecord =
+        newPooledRecord(envelopePool, pubSubTopicPartition, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> leaderRecord =
+        newPooledRecord(envelopePool, pubSubTopicPartition, 1);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> failingRecord =
+        newPooledRecord(envelopePool, pubSubTopicPartition, 2);
+    doThrow(new VeniceException("test_exception")).when(mockTask)
+        .processConsumerRecord(failingRecord, null, 1, kafkaUrl, 0L);
+
+    bufferService.putConsumerRecord(followerRecord, mockTask, null, 1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(leaderRecord, mockTask, leaderContext, 1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(failingRecord, mockTask, null, 1, kafkaUrl, 0L);
+    // The consumer gives up its references, and the queue keeps the envelopes from being recycled
+    followerRecord.release();
+    leaderRecord.release();
+    failingRecord.release();
+    Assert.assertEquals(envelopePool.getOutstandingObjectCount(), 3);
+
+    bufferService.start();
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(failingRecord, null, 1, kafkaUrl, 0L);
+    TestUtils.waitForNonDeterministicAssertion(
+        TIMEOUT_IN_MS,
+        TimeUnit.MILLISECONDS,
+        () -> Assert.assertEquals(envelopePool.getOutstandingObjectCount(), 0));
+    Assert.assertEquals(envelopePool.getRecycledObjectCount(), 3);
+    bufferService.stop();
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> newPooledRecord(
+      RecyclingObjectPool<KafkaMessageEnvelope> envelopePool,
+      PubSubTopicPartition pubSubTopicPartition,
+      long offset) {
+    KafkaMessageEnvelope envelope = envelopePool.get();
+    envelope.messageType = MessageType.PUT.getValue();
+    envelope.producerMetadata = new ProducerMetadata();
+    envelope.payloadUnion = new Put(ByteBuffer.allocate(0), 0, 0, ByteBuffer.allocate(0));
+    return new PooledPubSubMessage<>(key, envelope, pubSubTopicPartition, offset, 0, 0, null, envelopePool);
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testPutConsumerRecord(boolean queueLeaderWrites) throws InterruptedException {
     VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
@@ -1,16 +1,30 @@
 package com.linkedin.davinci.kafka.consumer;
 
+import static com.linkedin.venice.schema.Utils.loadSchemaFileAsString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
+import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
 import com.linkedin.davinci.schema.merge.MergeRecordHelper;
 import com.linkedin.venice.client.store.schemas.TestValueRecord;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 import org.testng.annotations.Test;
 
 
@@ -28,4 +42,48 @@ public class TestStoreWriteComputeProcessor {
     assertNotNull(writeComputeProcessor.getValueDeserializer(testSchema, testSchema));
     assertNotNull(writeComputeProcessor.generateValueSerializer(1));
   }
+
+  @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
+  public void testUpdatesAppliedToRecordMatchUpdatesAppliedOneByOne(boolean fastAvroEnabled) {
+    String storeName = TestUtils.getUniqueTopicString("test");
+    Schema valueSchema =
+        AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(loadSchemaFileAsString("testMergeSchema.avsc"));
+    Schema updateSchema = WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(valueSchema);
+    ReadOnlySchemaRepository mockRepo = mock(ReadOnlySchemaRepository.class);
+    doReturn(new SchemaEntry(1, valueSchema)).when(mockRepo).getValueSchema(storeName, 1);
+    doReturn(new DerivedSchemaEntry(1, 1, updateSchema)).when(mockRepo).getDerivedSchema(storeName, 1, 1);
+    MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
+    StoreWriteComputeProcessor writeComputeProcessor =
+        new StoreWriteComputeProcessor(storeName, mockRepo, mergeRecordHelper, fastAvroEnabled);
+
+    AvroSerializer<GenericRecord> updateSerializer = new AvroSerializer<>(updateSchema);
+    List<GenericRecord> updateRecords = Arrays.asList(
+        new UpdateBuilderImpl(updateSchema).setNewFieldValue("StringListField", Collections.singletonList("a")).build(),
+        new UpdateBuilderImpl(updateSchema).setEntriesToAddToMapField("IntMapField", Collections.singletonMap("k", 1))
+            .build(),
+        new UpdateBuilderImpl(updateSchema)
+            .setElementsToAddToListField("StringListField", Collections.singletonList("b"))
+            .build());
+    List<ByteBuffer> updates = new ArrayList<>();
+    for (GenericRecord updateRecord: updateRecords) {
+      updates.add(ByteBuffer.wrap(updateSerializer.serialize(updateRecord)));
+    }
+
+    // Each update is applied to the value deserialized from the bytes of the previous one
+    byte[] valueBytes = null;
+    for (ByteBuffer update: updates) {
+      GenericRecord currValue = valueBytes == null
+          ? null
+          : writeComputeProcessor.getValueDeserializer(valueSchema, valueSchema).deserialize(valueBytes);
+      valueBytes = writeComputeProcessor.applyWriteCompute(currValue, 1, 1, update.duplicate(), 1, 1);
+    }
+
+    // All the updates are applied to the same record, which is serialized once
+    GenericRecord value = null;
+    for (ByteBuffer update: updates) {
+      value = writeComputeProcessor.applyWriteComputeToRecord(value, 1, 1, update.duplicate(), 1, 1);
+    }
+    assertEquals(writeComputeProcessor.serializeValue(value, 1), valueBytes);
+    assertEquals(value.get("StringListField").toString(), "[a, b]");
+  }
 }
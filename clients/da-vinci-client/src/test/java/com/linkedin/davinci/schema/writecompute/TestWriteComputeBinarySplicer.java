@@ -0,0 +1,148 @@
+package com.linkedin.davinci.schema.writecompute;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.schema.merge.CollectionTimestampMergeRecordHelper;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.writer.update.UpdateBuilder;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestWriteComputeBinarySplicer {
+  private static final String VALUE_SCHEMA_STR = "{\n" + "  \"type\" : \"record\",\n" + "  \"name\" : \"TestValue\",\n"
+      + "  \"fields\" : [\n" + "    { \"name\" : \"name\", \"type\" : \"string\", \"default\" : \"\" },\n"
+      + "    { \"name\" : \"age\", \"type\" : \"int\", \"default\" : 0 },\n"
+      + "    { \"name\" : \"nickname\", \"type\" : [ \"null\", \"string\" ], \"default\" : null },\n"
+      + "    { \"name\" : \"scores\", \"type\" : { \"type\" : \"array\", \"items\" : \"long\" }, \"default\" : [ ] },\n"
+      + "    { \"name\" : \"tags\", \"type\" : { \"type\" : \"map\", \"values\" : \"string\" }, \"default\" : { } },\n"
+      + "    { \"name\" : \"payload\", \"type\" : \"bytes\", \"default\" : \"\" },\n"
+      + "    { \"name\" : \"address\", \"type\" : { \"type\" : \"record\", \"name\" : \"Address\", \"fields\" : [\n"
+      + "      { \"name\" : \"city\", \"type\" : \"string\" }, { \"name\" : \"zip\", \"type\" : \"double\" } ] },\n"
+      + "      \"default\" : { \"city\" : \"\", \"zip\" : 0.0 } },\n"
+      + "    { \"name\" : \"color\", \"type\" : { \"type\" : \"enum\", \"name\" : \"Color\", \"symbols\" : [ \"RED\", "
+      + "\"BLUE\" ] }, \"default\" : \"RED\" },\n"
+      + "    { \"name\" : \"checksum\", \"type\" : { \"type\" : \"fixed\", \"name\" : \"Checksum\", \"size\" : 4 },\n"
+      + "      \"default\" : \"\\u0000\\u0000\\u0000\\u0000\" },\n"
+      + "    { \"name\" : \"active\", \"type\" : \"boolean\", \"default\" : false }\n" + "  ]\n" + "}";
+
+  private final Schema valueSchema = AvroCompatibilityHelper.parse(VALUE_SCHEMA_STR);
+  private final Schema updateSchema =
+      WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(valueSchema);
+  private final RecordSerializer<GenericRecord> serializer =
+      SerializerDeserializerFactory.getAvroGenericSerializer(valueSchema);
+  private final RecordDeserializer<GenericRecord> deserializer =
+      SerializerDeserializerFactory.getAvroGenericDeserializer(valueSchema, valueSchema);
+  private final WriteComputeProcessor writeComputeProcessor =
+      new WriteComputeProcessor(new CollectionTimestampMergeRecordHelper());
+
+  @Test
+  public void testFieldPutsMatchGenericUpdate() {
+    GenericRecord currValue = createValue();
+    Map<String, String> newTags = new HashMap<>();
+    newTags.put("k", "v");
+
+    UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchema);
+    updateBuilder.setNewFieldValue("age", 42);
+    updateBuilder.setNewFieldValue("nickname", "bob");
+    updateBuilder.setNewFieldValue("tags", newTags);
+    updateBuilder.setNewFieldValue("active", true);
+    assertSplicedValueMatchesGenericUpdate(currValue, updateBuilder.build());
+
+    // The first and the last fields
+    updateBuilder = new UpdateBuilderImpl(updateSchema);
+    updateBuilder.setNewFieldValue("name", "a much longer name than the current one");
+    updateBuilder.setNewFieldValue("active", false);
+    assertSplicedValueMatchesGenericUpdate(currValue, updateBuilder.build());
+
+    // A nullable field set back to null, and the fields of complex types
+    GenericRecord newAddress = new GenericData.Record(valueSchema.getField("address").schema());
+    newAddress.put("city", "Sunnyvale");
+    newAddress.put("zip", 94089.0);
+    updateBuilder = new UpdateBuilderImpl(updateSchema);
+    updateBuilder.setNewFieldValue("nickname", null);
+    updateBuilder.setNewFieldValue("scores", Collections.emptyList());
+    updateBuilder.setNewFieldValue("address", newAddress);
+    updateBuilder.setNewFieldValue(
+        "color",
+        new GenericData.EnumSymbol(valueSchema.getField("color").schema(), "BLUE"));
+    assertSplicedValueMatchesGenericUpdate(currValue, updateBuilder.build());
+  }
+
+  @Test
+  public void testCollectionMergesAreNotSpliced() {
+    ByteBuffer currValueBytes = ByteBuffer.wrap(serializer.serialize(createValue()));
+
+    UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchema);
+    updateBuilder.setNewFieldValue("age", 42);
+    updateBuilder.setElementsToAddToListField("scores", Collections.singletonList(4L));
+    Assert.assertNull(writeComputeProcessor.updateRecordBytes(valueSchema, currValueBytes, updateBuilder.build()));
+
+    updateBuilder = new UpdateBuilderImpl(updateSchema);
+    updateBuilder.setKeysToRemoveFromMapField("tags", Collections.singletonList("a"));
+    Assert.assertNull(writeComputeProcessor.updateRecordBytes(valueSchema, currValueBytes, updateBuilder.build()));
+  }
+
+  @Test
+  public void testValueNotEncodedWithValueSchemaIsNotSpliced() {
+    byte[] currValueBytes = serializer.serialize(createValue());
+    UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchema);
+    updateBuilder.setNewFieldValue("age", 42);
+    GenericRecord updateRecord = updateBuilder.build();
+
+    // Truncated value
+    ByteBuffer truncatedValueBytes = ByteBuffer.wrap(Arrays.copyOf(currValueBytes, currValueBytes.length - 2));
+    Assert.assertNull(writeComputeProcessor.updateRecordBytes(valueSchema, truncatedValueBytes, updateRecord));
+
+    // Trailing bytes
+    ByteBuffer longerValueBytes = ByteBuffer.wrap(Arrays.copyOf(currValueBytes, currValueBytes.length + 1));
+    Assert.assertNull(writeComputeProcessor.updateRecordBytes(valueSchema, longerValueBytes, updateRecord));
+  }
+
+  private void assertSplicedValueMatchesGenericUpdate(GenericRecord currValue, GenericRecord updateRecord) {
+    byte[] currValueBytes = serializer.serialize(currValue);
+    // The current value is read from the middle of a larger buffer
+    byte[] paddedValueBytes = new byte[currValueBytes.length + 6];
+    System.arraycopy(currValueBytes, 0, paddedValueBytes, 3, currValueBytes.length);
+    ByteBuffer currValueBuffer = ByteBuffer.wrap(paddedValueBytes, 3, currValueBytes.length).slice();
+
+    byte[] splicedValueBytes = writeComputeProcessor.updateRecordBytes(valueSchema, currValueBuffer, updateRecord);
+    Assert.assertNotNull(splicedValueBytes);
+
+    GenericRecord expectedValue =
+        writeComputeProcessor.updateRecord(valueSchema, deserializer.deserialize(currValueBytes), updateRecord);
+    Assert.assertEquals(splicedValueBytes, serializer.serialize(expectedValue));
+  }
+
+  private GenericRecord createValue() {
+    GenericRecord address = new GenericData.Record(valueSchema.getField("address").schema());
+    address.put("city", "Mountain View");
+    address.put("zip", 94043.0);
+    // A single entry, so that the map is encoded the same whichever the iteration order of its implementation
+    Map<String, String> tags = Collections.singletonMap("a", "1");
+
+    GenericRecord value = new GenericData.Record(valueSchema);
+    value.put("name", "alice");
+    value.put("age", 30);
+    value.put("nickname", "al");
+    value.put("scores", Arrays.asList(1L, -2L, 300000L));
+    value.put("tags", tags);
+    value.put("payload", ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+    value.put("address", address);
+    value.put("color", new GenericData.EnumSymbol(valueSchema.getField("color").schema(), "RED"));
+    value.put("checksum", new GenericData.Fixed(valueSchema.getField("checksum").schema(), new byte[] { 9, 8, 7, 6 }));
+    value.put("active", false);
+    return value;
+  }
+}
@@ -63,8 +63,8 @@ public class HeartbeatMonitoringServiceTest {
     heartbeatMonitoringService.recordFollowerHeartbeat(TEST_STORE, 2, 0, null, 1000L);
 
     // Since we haven't gotten a signal to handle these heartbeats, we discard them.
-    Assert.assertNull(heartbeatMonitoringService.getLeaderHeartbeatTimeStamps().get(TEST_STORE));
-    Assert.assertNull(heartbeatMonitoringService.getFollowerHeartbeatTimeStamps().get(TEST_STORE));
+    Assert.assertFalse(heartbeatMonitoringService.getLeaderHeartbeatTimeStamps().containsStore(TEST_STORE));
+    Assert.assertFalse(heartbeatMonitoringService.getFollowerHeartbeatTimeStamps().containsStore(TEST_STORE));
 
     // Let's do some state transitions!
 
@@ -106,33 +106,32 @@ public class HeartbeatMonitoringServiceTest {
     heartbeatMonitoringService.recordLeaderHeartbeat(TEST_STORE, 2, 0, LOCAL_FABRIC, 1002L);
     heartbeatMonitoringService.recordLeaderHeartbeat(TEST_STORE, 3, 0, LOCAL_FABRIC, 1002L);
 
-    Assert.assertEquals(heartbeatMonitoringService.getFollowerHeartbeatTimeStamps().size(), 1);
+    HeartbeatLagTable followerTimestamps = heartbeatMonitoringService.getFollowerHeartbeatTimeStamps();
+    HeartbeatLagTable leaderTimestamps = heartbeatMonitoringService.getLeaderHeartbeatTimeStamps();
+    Assert.assertTrue(followerTimestamps.containsStore(TEST_STORE));
     // We only expect two entries as version 1 is a non-hybrid version
-    Assert.assertEquals(heartbeatMonitoringService.getFollowerHeartbeatTimeStamps().get(TEST_STORE).size(), 2);
-    Assert.assertEquals(heartbeatMonitoringService.getFollowerHeartbeatTimeStamps().get(TEST_STORE).get(2).size(), 3);
+    Assert.assertFalse(followerTimestamps.containsVersion(TEST_STORE, 1));
+    Assert.assertTrue(followerTimestamps.containsVersion(TEST_STORE, 2));
+    Assert.assertTrue(followerTimestamps.containsVersion(TEST_STORE, 3));
+    for (int partition = 0; partition < 3; partition++) {
+      Assert.assertTrue(followerTimestamps.containsPartition(TEST_STORE, 2, partition));
+    }
+    Assert.assertFalse(followerTimestamps.containsPartition(TEST_STORE, 2, 3));
 
     // Check we got the right amount of regions
-    Assert.assertEquals(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps().get(TEST_STORE).get(3).get(0).size(),
-        2);
+    Assert.assertEquals(followerTimestamps.getRegionCount(TEST_STORE, 3, 0), 2);
+    Assert.assertEquals(followerTimestamps.getRegionCount(TEST_STORE, 3, 2), 1);
 
     // make sure we didn't get any leader heartbeats yet recorded
-    Assert.assertNull(heartbeatMonitoringService.getLeaderHeartbeatTimeStamps().get(TEST_STORE));
+    Assert.assertFalse(leaderTimestamps.containsStore(TEST_STORE));
 
     // check heartbeat value
-    Long value = heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-        .get(TEST_STORE)
-        .get(futureVersion.getNumber())
-        .get(1)
-        .get(LOCAL_FABRIC);
-    Assert.assertTrue(value == 1001L);
-
-    value = heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-        .get(TEST_STORE)
-        .get(futureVersion.getNumber())
-        .get(1)
-        .get(REMOTE_FABRIC);
-    Assert.assertTrue(value == 1001L);
+    Assert.assertEquals(
+        followerTimestamps.getHeartbeatTimestamp(TEST_STORE, futureVersion.getNumber(), 1, LOCAL_FABRIC),
+        1001L);
+    Assert.assertEquals(
+        followerTimestamps.getHeartbeatTimestamp(TEST_STORE, futureVersion.getNumber(), 1, REMOTE_FABRIC),
+        1001L);
 
     // Leader state transitions
     heartbeatMonitoringService.addLeaderLagMonitor(currentVersion, 1);
@@ -143,23 +142,17 @@ public class HeartbeatMonitoringServiceTest {
     heartbeatMonitoringService.addLeaderLagMonitor(futureVersion, 2);
 
     // alright, no longer null
-    Assert.assertNotNull(heartbeatMonitoringService.getLeaderHeartbeatTimeStamps().get(TEST_STORE));
+    Assert.assertTrue(leaderTimestamps.containsStore(TEST_STORE));
+    // Active/active leaders monitor all the regions
+    Assert.assertEquals(leaderTimestamps.getRegionCount(TEST_STORE, currentVersion.getNumber(), 1), 2);
+    Assert.assertEquals(leaderTimestamps.getRegionCount(TEST_STORE, futureVersion.getNumber(), 1), 1);
 
     // make sure the follower entries are no longer there
-    Assert.assertNull(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-            .get(TEST_STORE)
-            .get(currentVersion.getNumber())
-            .get(1));
-    Assert.assertNull(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-            .get(TEST_STORE)
-            .get(currentVersion.getNumber())
-            .get(2));
+    Assert.assertFalse(followerTimestamps.containsPartition(TEST_STORE, currentVersion.getNumber(), 1));
+    Assert.assertFalse(followerTimestamps.containsPartition(TEST_STORE, currentVersion.getNumber(), 2));
 
     // Non hybrid version shouldn't be recorded
-    Assert.assertNull(
-        heartbeatMonitoringService.getLeaderHeartbeatTimeStamps().get(TEST_STORE).get(backupVersion.getNumber()));
+    Assert.assertFalse(leaderTimestamps.containsVersion(TEST_STORE, backupVersion.getNumber()));
 
     // Go back to follower
     heartbeatMonitoringService.addFollowerLagMonitor(currentVersion, 1);
@@ -167,51 +160,27 @@ public class HeartbeatMonitoringServiceTest {
     heartbeatMonitoringService.addFollowerLagMonitor(futureVersion, 1);
 
     // make sure non hybrid is still not in there
-    Assert.assertNull(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps().get(TEST_STORE).get(backupVersion.getNumber()));
-    Assert.assertNull(
-        heartbeatMonitoringService.getLeaderHeartbeatTimeStamps().get(TEST_STORE).get(backupVersion.getNumber()));
+    Assert.assertFalse(followerTimestamps.containsVersion(TEST_STORE, backupVersion.getNumber()));
+    Assert.assertFalse(leaderTimestamps.containsVersion(TEST_STORE, backupVersion.getNumber()));
 
     heartbeatMonitoringService.recordFollowerHeartbeat(TEST_STORE, 1, 1, REMOTE_FABRIC, 1003L);
     heartbeatMonitoringService.recordFollowerHeartbeat(TEST_STORE, 2, 1, REMOTE_FABRIC, 1003L);
     heartbeatMonitoringService.recordFollowerHeartbeat(TEST_STORE, 3, 1, REMOTE_FABRIC, 1003L);
 
     // make sure leaders are cleared out
-    Assert.assertNull(
-        heartbeatMonitoringService.getLeaderHeartbeatTimeStamps()
-            .get(TEST_STORE)
-            .get(currentVersion.getNumber())
-            .get(1));
-    Assert.assertNull(
-        heartbeatMonitoringService.getLeaderHeartbeatTimeStamps()
-            .get(TEST_STORE)
-            .get(futureVersion.getNumber())
-            .get(1));
+    Assert.assertFalse(leaderTimestamps.containsPartition(TEST_STORE, currentVersion.getNumber(), 1));
+    Assert.assertFalse(leaderTimestamps.containsPartition(TEST_STORE, futureVersion.getNumber(), 1));
 
     // make sure followers are added
-    Assert.assertNotNull(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-            .get(TEST_STORE)
-            .get(currentVersion.getNumber())
-            .get(1));
-    Assert.assertNotNull(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-            .get(TEST_STORE)
-            .get(futureVersion.getNumber())
-            .get(1));
-
-    value = heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-        .get(TEST_STORE)
-        .get(futureVersion.getNumber())
-        .get(1)
-        .get(REMOTE_FABRIC);
-    Assert.assertTrue(value == 1003L);
-    value = heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-        .get(TEST_STORE)
-        .get(currentVersion.getNumber())
-        .get(1)
-        .get(REMOTE_FABRIC);
-    Assert.assertTrue(value == 1003L);
+    Assert.assertTrue(followerTimestamps.containsPartition(TEST_STORE, currentVersion.getNumber(), 1));
+    Assert.assertTrue(followerTimestamps.containsPartition(TEST_STORE, futureVersion.getNumber(), 1));
+
+    Assert.assertEquals(
+        followerTimestamps.getHeartbeatTimestamp(TEST_STORE, futureVersion.getNumber(), 1, REMOTE_FABRIC),
+        1003L);
+    Assert.assertEquals(
+        followerTimestamps.getHeartbeatTimestamp(TEST_STORE, currentVersion.getNumber(), 1, REMOTE_FABRIC),
+        1003L);
 
     // Drop/Error some
     heartbeatMonitoringService.removeLagMonitor(currentVersion, 0);
@@ -223,19 +192,24 @@ public class HeartbeatMonitoringServiceTest {
     heartbeatMonitoringService.recordFollowerHeartbeat(TEST_STORE, currentVersion.getNumber(), 0, LOCAL_FABRIC, 1005L);
     heartbeatMonitoringService.recordFollowerHeartbeat(TEST_STORE, futureVersion.getNumber(), 1, LOCAL_FABRIC, 1005L);
 
-    Assert.assertNull(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps().get(TEST_STORE).get(backupVersion.getNumber()));
-    Assert.assertNull(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-            .get(TEST_STORE)
-            .get(currentVersion.getNumber())
-            .get(0));
-    Assert.assertNull(
-        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
-            .get(TEST_STORE)
-            .get(futureVersion.getNumber())
-            .get(1));
+    Assert.assertFalse(followerTimestamps.containsVersion(TEST_STORE, backupVersion.getNumber()));
+    Assert.assertFalse(followerTimestamps.containsPartition(TEST_STORE, currentVersion.getNumber(), 0));
+    Assert.assertFalse(followerTimestamps.containsPartition(TEST_STORE, futureVersion.getNumber(), 1));
+    Assert.assertEquals(
+        followerTimestamps.getHeartbeatTimestamp(TEST_STORE, futureVersion.getNumber(), 1, LOCAL_FABRIC),
+        HeartbeatLagTable.NO_HEARTBEAT);
 
     heartbeatMonitoringService.record();
+
+    // Versions and stores are dropped along with their last partition
+    heartbeatMonitoringService.removeLagMonitor(futureVersion, 0);
+    heartbeatMonitoringService.removeLagMonitor(futureVersion, 2);
+    Assert.assertFalse(followerTimestamps.containsVersion(TEST_STORE, futureVersion.getNumber()));
+    Assert.assertFalse(leaderTimestamps.containsVersion(TEST_STORE, futureVersion.getNumber()));
+    for (int partition = 0; partition < 3; partition++) {
+      heartbeatMonitoringService.removeLagMonitor(currentVersion, partition);
+    }
+    Assert.assertFalse(followerTimestamps.containsStore(TEST_STORE));
+    Assert.assertFalse(leaderTimestamps.containsStore(TEST_STORE));
   }
 }
@@ -22,6 +22,8 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -29,6 +31,9 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.mockito.internal.util.collections.Sets;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -115,10 +120,147 @@ public class StorageServiceTest {
         true,
         true,
         (s) -> true,
-        Optional.of(persistenceTypeToStorageEngineFactoryMap));
+        Optional.of(persistenceTypeToStorageEngineFactoryMap),
+        true);
 
     Map<String, Set<Integer>> expectedMapping = new HashMap<>();
     expectedMapping.put(resourceName, partitionSet);
     Assert.assertEquals(storageService.getStoreAndUserPartitionsMapping(), expectedMapping);
   }
+
+  @Test(timeOut = 30 * Time.MS_PER_SECOND)
+  public void testParallelAndLazyRestore() {
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    VeniceServerConfig mockServerConfig = mock(VeniceServerConfig.class);
+    when(mockServerConfig.getDataBasePath()).thenReturn("/tmp");
+    when(mockServerConfig.getStorageEngineRestoreParallelism()).thenReturn(2);
+    when(mockServerConfig.isStorageEngineLazyRestoreEnabled()).thenReturn(true);
+    when(configLoader.getVeniceServerConfig()).thenReturn(mockServerConfig);
+
+    Store mockStore = mock(Store.class);
+    when(mockStore.getCurrentVersion()).thenReturn(2);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    when(storeRepository.getStore("test_store")).thenReturn(mockStore);
+
+    // The current version and the version of the unknown store are restored eagerly, the other two are deferred.
+    String currentVersion = "test_store_v2";
+    String unknownStoreVersion = "unknown_store_v1";
+    Set<String> deferredVersions = Sets.newSet("test_store_v1", "test_store_v3");
+    StorageEngineFactory mockStorageEngineFactory = mock(StorageEngineFactory.class);
+    when(mockStorageEngineFactory.getPersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+    when(mockStorageEngineFactory.getPersistedStoreNames())
+        .thenReturn(Sets.newSet(currentVersion, unknownStoreVersion, "test_store_v1", "test_store_v3"));
+    // Both eager restores must be in flight at the same time to get through the latch.
+    CountDownLatch eagerRestoreLatch = new CountDownLatch(2);
+    for (String resourceName: Arrays.asList(currentVersion, unknownStoreVersion, "test_store_v1", "test_store_v3")) {
+      VeniceStoreVersionConfig storeVersionConfig = mock(VeniceStoreVersionConfig.class);
+      when(storeVersionConfig.getStoreVersionName()).thenReturn(resourceName);
+      when(storeVersionConfig.isStorePersistenceTypeKnown()).thenReturn(true);
+      when(storeVersionConfig.getStorePersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+      when(configLoader.getStoreConfig(eq(resourceName), eq(PersistenceType.BLACK_HOLE)))
+          .thenReturn(storeVersionConfig);
+      AbstractStorageEngine mockStorageEngine = mock(AbstractStorageEngine.class);
+      when(mockStorageEngine.getStoreVersionName()).thenReturn(resourceName);
+      when(mockStorageEngineFactory.getStorageEngine(storeVersionConfig, false)).thenAnswer(invocation -> {
+        if (!deferredVersions.contains(resourceName)) {
+          eagerRestoreLatch.countDown();
+          Assert.assertTrue(eagerRestoreLatch.await(10, TimeUnit.SECONDS));
+        }
+        return mockStorageEngine;
+      });
+    }
+
+    Map<PersistenceType, StorageEngineFactory> persistenceTypeToStorageEngineFactoryMap = new HashMap<>();
+    persistenceTypeToStorageEngineFactoryMap.put(PersistenceType.BLACK_HOLE, mockStorageEngineFactory);
+    StorageService storageService = new StorageService(
+        configLoader,
+        mock(AggVersionedStorageEngineStats.class),
+        mock(RocksDBMemoryStats.class),
+        mock(InternalAvroSpecificSerializer.class),
+        mock(InternalAvroSpecificSerializer.class),
+        storeRepository,
+        true,
+        true,
+        (s) -> true,
+        Optional.of(persistenceTypeToStorageEngineFactoryMap),
+        true);
+
+    Assert.assertNotNull(storageService.getStorageEngine(currentVersion));
+    Assert.assertNotNull(storageService.getStorageEngine(unknownStoreVersion));
+    TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+      Assert.assertEquals(storageService.getDeferredRestoreStoreCount(), 0);
+      for (String deferredVersion: deferredVersions) {
+        Assert.assertNotNull(storageService.getStorageEngine(deferredVersion));
+      }
+    });
+  }
+
+  @Test(timeOut = 30 * Time.MS_PER_SECOND)
+  public void testLazyRestoreDoesNotHoldServiceLock() throws Exception {
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    VeniceServerConfig mockServerConfig = mock(VeniceServerConfig.class);
+    when(mockServerConfig.getDataBasePath()).thenReturn("/tmp");
+    when(mockServerConfig.getStorageEngineRestoreParallelism()).thenReturn(1);
+    when(mockServerConfig.isStorageEngineLazyRestoreEnabled()).thenReturn(true);
+    when(configLoader.getVeniceServerConfig()).thenReturn(mockServerConfig);
+
+    Store mockStore = mock(Store.class);
+    when(mockStore.getCurrentVersion()).thenReturn(2);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    when(storeRepository.getStore("test_store")).thenReturn(mockStore);
+
+    String deferredVersion = "test_store_v1";
+    StorageEngineFactory mockStorageEngineFactory = mock(StorageEngineFactory.class);
+    when(mockStorageEngineFactory.getPersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+    when(mockStorageEngineFactory.getPersistedStoreNames()).thenReturn(Sets.newSet("test_store_v2", deferredVersion));
+    CountDownLatch deferredRestoreStarted = new CountDownLatch(1);
+    CountDownLatch deferredRestoreReleased = new CountDownLatch(1);
+    Map<String, VeniceStoreVersionConfig> storeVersionConfigs = new HashMap<>();
+    for (String resourceName: Arrays.asList("test_store_v2", deferredVersion, "other_store_v1")) {
+      VeniceStoreVersionConfig storeVersionConfig = mock(VeniceStoreVersionConfig.class);
+      when(storeVersionConfig.getStoreVersionName()).thenReturn(resourceName);
+      when(storeVersionConfig.isStorePersistenceTypeKnown()).thenReturn(true);
+      when(storeVersionConfig.getStorePersistenceType()).thenReturn(PersistenceType.BLACK_HOLE);
+      when(configLoader.getStoreConfig(eq(resourceName), eq(PersistenceType.BLACK_HOLE)))
+          .thenReturn(storeVersionConfig);
+      storeVersionConfigs.put(resourceName, storeVersionConfig);
+      AbstractStorageEngine mockStorageEngine = mock(AbstractStorageEngine.class);
+      when(mockStorageEngine.getStoreVersionName()).thenReturn(resourceName);
+      when(mockStorageEngineFactory.getStorageEngine(storeVersionConfig, false)).thenAnswer(invocation -> {
+        if (resourceName.equals(deferredVersion)) {
+          deferredRestoreStarted.countDown();
+          Assert.assertTrue(deferredRestoreReleased.await(10, TimeUnit.SECONDS));
+        }
+        return mockStorageEngine;
+      });
+    }
+
+    Map<PersistenceType, StorageEngineFactory> persistenceTypeToStorageEngineFactoryMap = new HashMap<>();
+    persistenceTypeToStorageEngineFactoryMap.put(PersistenceType.BLACK_HOLE, mockStorageEngineFactory);
+    StorageService storageService = new StorageService(
+        configLoader,
+        mock(AggVersionedStorageEngineStats.class),
+        mock(RocksDBMemoryStats.class),
+        mock(InternalAvroSpecificSerializer.class),
+        mock(InternalAvroSpecificSerializer.class),
+        storeRepository,
+        true,
+        true,
+        (s) -> true,
+        Optional.of(persistenceTypeToStorageEngineFactoryMap),
+        true);
+    Assert.assertTrue(deferredRestoreStarted.await(10, TimeUnit.SECONDS));
+
+    // The other store versions can be opened while the deferred version is being restored
+    Assert.assertNotNull(storageService.openStore(storeVersionConfigs.get("other_store_v1"), () -> null));
+
+    // Opening the deferred version waits for its restore, and gets the restored storage engine
+    CompletableFuture<AbstractStorageEngine> openFuture = CompletableFuture
+        .supplyAsync(() -> storageService.openStore(storeVersionConfigs.get(deferredVersion), () -> null));
+    Thread.sleep(100);
+    Assert.assertFalse(openFuture.isDone());
+    deferredRestoreReleased.countDown();
+    Assert.assertSame(openFuture.get(10, TimeUnit.SECONDS), storageService.getStorageEngine(deferredVersion));
+    verify(mockStorageEngineFactory, times(1)).getStorageEngine(storeVersionConfigs.get(deferredVersion), false);
+  }
 }
@@ -21,6 +21,9 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.io.FileUtils;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.EnvOptions;
@@ -511,6 +514,105 @@ public class RocksDBSstFileWriterTest {
     }
   }
 
+  @Test
+  public void testAsyncSyncOnlyCheckpointsVerifiedSSTFiles() throws IOException, RocksDBException {
+    ExecutorService sstFileFinalizationExecutor = Executors.newSingleThreadExecutor();
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          ROCKS_DB_SERVER_CONFIG,
+          IS_BLOB_TRANSFER_ENABLED,
+          sstFileFinalizationExecutor);
+      // Blocks the finalization of the sst files until the first checkpointing info is checked
+      CountDownLatch finalizationLatch = new CountDownLatch(1);
+      sstFileFinalizationExecutor.submit(() -> {
+        finalizationLatch.await();
+        return null;
+      });
+      rocksDBSstFileWriter.open(new HashMap<>(), Optional.of(() -> getChecksum("key", "value")));
+      rocksDBSstFileWriter.put("key".getBytes(), ByteBuffer.wrap("value".getBytes()));
+
+      // The first sst file is still being verified, so it is not checkpointed
+      Map<String, String> checkpointingInfo = rocksDBSstFileWriter.sync();
+      Assert.assertFalse(checkpointingInfo.containsKey(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()));
+      finalizationLatch.countDown();
+
+      // The next sync waits for its verification and checkpoints it, but not the second sst file
+      rocksDBSstFileWriter.put("key".getBytes(), ByteBuffer.wrap("value".getBytes()));
+      checkpointingInfo = rocksDBSstFileWriter.sync();
+      Assert.assertEquals(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "0");
+      rocksDBSstFileWriter.close();
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 3);
+
+      // The recovery resumes after the checkpointed sst file
+      RocksDBSstFileWriter recoveredRocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          ROCKS_DB_SERVER_CONFIG,
+          IS_BLOB_TRANSFER_ENABLED,
+          sstFileFinalizationExecutor);
+      Assert.assertTrue(recoveredRocksDBSstFileWriter.checkDatabaseIntegrity(checkpointingInfo));
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 1);
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      sstFileFinalizationExecutor.shutdownNow();
+      deleteTempDatabaseDir();
+    }
+  }
+
+  @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = "verifyChecksum: failure. last sstFile checksum didn't match for store.*")
+  public void testAsyncSyncWithInCorrectChecksum() throws IOException, RocksDBException {
+    ExecutorService sstFileFinalizationExecutor = Executors.newSingleThreadExecutor();
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          ROCKS_DB_SERVER_CONFIG,
+          IS_BLOB_TRANSFER_ENABLED,
+          sstFileFinalizationExecutor);
+      rocksDBSstFileWriter.open(new HashMap<>(), Optional.of(() -> getChecksum("wrong_key", "wrong_value")));
+      rocksDBSstFileWriter.put("key".getBytes(), ByteBuffer.wrap("value".getBytes()));
+      // The checksum of the first sst file is verified in the background
+      rocksDBSstFileWriter.sync();
+      rocksDBSstFileWriter.put("key2".getBytes(), ByteBuffer.wrap("value2".getBytes()));
+      // and its failure surfaces before the next sst file is checkpointed
+      rocksDBSstFileWriter.sync();
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      sstFileFinalizationExecutor.shutdownNow();
+      deleteTempDatabaseDir();
+    }
+  }
+
+  private byte[] getChecksum(String key, String value) {
+    CheckSum sstFileFinalCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+    sstFileFinalCheckSum.update(key.getBytes());
+    sstFileFinalCheckSum.update(value.getBytes());
+    return sstFileFinalCheckSum.getCheckSum();
+  }
+
   private String getTempDatabaseDir() {
     File storeDir = new File(DB_DIR).getAbsoluteFile();
     if (!storeDir.mkdirs()) {
@@ -0,0 +1,186 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.LatencyUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This layer coalesces the concurrent single gets into batch gets: a single get is held for up to
+ * {@link ClientConfig#getSingleGetBatchingWindowInMicroSeconds()}, or until
+ * {@link ClientConfig#getSingleGetBatchingMaxBatchSize()} distinct keys are pending, and all the pending keys are then
+ * sent through the batch get path of the inner layers, which splits them per replica. The future of each single get
+ * completes as soon as the record of its key is received, without waiting for the rest of the batch.
+ *
+ * Partial success is allowed for the batch get, so that a replica failure only fails the single gets of the keys it
+ * was in charge of, and the other single gets are not affected.
+ *
+ * The stats layer records the metrics of each single get from its own {@link GetRequestContext}, so the outcome of its
+ * key and the stats of the batch get are copied into it before completing its future.
+ */
+public class BatchingAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private final TimeoutProcessor timeoutProcessor;
+  private final int batchingWindowInMicroSeconds;
+  private final int maxBatchSize;
+  private final FastClientStats clientStatsForSingleGet;
+
+  // Guarded by the monitor of this object.
+  private PendingBatch<K, V> currentBatch;
+
+  public BatchingAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      TimeoutProcessor timeoutProcessor) {
+    super(delegate, clientConfig);
+    this.timeoutProcessor = timeoutProcessor;
+    this.batchingWindowInMicroSeconds = clientConfig.getSingleGetBatchingWindowInMicroSeconds();
+    this.maxBatchSize = clientConfig.getSingleGetBatchingMaxBatchSize();
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    PendingGet<V> pendingGet = new PendingGet<>(requestContext);
+    PendingBatch<K, V> fullBatch = null;
+    synchronized (this) {
+      if (currentBatch == null) {
+        PendingBatch<K, V> batch = new PendingBatch<>();
+        currentBatch = batch;
+        batch.flushTask =
+            timeoutProcessor.schedule(() -> flush(batch), batchingWindowInMicroSeconds, TimeUnit.MICROSECONDS);
+      }
+      currentBatch.pendingGets.computeIfAbsent(key, k -> new ArrayList<>(1)).add(pendingGet);
+      if (currentBatch.pendingGets.size() >= maxBatchSize) {
+        fullBatch = currentBatch;
+        currentBatch = null;
+        fullBatch.flushTask.cancel();
+      }
+    }
+    if (fullBatch != null) {
+      send(fullBatch);
+    }
+    return pendingGet.valueFuture;
+  }
+
+  private void flush(PendingBatch<K, V> batch) {
+    synchronized (this) {
+      if (currentBatch != batch) {
+        // The batch is already full and has been sent
+        return;
+      }
+      currentBatch = null;
+    }
+    send(batch);
+  }
+
+  private void send(PendingBatch<K, V> batch) {
+    Map<K, List<PendingGet<V>>> pendingGets = batch.pendingGets;
+    clientStatsForSingleGet.recordSingleGetBatchSize(pendingGets.size());
+    clientStatsForSingleGet.recordSingleGetBatchingDelay(LatencyUtils.getElapsedTimeFromNSToMS(batch.startTimeInNS));
+
+    BatchGetRequestContext<K, V> requestContext = new BatchGetRequestContext<>(pendingGets.size(), true);
+    try {
+      super.streamingBatchGet(requestContext, pendingGets.keySet(), new StreamingCallback<K, V>() {
+        @Override
+        public void onRecordReceived(K key, V value) {
+          List<PendingGet<V>> pendingGetsOfKey = pendingGets.get(key);
+          if (pendingGetsOfKey != null) {
+            requestContext.rollUpRouteStats();
+            for (PendingGet<V> pendingGet: pendingGetsOfKey) {
+              if (!pendingGet.valueFuture.isDone()) {
+                copyBatchGetOutcome(requestContext, pendingGet.requestContext, value != null);
+                pendingGet.valueFuture.complete(value);
+              }
+            }
+          }
+        }
+
+        @Override
+        public void onCompletion(Optional<Exception> exception) {
+          Optional<Throwable> failure =
+              exception.isPresent() ? Optional.of(exception.get()) : requestContext.getPartialResponseException();
+          // Only the keys which have not been received are affected, since the other futures are already completed
+          requestContext.rollUpRouteStats();
+          pendingGets.values().forEach(pendingGetsOfKey -> pendingGetsOfKey.forEach(pendingGet -> {
+            if (pendingGet.valueFuture.isDone()) {
+              return;
+            }
+            copyBatchGetOutcome(requestContext, pendingGet.requestContext, false);
+            if (failure.isPresent()) {
+              pendingGet.valueFuture.completeExceptionally(failure.get());
+            } else {
+              pendingGet.valueFuture.complete(null);
+            }
+          }));
+        }
+      });
+    } catch (Exception e) {
+      pendingGets.values()
+          .forEach(pendingGetsOfKey -> pendingGetsOfKey.forEach(p -> p.valueFuture.completeExceptionally(e)));
+    }
+  }
+
+  /**
+   * The timings are the ones of the whole batch get so far, since they aren't tracked per key.
+   */
+  private static void copyBatchGetOutcome(
+      BatchGetRequestContext<?, ?> batchGetRequestContext,
+      GetRequestContext requestContext,
+      boolean isValueReceived) {
+    requestContext.currentVersion = batchGetRequestContext.currentVersion;
+    requestContext.noAvailableReplica = batchGetRequestContext.noAvailableReplica;
+    requestContext.requestSerializationTime = batchGetRequestContext.requestSerializationTime;
+    requestContext.requestSubmissionToResponseHandlingTime =
+        batchGetRequestContext.requestSubmissionToResponseHandlingTime;
+    requestContext.decompressionTime = batchGetRequestContext.decompressionTime;
+    requestContext.responseDeserializationTime = batchGetRequestContext.responseDeserializationTime;
+    if (isValueReceived) {
+      requestContext.successRequestKeyCount.incrementAndGet();
+    }
+    MultiKeyRequestContext.RetryContext<?, ?> batchGetRetryContext = batchGetRequestContext.retryContext;
+    if (batchGetRetryContext != null && batchGetRetryContext.retryRequestContext != null) {
+      // The batch get is only retried for the keys which have not been received yet
+      requestContext.retryContext = new GetRequestContext.RetryContext();
+      requestContext.retryContext.longTailRetryRequestTriggered = true;
+    }
+  }
+
+  @Override
+  public void close() {
+    PendingBatch<K, V> batch;
+    synchronized (this) {
+      batch = currentBatch;
+      currentBatch = null;
+    }
+    if (batch != null) {
+      batch.flushTask.cancel();
+      send(batch);
+    }
+    super.close();
+  }
+
+  private static class PendingBatch<K, V> {
+    private final long startTimeInNS = System.nanoTime();
+    private final Map<K, List<PendingGet<V>>> pendingGets = new HashMap<>();
+    private TimeoutProcessor.TimeoutFuture flushTask;
+  }
+
+  private static class PendingGet<V> {
+    private final GetRequestContext requestContext;
+    private final CompletableFuture<V> valueFuture = new CompletableFuture<>();
+
+    private PendingGet(GetRequestContext requestContext) {
+      this.requestContext = requestContext;
+    }
+  }
+}
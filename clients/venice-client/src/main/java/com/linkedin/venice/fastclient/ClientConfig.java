@@ -90,6 +90,27 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
    * retry budget for the next minute and so on.
    */
   private final long longTailRetryBudgetEnforcementWindowInMs;
+  /**
+   * When positive, single gets are held for up to this window, and the ones issued concurrently are sent together as a
+   * batch get. Disabled by default.
+   */
+  private final int singleGetBatchingWindowInMicroSeconds;
+  /**
+   * The max number of distinct keys coalesced into a batch get when single get batching is enabled, the batch is sent
+   * right away once reaching it.
+   */
+  private final int singleGetBatchingMaxBatchSize;
+  /**
+   * When positive, the values read are kept in an in-process near cache holding up to this number of keys, which is
+   * invalidated as a whole whenever the current version of the store changes. Disabled by default.
+   */
+  private final long nearCacheMaxSize;
+  /**
+   * When positive, the entries of the near cache expire this long after having been read from the storage nodes. This
+   * is the staleness bound of the near cache for hybrid stores, whose current version keeps being updated. Entries only
+   * get invalidated by version swaps otherwise, which is safe for batch-only stores.
+   */
+  private final long nearCacheTtlInMs;
 
   private boolean projectionFieldValidation;
 
@@ -128,7 +149,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       boolean useGrpc,
       GrpcClientConfig grpcClientConfig,
       boolean projectionFieldValidation,
-      long longTailRetryBudgetEnforcementWindowInMs) {
+      long longTailRetryBudgetEnforcementWindowInMs,
+      int singleGetBatchingWindowInMicroSeconds,
+      int singleGetBatchingMaxBatchSize,
+      long nearCacheMaxSize,
+      long nearCacheTtlInMs) {
     if (storeName == null || storeName.isEmpty()) {
       throw new VeniceClientException("storeName param shouldn't be empty");
     }
@@ -260,6 +285,16 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.projectionFieldValidation = projectionFieldValidation;
     this.longTailRetryBudgetEnforcementWindowInMs = longTailRetryBudgetEnforcementWindowInMs;
+
+    this.singleGetBatchingWindowInMicroSeconds = singleGetBatchingWindowInMicroSeconds;
+    this.singleGetBatchingMaxBatchSize = singleGetBatchingMaxBatchSize;
+    if (isSingleGetBatchingEnabled() && this.singleGetBatchingMaxBatchSize <= 0) {
+      throw new VeniceClientException(
+          "singleGetBatchingMaxBatchSize must be positive, but got: " + this.singleGetBatchingMaxBatchSize);
+    }
+
+    this.nearCacheMaxSize = nearCacheMaxSize;
+    this.nearCacheTtlInMs = nearCacheTtlInMs;
   }
 
   public String getStoreName() {
@@ -403,6 +438,30 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryBudgetEnforcementWindowInMs;
   }
 
+  public boolean isSingleGetBatchingEnabled() {
+    return singleGetBatchingWindowInMicroSeconds > 0;
+  }
+
+  public int getSingleGetBatchingWindowInMicroSeconds() {
+    return singleGetBatchingWindowInMicroSeconds;
+  }
+
+  public int getSingleGetBatchingMaxBatchSize() {
+    return singleGetBatchingMaxBatchSize;
+  }
+
+  public boolean isNearCacheEnabled() {
+    return nearCacheMaxSize > 0;
+  }
+
+  public long getNearCacheMaxSize() {
+    return nearCacheMaxSize;
+  }
+
+  public long getNearCacheTtlInMs() {
+    return nearCacheTtlInMs;
+  }
+
   public ClientConfig setProjectionFieldValidationEnabled(boolean projectionFieldValidation) {
     this.projectionFieldValidation = projectionFieldValidation;
     return this;
@@ -454,6 +513,12 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     private long longTailRetryBudgetEnforcementWindowInMs = 60000; // 1 minute
 
+    private int singleGetBatchingWindowInMicroSeconds = 0; // Disabled
+    private int singleGetBatchingMaxBatchSize = 100;
+
+    private long nearCacheMaxSize = 0; // Disabled
+    private long nearCacheTtlInMs = 0; // No expiration
+
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
       this.storeName = storeName;
       return this;
@@ -642,6 +707,27 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingWindowInMicroSeconds(
+        int singleGetBatchingWindowInMicroSeconds) {
+      this.singleGetBatchingWindowInMicroSeconds = singleGetBatchingWindowInMicroSeconds;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setSingleGetBatchingMaxBatchSize(int singleGetBatchingMaxBatchSize) {
+      this.singleGetBatchingMaxBatchSize = singleGetBatchingMaxBatchSize;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheMaxSize(long nearCacheMaxSize) {
+      this.nearCacheMaxSize = nearCacheMaxSize;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheTtlInMs(long nearCacheTtlInMs) {
+      this.nearCacheTtlInMs = nearCacheTtlInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> clone() {
       return new ClientConfigBuilder().setStoreName(storeName)
           .setR2Client(r2Client)
@@ -677,7 +763,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setUseGrpc(useGrpc)
           .setGrpcClientConfig(grpcClientConfig)
           .setProjectionFieldValidationEnabled(projectionFieldValidation)
-          .setLongTailRetryBudgetEnforcementWindowInMs(longTailRetryBudgetEnforcementWindowInMs);
+          .setLongTailRetryBudgetEnforcementWindowInMs(longTailRetryBudgetEnforcementWindowInMs)
+          .setSingleGetBatchingWindowInMicroSeconds(singleGetBatchingWindowInMicroSeconds)
+          .setSingleGetBatchingMaxBatchSize(singleGetBatchingMaxBatchSize)
+          .setNearCacheMaxSize(nearCacheMaxSize)
+          .setNearCacheTtlInMs(nearCacheTtlInMs);
     }
 
     public ClientConfig<K, V, T> build() {
@@ -716,7 +806,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           useGrpc,
           grpcClientConfig,
           projectionFieldValidation,
-          longTailRetryBudgetEnforcementWindowInMs);
+          longTailRetryBudgetEnforcementWindowInMs,
+          singleGetBatchingWindowInMicroSeconds,
+          singleGetBatchingMaxBatchSize,
+          nearCacheMaxSize,
+          nearCacheTtlInMs);
     }
   }
 }
@@ -50,13 +50,23 @@ import org.apache.avro.Schema;
  *
  * <br><br>
  * Layer 3:<br>
- * {@link StatsAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds stats on top of Layer 2 or
- * Layer 1. There is no option to disable it, but if needed, can be disabled.
+ * {@link BatchingAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds optional coalescing of
+ * concurrent single gets into batch gets on top of Layer 2 or Layer 1
  *
  * <br><br>
  * Layer 4:<br>
+ * {@link NearCacheAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds an optional version-aware
+ * near cache for single gets and batch gets on top of Layer 3, Layer 2 or Layer 1
+ *
+ * <br><br>
+ * Layer 5:<br>
+ * {@link StatsAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds stats on top of Layer 4,
+ * Layer 3, Layer 2 or Layer 1. There is no option to disable it, but if needed, can be disabled.
+ *
+ * <br><br>
+ * Layer 6:<br>
  * {@link DualReadAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds an extra read via thin
- * client on top of Layer 3.
+ * client on top of Layer 5.
  *
  * <br><br>
  * utils class:<br>
@@ -616,9 +616,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       long preRequestTimeInNS) throws VeniceClientException {
     verifyMetadataInitialized();
     Map<String, String> headers = new HashMap<>(2);
-    headers.put(
-        HttpConstants.VENICE_API_VERSION,
-        Integer.toString(ReadAvroProtocolDefinition.COMPUTE_REQUEST_V3.getProtocolVersion()));
+    headers.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequest.getComputeRequestVersion()));
     headers.put(VENICE_COMPUTE_VALUE_SCHEMA_ID, Integer.toString(computeRequest.getValueSchemaID()));
 
     RecordDeserializer<GenericRecord> computeResultRecordDeserializer =
@@ -700,7 +698,8 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         nonCompletingStreamingCallback,
         deserializationExecutor,
         STREAMING_FOOTER_RECORD_DESERIALIZER,
-        computeResultRecordDeserializer);
+        computeResultRecordDeserializer,
+        computeRequest.getFacetAggregator());
   }
 
   /**
@@ -84,7 +84,13 @@ public abstract class MultiKeyRequestContext<K, V> extends RequestContext {
 
   void complete() {
     completed = true;
-    // Roll up route stats into overall stats
+    rollUpRouteStats();
+  }
+
+  /**
+   * Roll up the stats of the routes which have responded so far into the overall stats.
+   */
+  void rollUpRouteStats() {
     long decompressionTimeNS = 0;
     long responseDeserializationTimeNS = 0;
     long recordDeserializationTimeNS = 0;
@@ -0,0 +1,150 @@
+package com.linkedin.venice.fastclient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This layer keeps the values read by single gets and batch gets in an in-process near cache, bounded by
+ * {@link ClientConfig#getNearCacheMaxSize()}, so that the hot keys are not fetched from the storage nodes over and
+ * over again.
+ *
+ * The near cache only ever holds the values of a single version: whenever
+ * {@link StoreMetadata#getCurrentStoreVersion()} changes, the whole cache is dropped and a new one is started for the
+ * new current version. Values fetched while the version swap is happening are put into the cache of the version seen
+ * when the request started, which is dropped along with them, so that a stale version never leaks into the cache of
+ * the new one. This is enough for batch-only stores, whose versions are immutable, while hybrid stores should also set
+ * {@link ClientConfig#getNearCacheTtlInMs()} to bound the staleness of the cached values.
+ *
+ * The keys which don't exist are not cached. The cached values are shared between all the requests reading them, so
+ * they should not be mutated.
+ */
+public class NearCacheAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private final StoreMetadata storeMetadata;
+  private final long maxCacheSize;
+  private final long ttlInMs;
+  private final FastClientStats clientStatsForSingleGet;
+  private final FastClientStats clientStatsForStreamingBatchGet;
+
+  private volatile VersionedCache<K, V> versionedCache;
+
+  public NearCacheAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata storeMetadata) {
+    super(delegate, clientConfig);
+    this.storeMetadata = storeMetadata;
+    this.maxCacheSize = clientConfig.getNearCacheMaxSize();
+    this.ttlInMs = clientConfig.getNearCacheTtlInMs();
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.clientStatsForStreamingBatchGet = clientConfig.getStats(RequestType.MULTI_GET_STREAMING);
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    Cache<K, V> cache = getCache();
+    V cachedValue = cache.getIfPresent(key);
+    if (cachedValue != null) {
+      clientStatsForSingleGet.recordNearCacheHitKeyCount(1);
+      requestContext.successRequestKeyCount.incrementAndGet();
+      return CompletableFuture.completedFuture(cachedValue);
+    }
+    clientStatsForSingleGet.recordNearCacheMissKeyCount(1);
+    return super.get(requestContext, key).whenComplete((value, throwable) -> {
+      if (value != null) {
+        cache.put(key, value);
+      }
+    });
+  }
+
+  @Override
+  protected void streamingBatchGet(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keys,
+      StreamingCallback<K, V> callback) {
+    Cache<K, V> cache = getCache();
+    Set<K> missingKeys = new HashSet<>();
+    for (K key: keys) {
+      V cachedValue = cache.getIfPresent(key);
+      if (cachedValue == null) {
+        missingKeys.add(key);
+      } else {
+        requestContext.successRequestKeyCount.incrementAndGet();
+        callback.onRecordReceived(key, cachedValue);
+      }
+    }
+    clientStatsForStreamingBatchGet.recordNearCacheHitKeyCount(keys.size() - missingKeys.size());
+    clientStatsForStreamingBatchGet.recordNearCacheMissKeyCount(missingKeys.size());
+    if (missingKeys.isEmpty()) {
+      callback.onCompletion(Optional.empty());
+      return;
+    }
+
+    super.streamingBatchGet(requestContext, missingKeys, new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        if (value != null) {
+          cache.put(key, value);
+        }
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        callback.onCompletion(exception);
+      }
+    });
+  }
+
+  /**
+   * @return the cache of the current version, which replaces the cache of the previous version if it has just changed
+   */
+  private Cache<K, V> getCache() {
+    int currentVersion = storeMetadata.getCurrentStoreVersion();
+    VersionedCache<K, V> cache = versionedCache;
+    if (cache == null || cache.version != currentVersion) {
+      synchronized (this) {
+        cache = versionedCache;
+        if (cache == null || cache.version != currentVersion) {
+          cache = new VersionedCache<>(currentVersion, buildCache());
+          versionedCache = cache;
+        }
+      }
+    }
+    return cache.cache;
+  }
+
+  private Cache<K, V> buildCache() {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxCacheSize);
+    if (ttlInMs > 0) {
+      builder.expireAfterWrite(ttlInMs, TimeUnit.MILLISECONDS);
+    }
+    return builder.build();
+  }
+
+  @Override
+  public void close() {
+    versionedCache = null;
+    super.close();
+  }
+
+  private static class VersionedCache<K, V> {
+    private final int version;
+    private final Cache<K, V> cache;
+
+    private VersionedCache(int version, Cache<K, V> cache) {
+      this.version = version;
+      this.cache = cache;
+    }
+  }
+}
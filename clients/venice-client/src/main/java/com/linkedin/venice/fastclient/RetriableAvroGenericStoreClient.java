@@ -236,8 +236,11 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       Schema resultSchema,
       StreamingCallback<K, ComputeGenericRecord> callback,
       long preRequestTimeInNS) throws VeniceClientException {
-    if (!longTailRetryEnabledForCompute) {
-      // if longTailRetry is not enabled for compute, simply return
+    if (!longTailRetryEnabledForCompute || !computeRequestWrapper.getFacetAggregator().isEmpty()) {
+      /**
+       * If longTailRetry is not enabled for compute, simply return. Requests with facets are not retried either, since
+       * the facet results of a retried route could not be told apart from the ones of the original route.
+       */
       super.compute(requestContext, computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
       return;
     }
@@ -4,12 +4,15 @@ import com.linkedin.venice.client.store.AvroGenericStoreClient;
 import com.linkedin.venice.client.store.AvroSpecificStoreClient;
 import com.linkedin.venice.client.store.transport.D2TransportClient;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.fastclient.BatchingAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.ClientConfig;
 import com.linkedin.venice.fastclient.DispatchingAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.DispatchingAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.DispatchingVsonStoreClient;
 import com.linkedin.venice.fastclient.DualReadAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.DualReadAvroSpecificStoreClient;
+import com.linkedin.venice.fastclient.InternalAvroStoreClient;
+import com.linkedin.venice.fastclient.NearCacheAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.StatsAvroGenericStoreClient;
@@ -84,13 +87,18 @@ public class ClientFactory {
            * Reuse the {@link TimeoutProcessor} from {@link InstanceHealthMonitor} to
            * reduce the thread usage.
            */
-          new RetriableAvroGenericStoreClient<>(
-              dispatchingStoreClient,
-              clientConfig,
-              storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor()),
+          withNearCacheAndSingleGetBatching(
+              new RetriableAvroGenericStoreClient<>(
+                  dispatchingStoreClient,
+                  clientConfig,
+                  storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor()),
+              storeMetadata,
+              clientConfig),
           clientConfig);
     } else {
-      statsStoreClient = new StatsAvroGenericStoreClient<>(dispatchingStoreClient, clientConfig);
+      statsStoreClient = new StatsAvroGenericStoreClient<>(
+          withNearCacheAndSingleGetBatching(dispatchingStoreClient, storeMetadata, clientConfig),
+          clientConfig);
     }
 
     AvroGenericStoreClient<K, V> returningClient = statsStoreClient;
@@ -111,13 +119,18 @@ public class ClientFactory {
     if (clientConfig.isLongTailRetryEnabledForSingleGet() || clientConfig.isLongTailRetryEnabledForBatchGet()
         || clientConfig.isLongTailRetryEnabledForCompute()) {
       statsStoreClient = new StatsAvroSpecificStoreClient<>(
-          new RetriableAvroSpecificStoreClient<>(
-              dispatchingStoreClient,
-              clientConfig,
-              storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor()),
+          withNearCacheAndSingleGetBatching(
+              new RetriableAvroSpecificStoreClient<>(
+                  dispatchingStoreClient,
+                  clientConfig,
+                  storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor()),
+              storeMetadata,
+              clientConfig),
           clientConfig);
     } else {
-      statsStoreClient = new StatsAvroSpecificStoreClient<>(dispatchingStoreClient, clientConfig);
+      statsStoreClient = new StatsAvroSpecificStoreClient<>(
+          withNearCacheAndSingleGetBatching(dispatchingStoreClient, storeMetadata, clientConfig),
+          clientConfig);
     }
 
     AvroSpecificStoreClient<K, V> returningClient = statsStoreClient;
@@ -127,4 +140,26 @@ public class ClientFactory {
     returningClient.start();
     return returningClient;
   }
+
+  /**
+   * The near cache layer sits right below the stats layer, so that the cache hits are part of the request stats, and
+   * right above the batching layer, so that only the cache misses are held to be batched.
+   *
+   * The batching layer sits right above the retry layer, so that the batch gets are retried as such.
+   */
+  private static <K, V> InternalAvroStoreClient<K, V> withNearCacheAndSingleGetBatching(
+      InternalAvroStoreClient<K, V> storeClient,
+      StoreMetadata storeMetadata,
+      ClientConfig clientConfig) {
+    if (clientConfig.isSingleGetBatchingEnabled()) {
+      storeClient = new BatchingAvroGenericStoreClient<>(
+          storeClient,
+          clientConfig,
+          storeMetadata.getInstanceHealthMonitor().getTimeoutProcessor());
+    }
+    if (clientConfig.isNearCacheEnabled()) {
+      storeClient = new NearCacheAvroGenericStoreClient<>(storeClient, clientConfig, storeMetadata);
+    }
+    return storeClient;
+  }
 }
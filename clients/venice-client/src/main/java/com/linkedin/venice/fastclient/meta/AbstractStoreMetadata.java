@@ -12,6 +12,7 @@ import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -63,21 +64,41 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
       int partitionId,
       int requiredReplicaCount,
       Set<String> excludedInstances) {
-    List<String> replicas = getReplicas(version, partitionId);
-    List<String> filteredReplicas;
+    int[] replicaIds = getReplicaIds(version, partitionId);
+    int[] filteredReplicaIds;
 
     if (excludedInstances.isEmpty()) {
-      filteredReplicas = replicas;
+      filteredReplicaIds = replicaIds;
     } else {
-      filteredReplicas = new ArrayList<>(replicas.size());
-      replicas.forEach(replica -> {
-        if (!excludedInstances.contains(replica)) {
-          filteredReplicas.add(replica);
+      filteredReplicaIds = new int[replicaIds.length];
+      int filteredReplicaCount = 0;
+      for (int replicaId: replicaIds) {
+        if (!excludedInstances.contains(instanceHealthMonitor.getInstance(replicaId))) {
+          filteredReplicaIds[filteredReplicaCount++] = replicaId;
         }
-      });
+      }
+      filteredReplicaIds = Arrays.copyOf(filteredReplicaIds, filteredReplicaCount);
     }
 
-    return routingStrategy.getReplicas(requestId, filteredReplicas, requiredReplicaCount);
+    int[] selectedReplicaIds = routingStrategy.getReplicas(requestId, filteredReplicaIds, requiredReplicaCount);
+    List<String> selectedReplicas = new ArrayList<>(selectedReplicaIds.length);
+    for (int replicaId: selectedReplicaIds) {
+      selectedReplicas.add(instanceHealthMonitor.getInstance(replicaId));
+    }
+    return selectedReplicas;
+  }
+
+  /**
+   * @return the ids interned by the {@link InstanceHealthMonitor} of the ready-to-serve replicas of the partition,
+   *         which must not be modified
+   */
+  protected int[] getReplicaIds(int version, int partitionId) {
+    List<String> replicas = getReplicas(version, partitionId);
+    int[] replicaIds = new int[replicas.size()];
+    for (int i = 0; i < replicaIds.length; i++) {
+      replicaIds[i] = instanceHealthMonitor.getInstanceId(replicas.get(i));
+    }
+    return replicaIds;
   }
 
   @Override
@@ -1,9 +1,10 @@
 package com.linkedin.venice.fastclient.meta;
 
-import java.util.List;
-
-
 public interface ClientRoutingStrategy {
-  List<String> getReplicas(long requestId, List<String> replicas, int requiredReplicaCount);
+  /**
+   * @param replicaIds the ids interned by the {@link InstanceHealthMonitor} of the candidate replicas
+   * @return the ids of the selected replicas
+   */
+  int[] getReplicas(long requestId, int[] replicaIds, int requiredReplicaCount);
 
 }
@@ -1,17 +1,32 @@
 package com.linkedin.venice.fastclient.meta;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 
 public class HelixGroupInfo {
+  public static final int UNKNOWN_HELIX_GROUP_ID = -1;
+
   private final Map<String, Integer> instanceToHelixGroupIdMap;
   private final List<Integer> groupIds;
+  /** The helix group ids indexed by the instance ids interned by the {@link InstanceHealthMonitor} */
+  private final int[] helixGroupIds;
 
-  public HelixGroupInfo(Map<String, Integer> instanceToHelixGroupIdMap) {
+  public HelixGroupInfo(Map<String, Integer> instanceToHelixGroupIdMap, InstanceHealthMonitor instanceHealthMonitor) {
     this.instanceToHelixGroupIdMap = instanceToHelixGroupIdMap;
     this.groupIds = instanceToHelixGroupIdMap.values().stream().distinct().sorted().collect(Collectors.toList());
+
+    int maxInstanceId = -1;
+    for (String instance: instanceToHelixGroupIdMap.keySet()) {
+      maxInstanceId = Math.max(maxInstanceId, instanceHealthMonitor.getInstanceId(instance));
+    }
+    this.helixGroupIds = new int[maxInstanceId + 1];
+    Arrays.fill(helixGroupIds, UNKNOWN_HELIX_GROUP_ID);
+    for (Map.Entry<String, Integer> entry: instanceToHelixGroupIdMap.entrySet()) {
+      helixGroupIds[instanceHealthMonitor.getInstanceId(entry.getKey())] = entry.getValue();
+    }
   }
 
   public Map<String, Integer> getHelixGroupInfoMap() {
@@ -21,4 +36,8 @@ public class HelixGroupInfo {
   public List<Integer> getGroupIds() {
     return groupIds;
   }
+
+  public int getHelixGroupId(int instanceId) {
+    return instanceId < helixGroupIds.length ? helixGroupIds[instanceId] : UNKNOWN_HELIX_GROUP_ID;
+  }
 }
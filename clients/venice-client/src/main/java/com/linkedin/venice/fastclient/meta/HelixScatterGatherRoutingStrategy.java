@@ -1,8 +1,7 @@
 package com.linkedin.venice.fastclient.meta;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -18,37 +17,39 @@ public class HelixScatterGatherRoutingStrategy extends AbstractClientRoutingStra
 
   public HelixScatterGatherRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor) {
     this.instanceHealthMonitor = instanceHealthMonitor;
-    helixGroupInfoAtomicReference.set(new HelixGroupInfo(Collections.emptyMap()));
+    helixGroupInfoAtomicReference.set(new HelixGroupInfo(Collections.emptyMap(), instanceHealthMonitor));
   }
 
   @Override
-  public List<String> getReplicas(long requestId, List<String> replicas, int requiredReplicaCount) {
+  public int[] getReplicas(long requestId, int[] replicaIds, int requiredReplicaCount) {
     HelixGroupInfo helixGroupInfo = helixGroupInfoAtomicReference.get();
-    if (replicas.isEmpty() || helixGroupInfo.getHelixGroupInfoMap().isEmpty()) {
-      return Collections.emptyList();
+    if (replicaIds.length == 0 || helixGroupInfo.getHelixGroupInfoMap().isEmpty()) {
+      return new int[0];
     }
     // select replicas from the selected group, going down the groups if more replicas are needed
     int groupCnt = helixGroupInfo.getGroupIds().size();
     int startPos = (int) (requestId % groupCnt);
-    List<String> selectedReplicas = new ArrayList<>();
+    int[] selectedReplicaIds = new int[Math.min(requiredReplicaCount, replicaIds.length)];
+    int selectedReplicaCnt = 0;
     for (int i = 0; i < groupCnt; i++) {
       int groupId = helixGroupInfo.getGroupIds().get((i + startPos) % groupCnt);
-      for (String replica: replicas) {
-        if (selectedReplicas.size() == requiredReplicaCount) {
-          return selectedReplicas;
+      for (int replicaId: replicaIds) {
+        if (selectedReplicaCnt == requiredReplicaCount) {
+          return selectedReplicaIds;
         }
-        if (helixGroupInfo.getHelixGroupInfoMap().get(replica) == groupId
-            && !instanceHealthMonitor.isInstanceBlocked(replica)) {
-          selectedReplicas.add(replica);
+        if (helixGroupInfo.getHelixGroupId(replicaId) == groupId
+            && !instanceHealthMonitor.isInstanceBlocked(replicaId)) {
+          selectedReplicaIds[selectedReplicaCnt++] = replicaId;
         }
       }
     }
 
-    return selectedReplicas;
+    return Arrays.copyOf(selectedReplicaIds, selectedReplicaCnt);
   }
 
   @Override
   public void updateHelixGroupInfo(Map<String, Integer> instanceToHelixGroupIdMap) {
-    helixGroupInfoAtomicReference.set(new HelixGroupInfo(Collections.unmodifiableMap(instanceToHelixGroupIdMap)));
+    helixGroupInfoAtomicReference
+        .set(new HelixGroupInfo(Collections.unmodifiableMap(instanceToHelixGroupIdMap), instanceHealthMonitor));
   }
 }
@@ -15,12 +15,12 @@ import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -38,38 +38,85 @@ import org.apache.logging.log4j.Logger;
  * 2. For the error response, the pending request counter reset will be delayed, which is a way to downgrade the instance.
  * 3. When the pending request counter exceeds the pre-defined threshold, the instance will be completely blocked.
  *
+ * The instances are interned to dense int ids when the routing data is refreshed, see {@link #getInstanceId}, and the
+ * state of each instance is kept in primitive arrays indexed by its id, so that selecting the replicas of a request
+ * reads the counters and flags of the candidates without any map lookup nor boxing. The selected replicas are still
+ * handed back by name, so tracking a request resolves the id of its instance once with a single map lookup, and the
+ * selection allocates a couple of small arrays sized by the replica count.
  */
 public class InstanceHealthMonitor implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(InstanceHealthMonitor.class);
+  private static final int SEGMENT_SIZE_SHIFT = 6;
+  private static final int SEGMENT_SIZE = 1 << SEGMENT_SIZE_SHIFT;
+  private static final int SEGMENT_INDEX_MASK = SEGMENT_SIZE - 1;
+
   private final ClientConfig clientConfig;
 
-  // Map/set of per store replica instances
-  private final Map<String, Integer> pendingRequestCounterMap = new VeniceConcurrentHashMap<>();
-  private final Set<String> unhealthyInstanceSet = new ConcurrentSkipListSet<>();
+  private final Map<String, Integer> instanceIdMap = new VeniceConcurrentHashMap<>();
+  /**
+   * The per instance state is split in fixed size segments, which are never copied once allocated, so that interning
+   * new instances doesn't lose the concurrent updates of the state of the existing ones.
+   */
+  private volatile InstanceStateSegment[] instanceStateSegments = new InstanceStateSegment[0];
+  private volatile int instanceCount = 0;
+  private final AtomicInteger unhealthyInstanceCount = new AtomicInteger();
 
   private final TimeoutProcessor timeoutProcessor;
-  private final Consumer<String> counterResetConsumer;
+
+  private static class InstanceStateSegment {
+    private final String[] instances = new String[SEGMENT_SIZE];
+    private final AtomicIntegerArray pendingRequestCounters = new AtomicIntegerArray(SEGMENT_SIZE);
+    /** 1 if the instance is unhealthy, 0 otherwise */
+    private final AtomicIntegerArray unhealthyFlags = new AtomicIntegerArray(SEGMENT_SIZE);
+  }
 
   public InstanceHealthMonitor(ClientConfig clientConfig) {
     this.clientConfig = clientConfig;
     this.timeoutProcessor = new TimeoutProcessor(null, true, 1);
+  }
 
-    this.counterResetConsumer = (instance) -> {
-      pendingRequestCounterMap.compute(instance, (k, v) -> {
-        if (v == null) {
-          LOGGER.error(
-              "Pending request counter for instance: {} doesn't exist when trying to reset for a completed request",
-              instance);
-          return 0;
-        } else if (v == 0) {
-          LOGGER.error(
-              "Pending request counter for instance: {} is 0 when trying to reset for a completed request",
-              instance);
-          return 0;
-        }
-        return v - 1;
-      });
-    };
+  /**
+   * @return the id of the instance, which is interned the first time it is seen, and never changes afterwards
+   */
+  public int getInstanceId(String instance) {
+    Integer instanceId = instanceIdMap.get(instance);
+    return instanceId == null ? internInstance(instance) : instanceId;
+  }
+
+  private synchronized int internInstance(String instance) {
+    Integer instanceId = instanceIdMap.get(instance);
+    if (instanceId != null) {
+      return instanceId;
+    }
+    int newInstanceId = instanceCount;
+    int segmentId = newInstanceId >>> SEGMENT_SIZE_SHIFT;
+    if (segmentId == instanceStateSegments.length) {
+      InstanceStateSegment[] newSegments = Arrays.copyOf(instanceStateSegments, segmentId + 1);
+      newSegments[segmentId] = new InstanceStateSegment();
+      instanceStateSegments = newSegments;
+    }
+    instanceStateSegments[segmentId].instances[newInstanceId & SEGMENT_INDEX_MASK] = instance;
+    // The state of the instance is ready before its id gets published
+    instanceCount = newInstanceId + 1;
+    instanceIdMap.put(instance, newInstanceId);
+    return newInstanceId;
+  }
+
+  public String getInstance(int instanceId) {
+    return getSegment(instanceId).instances[instanceId & SEGMENT_INDEX_MASK];
+  }
+
+  private InstanceStateSegment getSegment(int instanceId) {
+    return instanceStateSegments[instanceId >>> SEGMENT_SIZE_SHIFT];
+  }
+
+  private void resetPendingRequestCounter(int instanceId) {
+    AtomicIntegerArray pendingRequestCounters = getSegment(instanceId).pendingRequestCounters;
+    if (pendingRequestCounters.getAndUpdate(instanceId & SEGMENT_INDEX_MASK, v -> v == 0 ? 0 : v - 1) == 0) {
+      LOGGER.error(
+          "Pending request counter for instance: {} is 0 when trying to reset for a completed request",
+          getInstance(instanceId));
+    }
   }
 
   public TimeoutProcessor getTimeoutProcessor() {
@@ -80,10 +127,16 @@ public class InstanceHealthMonitor implements Closeable {
     return trackHealthBasedOnRequestToInstance(instance, null);
   }
 
+  public ChainedCompletableFuture<Integer, Integer> trackHealthBasedOnRequestToInstance(
+      String instance,
+      CompletableFuture<TransportClientResponse> transportFuture) {
+    return trackHealthBasedOnRequestToInstance(getInstanceId(instance), transportFuture);
+  }
+
   /**
    * This function tracks the health of an Instance based on the request sent to that Instance:
    * by returning an incomplete completable future for {@link AbstractStoreMetadata} which
-   * 1. increments {@link InstanceHealthMonitor#pendingRequestCounterMap} for each server instances
+   * 1. increments the pending request counter of each server instance
    *    per store. This is done in this function which is called before starting a get() request.
    * 2. whenComplete() of this completable future decrements the above counters once the response
    *    for the get() request is received.
@@ -91,17 +144,14 @@ public class InstanceHealthMonitor implements Closeable {
    * Using this we can track the number of pending requests for each server instance.
    */
   public ChainedCompletableFuture<Integer, Integer> trackHealthBasedOnRequestToInstance(
-      String instance,
+      int instanceId,
       CompletableFuture<TransportClientResponse> transportFuture) {
     CompletableFuture<Integer> requestFuture = new CompletableFuture<>();
-    pendingRequestCounterMap.compute(instance, (k, v) -> {
-      // currently tracking the number of requests as 1 for single get
-      // and 1 for each route requests in batchGet scatter.
-      if (v == null) {
-        return 1;
-      }
-      return v + 1;
-    });
+    // currently tracking the number of requests as 1 for single get
+    // and 1 for each route requests in batchGet scatter.
+    InstanceStateSegment segment = getSegment(instanceId);
+    int indexInSegment = instanceId & SEGMENT_INDEX_MASK;
+    segment.pendingRequestCounters.incrementAndGet(indexInSegment);
 
     TimeoutProcessor.TimeoutFuture timeoutFuture = null;
     if (transportFuture != null) {
@@ -155,24 +205,26 @@ public class InstanceHealthMonitor implements Closeable {
           unhealthyInstance = true;
       }
       if (counterResetDelayMS == 0) {
-        counterResetConsumer.accept(instance);
+        resetPendingRequestCounter(instanceId);
       } else {
         /**
          * Even when httpStatus is not 200/404, we want to reset the counter after some delay: to
          * recheck for health once in a while rather than being permanently blocking it
          */
         timeoutProcessor.schedule(
-            () -> counterResetConsumer.accept(instance),
+            () -> resetPendingRequestCounter(instanceId),
             counterResetDelayMS,
             TimeUnit.MILLISECONDS.MILLISECONDS);
       }
       if (unhealthyInstance) {
-        if (unhealthyInstanceSet.add(instance)) {
-          LOGGER.info("Marked instance: {} as unhealthy because of error response", instance);
+        if (segment.unhealthyFlags.compareAndSet(indexInSegment, 0, 1)) {
+          unhealthyInstanceCount.incrementAndGet();
+          LOGGER.info("Marked instance: {} as unhealthy because of error response", getInstance(instanceId));
         }
       } else {
-        if (unhealthyInstanceSet.remove(instance)) {
-          LOGGER.info("Marked instance: {} as healthy because of good response", instance);
+        if (segment.unhealthyFlags.compareAndSet(indexInSegment, 1, 0)) {
+          unhealthyInstanceCount.decrementAndGet();
+          LOGGER.info("Marked instance: {} as healthy because of good response", getInstance(instanceId));
         }
       }
     });
@@ -186,14 +238,23 @@ public class InstanceHealthMonitor implements Closeable {
    * eventually become blocked when it reaches the threshold for pendingRequestCounter. This
    * provides some break between continuously sending requests to these instances.
    */
+  public boolean isInstanceHealthy(int instanceId) {
+    return getSegment(instanceId).unhealthyFlags.get(instanceId & SEGMENT_INDEX_MASK) == 0;
+  }
+
   public boolean isInstanceHealthy(String instance) {
-    return !unhealthyInstanceSet.contains(instance);
+    Integer instanceId = instanceIdMap.get(instance);
+    return instanceId == null || isInstanceHealthy(instanceId);
   }
 
   /**
    * If an instance is blocked, it won't be considered for new requests until the requests are closed either
    * in a proper manner or closed by {@link #trackHealthBasedOnRequestToInstance#timeoutFuture}
    */
+  public boolean isInstanceBlocked(int instanceId) {
+    return getPendingRequestCounter(instanceId) >= clientConfig.getRoutingPendingRequestCounterInstanceBlockThreshold();
+  }
+
   public boolean isInstanceBlocked(String instance) {
     return getPendingRequestCounter(instance) >= clientConfig.getRoutingPendingRequestCounterInstanceBlockThreshold();
   }
@@ -201,8 +262,9 @@ public class InstanceHealthMonitor implements Closeable {
   public int getBlockedInstanceCount() {
     int blockedInstanceCount = 0;
     // TODO: need to evaluate whether it is too expensive to emit a metric per request for this.
-    for (int count: pendingRequestCounterMap.values()) {
-      if (count >= clientConfig.getRoutingPendingRequestCounterInstanceBlockThreshold()) {
+    int currentInstanceCount = instanceCount;
+    for (int instanceId = 0; instanceId < currentInstanceCount; instanceId++) {
+      if (isInstanceBlocked(instanceId)) {
         ++blockedInstanceCount;
       }
     }
@@ -210,12 +272,16 @@ public class InstanceHealthMonitor implements Closeable {
   }
 
   public int getUnhealthyInstanceCount() {
-    return unhealthyInstanceSet.size();
+    return unhealthyInstanceCount.get();
+  }
+
+  public int getPendingRequestCounter(int instanceId) {
+    return getSegment(instanceId).pendingRequestCounters.get(instanceId & SEGMENT_INDEX_MASK);
   }
 
   public int getPendingRequestCounter(String instance) {
-    Integer pendingRequestCounter = pendingRequestCounterMap.get(instance);
-    return pendingRequestCounter == null ? 0 : pendingRequestCounter;
+    Integer instanceId = instanceIdMap.get(instance);
+    return instanceId == null ? 0 : getPendingRequestCounter(instanceId);
   }
 
   @Override
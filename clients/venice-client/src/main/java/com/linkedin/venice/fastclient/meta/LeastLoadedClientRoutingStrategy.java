@@ -1,9 +1,6 @@
 package com.linkedin.venice.fastclient.meta;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
+import java.util.Arrays;
 
 
 /**
@@ -23,32 +20,46 @@ public class LeastLoadedClientRoutingStrategy extends AbstractClientRoutingStrat
   }
 
   @Override
-  public List<String> getReplicas(long requestId, List<String> replicas, int requiredReplicaCount) {
-    if (replicas.isEmpty()) {
-      return Collections.emptyList();
+  public int[] getReplicas(long requestId, int[] replicaIds, int requiredReplicaCount) {
+    if (replicaIds.length == 0) {
+      return new int[0];
     }
-    int replicaCnt = replicas.size();
+    int replicaCnt = replicaIds.length;
     int startPos = (int) (requestId % replicaCnt);
-    List<String> availReplicas = new ArrayList<>();
+    int[] availReplicaIds = new int[replicaCnt];
+    int[] availReplicaCounters = new int[replicaCnt];
+    int availReplicaCnt = 0;
     for (int i = 0; i < replicaCnt; ++i) {
-      String replica = replicas.get((i + startPos) % replicaCnt);
-      if (!instanceHealthMonitor.isInstanceBlocked(replica)) {
-        availReplicas.add(replica);
+      int replicaId = replicaIds[(i + startPos) % replicaCnt];
+      if (instanceHealthMonitor.isInstanceBlocked(replicaId)) {
+        continue;
       }
+      /**
+       * Insertion sort by the pending request counter, which keeps the round-robin order of the replicas with the same
+       * counter, and is cheap for the handful of replicas of a partition.
+       */
+      int counter = instanceHealthMonitor.getPendingRequestCounter(replicaId);
+      int pos = availReplicaCnt++;
+      while (pos > 0 && availReplicaCounters[pos - 1] > counter) {
+        availReplicaIds[pos] = availReplicaIds[pos - 1];
+        availReplicaCounters[pos] = availReplicaCounters[pos - 1];
+        --pos;
+      }
+      availReplicaIds[pos] = replicaId;
+      availReplicaCounters[pos] = counter;
     }
 
-    availReplicas.sort(Comparator.comparingInt(instanceHealthMonitor::getPendingRequestCounter));
-
-    if (requiredReplicaCount < availReplicas.size()) {
-      List<String> selectedReplicas = new ArrayList<>();
+    if (requiredReplicaCount < availReplicaCnt) {
+      int[] selectedReplicaIds = new int[Math.min(2 * requiredReplicaCount, availReplicaCnt)];
+      int selectedReplicaCnt = 0;
       /**
        * Check whether any unhealthy replica has been selected or not, if yes, try to add more healthy replicas.
        */
       int selectedUnhealthyReplicaCnt = 0;
       for (int i = 0; i < requiredReplicaCount; ++i) {
-        String currentReplica = availReplicas.get(i);
-        selectedReplicas.add(currentReplica);
-        if (!instanceHealthMonitor.isInstanceHealthy(currentReplica)) {
+        int currentReplicaId = availReplicaIds[i];
+        selectedReplicaIds[selectedReplicaCnt++] = currentReplicaId;
+        if (!instanceHealthMonitor.isInstanceHealthy(currentReplicaId)) {
           ++selectedUnhealthyReplicaCnt;
         }
       }
@@ -61,19 +72,19 @@ public class LeastLoadedClientRoutingStrategy extends AbstractClientRoutingStrat
          *    much as possible.
          */
         int backfillingHealthyReplicaCnt = 0;
-        for (int i = requiredReplicaCount; i < availReplicas.size()
+        for (int i = requiredReplicaCount; i < availReplicaCnt
             && backfillingHealthyReplicaCnt < selectedUnhealthyReplicaCnt; ++i) {
-          String currentReplica = availReplicas.get(i);
-          if (instanceHealthMonitor.isInstanceHealthy(currentReplica)) {
-            selectedReplicas.add(currentReplica);
+          int currentReplicaId = availReplicaIds[i];
+          if (instanceHealthMonitor.isInstanceHealthy(currentReplicaId)) {
+            selectedReplicaIds[selectedReplicaCnt++] = currentReplicaId;
             ++backfillingHealthyReplicaCnt;
           }
         }
       }
 
-      return selectedReplicas;
+      return Arrays.copyOf(selectedReplicaIds, selectedReplicaCnt);
     } else {
-      return availReplicas;
+      return Arrays.copyOf(availReplicaIds, availReplicaCnt);
     }
   }
 }
@@ -39,6 +39,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -57,7 +58,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.LogManager;
@@ -69,7 +69,6 @@ import org.apache.logging.log4j.Logger;
  */
 public class RequestBasedMetadata extends AbstractStoreMetadata {
   private static final Logger LOGGER = LogManager.getLogger(RequestBasedMetadata.class);
-  private static final String VERSION_PARTITION_SEPARATOR = "_";
 
   public static final long DEFAULT_REFRESH_INTERVAL_IN_SECONDS = 60;
   private static final long ZSTD_DICT_FETCH_TIMEOUT_IN_SECONDS = 10;
@@ -94,10 +93,12 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
   private final AtomicInteger currentVersion = new AtomicInteger();
   private final AtomicInteger latestSuperSetValueSchemaId = new AtomicInteger();
   private final AtomicReference<SchemaData> schemas = new AtomicReference<>();
-  private final Map<String, List<String>> readyToServeInstancesMap = new VeniceConcurrentHashMap<>();
+  /**
+   * The routing tables of the active versions, which are replaced as a whole by {@link #updateCache(boolean)}, so
+   * that the request path only scans this small array instead of looking up maps with a key built per request.
+   */
+  private volatile VersionRoutingTable[] versionRoutingTables = new VersionRoutingTable[0];
   private Map<String, CompletableFuture> warmUpInstancesFutures = new VeniceConcurrentHashMap<>();
-  private final Map<Integer, VenicePartitioner> versionPartitionerMap = new VeniceConcurrentHashMap<>();
-  private final Map<Integer, Integer> versionPartitionCountMap = new VeniceConcurrentHashMap<>();
   private final Map<Integer, ByteBuffer> versionZstdDictionaryMap = new VeniceConcurrentHashMap<>();
   private final Map<String, Integer> helixGroupInfo = new VeniceConcurrentHashMap<>();
   private final CompressorFactory compressorFactory;
@@ -153,31 +154,54 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
 
   @Override
   public int getPartitionId(int version, ByteBuffer key) {
-    VenicePartitioner partitioner = versionPartitionerMap.get(version);
-    if (partitioner == null) {
+    VersionRoutingTable routingTable = getVersionRoutingTable(version);
+    if (routingTable == null) {
       throw new VeniceClientException("Unknown version number: " + version + " for store: " + storeName);
     }
-    return partitioner.getPartitionId(key, versionPartitionCountMap.get(version));
+    return routingTable.getPartitionId(key);
   }
 
   @Override
   public List<String> getReplicas(int version, int partitionId) {
-    String key = getVersionPartitionMapKey(version, partitionId);
-    return readyToServeInstancesMap.getOrDefault(key, Collections.emptyList());
+    VersionRoutingTable routingTable = getVersionRoutingTable(version);
+    return routingTable == null ? Collections.emptyList() : routingTable.getReplicas(partitionId);
   }
 
-  private String getVersionPartitionMapKey(int version, int partition) {
-    return version + VERSION_PARTITION_SEPARATOR + partition;
+  @Override
+  protected int[] getReplicaIds(int version, int partitionId) {
+    VersionRoutingTable routingTable = getVersionRoutingTable(version);
+    return routingTable == null ? new int[0] : routingTable.getReplicaIds(partitionId);
   }
 
-  /**
-   * Given a version partitioner key formatted as "1_0" which represents partition 0 of version 1, return the version
-   * number.
-   * @param key
-   * @return version number
-   */
-  private int getVersionFromKey(String key) {
-    return Integer.parseInt(key.split(VERSION_PARTITION_SEPARATOR)[0]);
+  private VersionRoutingTable getVersionRoutingTable(int version) {
+    // There are only a couple of active versions, so a linear scan is cheaper than any map lookup
+    for (VersionRoutingTable routingTable: versionRoutingTables) {
+      if (routingTable.getVersion() == version) {
+        return routingTable;
+      }
+    }
+    return null;
+  }
+
+  private void putVersionRoutingTable(VersionRoutingTable newRoutingTable) {
+    List<VersionRoutingTable> routingTables = new ArrayList<>(versionRoutingTables.length + 1);
+    routingTables.add(newRoutingTable);
+    for (VersionRoutingTable routingTable: versionRoutingTables) {
+      if (routingTable.getVersion() != newRoutingTable.getVersion()) {
+        routingTables.add(routingTable);
+      }
+    }
+    versionRoutingTables = routingTables.toArray(new VersionRoutingTable[0]);
+  }
+
+  private void evictInactiveVersionRoutingTables(Set<Integer> activeVersions) {
+    List<VersionRoutingTable> routingTables = new ArrayList<>(versionRoutingTables.length);
+    for (VersionRoutingTable routingTable: versionRoutingTables) {
+      if (activeVersions.contains(routingTable.getVersion())) {
+        routingTables.add(routingTable);
+      }
+    }
+    versionRoutingTables = routingTables.toArray(new VersionRoutingTable[0]);
   }
 
   @Override
@@ -385,28 +409,19 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
         dictionaryFetchFuture = fetchCompressionDictionary(fetchedCurrentVersion);
       }
 
-      // Update partitioner pair map (versionPartitionerMap)
+      // Update the routing table of the fetched version
       int partitionCount = versionMetadata.getPartitionCount();
       Properties params = new Properties();
       params.putAll(versionMetadata.getPartitionerParams());
       VenicePartitioner partitioner = PartitionUtils
           .getVenicePartitioner(versionMetadata.getPartitionerClass().toString(), new VeniceProperties(params));
-      versionPartitionerMap.put(fetchedCurrentVersion, partitioner);
-      versionPartitionCountMap.put(fetchedCurrentVersion, partitionCount);
-
-      // Update readyToServeInstanceMap
-      Map<Integer, List<String>> routingInfo = metadataResponse.getRoutingInfo()
-          .entrySet()
-          .stream()
-          .collect(
-              Collectors.toMap(
-                  e -> Integer.valueOf(e.getKey().toString()),
-                  e -> e.getValue().stream().map(CharSequence::toString).collect(Collectors.toList())));
-
-      for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
-        String key = getVersionPartitionMapKey(fetchedCurrentVersion, partitionId);
-        readyToServeInstancesMap.put(key, routingInfo.get(partitionId));
-      }
+      putVersionRoutingTable(
+          new VersionRoutingTable(
+              fetchedCurrentVersion,
+              partitionCount,
+              partitioner,
+              getInstanceHealthMonitor(),
+              metadataResponse.getRoutingInfo()));
 
       // Update schemas
       Map.Entry<CharSequence, CharSequence> lastEntry = null;
@@ -451,10 +466,7 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
 
       // Evict entries from inactive versions
       Set<Integer> activeVersions = new HashSet<>(metadataResponse.getVersions());
-      readyToServeInstancesMap.entrySet()
-          .removeIf(entry -> !activeVersions.contains(getVersionFromKey(entry.getKey())));
-      versionPartitionerMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
-      versionPartitionCountMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
+      evictInactiveVersionRoutingTables(activeVersions);
       versionZstdDictionaryMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
       currentVersion.set(fetchedCurrentVersion);
       clusterStats.updateCurrentVersion(fetchedCurrentVersion);
@@ -536,8 +548,7 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
-    readyToServeInstancesMap.clear();
-    versionPartitionerMap.clear();
+    versionRoutingTables = new VersionRoutingTable[0];
     Utils.closeQuietlyWithErrorLogged(metadataResponseSchemaReader);
     Utils.closeQuietlyWithErrorLogged(compressorFactory);
   }
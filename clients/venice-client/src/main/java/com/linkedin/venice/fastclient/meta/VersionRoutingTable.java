@@ -0,0 +1,86 @@
+package com.linkedin.venice.fastclient.meta;
+
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * This class is an immutable snapshot of the routing data of a store version, which is built once per metadata
+ * refresh, so that routing a request doesn't build any lookup key nor look anything up in a map: the ready-to-serve
+ * replicas are indexed by partition id, and each of them is the id interned by the {@link InstanceHealthMonitor}, which
+ * indexes the state of the instances with the same ids.
+ */
+final class VersionRoutingTable {
+  private static final int[] NO_REPLICA = new int[0];
+
+  private final int version;
+  private final int partitionCount;
+  private final VenicePartitioner partitioner;
+  private final InstanceHealthMonitor instanceHealthMonitor;
+  private final int[][] partitionReplicaIds;
+
+  /**
+   * @param routingInfo the ready-to-serve replicas of each partition, the missing partitions don't have any replica
+   */
+  VersionRoutingTable(
+      int version,
+      int partitionCount,
+      VenicePartitioner partitioner,
+      InstanceHealthMonitor instanceHealthMonitor,
+      Map<? extends CharSequence, ? extends List<? extends CharSequence>> routingInfo) {
+    this.version = version;
+    this.partitionCount = partitionCount;
+    this.partitioner = partitioner;
+    this.instanceHealthMonitor = instanceHealthMonitor;
+
+    this.partitionReplicaIds = new int[partitionCount][];
+    Arrays.fill(partitionReplicaIds, NO_REPLICA);
+    for (Map.Entry<? extends CharSequence, ? extends List<? extends CharSequence>> entry: routingInfo.entrySet()) {
+      int partitionId = Integer.parseInt(entry.getKey().toString());
+      if (partitionId < 0 || partitionId >= partitionCount) {
+        continue;
+      }
+      List<? extends CharSequence> replicas = entry.getValue();
+      int[] replicaIds = new int[replicas.size()];
+      for (int i = 0; i < replicaIds.length; i++) {
+        replicaIds[i] = instanceHealthMonitor.getInstanceId(replicas.get(i).toString());
+      }
+      partitionReplicaIds[partitionId] = replicaIds;
+    }
+  }
+
+  int getVersion() {
+    return version;
+  }
+
+  int getPartitionCount() {
+    return partitionCount;
+  }
+
+  int getPartitionId(ByteBuffer key) {
+    return partitioner.getPartitionId(key, partitionCount);
+  }
+
+  /**
+   * @return the ids of the ready-to-serve replicas of the partition, which is shared and must not be modified
+   */
+  int[] getReplicaIds(int partitionId) {
+    if (partitionId < 0 || partitionId >= partitionCount) {
+      return NO_REPLICA;
+    }
+    return partitionReplicaIds[partitionId];
+  }
+
+  List<String> getReplicas(int partitionId) {
+    int[] replicaIds = getReplicaIds(partitionId);
+    List<String> replicas = new ArrayList<>(replicaIds.length);
+    for (int replicaId: replicaIds) {
+      replicas.add(instanceHealthMonitor.getInstance(replicaId));
+    }
+    return replicas;
+  }
+}
@@ -42,6 +42,14 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
   private final Sensor errorRetryRequestSensor;
   private final Sensor retryRequestWinSensor;
 
+  // Single get batching stats
+  private final Sensor singleGetBatchSizeSensor;
+  private final Sensor singleGetBatchingDelaySensor;
+
+  // Near cache stats
+  private final Sensor nearCacheHitKeyCountSensor;
+  private final Sensor nearCacheMissKeyCountSensor;
+
   private final Sensor metadataStalenessSensor;
   private long cacheTimeStampInMs = 0;
 
@@ -88,6 +96,11 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     this.longTailRetryRequestSensor = registerSensor("long_tail_retry_request", new OccurrenceRate());
     this.errorRetryRequestSensor = registerSensor("error_retry_request", new OccurrenceRate());
     this.retryRequestWinSensor = registerSensor("retry_request_win", new OccurrenceRate());
+    this.singleGetBatchSizeSensor = registerSensor("single_get_batch_size", new Avg(), new Max());
+    this.singleGetBatchingDelaySensor =
+        registerSensorWithDetailedPercentiles("single_get_batching_delay", new Avg(), new Max());
+    this.nearCacheHitKeyCountSensor = registerSensor("near_cache_hit_key_count", new Rate());
+    this.nearCacheMissKeyCountSensor = registerSensor("near_cache_miss_key_count", new Rate());
 
     this.metadataStalenessSensor = registerSensor(new AsyncGauge((ignored, ignored2) -> {
       if (this.cacheTimeStampInMs == 0) {
@@ -172,6 +185,22 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     retryRequestWinSensor.record();
   }
 
+  public void recordSingleGetBatchSize(int batchSize) {
+    singleGetBatchSizeSensor.record(batchSize);
+  }
+
+  public void recordSingleGetBatchingDelay(double delay) {
+    singleGetBatchingDelaySensor.record(delay);
+  }
+
+  public void recordNearCacheHitKeyCount(int keyCount) {
+    nearCacheHitKeyCountSensor.record(keyCount);
+  }
+
+  public void recordNearCacheMissKeyCount(int keyCount) {
+    nearCacheMissKeyCountSensor.record(keyCount);
+  }
+
   public void updateCacheTimestamp(long cacheTimeStampInMs) {
     this.cacheTimeStampInMs = cacheTimeStampInMs;
   }
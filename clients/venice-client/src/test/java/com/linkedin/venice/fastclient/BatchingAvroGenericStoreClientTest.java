@@ -0,0 +1,139 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.utils.Time;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class BatchingAvroGenericStoreClientTest {
+  private static final int TEST_TIMEOUT = 10 * Time.MS_PER_SECOND;
+
+  private TimeoutProcessor timeoutProcessor;
+
+  @BeforeClass
+  public void setUp() {
+    timeoutProcessor = new TimeoutProcessor(null, true, 1);
+  }
+
+  @AfterClass
+  public void tearDown() throws InterruptedException {
+    timeoutProcessor.shutdownNow();
+    timeoutProcessor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  private BatchingAvroGenericStoreClient<String, String> getBatchingClient(
+      InternalAvroStoreClient<String, String> innerClient,
+      int batchingWindowInMicroSeconds,
+      int maxBatchSize) {
+    ClientConfig clientConfig = new ClientConfig.ClientConfigBuilder<>().setStoreName("test_store")
+        .setR2Client(mock(Client.class))
+        .setSingleGetBatchingWindowInMicroSeconds(batchingWindowInMicroSeconds)
+        .setSingleGetBatchingMaxBatchSize(maxBatchSize)
+        .build();
+    return new BatchingAvroGenericStoreClient<>(innerClient, clientConfig, timeoutProcessor);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testFullBatchIsSentRightAway() throws Exception {
+    InternalAvroStoreClient<String, String> innerClient = mock(InternalAvroStoreClient.class);
+    List<Set<String>> sentBatches = new ArrayList<>();
+    doAnswer(invocation -> {
+      Set<String> keys = invocation.getArgument(1);
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      sentBatches.add(new HashSet<>(keys));
+      callback.onRecordReceived("key_1", "value_1");
+      callback.onRecordReceived("key_2", null);
+      // key_3 is never received
+      callback.onCompletion(Optional.empty());
+      return null;
+    }).when(innerClient).streamingBatchGet(any(BatchGetRequestContext.class), anySet(), any(StreamingCallback.class));
+
+    // The window is long enough for the batch to only be sent once full
+    BatchingAvroGenericStoreClient<String, String> batchingClient =
+        getBatchingClient(innerClient, (int) TimeUnit.MINUTES.toMicros(1), 3);
+    CompletableFuture<String> future1 = batchingClient.get("key_1");
+    CompletableFuture<String> duplicateFuture1 = batchingClient.get("key_1");
+    CompletableFuture<String> future2 = batchingClient.get("key_2");
+    CompletableFuture<String> future3 = batchingClient.get("key_3");
+
+    assertEquals(sentBatches.size(), 1);
+    assertEquals(sentBatches.get(0), new HashSet<>(Arrays.asList("key_1", "key_2", "key_3")));
+    assertEquals(future1.get(), "value_1");
+    assertEquals(duplicateFuture1.get(), "value_1");
+    assertNull(future2.get());
+    assertNull(future3.get());
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testBatchGetOutcomeIsCopiedToSingleGetContexts() throws Exception {
+    InternalAvroStoreClient<String, String> innerClient = mock(InternalAvroStoreClient.class);
+    doAnswer(invocation -> {
+      BatchGetRequestContext<String, String> requestContext = invocation.getArgument(0);
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      requestContext.currentVersion = 2;
+      requestContext.noAvailableReplica = true;
+      requestContext.retryContext = new MultiKeyRequestContext.RetryContext<>();
+      callback.onRecordReceived("key_1", "value_1");
+      requestContext.retryContext.retryRequestContext = new BatchGetRequestContext<>(1, true);
+      callback.onCompletion(Optional.empty());
+      return null;
+    }).when(innerClient).streamingBatchGet(any(BatchGetRequestContext.class), anySet(), any(StreamingCallback.class));
+
+    BatchingAvroGenericStoreClient<String, String> batchingClient =
+        getBatchingClient(innerClient, (int) TimeUnit.MINUTES.toMicros(1), 2);
+    GetRequestContext requestContext1 = new GetRequestContext(false);
+    GetRequestContext requestContext2 = new GetRequestContext(false);
+    CompletableFuture<String> future1 = batchingClient.get(requestContext1, "key_1");
+    CompletableFuture<String> future2 = batchingClient.get(requestContext2, "key_2");
+    assertEquals(future1.get(), "value_1");
+    assertNull(future2.get());
+
+    assertEquals(requestContext1.currentVersion, 2);
+    assertTrue(requestContext1.noAvailableReplica);
+    assertEquals(requestContext1.successRequestKeyCount.get(), 1);
+    assertNull(requestContext1.retryContext);
+    assertEquals(requestContext2.currentVersion, 2);
+    assertEquals(requestContext2.successRequestKeyCount.get(), 0);
+    // The batch get has been retried before key_2 was completed
+    assertTrue(requestContext2.retryContext.longTailRetryRequestTriggered);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testBatchIsSentAfterWindow() {
+    InternalAvroStoreClient<String, String> innerClient = mock(InternalAvroStoreClient.class);
+    doAnswer(invocation -> {
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      callback.onCompletion(Optional.of(new VeniceClientException("Batch get failure")));
+      return null;
+    }).when(innerClient).streamingBatchGet(any(BatchGetRequestContext.class), anySet(), any(StreamingCallback.class));
+
+    BatchingAvroGenericStoreClient<String, String> batchingClient =
+        getBatchingClient(innerClient, (int) TimeUnit.MILLISECONDS.toMicros(10), 100);
+    CompletableFuture<String> future = batchingClient.get("key_1");
+    ExecutionException e = expectThrows(ExecutionException.class, future::get);
+    assertTrue(e.getCause() instanceof VeniceClientException);
+  }
+}
@@ -0,0 +1,99 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.utils.Time;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.testng.annotations.Test;
+
+
+public class NearCacheAvroGenericStoreClientTest {
+  private static final int TEST_TIMEOUT = 10 * Time.MS_PER_SECOND;
+
+  private NearCacheAvroGenericStoreClient<String, String> getNearCacheClient(
+      InternalAvroStoreClient<String, String> innerClient,
+      StoreMetadata storeMetadata) {
+    ClientConfig clientConfig = new ClientConfig.ClientConfigBuilder<>().setStoreName("test_store")
+        .setR2Client(mock(Client.class))
+        .setNearCacheMaxSize(100)
+        .build();
+    return new NearCacheAvroGenericStoreClient<>(innerClient, clientConfig, storeMetadata);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testSingleGetIsCachedPerVersion() throws Exception {
+    StoreMetadata storeMetadata = mock(StoreMetadata.class);
+    doReturn(1).when(storeMetadata).getCurrentStoreVersion();
+    InternalAvroStoreClient<String, String> innerClient = mock(InternalAvroStoreClient.class);
+    doAnswer(invocation -> CompletableFuture.completedFuture("value_v" + storeMetadata.getCurrentStoreVersion()))
+        .when(innerClient)
+        .get(any(GetRequestContext.class), any(String.class));
+
+    NearCacheAvroGenericStoreClient<String, String> nearCacheClient = getNearCacheClient(innerClient, storeMetadata);
+    assertEquals(nearCacheClient.get("key").get(), "value_v1");
+    assertEquals(nearCacheClient.get("key").get(), "value_v1");
+    verify(innerClient, times(1)).get(any(GetRequestContext.class), any(String.class));
+
+    // The cache of the previous version is dropped after the version swap
+    doReturn(2).when(storeMetadata).getCurrentStoreVersion();
+    assertEquals(nearCacheClient.get("key").get(), "value_v2");
+    assertEquals(nearCacheClient.get("key").get(), "value_v2");
+    verify(innerClient, times(2)).get(any(GetRequestContext.class), any(String.class));
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testBatchGetOnlyFetchesMissingKeys() throws Exception {
+    StoreMetadata storeMetadata = mock(StoreMetadata.class);
+    doReturn(1).when(storeMetadata).getCurrentStoreVersion();
+    InternalAvroStoreClient<String, String> innerClient = mock(InternalAvroStoreClient.class);
+    List<Set<String>> fetchedKeys = new ArrayList<>();
+    doAnswer(invocation -> {
+      Set<String> keys = invocation.getArgument(1);
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      fetchedKeys.add(new HashSet<>(keys));
+      for (String key: keys) {
+        // key_3 doesn't exist
+        callback.onRecordReceived(key, key.equals("key_3") ? null : "value_" + key);
+      }
+      callback.onCompletion(Optional.empty());
+      return null;
+    }).when(innerClient).streamingBatchGet(any(BatchGetRequestContext.class), anySet(), any(StreamingCallback.class));
+
+    NearCacheAvroGenericStoreClient<String, String> nearCacheClient = getNearCacheClient(innerClient, storeMetadata);
+    Map<String, String> expectedResult = new HashMap<>();
+    expectedResult.put("key_1", "value_key_1");
+    expectedResult.put("key_2", "value_key_2");
+    assertEquals(nearCacheClient.batchGet(new HashSet<>(Arrays.asList("key_1", "key_2"))).get(), expectedResult);
+    assertEquals(
+        nearCacheClient.batchGet(new HashSet<>(Arrays.asList("key_1", "key_2", "key_3"))).get(),
+        expectedResult);
+    assertEquals(nearCacheClient.batchGet(new HashSet<>(Arrays.asList("key_1", "key_2"))).get(), expectedResult);
+
+    // The keys which don't exist are fetched every time, and the fully cached batch get doesn't reach the inner client
+    assertEquals(
+        fetchedKeys,
+        Arrays.asList(new HashSet<>(Arrays.asList("key_1", "key_2")), Collections.singleton("key_3")));
+    assertNull(nearCacheClient.batchGet(Collections.singleton("key_3")).get().get("key_3"));
+    assertEquals(fetchedKeys.size(), 3);
+  }
+}
@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -20,6 +22,8 @@ public class HelixScatterGatherRoutingStrategyTest {
   private final static String instance4 = "https://instance4:1234";
   private final static String instance5 = "https://instance5:1234";
   private final static String instance6 = "https://instance6:1234";
+  private final static String[] instances =
+      new String[] { instance1, instance2, instance3, instance4, instance5, instance6 };
 
   private InstanceHealthMonitor instanceHealthMonitor;
 
@@ -38,12 +42,19 @@ public class HelixScatterGatherRoutingStrategyTest {
   @BeforeMethod
   public void setUp() {
     instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+    for (int i = 0; i < instances.length; ++i) {
+      doReturn(i).when(instanceHealthMonitor).getInstanceId(instances[i]);
+      doReturn(instances[i]).when(instanceHealthMonitor).getInstance(i);
+    }
   }
 
   public void runTest(List<String> replicas, long requestId, int requiredReplicaCount, List<String> expectedReplicas) {
     HelixScatterGatherRoutingStrategy strategy = new HelixScatterGatherRoutingStrategy(instanceHealthMonitor);
     strategy.updateHelixGroupInfo(getHelixGroupInfo());
-    List<String> selectedReplicas = strategy.getReplicas(requestId, replicas, requiredReplicaCount);
+    int[] replicaIds = replicas.stream().mapToInt(instanceHealthMonitor::getInstanceId).toArray();
+    int[] selectedReplicaIds = strategy.getReplicas(requestId, replicaIds, requiredReplicaCount);
+    List<String> selectedReplicas =
+        IntStream.of(selectedReplicaIds).mapToObj(instanceHealthMonitor::getInstance).collect(Collectors.toList());
     assertEquals(selectedReplicas, expectedReplicas);
   }
 
@@ -63,10 +74,10 @@ public class HelixScatterGatherRoutingStrategyTest {
 
   @Test
   public void testGetReplicaWithBlockedInstances() {
-    doReturn(true).when(instanceHealthMonitor).isInstanceBlocked(instance1);
-    doReturn(true).when(instanceHealthMonitor).isInstanceBlocked(instance4);
-    doReturn(true).when(instanceHealthMonitor).isInstanceBlocked(instance5);
-    doReturn(true).when(instanceHealthMonitor).isInstanceBlocked(instance6);
+    doReturn(true).when(instanceHealthMonitor).isInstanceBlocked(instanceHealthMonitor.getInstanceId(instance1));
+    doReturn(true).when(instanceHealthMonitor).isInstanceBlocked(instanceHealthMonitor.getInstanceId(instance4));
+    doReturn(true).when(instanceHealthMonitor).isInstanceBlocked(instanceHealthMonitor.getInstanceId(instance5));
+    doReturn(true).when(instanceHealthMonitor).isInstanceBlocked(instanceHealthMonitor.getInstanceId(instance6));
     List<String> replicas = Arrays.asList(instance1, instance2, instance3, instance4, instance5, instance6);
     runTest(replicas, 0, 2, Arrays.asList(instance2, instance3));
     // 1, 4, 5, 6 are all blocked. Can only get 2 and 3 in order to meet the required replica of 2.
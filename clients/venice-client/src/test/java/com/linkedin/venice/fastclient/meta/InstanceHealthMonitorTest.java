@@ -129,6 +129,35 @@ public class InstanceHealthMonitorTest {
     assertTrue(healthMonitor.isInstanceHealthy(instance));
   }
 
+  @Test
+  public void testInstanceIdInterning() throws InterruptedException {
+    ClientConfig clientConfig = mock(ClientConfig.class);
+    doReturn(10000l).when(clientConfig).getRoutingLeakedRequestCleanupThresholdMS();
+    InstanceHealthMonitor healthMonitor = new InstanceHealthMonitor(clientConfig);
+    // Unknown instances are not interned by the lookups
+    assertEquals(healthMonitor.getPendingRequestCounter(instance), 0);
+    assertTrue(healthMonitor.isInstanceHealthy(instance));
+
+    // Enough instances to span several state segments
+    int[] instanceIds = new int[100];
+    for (int i = 0; i < instanceIds.length; ++i) {
+      instanceIds[i] = healthMonitor.getInstanceId(instance + i);
+      assertEquals(instanceIds[i], i);
+      assertEquals(healthMonitor.getInstance(instanceIds[i]), instance + i);
+    }
+    assertEquals(healthMonitor.getInstanceId(instance + 0), instanceIds[0]);
+
+    int instanceId = instanceIds[99];
+    ChainedCompletableFuture<Integer, Integer> chainedFuture =
+        healthMonitor.trackHealthBasedOnRequestToInstance(instance + 99);
+    assertEquals(healthMonitor.getPendingRequestCounter(instanceId), 1);
+    assertEquals(healthMonitor.getPendingRequestCounter(instanceIds[0]), 0);
+    chainedFuture.getOriginalFuture().complete(SC_OK);
+    waitQuietly(chainedFuture.getResultFuture());
+    assertEquals(healthMonitor.getPendingRequestCounter(instanceId), 0);
+    assertTrue(healthMonitor.isInstanceHealthy(instanceId));
+  }
+
   private void waitQuietly(CompletableFuture future) throws InterruptedException {
     try {
       future.get();
@@ -4,9 +4,6 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import org.testng.annotations.Test;
 
 
@@ -27,85 +24,93 @@ public class LeastLoadedClientRoutingStrategyTest {
     if (instances.length != blocked.length || blocked.length != healthy.length || healthy.length != counter.length) {
       throw new IllegalArgumentException("The length of each array param should be same");
     }
+    // The instance ids are the indexes of the instances
     for (int i = 0; i < instances.length; ++i) {
-      String instance = instances[i];
-      doReturn(blocked[i]).when(instanceHealthMonitor).isInstanceBlocked(instance);
-      doReturn(healthy[i]).when(instanceHealthMonitor).isInstanceHealthy(instance);
-      doReturn(counter[i]).when(instanceHealthMonitor).getPendingRequestCounter(instance);
+      doReturn(blocked[i]).when(instanceHealthMonitor).isInstanceBlocked(i);
+      doReturn(healthy[i]).when(instanceHealthMonitor).isInstanceHealthy(i);
+      doReturn(counter[i]).when(instanceHealthMonitor).getPendingRequestCounter(i);
     }
 
     return instanceHealthMonitor;
   }
 
+  private static int[] getReplicaIds(String[] instances) {
+    int[] replicaIds = new int[instances.length];
+    for (int i = 0; i < instances.length; ++i) {
+      replicaIds[i] = i;
+    }
+    return replicaIds;
+  }
+
   public void runTest(
       InstanceHealthMonitor monitor,
-      List<String> replicas,
+      int[] replicaIds,
       long requestId,
       int requiredReplicaCount,
-      List<String> expectedReplicas) {
+      int[] expectedReplicaIds) {
     LeastLoadedClientRoutingStrategy strategy = new LeastLoadedClientRoutingStrategy(monitor);
-    List<String> selectedReplicas = strategy.getReplicas(requestId, replicas, requiredReplicaCount);
-    assertEquals(selectedReplicas, expectedReplicas);
+    int[] selectedReplicaIds = strategy.getReplicas(requestId, replicaIds, requiredReplicaCount);
+    assertEquals(selectedReplicaIds, expectedReplicaIds);
   }
 
   @Test
   public void testGetReplicasWithAllHealthyReplicas() {
     String[] instances = new String[] { instance1, instance2, instance3 };
-    List<String> replicas = Arrays.asList(instances);
+    int[] replicaIds = getReplicaIds(instances);
     InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
         instances,
         new boolean[] { false, false, false },
         new boolean[] { true, true, true },
         new int[] { 0, 0, 0 });
-    runTest(instanceHealthMonitor, replicas, 0, 2, Arrays.asList(instance1, instance2));
-    runTest(instanceHealthMonitor, replicas, 1, 2, Arrays.asList(instance2, instance3));
-    runTest(instanceHealthMonitor, replicas, 2, 2, Arrays.asList(instance3, instance1));
-    runTest(instanceHealthMonitor, replicas, 3, 2, Arrays.asList(instance1, instance2));
+    runTest(instanceHealthMonitor, replicaIds, 0, 2, new int[] { 0, 1 });
+    runTest(instanceHealthMonitor, replicaIds, 1, 2, new int[] { 1, 2 });
+    runTest(instanceHealthMonitor, replicaIds, 2, 2, new int[] { 2, 0 });
+    runTest(instanceHealthMonitor, replicaIds, 3, 2, new int[] { 0, 1 });
   }
 
   @Test
   public void testGetReplicasWithAllHealthyReplicasWithDifferentWeights() {
     String[] instances = new String[] { instance1, instance2, instance3 };
-    List<String> replicas = Arrays.asList(instances);
+    int[] replicaIds = getReplicaIds(instances);
     InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
         instances,
         new boolean[] { false, false, false },
         new boolean[] { true, true, true },
         new int[] { 5, 5, 4 });
-    runTest(instanceHealthMonitor, replicas, 0, 2, Arrays.asList(instance3, instance1));
-    runTest(instanceHealthMonitor, replicas, 1, 2, Arrays.asList(instance3, instance2));
-    runTest(instanceHealthMonitor, replicas, 2, 2, Arrays.asList(instance3, instance1));
+    runTest(instanceHealthMonitor, replicaIds, 0, 2, new int[] { 2, 0 });
+    runTest(instanceHealthMonitor, replicaIds, 1, 2, new int[] { 2, 1 });
+    runTest(instanceHealthMonitor, replicaIds, 2, 2, new int[] { 2, 0 });
   }
 
   @Test
   public void testGetReplicasWithBlockedReplicas() {
     String[] instances = new String[] { instance1, instance2, instance3 };
-    List<String> replicas = Arrays.asList(instances);
+    int[] replicaIds = getReplicaIds(instances);
     InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
         instances,
         new boolean[] { true, false, false },
         new boolean[] { true, true, true },
         new int[] { 5, 5, 4 });
-    runTest(instanceHealthMonitor, replicas, 0, 2, Arrays.asList(instance3, instance2));
-    runTest(instanceHealthMonitor, replicas, 1, 2, Arrays.asList(instance3, instance2));
+    runTest(instanceHealthMonitor, replicaIds, 0, 2, new int[] { 2, 1 });
+    runTest(instanceHealthMonitor, replicaIds, 1, 2, new int[] { 2, 1 });
   }
 
   @Test
   public void testGetReplicasWithUnhealthyReplicas() {
     String[] instances = new String[] { instance1, instance2, instance3, instance4, instance5, instance6 };
-    List<String> replicas = Arrays.asList(instances);
+    int[] replicaIds = getReplicaIds(instances);
     InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
         instances,
         new boolean[] { true, false, false, false, false, false },
         new boolean[] { true, false, true, true, true, true },
         new int[] { 100, 1, 2, 3, 4, 2 });
-    runTest(instanceHealthMonitor, replicas, 0, 2, Arrays.asList(instance2, instance3, instance6));
+    runTest(instanceHealthMonitor, replicaIds, 0, 2, new int[] { 1, 2, 5 });
   }
 
   @Test
   public void testLargeRequestId() {
     String[] instances = new String[] { instance1, instance2, instance3 };
-    List<String> replicas = Arrays.asList(instances);
+    int[] replicaIds = getReplicaIds(instances);
     InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
         instances,
         new boolean[] { false, false, false },
@@ -113,6 +118,6 @@ public class LeastLoadedClientRoutingStrategyTest {
         new int[] { 0, 0, 0 });
     long requestId = Integer.MAX_VALUE;
     requestId += 100;
-    runTest(instanceHealthMonitor, replicas, requestId, 1, Collections.singletonList(instance3));
+    runTest(instanceHealthMonitor, replicaIds, requestId, 1, new int[] { 2 });
   }
 }
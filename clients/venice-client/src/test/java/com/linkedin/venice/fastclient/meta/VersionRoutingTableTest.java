@@ -0,0 +1,46 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.util.Utf8;
+import org.testng.annotations.Test;
+
+
+public class VersionRoutingTableTest {
+  @Test
+  public void testReplicasAreIndexedByPartition() throws IOException {
+    Map<CharSequence, List<CharSequence>> routingInfo = new HashMap<>();
+    routingInfo.put(new Utf8("0"), Arrays.asList(new Utf8("host1"), new Utf8("host2")));
+    routingInfo.put(new Utf8("2"), Collections.singletonList(new Utf8("host1")));
+    InstanceHealthMonitor instanceHealthMonitor = new InstanceHealthMonitor(mock(ClientConfig.class));
+    VersionRoutingTable routingTable =
+        new VersionRoutingTable(3, 3, new DefaultVenicePartitioner(), instanceHealthMonitor, routingInfo);
+
+    assertEquals(routingTable.getVersion(), 3);
+    assertEquals(routingTable.getPartitionCount(), 3);
+    assertEquals(routingTable.getReplicas(0), Arrays.asList("host1", "host2"));
+    assertTrue(routingTable.getReplicas(1).isEmpty());
+    assertEquals(routingTable.getReplicas(2), Collections.singletonList("host1"));
+    // The instance ids are interned by the health monitor and shared by all the partitions
+    int host1Id = instanceHealthMonitor.getInstanceId("host1");
+    assertEquals(routingTable.getReplicaIds(0), new int[] { host1Id, instanceHealthMonitor.getInstanceId("host2") });
+    assertEquals(routingTable.getReplicaIds(2), new int[] { host1Id });
+    assertSame(routingTable.getReplicas(0).get(0), routingTable.getReplicas(2).get(0));
+    // Out of range partitions don't have any replica
+    assertTrue(routingTable.getReplicas(-1).isEmpty());
+    assertTrue(routingTable.getReplicas(3).isEmpty());
+    assertEquals(routingTable.getReplicaIds(3).length, 0);
+    instanceHealthMonitor.close();
+  }
+}
@@ -30,6 +30,7 @@ import io.tehuti.metrics.MetricsRepository;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -109,12 +110,8 @@ public class TestClientSimulator implements Client {
 
   private static class UnitTestRoutingStrategy extends AbstractClientRoutingStrategy {
     @Override
-    public List<String> getReplicas(long requestId, List<String> replicas, int requiredReplicaCount) {
-      List<String> retReplicas = new ArrayList<>();
-      for (int i = 0; i < requiredReplicaCount && i < replicas.size(); i++) {
-        retReplicas.add(replicas.get(i));
-      }
-      return retReplicas;
+    public int[] getReplicas(long requestId, int[] replicaIds, int requiredReplicaCount) {
+      return Arrays.copyOf(replicaIds, Math.min(requiredReplicaCount, replicaIds.length));
     }
   }
 
@@ -10,22 +10,31 @@ import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.schema.SchemaAndToString;
 import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.store.streaming.ComputeFacetStreamingCallback;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.client.store.streaming.TopKStreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFuture;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMapImpl;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.protocol.request.ComputeFacet;
+import com.linkedin.venice.compute.protocol.request.ComputeFilter;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeFacetType;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeFilterType;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResult;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.utils.SystemTime;
 import io.tehuti.utils.Time;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -39,7 +48,9 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 
 
 /**
@@ -77,6 +88,9 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
   private List<DotProduct> dotProducts = new LinkedList<>();
   private List<CosineSimilarity> cosineSimilarities = new LinkedList<>();
   private List<HadamardProduct> hadamardProducts = new LinkedList<>();
+  private List<ComputeFilter> filters = new LinkedList<>();
+  private ComputeTopK topK;
+  private List<ComputeFacet> facets = new LinkedList<>();
 
   public AbstractAvroComputeRequestBuilder(AvroGenericReadComputeStoreClient storeClient, SchemaReader schemaReader) {
     this.latestValueSchemaId = schemaReader.getLatestValueSchemaId();
@@ -327,6 +341,7 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
       boolean originallyStreaming) {
     Map<K, ComputeGenericRecord> resultMap = new VeniceConcurrentHashMap<>(keys.size());
     Queue<K> nonExistingKeyList = new ConcurrentLinkedQueue<>();
+    AtomicReference<List<ComputeFacetResult>> facetResults = new AtomicReference<>(Collections.emptyList());
     VeniceResponseCompletableFuture<VeniceResponseMap<K, ComputeGenericRecord>> resultFuture =
         new VeniceResponseCompletableFuture<>(
             () -> new VeniceResponseMapImpl(resultMap, nonExistingKeyList, false),
@@ -345,13 +360,19 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
         }
       }
 
+      @Override
+      public void onFacetsReceived(List<ComputeFacetResult> results) {
+        facetResults.set(results);
+      }
+
       @Override
       public void onCompletion(Optional<Exception> exception) {
         if (exception.isPresent()) {
           resultFuture.completeExceptionally(exception.get());
         } else {
           boolean isFullResponse = resultMap.size() + nonExistingKeyList.size() == keys.size();
-          resultFuture.complete(new VeniceResponseMapImpl(resultMap, nonExistingKeyList, isFullResponse));
+          resultFuture.complete(
+              new VeniceResponseMapImpl(resultMap, nonExistingKeyList, isFullResponse, facetResults.get()));
         }
       }
     });
@@ -378,7 +399,12 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     SchemaAndToString resultSchema = getResultSchema();
     // Generate ComputeRequest object
     ComputeRequestWrapper computeRequestWrapper = generateComputeRequest(resultSchema, originallyStreaming);
-    storeClient.compute(computeRequestWrapper, keys, resultSchema.getSchema(), callback, preRequestTimeInNS);
+    storeClient.compute(
+        computeRequestWrapper,
+        keys,
+        resultSchema.getSchema(),
+        withTopKAndFacets(computeRequestWrapper, callback, true),
+        preRequestTimeInNS);
   }
 
   protected void checkComputeFieldValidity(
@@ -489,13 +515,169 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     return this;
   }
 
+  @Override
+  public ComputeRequestBuilder<K> filterEqualTo(String fieldName, Object value) {
+    return addFilter(ComputeFilterType.EQUALS, fieldName, Collections.singletonList(value));
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> filterInRange(String fieldName, Object minInclusive, Object maxInclusive) {
+    return addFilter(ComputeFilterType.RANGE, fieldName, Arrays.asList(minInclusive, maxInclusive));
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> filterIn(String fieldName, Collection<?> values) {
+    return addFilter(ComputeFilterType.IN, fieldName, new ArrayList<>(values));
+  }
+
+  private ComputeRequestBuilder<K> addFilter(ComputeFilterType filterType, String fieldName, List<Object> operands) {
+    for (Object operand: operands) {
+      if (operand != null && !(operand instanceof Boolean || operand instanceof Integer || operand instanceof Long
+          || operand instanceof Float || operand instanceof Double || operand instanceof CharSequence)) {
+        throw new VeniceClientException(
+            filterType + " filter on field: " + fieldName + " has an unsupported operand type: "
+                + operand.getClass().getName());
+      }
+    }
+    ComputeFilter filter = new ComputeFilter();
+    filter.filterType = filterType.getValue();
+    filter.field = fieldName;
+    filter.operands = operands;
+    filters.add(filter);
+    return this;
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> topK(String fieldName, int k) {
+    if (k <= 0) {
+      throw new VeniceClientException("Top-K on field: " + fieldName + " expects a positive K, but got: " + k);
+    }
+    topK = new ComputeTopK();
+    topK.field = fieldName;
+    topK.k = k;
+    return this;
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> countFacet(String fieldName) {
+    return addFacet(ComputeFacetType.COUNT, fieldName, Collections.emptyList());
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> sumFacet(String fieldName) {
+    return addFacet(ComputeFacetType.SUM, fieldName, Collections.emptyList());
+  }
+
+  @Override
+  public ComputeRequestBuilder<K> histogramFacet(String fieldName, List<Double> bucketBoundaries) {
+    if (bucketBoundaries.isEmpty()) {
+      throw new VeniceClientException("Histogram facet on field: " + fieldName + " expects at least one boundary");
+    }
+    for (int i = 0; i < bucketBoundaries.size(); i++) {
+      Double boundary = bucketBoundaries.get(i);
+      if (boundary == null || boundary.isNaN() || (i > 0 && boundary <= bucketBoundaries.get(i - 1))) {
+        throw new VeniceClientException(
+            "Histogram facet on field: " + fieldName + " expects strictly ascending boundaries, but got: "
+                + bucketBoundaries);
+      }
+    }
+    return addFacet(ComputeFacetType.HISTOGRAM, fieldName, new ArrayList<>(bucketBoundaries));
+  }
+
+  private ComputeRequestBuilder<K> addFacet(ComputeFacetType facetType, String fieldName, List<Double> boundaries) {
+    ComputeFacet facet = new ComputeFacet();
+    facet.facetType = facetType.getValue();
+    facet.field = fieldName;
+    facet.bucketBoundaries = boundaries;
+    facets.add(facet);
+    return this;
+  }
+
+  /**
+   * The router merges the top K records of the storage nodes, but the client might talk to the storage nodes directly
+   * or compute the records itself, so the final top K is always selected here. The facet results are handed over
+   * once all the records have been received.
+   */
+  protected <KK, V extends GenericRecord> StreamingCallback<KK, V> withTopKAndFacets(
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<KK, V> callback,
+      boolean reportDroppedKeys) {
+    if (!computeRequestWrapper.getFacets().isEmpty()) {
+      callback = new ComputeFacetStreamingCallback<>(callback, computeRequestWrapper.getFacetAggregator());
+    }
+    if (computeRequestWrapper.getTopK() != null) {
+      callback = new TopKStreamingCallback<>(callback, computeRequestWrapper.getTopK(), reportDroppedKeys);
+    }
+    return callback;
+  }
+
+  private void checkTopKFieldValidity(Schema resultSchema) {
+    if (topK != null) {
+      checkNumericResultField("Top-K field", topK.field.toString(), resultSchema);
+    }
+  }
+
+  private void checkFacetFieldValidity(Schema resultSchema) {
+    for (ComputeFacet facet: facets) {
+      String fieldName = facet.field.toString();
+      ComputeFacetType facetType = ComputeFacetType.valueOf(facet);
+      if (facetType == ComputeFacetType.COUNT) {
+        if (resultSchema.getField(fieldName) == null) {
+          throw new VeniceClientException("Count facet field: " + fieldName + " is not a compute result field");
+        }
+      } else {
+        String description = facetType == ComputeFacetType.SUM ? "Sum facet field" : "Histogram facet field";
+        checkNumericResultField(description, fieldName, resultSchema);
+      }
+    }
+  }
+
+  private static void checkNumericResultField(String description, String fieldName, Schema resultSchema) {
+    Schema.Field field = resultSchema.getField(fieldName);
+    if (field == null) {
+      throw new VeniceClientException(description + ": " + fieldName + " is not a compute result field");
+    }
+    Schema fieldSchema = field.schema();
+    List<Schema> types =
+        fieldSchema.getType() == Schema.Type.UNION ? fieldSchema.getTypes() : Collections.singletonList(fieldSchema);
+    for (Schema type: types) {
+      switch (type.getType()) {
+        case NULL:
+        case INT:
+        case LONG:
+        case FLOAT:
+        case DOUBLE:
+          break;
+        default:
+          throw new VeniceClientException(
+              description + ": " + fieldName + " should be numeric, but its schema is: " + fieldSchema);
+      }
+    }
+  }
+
+  private void checkFilterFieldValidity(Schema resultSchema) {
+    for (ComputeFilter filter: filters) {
+      String fieldName = filter.field.toString();
+      if (resultSchema.getField(fieldName) == null && latestValueSchema.getField(fieldName) == null) {
+        throw new VeniceClientException(
+            "Filter field: " + fieldName + " is neither a compute result field nor a field in value schema");
+      }
+    }
+  }
+
   protected ComputeRequestWrapper generateComputeRequest(SchemaAndToString resultSchema, boolean originallyStreaming) {
+    checkFilterFieldValidity(resultSchema.getSchema());
+    checkTopKFieldValidity(resultSchema.getSchema());
+    checkFacetFieldValidity(resultSchema.getSchema());
     return new ComputeRequestWrapper(
         latestValueSchemaId,
         latestValueSchema,
         resultSchema.getSchema(),
         resultSchema.getToString(),
         getComputeRequestOperations(),
+        new ArrayList<>(filters),
+        topK,
+        new ArrayList<>(facets),
         originallyStreaming);
   }
 }
@@ -629,16 +629,24 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
 
           @Override
           public void onRawRecordReceived(K key, GenericRecord value) {
+            GenericRecord result = null;
             if (value != null) {
-              value = ComputeUtils.computeResult(
+              result = ComputeUtils.computeResult(
                   computeRequest.getOperations(),
                   computeRequest.getOperationResultFields(),
                   sharedContext,
                   value,
                   resultSchema);
+              if (!computeRequest.getRecordFilter().test(value, result)) {
+                // Same as the server side, a record failing the filters is reported as a missing key.
+                result = null;
+              } else if (!computeRequest.getFacetAggregator().isEmpty()) {
+                // Same as the server side, the facets are evaluated over all the records satisfying the filters.
+                computeRequest.getFacetAggregator().add(result);
+              }
               getStats().ifPresent(stats -> stats.recordMultiGetFallback(1));
             }
-            onRecordReceived(key, value);
+            onRecordReceived(key, result);
           }
 
           @Override
@@ -662,7 +670,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         streamingFooterRecordDeserializer,
         () -> getComputeResultRecordDeserializer(resultSchema),
         schemaId -> (RecordDeserializer) getDataRecordDeserializer(schemaId),
-        this::decompressRecord);
+        this::decompressRecord,
+        computeRequest.getFacetAggregator());
 
     if (clientConfig.isRemoteComputationOnly() || remoteComputationAllowed.get()) {
       compute(computeRequest, keyList, decoder, decoderCallback.getStats());
@@ -678,6 +687,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
       TransportClientStreamingCallback callback,
       Optional<ClientStats> stats) throws VeniceClientException {
     Map<String, String> headers = new HashMap<>(COMPUTE_HEADER_MAP_FOR_STREAMING_V3);
+    headers.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequest.getComputeRequestVersion()));
     int schemaId = computeRequest.getValueSchemaID();
     headers.put(VENICE_KEY_COUNT, Integer.toString(keyList.size()));
     headers.put(VENICE_COMPUTE_VALUE_SCHEMA_ID, Integer.toString(schemaId));
@@ -1,5 +1,6 @@
 package com.linkedin.venice.client.store;
 
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.streaming.DelegatingTrackingCallback;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
@@ -11,6 +12,7 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -43,7 +45,8 @@ public class AvroBlackHoleResponseStoreClientImpl<K, V> extends AvroGenericStore
 
     byte[] serializedComputeRequest = serializeComputeRequest(computeRequestWrapper, keys);
 
-    Map<String, String> headerMap = COMPUTE_HEADER_MAP_FOR_STREAMING_V3;
+    Map<String, String> headerMap = new HashMap<>(COMPUTE_HEADER_MAP_FOR_STREAMING_V3);
+    headerMap.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequestWrapper.getComputeRequestVersion()));
 
     getTransportClient().streamPost(
         getComputeRequestPath(),
@@ -36,7 +36,10 @@ public class AvroComputeRequestBuilderV4<K> extends AvroComputeRequestBuilderV3<
     byte[] prefixBytes = extractKeyPrefixBytesFromPredicate(requiredPrefixFields, storeClient.getKeySchema());
     SchemaAndToString resultSchema = getResultSchema();
     ComputeRequestWrapper computeRequestWrapper = generateComputeRequest(resultSchema, true);
-    storeClient.computeWithKeyPrefixFilter(prefixBytes, computeRequestWrapper, callback);
+    storeClient.computeWithKeyPrefixFilter(
+        prefixBytes,
+        computeRequestWrapper,
+        withTopKAndFacets(computeRequestWrapper, callback, false));
   }
 
   private byte[] extractKeyPrefixBytesFromPredicate(Predicate requiredPrefixFields, Schema keySchema) {
@@ -69,6 +69,86 @@ public interface ComputeRequestBuilder<K> {
       List<Float> hadamardProductParam,
       String resultFieldName);
 
+  /**
+   * Only return the records whose field is equal to the given value. This and the other filters are evaluated on the
+   * server side, and the records which do not satisfy all of them are dropped before being sent back, the same way as
+   * the keys which do not exist.
+   * @param fieldName : compute result field name, or top-level field in the value record
+   * @param value : expected value, which should be a boolean, a number, a string or null
+   * @return
+   */
+  default ComputeRequestBuilder<K> filterEqualTo(String fieldName, Object value) {
+    throw new VeniceClientException("Filtering is not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Only return the records whose field is within the given range, e.g. a dot-product score above a threshold.
+   * @param fieldName : compute result field name, or top-level field in the value record
+   * @param minInclusive : lower bound, which should be a number or a string, or null if unbounded
+   * @param maxInclusive : upper bound, which should be a number or a string, or null if unbounded
+   * @return
+   */
+  default ComputeRequestBuilder<K> filterInRange(String fieldName, Object minInclusive, Object maxInclusive) {
+    throw new VeniceClientException("Filtering is not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Only return the records whose field is equal to one of the given values.
+   * @param fieldName : compute result field name, or top-level field in the value record
+   * @param values : candidate values, which should be booleans, numbers, strings or null
+   * @return
+   */
+  default ComputeRequestBuilder<K> filterIn(String fieldName, Collection<?> values) {
+    throw new VeniceClientException("Filtering is not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Only return the K records with the highest values of the given field, e.g. a dot-product score. The selection is
+   * evaluated by each storage node, and the router merges the top K records of the storage nodes, so that only K
+   * records are sent back to the client. The other records are dropped the same way as the keys which do not exist,
+   * and the streaming callback receives the top K records once all of them are known, from the highest value to the
+   * lowest one.
+   * @param fieldName : numeric compute result field name, either the result of an operation or a projected field
+   * @param k : max number of records to return
+   * @return
+   */
+  default ComputeRequestBuilder<K> topK(String fieldName, int k) {
+    throw new VeniceClientException("Top-K selection is not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Count the records with a non-null value of the given field. Like the other facets, it is evaluated over all the
+   * records satisfying the filters, including the ones not selected by {@link #topK(String, int)}, and its result is
+   * handed over by {@link StreamingCallback#onFacetsReceived(List)} and {@link VeniceResponseMap#getFacetResults()},
+   * in the same order as the facets were added.
+   * @param fieldName : compute result field name, either the result of an operation or a projected field
+   * @return
+   */
+  default ComputeRequestBuilder<K> countFacet(String fieldName) {
+    throw new VeniceClientException("Facets are not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Sum the values of the given field, see {@link #countFacet(String)} for the way facets are evaluated.
+   * @param fieldName : numeric compute result field name, either the result of an operation or a projected field
+   * @return
+   */
+  default ComputeRequestBuilder<K> sumFacet(String fieldName) {
+    throw new VeniceClientException("Facets are not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Count the values of the given field in each bucket, see {@link #countFacet(String)} for the way facets are
+   * evaluated. Each boundary is the inclusive lower bound of a bucket, and the first bucket holds the values below the
+   * first boundary, so there is one more bucket than boundaries.
+   * @param fieldName : numeric compute result field name, either the result of an operation or a projected field
+   * @param bucketBoundaries : strictly ascending bucket boundaries
+   * @return
+   */
+  default ComputeRequestBuilder<K> histogramFacet(String fieldName, List<Double> bucketBoundaries) {
+    throw new VeniceClientException("Facets are not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Send compute request to Venice, and this should be the last step of the compute specification.
    * @param keys : keys for the candidate records
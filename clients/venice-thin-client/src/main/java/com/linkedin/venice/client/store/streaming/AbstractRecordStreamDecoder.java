@@ -1,5 +1,6 @@
 package com.linkedin.venice.client.store.streaming;
 
+import static com.linkedin.venice.streaming.StreamingConstants.KEY_ID_FOR_COMPUTE_FACETS;
 import static com.linkedin.venice.streaming.StreamingConstants.KEY_ID_FOR_STREAMING_FOOTER;
 
 import com.linkedin.venice.HttpConstants;
@@ -115,6 +116,11 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
       Map<K, V> resultMap = new HashMap<>();
       for (ENVELOPE record: availableRecords) {
         final int keyIdx = getKeyIndex(record);
+        if (KEY_ID_FOR_COMPUTE_FACETS == keyIdx) {
+          // The facet results are not tied to any key
+          onComputeFacetsRecord(record);
+          continue;
+        }
         validateKeyIdx(keyIdx);
         if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
           // Deserialize footer record
@@ -236,4 +242,11 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
   protected abstract V getValueRecord(ENVELOPE envelope, CompressionStrategy compression);
 
   protected abstract int getKeyIndex(ENVELOPE envelope);
+
+  /**
+   * Handles the record carrying the results of the facets of a compute request, which only compute responses contain.
+   */
+  protected void onComputeFacetsRecord(ENVELOPE envelope) {
+    throw new VeniceClientException("Unexpected compute facets record in the response");
+  }
 }
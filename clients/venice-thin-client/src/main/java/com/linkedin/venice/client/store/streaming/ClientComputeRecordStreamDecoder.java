@@ -3,6 +3,7 @@ package com.linkedin.venice.client.store.streaming;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.ComputeFacetAggregator;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import java.nio.ByteBuffer;
@@ -38,7 +39,8 @@ public class ClientComputeRecordStreamDecoder<K, V> implements RecordStreamDecod
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterRecordDeserializer,
       Supplier<RecordDeserializer<V>> computeDeserializerProvider,
       Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
-      BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor) {
+      BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor,
+      ComputeFacetAggregator facetAggregator) {
     this.decoderProvider = responseHeaders -> {
       if (responseHeaders.containsKey(HttpConstants.VENICE_CLIENT_COMPUTE)) {
         /*
@@ -66,7 +68,8 @@ public class ClientComputeRecordStreamDecoder<K, V> implements RecordStreamDecod
             callback,
             deserializationExecutor,
             streamingFooterRecordDeserializer,
-            computeDeserializerProvider.get());
+            computeDeserializerProvider.get(),
+            facetAggregator);
       }
     };
   }
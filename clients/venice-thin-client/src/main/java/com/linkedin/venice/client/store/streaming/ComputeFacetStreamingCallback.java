@@ -0,0 +1,33 @@
+package com.linkedin.venice.client.store.streaming;
+
+import com.linkedin.venice.compute.ComputeFacetAggregator;
+import java.util.Optional;
+
+
+/**
+ * Hands over the results of the facets of a compute request to the wrapped callback right before its completion. The
+ * results are accumulated by the {@link ComputeFacetAggregator} of the request while the records are received, either
+ * out of the partial results sent back by the storage nodes or out of the records computed on the client side.
+ */
+public class ComputeFacetStreamingCallback<K, V> implements StreamingCallback<K, V> {
+  private final StreamingCallback<K, V> callback;
+  private final ComputeFacetAggregator facetAggregator;
+
+  public ComputeFacetStreamingCallback(StreamingCallback<K, V> callback, ComputeFacetAggregator facetAggregator) {
+    this.callback = callback;
+    this.facetAggregator = facetAggregator;
+  }
+
+  @Override
+  public void onRecordReceived(K key, V value) {
+    callback.onRecordReceived(key, value);
+  }
+
+  @Override
+  public void onCompletion(Optional<Exception> exception) {
+    if (!exception.isPresent()) {
+      callback.onFacetsReceived(facetAggregator.getResults().results);
+    }
+    callback.onCompletion(exception);
+  }
+}
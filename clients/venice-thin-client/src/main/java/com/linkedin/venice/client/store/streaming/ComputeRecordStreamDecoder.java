@@ -2,6 +2,7 @@ package com.linkedin.venice.client.store.streaming;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.ComputeFacetAggregator;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
@@ -13,16 +14,19 @@ import java.util.concurrent.Executor;
 public class ComputeRecordStreamDecoder<K, V> extends AbstractRecordStreamDecoder<ComputeResponseRecordV1, K, V> {
   private final RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer;
   private final RecordDeserializer<V> valueDeserializer;
+  private final ComputeFacetAggregator facetAggregator;
 
   public ComputeRecordStreamDecoder(
       List<K> keyList,
       TrackingStreamingCallback<K, V> callback,
       Executor deserializationExecutor,
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
-      RecordDeserializer<V> valueDeserializer) {
+      RecordDeserializer<V> valueDeserializer,
+      ComputeFacetAggregator facetAggregator) {
     super(keyList, callback, deserializationExecutor);
     this.streamingFooterDeserializer = streamingFooterDeserializer;
     this.valueDeserializer = valueDeserializer;
+    this.facetAggregator = facetAggregator;
   }
 
   @Override
@@ -55,4 +59,9 @@ public class ComputeRecordStreamDecoder<K, V> extends AbstractRecordStreamDecode
   protected int getKeyIndex(ComputeResponseRecordV1 envelope) {
     return envelope.getKeyIndex();
   }
+
+  @Override
+  protected void onComputeFacetsRecord(ComputeResponseRecordV1 envelope) {
+    facetAggregator.merge(envelope.value);
+  }
 }
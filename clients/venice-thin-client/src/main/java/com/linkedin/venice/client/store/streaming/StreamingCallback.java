@@ -1,5 +1,7 @@
 package com.linkedin.venice.client.store.streaming;
 
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResult;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -23,4 +25,13 @@ public interface StreamingCallback<K, V> {
    */
   void onCompletion(Optional<Exception> exception);
 
+  /**
+   * This will be invoked right before a successful {@link #onCompletion(Optional)} of a compute request which asks for
+   * facets.
+   *
+   * @param facetResults The results of the facets, in the same order as they were added to the compute request.
+   */
+  default void onFacetsReceived(List<ComputeFacetResult> facetResults) {
+  }
+
 }
@@ -0,0 +1,66 @@
+package com.linkedin.venice.client.store.streaming;
+
+import com.linkedin.venice.compute.ComputeTopKSelector;
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResult;
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Keeps the top K records out of the ones received, and hands them over to the wrapped callback, from the highest score
+ * to the lowest one, once all the records have been received. The records received are already the global top K when
+ * the router merged the ones of the storage nodes, but they are the top K records of each storage node when the client
+ * talks to them directly, and all the records when the client computes them itself.
+ *
+ * When {@code reportDroppedKeys} is true, the keys of the records which are not part of the top K are reported right
+ * away with a null value, the same way as the records dropped by the storage nodes, so that the wrapped callback still
+ * receives every key of a request exactly once.
+ */
+public class TopKStreamingCallback<K, V extends GenericRecord> implements StreamingCallback<K, V> {
+  private final StreamingCallback<K, V> callback;
+  private final ComputeTopKSelector<Map.Entry<K, V>> selector;
+  private final boolean reportDroppedKeys;
+
+  public TopKStreamingCallback(StreamingCallback<K, V> callback, ComputeTopK topK, boolean reportDroppedKeys) {
+    this.callback = callback;
+    this.selector = new ComputeTopKSelector<>(topK);
+    this.reportDroppedKeys = reportDroppedKeys;
+  }
+
+  @Override
+  public void onRecordReceived(K key, V value) {
+    Map.Entry<K, V> droppedRecord;
+    synchronized (selector) {
+      Double score = value == null ? null : selector.getScore(value);
+      if (score == null) {
+        droppedRecord = new AbstractMap.SimpleImmutableEntry<>(key, null);
+      } else {
+        droppedRecord = selector.add(score, new AbstractMap.SimpleImmutableEntry<>(key, value));
+      }
+    }
+    if (droppedRecord != null && reportDroppedKeys) {
+      callback.onRecordReceived(droppedRecord.getKey(), null);
+    }
+  }
+
+  @Override
+  public void onFacetsReceived(List<ComputeFacetResult> facetResults) {
+    callback.onFacetsReceived(facetResults);
+  }
+
+  @Override
+  public void onCompletion(Optional<Exception> exception) {
+    if (!exception.isPresent()) {
+      synchronized (selector) {
+        for (Map.Entry<K, V> record: selector.getSelectedItems()) {
+          callback.onRecordReceived(record.getKey(), record.getValue());
+        }
+      }
+    }
+    callback.onCompletion(exception);
+  }
+}
@@ -1,5 +1,8 @@
 package com.linkedin.venice.client.store.streaming;
 
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResult;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,4 +32,12 @@ public interface VeniceResponseMap<K, V> extends Map<K, V> {
    */
   int getTotalEntryCount();
 
+  /**
+   * Return the results of the facets of a compute request, in the same order as they were added to the request, or an
+   * empty list if the request did not ask for any facet.
+   */
+  default List<ComputeFacetResult> getFacetResults() {
+    return Collections.emptyList();
+  }
+
 }
@@ -1,7 +1,10 @@
 package com.linkedin.venice.client.store.streaming;
 
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResult;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -12,8 +15,17 @@ public class VeniceResponseMapImpl<K, V> extends HashMap<K, V> implements Venice
 
   private final Set<K> nonExistingKeys;
   private final boolean fullResponse;
+  private final List<ComputeFacetResult> facetResults;
 
   public VeniceResponseMapImpl(Map<K, V> validEntries, Queue<K> nonExistingKeyList, boolean fullResponse) {
+    this(validEntries, nonExistingKeyList, fullResponse, Collections.emptyList());
+  }
+
+  public VeniceResponseMapImpl(
+      Map<K, V> validEntries,
+      Queue<K> nonExistingKeyList,
+      boolean fullResponse,
+      List<ComputeFacetResult> facetResults) {
     /**
      * Take a snapshot of both "validEntries" and "nonExistingKeyList", and both of them could be changed
      * later by the caller of this function.
@@ -21,6 +33,7 @@ public class VeniceResponseMapImpl<K, V> extends HashMap<K, V> implements Venice
     super(validEntries);
     this.nonExistingKeys = new HashSet<>(nonExistingKeyList);
     this.fullResponse = fullResponse;
+    this.facetResults = facetResults;
   }
 
   @Override
@@ -37,4 +50,9 @@ public class VeniceResponseMapImpl<K, V> extends HashMap<K, V> implements Venice
   public int getTotalEntryCount() {
     return size() + nonExistingKeys.size();
   }
+
+  @Override
+  public List<ComputeFacetResult> getFacetResults() {
+    return facetResults;
+  }
 }
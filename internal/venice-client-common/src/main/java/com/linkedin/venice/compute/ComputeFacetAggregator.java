@@ -0,0 +1,175 @@
+package com.linkedin.venice.compute;
+
+import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroGenericSerializer;
+import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroSpecificDeserializer;
+
+import com.linkedin.venice.compute.protocol.request.ComputeFacet;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeFacetType;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResult;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResultsV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Evaluates the {@link ComputeFacet}s of a compute request over the compute result records which satisfy its filters,
+ * before any top-K selection, so that the facets describe all the matching records and not only the returned ones.
+ *
+ * Each storage node evaluates the facets over the keys it has been asked for, and sends back its partial results in a
+ * single {@link ComputeFacetResultsV1} record. The partial results are then merged by the router, or by the client when
+ * it talks to the storage nodes directly. The client evaluates the facets itself when it computes the results locally.
+ *
+ * This class is thread-safe, since the client might add records and merge partial results from several threads.
+ */
+public class ComputeFacetAggregator {
+  private static final RecordSerializer<ComputeFacetResultsV1> SERIALIZER =
+      getFastAvroGenericSerializer(ComputeFacetResultsV1.SCHEMA$);
+  private static final RecordDeserializer<ComputeFacetResultsV1> DESERIALIZER =
+      getFastAvroSpecificDeserializer(ComputeFacetResultsV1.SCHEMA$, ComputeFacetResultsV1.class);
+
+  private final String[] fieldNames;
+  private final ComputeFacetType[] facetTypes;
+  private final double[][] bucketBoundaries;
+  private final long[] counts;
+  private final double[] sums;
+  private final long[][] histograms;
+
+  public ComputeFacetAggregator(List<ComputeFacet> facets) {
+    int facetCount = facets.size();
+    this.fieldNames = new String[facetCount];
+    this.facetTypes = new ComputeFacetType[facetCount];
+    this.bucketBoundaries = new double[facetCount][];
+    this.counts = new long[facetCount];
+    this.sums = new double[facetCount];
+    this.histograms = new long[facetCount][];
+    for (int i = 0; i < facetCount; i++) {
+      ComputeFacet facet = facets.get(i);
+      fieldNames[i] = facet.field.toString();
+      facetTypes[i] = ComputeFacetType.valueOf(facet);
+      bucketBoundaries[i] = toBucketBoundaries(facet, facetTypes[i]);
+      histograms[i] = new long[facetTypes[i] == ComputeFacetType.HISTOGRAM ? bucketBoundaries[i].length + 1 : 0];
+    }
+  }
+
+  public boolean isEmpty() {
+    return fieldNames.length == 0;
+  }
+
+  /**
+   * Adds a compute result record which satisfies the filters of the request.
+   */
+  public synchronized void add(GenericRecord resultRecord) {
+    for (int i = 0; i < fieldNames.length; i++) {
+      Schema.Field field = resultRecord.getSchema().getField(fieldNames[i]);
+      Object value = field == null ? null : resultRecord.get(field.pos());
+      if (value == null) {
+        continue;
+      }
+      if (facetTypes[i] == ComputeFacetType.COUNT) {
+        counts[i]++;
+        continue;
+      }
+      if (!(value instanceof Number) || Double.isNaN(((Number) value).doubleValue())) {
+        continue;
+      }
+      double number = ((Number) value).doubleValue();
+      counts[i]++;
+      if (facetTypes[i] == ComputeFacetType.SUM) {
+        sums[i] += number;
+      } else {
+        histograms[i][getBucketIndex(bucketBoundaries[i], number)]++;
+      }
+    }
+  }
+
+  /**
+   * Merges the partial results of the facets evaluated over another set of records.
+   */
+  public synchronized void merge(ComputeFacetResultsV1 partialResults) {
+    List<ComputeFacetResult> results = partialResults.results;
+    if (results.size() != fieldNames.length) {
+      throw new VeniceException(
+          "Expected the results of " + fieldNames.length + " compute facets, but got " + results.size());
+    }
+    for (int i = 0; i < fieldNames.length; i++) {
+      ComputeFacetResult result = results.get(i);
+      if (result.histogram.size() != histograms[i].length) {
+        throw new VeniceException(
+            "Expected " + histograms[i].length + " histogram buckets for the compute facet on field: " + fieldNames[i]
+                + ", but got " + result.histogram.size());
+      }
+      counts[i] += result.count;
+      sums[i] += result.sum;
+      for (int j = 0; j < histograms[i].length; j++) {
+        histograms[i][j] += result.histogram.get(j);
+      }
+    }
+  }
+
+  public void merge(ByteBuffer serializedPartialResults) {
+    merge(DESERIALIZER.deserialize(serializedPartialResults));
+  }
+
+  /**
+   * @return the results of the facets, in the same order as the facets of the request
+   */
+  public synchronized ComputeFacetResultsV1 getResults() {
+    List<ComputeFacetResult> results = new ArrayList<>(fieldNames.length);
+    for (int i = 0; i < fieldNames.length; i++) {
+      ComputeFacetResult result = new ComputeFacetResult();
+      result.count = counts[i];
+      result.sum = sums[i];
+      List<Long> histogram = new ArrayList<>(histograms[i].length);
+      for (long bucketCount: histograms[i]) {
+        histogram.add(bucketCount);
+      }
+      result.histogram = histogram;
+      results.add(result);
+    }
+    ComputeFacetResultsV1 facetResults = new ComputeFacetResultsV1();
+    facetResults.results = results;
+    return facetResults;
+  }
+
+  public byte[] serializeResults() {
+    return SERIALIZER.serialize(getResults());
+  }
+
+  /**
+   * @return the index of the bucket holding the value, i.e. the number of boundaries lower than or equal to it
+   */
+  private static int getBucketIndex(double[] boundaries, double value) {
+    int index = Arrays.binarySearch(boundaries, value);
+    return index >= 0 ? index + 1 : -(index + 1);
+  }
+
+  private static double[] toBucketBoundaries(ComputeFacet facet, ComputeFacetType facetType) {
+    List<Double> boundaries = facet.bucketBoundaries;
+    if (facetType != ComputeFacetType.HISTOGRAM) {
+      if (!boundaries.isEmpty()) {
+        throw new VeniceException("Bucket boundaries are only expected by histogram facets, but got: " + facetType);
+      }
+      return new double[0];
+    }
+    if (boundaries.isEmpty()) {
+      throw new VeniceException("Histogram facet on field: " + facet.field + " expects at least one bucket boundary");
+    }
+    double[] result = new double[boundaries.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = boundaries.get(i);
+      if (Double.isNaN(result[i]) || (i > 0 && result[i] <= result[i - 1])) {
+        throw new VeniceException(
+            "Histogram facet on field: " + facet.field + " expects strictly ascending bucket boundaries, but got: "
+                + boundaries);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,155 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.ComputeFilter;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeFilterType;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Evaluates the {@link ComputeFilter}s of a compute request against a record, so that the records which do not match
+ * can be dropped right after the computation, before being serialized into the response.
+ *
+ * The field of a filter is looked up in the compute result record first, which makes it possible to filter on the
+ * result of an operation (e.g. a dot-product score threshold), and then in the original value record. Values are
+ * normalized before being compared: strings and enum symbols are compared as {@link String}, integral numbers as
+ * {@link Long} and floating point numbers as {@link Double}, and a {@link Long} is compared with a {@link Double} by
+ * value. A missing field or a null value never matches, except for an equality filter against null.
+ *
+ * The filters are compiled once per request, and this class is stateless afterwards, so it is thread-safe.
+ */
+public class ComputeRecordFilter {
+  private final String[] fieldNames;
+  private final List<Predicate<Object>> predicates;
+
+  public ComputeRecordFilter(List<ComputeFilter> filters) {
+    this.fieldNames = new String[filters.size()];
+    this.predicates = new ArrayList<>(filters.size());
+    for (int i = 0; i < filters.size(); i++) {
+      ComputeFilter filter = filters.get(i);
+      fieldNames[i] = filter.field.toString();
+      predicates.add(compile(filter));
+    }
+  }
+
+  public boolean isEmpty() {
+    return fieldNames.length == 0;
+  }
+
+  /**
+   * @return true if the record satisfies all the filters
+   */
+  public boolean test(GenericRecord valueRecord, GenericRecord resultRecord) {
+    for (int i = 0; i < fieldNames.length; i++) {
+      if (!predicates.get(i).test(normalize(getFieldValue(fieldNames[i], valueRecord, resultRecord)))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Object getFieldValue(String fieldName, GenericRecord valueRecord, GenericRecord resultRecord) {
+    Schema.Field field = resultRecord == null ? null : resultRecord.getSchema().getField(fieldName);
+    if (field != null) {
+      return resultRecord.get(field.pos());
+    }
+    field = valueRecord == null ? null : valueRecord.getSchema().getField(fieldName);
+    return field == null ? null : valueRecord.get(field.pos());
+  }
+
+  private static Predicate<Object> compile(ComputeFilter filter) {
+    List<Object> operands = filter.operands;
+    ComputeFilterType filterType = ComputeFilterType.valueOf(filter);
+    switch (filterType) {
+      case EQUALS:
+        checkOperandCount(filter, filterType, 1);
+        Object expected = normalize(operands.get(0));
+        return value -> valueEquals(value, expected);
+      case RANGE:
+        checkOperandCount(filter, filterType, 2);
+        Object min = normalize(operands.get(0));
+        Object max = normalize(operands.get(1));
+        return value -> isInRange(value, min, max);
+      case IN:
+        Set<Object> candidates = new HashSet<>();
+        for (Object operand: operands) {
+          addCandidate(candidates, normalize(operand));
+        }
+        return candidates::contains;
+      default:
+        throw new VeniceException("Unsupported compute filter type: " + filterType);
+    }
+  }
+
+  private static void checkOperandCount(ComputeFilter filter, ComputeFilterType filterType, int expectedCount) {
+    if (filter.operands.size() != expectedCount) {
+      throw new VeniceException(
+          filterType + " filter on field: " + filter.field + " expects " + expectedCount + " operands, but got "
+              + filter.operands.size());
+    }
+  }
+
+  /**
+   * Integral values are added both as {@link Long} and as {@link Double}, so that a plain hash lookup matches numbers
+   * regardless of the type they have been normalized to.
+   */
+  private static void addCandidate(Set<Object> candidates, Object candidate) {
+    candidates.add(candidate);
+    if (candidate instanceof Long) {
+      candidates.add(((Long) candidate).doubleValue());
+    } else if (candidate instanceof Double) {
+      double doubleValue = (Double) candidate;
+      long longValue = (long) doubleValue;
+      if (longValue == doubleValue) {
+        candidates.add(longValue);
+      }
+    }
+  }
+
+  private static boolean valueEquals(Object value, Object expected) {
+    if (value instanceof Number && expected instanceof Number) {
+      return compare(value, expected) == 0;
+    }
+    return Objects.equals(value, expected);
+  }
+
+  private static boolean isInRange(Object value, Object min, Object max) {
+    return value != null && (min == null || (isComparable(value, min) && compare(value, min) >= 0))
+        && (max == null || (isComparable(value, max) && compare(value, max) <= 0));
+  }
+
+  private static boolean isComparable(Object value, Object bound) {
+    return (value instanceof Number && bound instanceof Number) || (value instanceof String && bound instanceof String);
+  }
+
+  private static int compare(Object value, Object bound) {
+    if (value instanceof Long && bound instanceof Long) {
+      return Long.compare((Long) value, (Long) bound);
+    }
+    if (value instanceof Number) {
+      return Double.compare(((Number) value).doubleValue(), ((Number) bound).doubleValue());
+    }
+    return ((String) value).compareTo((String) bound);
+  }
+
+  static Object normalize(Object value) {
+    if (value instanceof CharSequence || value instanceof GenericEnumSymbol) {
+      return value.toString();
+    }
+    if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return ((Number) value).longValue();
+    }
+    if (value instanceof Float) {
+      return ((Float) value).doubleValue();
+    }
+    return value;
+  }
+}
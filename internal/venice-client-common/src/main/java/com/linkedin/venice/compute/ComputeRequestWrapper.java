@@ -2,9 +2,14 @@ package com.linkedin.venice.compute;
 
 import static com.linkedin.venice.serializer.FastSerializerDeserializerFactory.getFastAvroGenericSerializer;
 
+import com.linkedin.venice.compute.protocol.request.ComputeFacet;
+import com.linkedin.venice.compute.protocol.request.ComputeFilter;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
 import com.linkedin.venice.serializer.RecordSerializer;
+import java.util.Collections;
 import java.util.List;
 import org.apache.avro.Schema;
 
@@ -13,17 +18,30 @@ import org.apache.avro.Schema;
  * This class is used by the client to encapsulate the information it needs about a compute request.
  *
  * N.B.: This class used to contain multiple versions of the {@link ComputeRequestV3} but it was not necessary
- * since all the versions were anyway compatible with one another. We are now keeping only the latest version
- * used on the wire, which is 3 (version 4 was never used as a wire protocol). We can always revisit this if
- * the need to evolve read compute comes into play.
+ * since all the versions were anyway compatible with one another. We are now keeping only version 3, which is
+ * still used on the wire for the requests without any filter, so that they keep working against servers and
+ * routers which are not aware of version 4 yet. Version 4 adds the {@link ComputeFilter}s, the {@link ComputeTopK}
+ * selection and the {@link ComputeFacet}s evaluated on the server side, and it is only used when the request carries
+ * any of them.
+ *
+ * A wrapper is created for each execution of a compute request, and it also accumulates the results of the facets of
+ * that execution in its {@link ComputeFacetAggregator}.
  */
 public class ComputeRequestWrapper {
-  public static final int LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST = 3;
+  public static final int LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST = 4;
+  private static final int COMPUTE_REQUEST_VERSION_WITHOUT_FILTER = 3;
 
   private static final RecordSerializer<ComputeRequestV3> SERIALIZER =
       getFastAvroGenericSerializer(ComputeRequestV3.SCHEMA$);
+  private static final RecordSerializer<ComputeRequestV4> SERIALIZER_V4 =
+      getFastAvroGenericSerializer(ComputeRequestV4.SCHEMA$);
 
   private final ComputeRequestV3 computeRequest;
+  private final List<ComputeFilter> filters;
+  private final ComputeRecordFilter recordFilter;
+  private final ComputeTopK topK;
+  private final List<ComputeFacet> facets;
+  private final ComputeFacetAggregator facetAggregator;
   private final int valueSchemaId;
   private final Schema valueSchema;
   private final List<Schema.Field> operationResultFields;
@@ -36,6 +54,28 @@ public class ComputeRequestWrapper {
       String resultSchemaString,
       List<ComputeOperation> operations,
       boolean originallyStreaming) {
+    this(
+        valueSchemaId,
+        valueSchema,
+        resultSchema,
+        resultSchemaString,
+        operations,
+        Collections.emptyList(),
+        null,
+        Collections.emptyList(),
+        originallyStreaming);
+  }
+
+  public ComputeRequestWrapper(
+      int valueSchemaId,
+      Schema valueSchema,
+      Schema resultSchema,
+      String resultSchemaString,
+      List<ComputeOperation> operations,
+      List<ComputeFilter> filters,
+      ComputeTopK topK,
+      List<ComputeFacet> facets,
+      boolean originallyStreaming) {
     this.computeRequest = new ComputeRequestV3();
     this.computeRequest.setResultSchemaStr(resultSchemaString);
     this.computeRequest.setOperations((List) operations);
@@ -43,10 +83,33 @@ public class ComputeRequestWrapper {
     this.valueSchema = valueSchema;
     this.operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
     this.originallyStreaming = originallyStreaming;
+    this.filters = filters;
+    this.recordFilter = new ComputeRecordFilter(filters);
+    this.topK = topK;
+    this.facets = facets;
+    this.facetAggregator = new ComputeFacetAggregator(facets);
   }
 
   public byte[] serialize() {
-    return SERIALIZER.serialize(this.computeRequest);
+    if (getComputeRequestVersion() == COMPUTE_REQUEST_VERSION_WITHOUT_FILTER) {
+      return SERIALIZER.serialize(this.computeRequest);
+    }
+    ComputeRequestV4 computeRequestV4 = new ComputeRequestV4();
+    computeRequestV4.setResultSchemaStr(this.computeRequest.getResultSchemaStr());
+    computeRequestV4.setOperations(this.computeRequest.getOperations());
+    computeRequestV4.setFilters(filters);
+    computeRequestV4.setTopK(topK);
+    computeRequestV4.setFacets(facets);
+    return SERIALIZER_V4.serialize(computeRequestV4);
+  }
+
+  /**
+   * @return the version of the compute request protocol used by {@link #serialize()}
+   */
+  public int getComputeRequestVersion() {
+    return filters.isEmpty() && topK == null && facets.isEmpty()
+        ? COMPUTE_REQUEST_VERSION_WITHOUT_FILTER
+        : LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
   }
 
   public CharSequence getResultSchemaStr() {
@@ -69,6 +132,36 @@ public class ComputeRequestWrapper {
     return this.operationResultFields;
   }
 
+  public List<ComputeFilter> getFilters() {
+    return this.filters;
+  }
+
+  /**
+   * Used by the code paths computing the result on the client side, to apply the same filtering as the server would.
+   */
+  public ComputeRecordFilter getRecordFilter() {
+    return this.recordFilter;
+  }
+
+  /**
+   * @return the top-K selection of the request, or null if all the records should be returned
+   */
+  public ComputeTopK getTopK() {
+    return this.topK;
+  }
+
+  public List<ComputeFacet> getFacets() {
+    return this.facets;
+  }
+
+  /**
+   * Used to merge the partial results of the facets sent back by the storage nodes, or to evaluate the facets over
+   * the results computed on the client side, and to hand over the facet results once the execution completes.
+   */
+  public ComputeFacetAggregator getFacetAggregator() {
+    return this.facetAggregator;
+  }
+
   public boolean isRequestOriginallyStreaming() {
     return this.originallyStreaming;
   }
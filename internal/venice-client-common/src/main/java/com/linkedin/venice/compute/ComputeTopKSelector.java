@@ -0,0 +1,95 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Keeps the {@link ComputeTopK#k} items with the highest scores out of the ones added to it, where the score of an item
+ * is the numeric value of the {@link ComputeTopK#field} of its compute result record.
+ *
+ * The selection happens on every node which computes results: each storage node only sends back the top K records out
+ * of the keys it has been asked for, and the router, or the client when it talks to the storage nodes directly, then
+ * keeps the top K records out of the ones sent back by all the storage nodes, which are the global top K. Only K items
+ * are held at any point in time.
+ *
+ * This class is not thread-safe.
+ */
+public class ComputeTopKSelector<T> {
+  private static final Comparator<ScoredItem<?>> SCORE_COMPARATOR = Comparator.comparingDouble(item -> item.score);
+
+  private final String fieldName;
+  private final int k;
+  /** Min-heap, so that the item with the lowest score is the one evicted */
+  private final PriorityQueue<ScoredItem<T>> selectedItems = new PriorityQueue<>(SCORE_COMPARATOR);
+
+  public ComputeTopKSelector(ComputeTopK topK) {
+    if (topK.k <= 0) {
+      throw new VeniceException("Top-K on field: " + topK.field + " expects a positive K, but got: " + topK.k);
+    }
+    this.fieldName = topK.field.toString();
+    this.k = topK.k;
+  }
+
+  /**
+   * @return the score of the result record, or null if the field is missing or not a number, in which case the record
+   *         is never selected
+   */
+  public Double getScore(GenericRecord resultRecord) {
+    Schema.Field field = resultRecord.getSchema().getField(fieldName);
+    Object value = field == null ? null : resultRecord.get(field.pos());
+    if (!(value instanceof Number)) {
+      return null;
+    }
+    double score = ((Number) value).doubleValue();
+    return Double.isNaN(score) ? null : score;
+  }
+
+  /**
+   * @return true if an item with the given score would be selected, given the items selected so far
+   */
+  public boolean isCandidate(double score) {
+    return selectedItems.size() < k || score > selectedItems.peek().score;
+  }
+
+  /**
+   * @return the item which is not part of the selection anymore because of this call, i.e. the given item itself if it
+   *         is not a candidate, or the previously selected item it replaced, or null if nothing has been evicted
+   */
+  public T add(double score, T item) {
+    if (!isCandidate(score)) {
+      return item;
+    }
+    selectedItems.add(new ScoredItem<>(score, item));
+    return selectedItems.size() > k ? selectedItems.poll().item : null;
+  }
+
+  /**
+   * @return the selected items, from the highest score to the lowest one
+   */
+  public List<T> getSelectedItems() {
+    List<ScoredItem<T>> sortedItems = new ArrayList<>(selectedItems);
+    sortedItems.sort(SCORE_COMPARATOR.reversed());
+    List<T> items = new ArrayList<>(sortedItems.size());
+    for (ScoredItem<T> scoredItem: sortedItems) {
+      items.add(scoredItem.item);
+    }
+    return items;
+  }
+
+  private static class ScoredItem<T> {
+    private final double score;
+    private final T item;
+
+    private ScoredItem(double score, T item) {
+      this.score = score;
+      this.item = item;
+    }
+  }
+}
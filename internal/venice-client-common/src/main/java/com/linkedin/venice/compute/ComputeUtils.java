@@ -7,6 +7,7 @@ import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.Count;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
@@ -55,14 +56,23 @@ public class ComputeUtils {
    * as a {@link List<Object>}. This is a design shortcoming, but which we cannot easily fix, since there are already
    * clients using this protocol. On the server-side, however, we wish to use proper types without lots of casting,
    * which we can achieve by letting Avro do the evolution.
+   *
+   * Version 4 appended the filters field, so it has its own writer schema, while all the previous versions are
+   * decoded with the V3 one. The filters field defaults to an empty list for them.
    */
   private static final RecordDeserializer<ComputeRequest> DESERIALIZER =
       getFastAvroSpecificDeserializer(ComputeRequestV3.SCHEMA$, ComputeRequest.class);
+  private static final RecordDeserializer<ComputeRequest> DESERIALIZER_V4 =
+      getFastAvroSpecificDeserializer(ComputeRequestV4.SCHEMA$, ComputeRequest.class);
 
   public static ComputeRequest deserializeComputeRequest(BinaryDecoder decoder, ComputeRequest reuse) {
     return DESERIALIZER.deserialize(reuse, decoder);
   }
 
+  public static ComputeRequest deserializeComputeRequest(int version, BinaryDecoder decoder, ComputeRequest reuse) {
+    return (version >= 4 ? DESERIALIZER_V4 : DESERIALIZER).deserialize(reuse, decoder);
+  }
+
   public static void checkResultSchema(Schema resultSchema, Schema valueSchema, List<ComputeOperation> operations) {
     if (resultSchema.getType() != Schema.Type.RECORD || valueSchema.getType() != Schema.Type.RECORD) {
       throw new VeniceException("Compute result schema and value schema must be RECORD type");
@@ -0,0 +1,34 @@
+package com.linkedin.venice.compute.protocol.request.enums;
+
+import com.linkedin.venice.compute.protocol.request.ComputeFacet;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.EnumUtils;
+import com.linkedin.venice.utils.VeniceEnumValue;
+
+
+public enum ComputeFacetType implements VeniceEnumValue {
+  COUNT(0), SUM(1), HISTOGRAM(2);
+
+  private final int value;
+  private static final ComputeFacetType[] TYPES_ARRAY = EnumUtils.getEnumValuesArray(ComputeFacetType.class);
+
+  ComputeFacetType(int value) {
+    this.value = value;
+  }
+
+  public static ComputeFacetType valueOf(int value) {
+    try {
+      return TYPES_ARRAY[value];
+    } catch (IndexOutOfBoundsException e) {
+      throw new VeniceException("Invalid compute facet type: " + value);
+    }
+  }
+
+  public static ComputeFacetType valueOf(ComputeFacet facet) {
+    return valueOf(facet.facetType);
+  }
+
+  public int getValue() {
+    return value;
+  }
+}
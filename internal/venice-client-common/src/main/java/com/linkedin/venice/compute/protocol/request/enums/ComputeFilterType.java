@@ -0,0 +1,34 @@
+package com.linkedin.venice.compute.protocol.request.enums;
+
+import com.linkedin.venice.compute.protocol.request.ComputeFilter;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.EnumUtils;
+import com.linkedin.venice.utils.VeniceEnumValue;
+
+
+public enum ComputeFilterType implements VeniceEnumValue {
+  EQUALS(0), RANGE(1), IN(2);
+
+  private final int value;
+  private static final ComputeFilterType[] TYPES_ARRAY = EnumUtils.getEnumValuesArray(ComputeFilterType.class);
+
+  ComputeFilterType(int value) {
+    this.value = value;
+  }
+
+  public static ComputeFilterType valueOf(int value) {
+    try {
+      return TYPES_ARRAY[value];
+    } catch (IndexOutOfBoundsException e) {
+      throw new VeniceException("Invalid compute filter type: " + value);
+    }
+  }
+
+  public static ComputeFilterType valueOf(ComputeFilter filter) {
+    return valueOf(filter.filterType);
+  }
+
+  public int getValue() {
+    return value;
+  }
+}
@@ -5,6 +5,7 @@ import com.linkedin.venice.compute.protocol.request.ComputeRequestV2;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResultsV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
@@ -81,6 +82,13 @@ public enum ReadAvroProtocolDefinition {
    */
   COMPUTE_RESPONSE_V1(1, Optional.of(ComputeResponseRecordV1.class), Optional.of(ComputeResponseRecordV1.SCHEMA$)),
 
+  /**
+   * Results of the facets of a compute request v1, carried by a compute response record.
+   */
+  COMPUTE_FACET_RESULTS_V1(
+      1, Optional.of(ComputeFacetResultsV1.class), Optional.of(ComputeFacetResultsV1.SCHEMA$)
+  ),
+
   /**
    * Router request key for read compute v1.
    */
@@ -12,6 +12,12 @@ public class StreamingConstants {
    */
   public static final int KEY_ID_FOR_STREAMING_FOOTER = -1000000;
 
+  /**
+   * Special key id of the compute response record carrying the results of the facets of a compute request, which are
+   * not tied to any key. It is used by both streaming and non-streaming compute responses.
+   */
+  public static final int KEY_ID_FOR_COMPUTE_FACETS = -1000001;
+
   private StreamingConstants() {
   }
 }
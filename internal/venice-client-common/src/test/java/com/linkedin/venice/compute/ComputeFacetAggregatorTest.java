@@ -0,0 +1,103 @@
+package com.linkedin.venice.compute;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.compute.protocol.request.ComputeFacet;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeFacetType;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResult;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResultsV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeFacetAggregatorTest {
+  private static final Schema RESULT_SCHEMA =
+      SchemaBuilder.record("Result").fields().requiredString("name").optionalDouble("score").endRecord();
+
+  private static ComputeFacet facet(ComputeFacetType facetType, String field, Double... bucketBoundaries) {
+    ComputeFacet facet = new ComputeFacet();
+    facet.facetType = facetType.getValue();
+    facet.field = field;
+    facet.bucketBoundaries = Arrays.asList(bucketBoundaries);
+    return facet;
+  }
+
+  private static GenericRecord result(String name, Double score) {
+    GenericRecord result = new GenericData.Record(RESULT_SCHEMA);
+    result.put("name", name);
+    result.put("score", score);
+    return result;
+  }
+
+  private static List<ComputeFacet> facets() {
+    return Arrays.asList(
+        facet(ComputeFacetType.COUNT, "name"),
+        facet(ComputeFacetType.SUM, "score"),
+        facet(ComputeFacetType.HISTOGRAM, "score", 0.0, 10.0));
+  }
+
+  @Test
+  public void testAdd() {
+    ComputeFacetAggregator aggregator = new ComputeFacetAggregator(facets());
+    assertFalse(aggregator.isEmpty());
+    aggregator.add(result("a", -1.0));
+    // A value equal to a boundary belongs to the bucket starting with it
+    aggregator.add(result("b", 10.0));
+    aggregator.add(result("c", 5.0));
+    // The records without a number are only counted by the facets which do not need one
+    aggregator.add(result("d", null));
+    aggregator.add(result("e", Double.NaN));
+
+    List<ComputeFacetResult> results = aggregator.getResults().results;
+    assertEquals(results.get(0).count, 5L);
+    assertEquals(results.get(1).count, 3L);
+    assertEquals(results.get(1).sum, 14.0);
+    assertEquals(results.get(2).count, 3L);
+    assertEquals(results.get(2).histogram, Arrays.asList(1L, 1L, 1L));
+  }
+
+  @Test
+  public void testMerge() {
+    ComputeFacetAggregator aggregator = new ComputeFacetAggregator(facets());
+    aggregator.add(result("a", 1.0));
+    ComputeFacetAggregator otherAggregator = new ComputeFacetAggregator(facets());
+    otherAggregator.add(result("b", 20.0));
+    otherAggregator.add(result("c", 2.0));
+
+    aggregator.merge(ByteBuffer.wrap(otherAggregator.serializeResults()));
+    List<ComputeFacetResult> results = aggregator.getResults().results;
+    assertEquals(results.get(0).count, 3L);
+    assertEquals(results.get(1).sum, 23.0);
+    assertEquals(results.get(2).histogram, Arrays.asList(0L, 2L, 1L));
+
+    // The partial results of different facets can not be merged
+    ComputeFacetResultsV1 otherResults = new ComputeFacetAggregator(facets().subList(0, 1)).getResults();
+    Assert.assertThrows(VeniceException.class, () -> aggregator.merge(otherResults));
+  }
+
+  @Test
+  public void testInvalidFacets() {
+    assertTrue(new ComputeFacetAggregator(Collections.emptyList()).isEmpty());
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new ComputeFacetAggregator(Collections.singletonList(facet(ComputeFacetType.HISTOGRAM, "score"))));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new ComputeFacetAggregator(
+            Collections.singletonList(facet(ComputeFacetType.HISTOGRAM, "score", 10.0, 10.0))));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new ComputeFacetAggregator(Collections.singletonList(facet(ComputeFacetType.SUM, "score", 1.0))));
+  }
+}
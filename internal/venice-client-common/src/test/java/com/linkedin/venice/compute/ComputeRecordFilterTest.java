@@ -0,0 +1,133 @@
+package com.linkedin.venice.compute;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.compute.protocol.request.ComputeFilter;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeFilterType;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.apache.avro.util.Utf8;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeRecordFilterTest {
+  private static final Schema VALUE_SCHEMA = SchemaBuilder.record("Value")
+      .fields()
+      .requiredString("name")
+      .requiredInt("age")
+      .requiredBoolean("active")
+      .endRecord();
+  private static final Schema RESULT_SCHEMA =
+      SchemaBuilder.record("Result").fields().requiredString("name").optionalFloat("score").endRecord();
+
+  private static ComputeFilter filter(ComputeFilterType filterType, String field, Object... operands) {
+    ComputeFilter filter = new ComputeFilter();
+    filter.filterType = filterType.getValue();
+    filter.field = field;
+    filter.operands = Arrays.asList(operands);
+    return filter;
+  }
+
+  private static boolean test(ComputeFilter filter, String name, int age, Float score) {
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("name", new Utf8(name));
+    value.put("age", age);
+    value.put("active", true);
+    GenericRecord result = new GenericData.Record(RESULT_SCHEMA);
+    result.put("name", new Utf8(name));
+    result.put("score", score);
+    return new ComputeRecordFilter(Collections.singletonList(filter)).test(value, result);
+  }
+
+  @Test
+  public void testEquals() {
+    assertTrue(test(filter(ComputeFilterType.EQUALS, "name", "alice"), "alice", 30, 1f));
+    assertFalse(test(filter(ComputeFilterType.EQUALS, "name", "alice"), "bob", 30, 1f));
+    // Numbers are compared by value regardless of their types
+    assertTrue(test(filter(ComputeFilterType.EQUALS, "age", 30L), "alice", 30, 1f));
+    assertTrue(test(filter(ComputeFilterType.EQUALS, "age", 30.0d), "alice", 30, 1f));
+    assertTrue(test(filter(ComputeFilterType.EQUALS, "active", true), "alice", 30, 1f));
+    assertTrue(test(filter(ComputeFilterType.EQUALS, "score", (Object) null), "alice", 30, null));
+    assertFalse(test(filter(ComputeFilterType.EQUALS, "missing", 1), "alice", 30, 1f));
+  }
+
+  @Test
+  public void testRange() {
+    // Filtering on a compute result field, e.g. a score threshold
+    assertTrue(test(filter(ComputeFilterType.RANGE, "score", 0.5d, null), "alice", 30, 0.5f));
+    assertFalse(test(filter(ComputeFilterType.RANGE, "score", 0.5d, null), "alice", 30, 0.4f));
+    assertFalse(test(filter(ComputeFilterType.RANGE, "score", null, null), "alice", 30, null));
+    assertTrue(test(filter(ComputeFilterType.RANGE, "age", 18, 65L), "alice", 65, 1f));
+    assertFalse(test(filter(ComputeFilterType.RANGE, "age", 18, 65L), "alice", 66, 1f));
+    assertTrue(test(filter(ComputeFilterType.RANGE, "name", "a", "b"), "alice", 30, 1f));
+    assertFalse(test(filter(ComputeFilterType.RANGE, "name", "b", "c"), "alice", 30, 1f));
+    // Values which can not be compared with the bounds never match
+    assertFalse(test(filter(ComputeFilterType.RANGE, "name", null, 10), "alice", 30, 1f));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new ComputeRecordFilter(Collections.singletonList(filter(ComputeFilterType.RANGE, "age", 1))));
+  }
+
+  @Test
+  public void testIn() {
+    assertTrue(test(filter(ComputeFilterType.IN, "name", "alice", "bob"), "bob", 30, 1f));
+    assertFalse(test(filter(ComputeFilterType.IN, "name", "alice", "bob"), "carol", 30, 1f));
+    assertTrue(test(filter(ComputeFilterType.IN, "age", 20L, 30.0d), "alice", 30, 1f));
+    assertTrue(test(filter(ComputeFilterType.IN, "score", 1, 2), "alice", 30, 2f));
+    assertFalse(test(filter(ComputeFilterType.IN, "age"), "alice", 30, 1f));
+  }
+
+  @Test
+  public void testFiltersAreSentOnlyWithV4() {
+    List<ComputeOperation> operations = Collections.emptyList();
+    ComputeRequestWrapper withoutFilter =
+        new ComputeRequestWrapper(1, VALUE_SCHEMA, RESULT_SCHEMA, RESULT_SCHEMA.toString(), operations, true);
+    assertEquals(withoutFilter.getComputeRequestVersion(), 3);
+    assertTrue(deserialize(withoutFilter).getFilters().isEmpty());
+
+    List<ComputeFilter> filters =
+        Arrays.asList(filter(ComputeFilterType.RANGE, "age", 18, null), filter(ComputeFilterType.IN, "name", "alice"));
+    ComputeRequestWrapper withFilters = new ComputeRequestWrapper(
+        1,
+        VALUE_SCHEMA,
+        RESULT_SCHEMA,
+        RESULT_SCHEMA.toString(),
+        operations,
+        filters,
+        null,
+        Collections.emptyList(),
+        true);
+    assertEquals(withFilters.getComputeRequestVersion(), 4);
+    ComputeRequest computeRequest = deserialize(withFilters);
+    assertEquals(computeRequest.getResultSchemaStr().toString(), RESULT_SCHEMA.toString());
+    assertEquals(computeRequest.getFilters().size(), 2);
+
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("name", new Utf8("alice"));
+    value.put("age", 20);
+    ComputeRecordFilter recordFilter = new ComputeRecordFilter(computeRequest.getFilters());
+    assertTrue(recordFilter.test(value, null));
+    value.put("age", 17);
+    assertFalse(recordFilter.test(value, null));
+  }
+
+  private static ComputeRequest deserialize(ComputeRequestWrapper wrapper) {
+    byte[] bytes = wrapper.serialize();
+    return ComputeUtils.deserializeComputeRequest(
+        wrapper.getComputeRequestVersion(),
+        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(bytes, 0, bytes.length),
+        null);
+  }
+}
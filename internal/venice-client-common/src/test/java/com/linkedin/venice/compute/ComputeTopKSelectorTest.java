@@ -0,0 +1,62 @@
+package com.linkedin.venice.compute;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeTopKSelectorTest {
+  private static final Schema RESULT_SCHEMA =
+      SchemaBuilder.record("Result").fields().requiredString("name").optionalFloat("score").endRecord();
+
+  private static ComputeTopK topK(String field, int k) {
+    ComputeTopK topK = new ComputeTopK();
+    topK.field = field;
+    topK.k = k;
+    return topK;
+  }
+
+  private static GenericRecord result(String name, Float score) {
+    GenericRecord result = new GenericData.Record(RESULT_SCHEMA);
+    result.put("name", name);
+    result.put("score", score);
+    return result;
+  }
+
+  @Test
+  public void testSelection() {
+    ComputeTopKSelector<String> selector = new ComputeTopKSelector<>(topK("score", 2));
+    assertNull(selector.add(1.0, "a"));
+    assertNull(selector.add(3.0, "b"));
+    assertFalse(selector.isCandidate(0.5));
+    assertEquals(selector.add(0.5, "c"), "c");
+    // The lowest score is evicted
+    assertEquals(selector.add(2.0, "d"), "a");
+    assertEquals(selector.getSelectedItems(), Arrays.asList("b", "d"));
+    assertTrue(selector.isCandidate(2.5));
+  }
+
+  @Test
+  public void testScore() {
+    ComputeTopKSelector<String> selector = new ComputeTopKSelector<>(topK("score", 1));
+    assertEquals(selector.getScore(result("a", 1.5f)), Double.valueOf(1.5));
+    assertNull(selector.getScore(result("a", null)));
+    assertNull(selector.getScore(result("a", Float.NaN)));
+    assertNull(new ComputeTopKSelector<>(topK("name", 1)).getScore(result("a", 1f)));
+    assertNull(new ComputeTopKSelector<>(topK("missing", 1)).getScore(result("a", 1f)));
+    assertEquals(new ComputeTopKSelector<>(topK("score", 10)).getSelectedItems(), Collections.emptyList());
+    Assert.assertThrows(VeniceException.class, () -> new ComputeTopKSelector<>(topK("score", 0)));
+  }
+}
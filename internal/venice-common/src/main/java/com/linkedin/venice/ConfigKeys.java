@@ -98,6 +98,13 @@ public class ConfigKeys {
   public static final String PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE =
       "pubsub.topic.manager.metadata.fetcher.thread.pool.size";
 
+  /**
+   * Whether the topic managers refresh the latest offsets read by the ingestion lag checks in batches, on the
+   * cadence of {@link #SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS}, instead of one partition at a time.
+   */
+  public static final String PUBSUB_TOPIC_MANAGER_BATCHED_END_OFFSET_REFRESH_ENABLED =
+      "pubsub.topic.manager.batched.end.offset.refresh.enabled";
+
   // Cluster specific configs for controller
   public static final String CONTROLLER_NAME = "controller.name";
 
@@ -703,6 +710,14 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_ISOLATION_APPLICATION_PORT =
       "server.ingestion.isolation.application.port";
 
+  /**
+   * Whether the forked ingestion process should send its ingestion and metric reports to the main process over a Unix
+   * domain socket, pipelined on a single persistent connection, instead of loopback HTTP. Only takes effect when the
+   * native epoll transport is available, otherwise both processes keep using the loopback port.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED =
+      "server.ingestion.isolation.domain.socket.enabled";
+
   public static final String SERVER_DB_READ_ONLY_FOR_BATCH_ONLY_STORE_ENABLED =
       "server.db.read.only.for.batch.only.store.enabled";
   /**
@@ -1661,6 +1676,17 @@ public class ConfigKeys {
   public static final String ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED =
       "router.http.client5.skip.cipher.check.enabled";
 
+  /**
+   * Event loop thread count of the Netty storage node client.
+   */
+  public static final String ROUTER_NETTY_CLIENT_EVENT_LOOP_THREADS = "router.netty.client.event.loop.threads";
+
+  /**
+   * Max number of HTTP/2 connections opened by the Netty storage node client to each storage node.
+   */
+  public static final String ROUTER_NETTY_CLIENT_MAX_CONNECTIONS_PER_ROUTE =
+      "router.netty.client.max.connections.per.route";
+
   /**
    * Number of IO threads used for AHAC client.
    */
@@ -1739,12 +1765,25 @@ public class ConfigKeys {
   // Config to control how much percentage of DVC replica instances are allowed to be offline before failing VPJ push.
   public static final String DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE_RATIO =
       "davinci.push.status.scan.max.offline.instance.ratio";
+
+  /**
+   * Config to let the Da Vinci push status scan keep the completed partitions of each ongoing push in memory and only
+   * re-read the incomplete partitions (with batch gets) on every scan, instead of reading every partition every time.
+   */
+  public static final String DAVINCI_PUSH_STATUS_SCAN_INCREMENTAL_ENABLED =
+      "davinci.push.status.scan.incremental.enabled";
   // this is a host-level config to decide whether bootstrap a blob transfer manager for the host
   public static final String BLOB_TRANSFER_MANAGER_ENABLED = "blob.transfer.manager.enabled";
   // Port used by peer-to-peer transfer service. It should be used by both server and client
   public static final String DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT = "davinci.p2p.blob.transfer.server.port";
   // Ideally this config should NOT be used but for testing purpose on a single host, we need to separate the ports.
   public static final String DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT = "davinci.p2p.blob.transfer.client.port";
+  // Whether to fetch the files of a partition snapshot from all the peers holding the same snapshot, with per-file
+  // checksum verification and resume of the partial files after a peer failure.
+  public static final String BLOB_TRANSFER_STRIPED_MODE_ENABLED = "blob.transfer.striped.mode.enabled";
+  // Host-level limit of the bytes per second received by the blob transfer client, 0 means no limit.
+  public static final String BLOB_TRANSFER_CLIENT_READ_LIMIT_BYTES_PER_SEC =
+      "blob.transfer.client.read.limit.bytes.per.sec";
   public static final String CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED =
       "controller.zk.shared.davinci.push.status.system.schema.store.auto.creation.enabled";
 
@@ -2087,6 +2126,45 @@ public class ConfigKeys {
    */
   public static final String SERVER_INGESTION_HEARTBEAT_INTERVAL_MS = "server.ingestion.heartbeat.interval.ms";
 
+  /**
+   * The number of released put and update envelopes which are kept around, each, to deserialize the consumed records
+   * into, instead of allocating new ones. The envelopes are only recycled once the drainers and the leader producer
+   * callbacks are done with their records. 0 disables the recycling.
+   */
+  public static final String SERVER_INGESTION_MESSAGE_ENVELOPE_POOL_CAPACITY =
+      "server.ingestion.message.envelope.pool.capacity";
+
+  /**
+   * Whether the consumption bandwidth and records quotas of the server are shared among the ingestion priority classes
+   * (current version real-time, current version, future version and backup version) in proportion to their weights,
+   * instead of throttling all the consumed records alike once a quota is exceeded.
+   */
+  public static final String SERVER_INGESTION_FAIR_SHARE_THROTTLING_ENABLED =
+      "server.ingestion.fair.share.throttling.enabled";
+
+  /**
+   * Overrides the weights of the ingestion priority classes when the fair share throttling is enabled, e.g.
+   * "CURRENT_VERSION_REAL_TIME:8,CURRENT_VERSION:4,FUTURE_VERSION:2,BACKUP_VERSION:1".
+   */
+  public static final String SERVER_INGESTION_PRIORITY_CLASS_WEIGHTS = "server.ingestion.priority.class.weights";
+
+  /**
+   * Whether the leaders of non active-active stores apply the consecutive UPDATE messages of a consumed batch which
+   * target the same key to a single decoded value, and produce it once to the version topic, instead of reading,
+   * merging, serializing and producing the value once per UPDATE message.
+   */
+  public static final String SERVER_WRITE_COMPUTE_UPDATE_COALESCING_ENABLED =
+      "server.write.compute.update.coalescing.enabled";
+
+  /**
+   * Whether the leaders of non active-active stores apply the UPDATE messages which only put new values in top-level
+   * fields directly on the serialized current value, by splicing the new field values into it, instead of deserializing
+   * the whole current value and serializing it back. It doesn't apply when the UPDATE messages are coalesced, see
+   * {@link #SERVER_WRITE_COMPUTE_UPDATE_COALESCING_ENABLED}.
+   */
+  public static final String SERVER_WRITE_COMPUTE_BINARY_SPLICING_ENABLED =
+      "server.write.compute.binary.splicing.enabled";
+
   /**
    * Whether to check LeaderCompleteState in the follower replica and davinci replica before marking the follower
    * completed. This is to avoid the case that the follower replica is marked completed before the leader replica
@@ -2154,6 +2232,20 @@ public class ConfigKeys {
   public static final String SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED =
       "server.record.level.metrics.when.bootstrapping.current.version.enabled";
 
+  /**
+   * Number of threads used to open the persisted storage engines when the server or Da Vinci starts up. The number of
+   * RocksDB databases being opened concurrently is still bounded by the RocksDB open operation throttle.
+   */
+  public static final String SERVER_STORAGE_ENGINE_RESTORE_PARALLELISM = "server.storage.engine.restore.parallelism";
+
+  /**
+   * Whether to only open the storage engines of current versions during start up. The storage engines of backup and
+   * future versions are opened in the background afterwards, or on demand whenever they are needed before that.
+   * Only applies to Venice servers: Da Vinci hands its storage engines over to the isolated ingestion process during
+   * bootstrap, so it always opens all of them during start up.
+   */
+  public static final String SERVER_STORAGE_ENGINE_LAZY_RESTORE_ENABLED = "server.storage.engine.lazy.restore.enabled";
+
   /**
    * Time interval for checking dangling topics between 2 different types of pub sub backends.
    */
@@ -2172,4 +2264,34 @@ public class ConfigKeys {
    * Only used in batch push jobs and partial updates.
    */
   public static final String CONTROLLER_DEFAULT_MAX_RECORD_SIZE_BYTES = "controller.default.max.record.size.bytes";
+
+  /**
+   * Comma separated list of the stores for which Router coalesces the identical single gets in flight: the single
+   * gets of a key of a store version which is already being fetched from the storage nodes wait for the response of
+   * the request in flight instead of sending another request. Empty config means no store is coalescing single gets.
+   */
+  public static final String ROUTER_SINGLE_FLIGHT_STORE_LIST = "router.single.flight.store.list";
+
+  /**
+   * Whether to enable the admission control of the read requests based on the time they spend in the queue of the
+   * storage execution thread pools. When the queue delay stays above
+   * {@link #SERVER_READ_ADMISSION_CONTROL_TARGET_QUEUE_DELAY_MS} for a whole
+   * {@link #SERVER_READ_ADMISSION_CONTROL_INTERVAL_MS}, the requests which have been queued for too long are rejected
+   * with a {@literal SERVICE_UNAVAILABLE} response, which is retried by Router on another replica, instead of being
+   * executed. The requests whose early termination threshold would be reached before leaving the queue are rejected
+   * before being queued.
+   */
+  public static final String SERVER_READ_ADMISSION_CONTROL_ENABLED = "server.read.admission.control.enabled";
+
+  /**
+   * The queue delay tolerated by the read admission control, check {@link #SERVER_READ_ADMISSION_CONTROL_ENABLED}.
+   */
+  public static final String SERVER_READ_ADMISSION_CONTROL_TARGET_QUEUE_DELAY_MS =
+      "server.read.admission.control.target.queue.delay.ms";
+
+  /**
+   * The interval over which the read admission control measures the minimal queue delay, which is also the max queue
+   * delay of the requests when the server is not overloaded, check {@link #SERVER_READ_ADMISSION_CONTROL_ENABLED}.
+   */
+  public static final String SERVER_READ_ADMISSION_CONTROL_INTERVAL_MS = "server.read.admission.control.interval.ms";
 }
@@ -0,0 +1,47 @@
+package com.linkedin.venice.blobtransfer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+
+/**
+ * The list of files of a partition snapshot along with their sizes. Two peers returning the same manifest are assumed
+ * to hold the same snapshot, so the files of a partition can be fetched from any of them.
+ */
+public class BlobTransferManifest {
+  private Map<String, Long> fileSizes = new TreeMap<>();
+
+  public Map<String, Long> getFileSizes() {
+    return fileSizes;
+  }
+
+  public void setFileSizes(Map<String, Long> fileSizes) {
+    this.fileSizes = new TreeMap<>(fileSizes);
+  }
+
+  public void addFile(String fileName, long fileSize) {
+    fileSizes.put(fileName, fileSize);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Objects.equals(fileSizes, ((BlobTransferManifest) o).fileSizes);
+  }
+
+  @Override
+  public int hashCode() {
+    return fileSizes.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "BlobTransferManifest{fileSizes=" + fileSizes + "}";
+  }
+}
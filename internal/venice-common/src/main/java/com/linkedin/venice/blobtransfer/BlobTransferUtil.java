@@ -31,11 +31,34 @@ public class BlobTransferUtil {
       int p2pTransferClientPort,
       String baseDir,
       ClientConfig clientConfig) {
+    return getP2PBlobTransferManagerAndStart(
+        p2pTransferServerPort,
+        p2pTransferClientPort,
+        baseDir,
+        clientConfig,
+        false,
+        0);
+  }
+
+  /**
+   * @param stripedTransferEnabled, whether to fetch the files of a partition from all the peers holding the same
+   *                                snapshot
+   * @param clientReadLimitBytesPerSec, the host-level limit of bytes per second received by the client, 0 means no
+   *                                    limit
+   */
+  public static BlobTransferManager<Void> getP2PBlobTransferManagerAndStart(
+      int p2pTransferServerPort,
+      int p2pTransferClientPort,
+      String baseDir,
+      ClientConfig clientConfig,
+      boolean stripedTransferEnabled,
+      long clientReadLimitBytesPerSec) {
     try {
       BlobTransferManager<Void> manager = new NettyP2PBlobTransferManager(
           new P2PBlobTransferService(p2pTransferServerPort, baseDir),
-          new NettyFileTransferClient(p2pTransferClientPort, baseDir),
-          new DvcBlobFinder(ClientFactory.getTransportClient(clientConfig)));
+          new NettyFileTransferClient(p2pTransferClientPort, baseDir, clientReadLimitBytesPerSec),
+          new DvcBlobFinder(ClientFactory.getTransportClient(clientConfig)),
+          stripedTransferEnabled);
       manager.start();
       return manager;
     } catch (Exception e) {
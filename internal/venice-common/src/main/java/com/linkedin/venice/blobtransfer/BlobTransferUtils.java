@@ -1,6 +1,38 @@
 package com.linkedin.venice.blobtransfer;
 
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+
 public class BlobTransferUtils {
   public static final String BLOB_TRANSFER_STATUS = "X-Blob-Transfer-Status";
   public static final String BLOB_TRANSFER_COMPLETED = "Completed";
+  // Checksum of the whole file, which is returned when a single file is requested
+  public static final String BLOB_TRANSFER_FILE_CHECKSUM = "X-Blob-Transfer-File-Checksum";
+  // Request path segment to fetch the manifest of a snapshot: /<store>/<version>/<partition>/manifest
+  public static final String BLOB_TRANSFER_MANIFEST = "manifest";
+  // Request path segment to fetch a single file of a snapshot: /<store>/<version>/<partition>/file/<fileName>
+  public static final String BLOB_TRANSFER_FILE = "file";
+
+  private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Compute the CRC32C checksum of the whole file, encoded as a hex string.
+   */
+  public static String computeFileChecksum(File file) throws IOException {
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C);
+    byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+    try (InputStream inputStream = new FileInputStream(file)) {
+      int bytesRead;
+      while ((bytesRead = inputStream.read(buffer)) != -1) {
+        checkSum.update(buffer, 0, bytesRead);
+      }
+    }
+    return ByteUtils.toHexString(checkSum.getCheckSum());
+  }
 }
@@ -6,6 +6,7 @@ import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 
 /**
@@ -19,14 +20,25 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
   protected final NettyFileTransferClient nettyClient;
   // peer finder is responsible to find the peers that have the requested blob
   protected final BlobFinder peerFinder;
+  // whether to fetch the files of a partition from all the peers holding the same snapshot, see StripedBlobTransfer
+  private final boolean stripedTransferEnabled;
 
   public NettyP2PBlobTransferManager(
       P2PBlobTransferService blobTransferService,
       NettyFileTransferClient nettyClient,
       BlobFinder peerFinder) {
+    this(blobTransferService, nettyClient, peerFinder, false);
+  }
+
+  public NettyP2PBlobTransferManager(
+      P2PBlobTransferService blobTransferService,
+      NettyFileTransferClient nettyClient,
+      BlobFinder peerFinder,
+      boolean stripedTransferEnabled) {
     this.blobTransferService = blobTransferService;
     this.nettyClient = nettyClient;
     this.peerFinder = peerFinder;
+    this.stripedTransferEnabled = stripedTransferEnabled;
   }
 
   @Override
@@ -46,6 +58,11 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
     if (discoverPeers == null || discoverPeers.isEmpty()) {
       throw new VenicePeersNotFoundException("No peers found for the requested blob");
     }
+    if (stripedTransferEnabled) {
+      // instanceName comes as a format of <hostName>_<applicationPort>
+      List<String> hosts = discoverPeers.stream().map(peer -> peer.split("_")[0]).collect(Collectors.toList());
+      return new StripedBlobTransfer(nettyClient, storeName, version, partition).start(hosts);
+    }
     try {
       // TODO: add some retry logic or strategy to choose the peers differently in case of failure
       // instanceName comes as a format of <hostName>_<applicationPort>
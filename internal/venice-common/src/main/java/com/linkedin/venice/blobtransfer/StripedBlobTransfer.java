@@ -0,0 +1,174 @@
+package com.linkedin.venice.blobtransfer;
+
+import com.linkedin.venice.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.venice.blobtransfer.client.P2PSingleFileClientHandler.BlobTransferChecksumMismatchException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.Utils;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Fetches the files of a partition snapshot from several peers at the same time.
+ *
+ * The manifests of all the peers are fetched first, and only the largest group of peers holding the very same snapshot
+ * is used. Each of those peers then pulls files from a shared queue, largest files first, one file at a time. When a
+ * transfer fails, the peer is not used anymore and the file is put back in the queue, so that another peer resumes it
+ * from the bytes already written locally. A file whose checksum does not match is deleted and fetched again from
+ * scratch, up to {@link #MAX_ATTEMPTS_PER_FILE} times.
+ */
+class StripedBlobTransfer {
+  private static final Logger LOGGER = LogManager.getLogger(StripedBlobTransfer.class);
+  static final int MAX_ATTEMPTS_PER_FILE = 3;
+
+  private final NettyFileTransferClient nettyClient;
+  private final String storeName;
+  private final int version;
+  private final int partition;
+  private final String replicaId;
+  private final CompletableFuture<InputStream> resultFuture = new CompletableFuture<>();
+
+  // The following states are guarded by the monitor of this object.
+  private final Deque<String> pendingFiles = new ArrayDeque<>();
+  private final Map<String, Integer> fileAttempts = new HashMap<>();
+  private final Set<String> activePeers = new HashSet<>();
+  private final Deque<String> idlePeers = new ArrayDeque<>();
+  private int remainingFileCount;
+
+  StripedBlobTransfer(NettyFileTransferClient nettyClient, String storeName, int version, int partition) {
+    this.nettyClient = nettyClient;
+    this.storeName = storeName;
+    this.version = version;
+    this.partition = partition;
+    this.replicaId = Utils.getReplicaId(storeName + "_v" + version, partition);
+  }
+
+  CompletableFuture<InputStream> start(List<String> peers) {
+    List<CompletableFuture<BlobTransferManifest>> manifestFutures = new ArrayList<>(peers.size());
+    for (String peer: peers) {
+      manifestFutures.add(nettyClient.getManifest(peer, storeName, version, partition).exceptionally(e -> {
+        LOGGER.warn("Failed to fetch the manifest of {} from peer: {}", replicaId, peer, e);
+        return null;
+      }));
+    }
+    CompletableFuture.allOf(manifestFutures.toArray(new CompletableFuture[0])).whenComplete((ignored, e) -> {
+      Map<BlobTransferManifest, List<String>> peersByManifest = new HashMap<>();
+      for (int i = 0; i < peers.size(); i++) {
+        BlobTransferManifest manifest = manifestFutures.get(i).join();
+        if (manifest != null && !manifest.getFileSizes().isEmpty()) {
+          peersByManifest.computeIfAbsent(manifest, k -> new ArrayList<>()).add(peers.get(i));
+        }
+      }
+      Map.Entry<BlobTransferManifest, List<String>> chosen = null;
+      for (Map.Entry<BlobTransferManifest, List<String>> entry: peersByManifest.entrySet()) {
+        if (chosen == null || entry.getValue().size() > chosen.getValue().size()) {
+          chosen = entry;
+        }
+      }
+      if (chosen == null) {
+        resultFuture.completeExceptionally(new VeniceException("No peer could provide a manifest for " + replicaId));
+        return;
+      }
+      LOGGER.info(
+          "Starting striped transfer of {} files for {} from peers: {}",
+          chosen.getKey().getFileSizes().size(),
+          replicaId,
+          chosen.getValue());
+      startTransfer(chosen.getKey(), chosen.getValue());
+    });
+    return resultFuture;
+  }
+
+  private void startTransfer(BlobTransferManifest manifest, List<String> peers) {
+    synchronized (this) {
+      Map<String, Long> fileSizes = manifest.getFileSizes();
+      List<String> fileNames = new ArrayList<>(fileSizes.keySet());
+      fileNames.sort(Comparator.comparing((String fileName) -> fileSizes.get(fileName)).reversed());
+      pendingFiles.addAll(fileNames);
+      remainingFileCount = fileNames.size();
+      activePeers.addAll(peers);
+    }
+    for (String peer: peers) {
+      fetchNextFile(peer);
+    }
+  }
+
+  private void fetchNextFile(String peer) {
+    String fileName;
+    synchronized (this) {
+      if (resultFuture.isDone()) {
+        return;
+      }
+      fileName = pendingFiles.poll();
+      if (fileName == null) {
+        // Other peers might still fail and hand their file back
+        idlePeers.add(peer);
+        return;
+      }
+      fileAttempts.merge(fileName, 1, Integer::sum);
+    }
+    nettyClient.getFile(peer, storeName, version, partition, fileName).whenComplete((ignored, e) -> {
+      if (e == null) {
+        onFileCompleted(peer);
+      } else {
+        onFileFailed(peer, fileName, e instanceof CompletionException ? e.getCause() : e);
+      }
+    });
+  }
+
+  private void onFileCompleted(String peer) {
+    synchronized (this) {
+      remainingFileCount--;
+      if (remainingFileCount == 0) {
+        LOGGER.info("All files received successfully for {}", replicaId);
+        // Same as the single peer transfer, the files are written to the disk directly.
+        resultFuture.complete(null);
+        return;
+      }
+    }
+    fetchNextFile(peer);
+  }
+
+  private void onFileFailed(String peer, String fileName, Throwable cause) {
+    boolean checksumMismatch = cause instanceof BlobTransferChecksumMismatchException;
+    String peerToResume;
+    synchronized (this) {
+      if (fileAttempts.get(fileName) >= MAX_ATTEMPTS_PER_FILE) {
+        resultFuture.completeExceptionally(
+            new VeniceException(
+                "Failed to fetch file " + fileName + " of " + replicaId + " after " + MAX_ATTEMPTS_PER_FILE
+                    + " attempts",
+                cause));
+        return;
+      }
+      pendingFiles.addFirst(fileName);
+      if (checksumMismatch) {
+        // The corrupted local copy has been deleted, and the peer can serve the file again.
+        peerToResume = peer;
+      } else {
+        activePeers.remove(peer);
+        peerToResume = idlePeers.poll();
+        if (activePeers.isEmpty()) {
+          resultFuture.completeExceptionally(new VeniceException("All peers failed to transfer " + replicaId, cause));
+          return;
+        }
+      }
+    }
+    LOGGER.warn("Failed to fetch file {} of {} from peer: {}, will retry", fileName, replicaId, peer, cause);
+    if (peerToResume != null) {
+      fetchNextFile(peerToResume);
+    }
+  }
+}
@@ -1,7 +1,15 @@
 package com.linkedin.venice.blobtransfer.client;
 
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE;
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_MANIFEST;
+
+import com.linkedin.venice.blobtransfer.BlobTransferManifest;
+import com.linkedin.venice.blobtransfer.BlobTransferPayload;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
@@ -11,35 +19,61 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.traffic.GlobalTrafficShapingHandler;
+import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Paths;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
 public class NettyFileTransferClient {
   private static final Logger LOGGER = LogManager.getLogger(NettyFileTransferClient.class);
+  private static final int MAX_MANIFEST_SIZE_IN_BYTES = 16 * 1024 * 1024;
   EventLoopGroup workerGroup;
   Bootstrap clientBootstrap;
   private final String baseDir;
   private final int serverPort;
+  // Shared by all the channels of this client, so that the bandwidth limit applies to the whole host
+  private final GlobalTrafficShapingHandler trafficShapingHandler;
+  // Verifies the checksum of the resumed files, which have to be read again, off the event loop
+  private final ExecutorService checksumVerificationExecutor =
+      Executors.newSingleThreadExecutor(new DaemonThreadFactory("BlobTransferChecksumVerification"));
 
   // TODO 1: move tunable configs to a config class
   // TODO 2: consider either increasing worker threads or have a dedicated thread pool to handle requests.
   public NettyFileTransferClient(int serverPort, String baseDir) {
+    this(serverPort, baseDir, 0);
+  }
+
+  /**
+   * @param maxBytesPerSecond the max number of bytes per second received by all the transfers of this client, 0 means
+   *                          no limit.
+   */
+  public NettyFileTransferClient(int serverPort, String baseDir, long maxBytesPerSecond) {
     this.baseDir = baseDir;
     this.serverPort = serverPort;
     clientBootstrap = new Bootstrap();
     workerGroup = new NioEventLoopGroup();
+    trafficShapingHandler =
+        maxBytesPerSecond > 0 ? new GlobalTrafficShapingHandler(workerGroup, 0, maxBytesPerSecond) : null;
     clientBootstrap.group(workerGroup);
     clientBootstrap.channel(NioSocketChannel.class);
     clientBootstrap.option(ChannelOption.SO_KEEPALIVE, true);
     clientBootstrap.handler(new ChannelInitializer<SocketChannel>() {
       @Override
       public void initChannel(SocketChannel ch) {
+        if (trafficShapingHandler != null) {
+          ch.pipeline().addLast(trafficShapingHandler);
+        }
         ch.pipeline().addLast(new HttpClientCodec());
       }
     });
@@ -63,14 +97,82 @@ public class NettyFileTransferClient {
     return inputStream;
   }
 
+  /**
+   * Fetch the list of files of the partition snapshot held by the given host.
+   */
+  public CompletableFuture<BlobTransferManifest> getManifest(
+      String host,
+      String storeName,
+      int version,
+      int partition) {
+    CompletableFuture<BlobTransferManifest> manifestFuture = new CompletableFuture<>();
+    FullHttpRequest request =
+        prepareRequest(String.format("/%s/%d/%d/%s", storeName, version, partition, BLOB_TRANSFER_MANIFEST));
+    sendAsync(
+        host,
+        request,
+        manifestFuture,
+        new HttpObjectAggregator(MAX_MANIFEST_SIZE_IN_BYTES),
+        new P2PManifestClientHandler(manifestFuture));
+    return manifestFuture;
+  }
+
+  /**
+   * Fetch a single file of the partition snapshot held by the given host. If a partial copy of the file exists locally,
+   * e.g. left by a transfer from another peer which failed, only the remaining bytes are fetched. The future completes
+   * once the whole file has been written and its checksum verified.
+   */
+  public CompletableFuture<Void> getFile(String host, String storeName, int version, int partition, String fileName) {
+    CompletableFuture<Void> fileFuture = new CompletableFuture<>();
+    BlobTransferPayload payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    File localFile = Paths.get(payload.getPartitionDir()).resolve(fileName).toFile();
+    long offset = localFile.exists() ? localFile.length() : 0;
+    FullHttpRequest request =
+        prepareRequest(String.format("/%s/%d/%d/%s/%s", storeName, version, partition, BLOB_TRANSFER_FILE, fileName));
+    if (offset > 0) {
+      request.headers().set(HttpHeaderNames.RANGE, "bytes=" + offset + "-");
+    }
+    sendAsync(
+        host,
+        request,
+        fileFuture,
+        new P2PSingleFileClientHandler(payload, fileName, offset, fileFuture, checksumVerificationExecutor));
+    return fileFuture;
+  }
+
   public void close() {
+    if (trafficShapingHandler != null) {
+      trafficShapingHandler.release();
+    }
     workerGroup.shutdownGracefully();
+    checksumVerificationExecutor.shutdownNow();
+  }
+
+  /**
+   * Connect without blocking, since the striped transfer issues requests from the callbacks running on the event loop.
+   */
+  private void sendAsync(
+      String host,
+      FullHttpRequest request,
+      CompletableFuture<?> responseFuture,
+      ChannelHandler... handlers) {
+    clientBootstrap.connect(host, serverPort).addListener((ChannelFutureListener) connectFuture -> {
+      if (!connectFuture.isSuccess()) {
+        LOGGER.error("Failed to connect to the host: {}", host, connectFuture.cause());
+        responseFuture.completeExceptionally(connectFuture.cause());
+        return;
+      }
+      Channel ch = connectFuture.channel();
+      ch.pipeline().addLast(handlers);
+      ch.writeAndFlush(request);
+    });
   }
 
   private FullHttpRequest prepareRequest(String storeName, int version, int partition) {
-    return new DefaultFullHttpRequest(
-        HttpVersion.HTTP_1_1,
-        HttpMethod.GET,
-        String.format("/%s/%d/%d", storeName, version, partition));
+    return prepareRequest(String.format("/%s/%d/%d", storeName, version, partition));
+  }
+
+  private FullHttpRequest prepareRequest(String uri) {
+    return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
   }
 }
@@ -0,0 +1,48 @@
+package com.linkedin.venice.blobtransfer.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.venice.blobtransfer.BlobTransferManifest;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * The client-side Netty handler to receive the {@link BlobTransferManifest} of a partition snapshot from a peer.
+ */
+public class P2PManifestClientHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+  private final CompletableFuture<BlobTransferManifest> manifestFuture;
+
+  public P2PManifestClientHandler(CompletableFuture<BlobTransferManifest> manifestFuture) {
+    this.manifestFuture = manifestFuture;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) throws Exception {
+    if (!response.status().equals(HttpResponseStatus.OK)) {
+      throw new VeniceException("Failed to fetch manifest from remote peer. Response: " + response.status());
+    }
+    try (ByteBufInputStream inputStream = new ByteBufInputStream(response.content())) {
+      manifestFuture.complete(OBJECT_MAPPER.readValue(inputStream, BlobTransferManifest.class));
+    }
+    ctx.close();
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    super.channelInactive(ctx);
+    manifestFuture.completeExceptionally(new VeniceException("Connection closed before receiving the manifest"));
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    manifestFuture.completeExceptionally(cause);
+    ctx.close();
+  }
+}
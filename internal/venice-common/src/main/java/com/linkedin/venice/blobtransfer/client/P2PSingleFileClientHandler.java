@@ -0,0 +1,219 @@
+package com.linkedin.venice.blobtransfer.client;
+
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_CHECKSUM;
+
+import com.linkedin.venice.blobtransfer.BlobTransferPayload;
+import com.linkedin.venice.blobtransfer.BlobTransferUtils;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The client-side Netty handler to receive a single file of a partition snapshot, starting at the given offset. Once
+ * the file is complete, the checksum of the whole local file is verified against the one computed by the peer; a
+ * corrupted file is deleted, so that the next attempt starts from scratch.
+ *
+ * The checksum of a file fetched from the start is updated as its chunks are written, so that the file is not read
+ * again. The checksum of a resumed file also covers the bytes written by a previous transfer, so the whole file is read
+ * again on the given executor instead of the event loop.
+ */
+public class P2PSingleFileClientHandler extends SimpleChannelInboundHandler<HttpObject> {
+  private static final Logger LOGGER = LogManager.getLogger(P2PSingleFileClientHandler.class);
+  private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+  private final BlobTransferPayload payload;
+  private final String fileName;
+  private final long offset;
+  private final CompletableFuture<Void> fileFuture;
+  private final Executor checksumVerificationExecutor;
+  // Only for the files fetched from the start
+  private final CheckSum runningChecksum;
+  private byte[] checksumBuffer;
+
+  private FileChannel outputFileChannel;
+  private Path file;
+  private long fileContentLength;
+  private String expectedChecksum;
+  private boolean fileReceived = false;
+
+  public P2PSingleFileClientHandler(
+      BlobTransferPayload payload,
+      String fileName,
+      long offset,
+      CompletableFuture<Void> fileFuture,
+      Executor checksumVerificationExecutor) {
+    this.payload = payload;
+    this.fileName = fileName;
+    this.offset = offset;
+    this.fileFuture = fileFuture;
+    this.checksumVerificationExecutor = checksumVerificationExecutor;
+    this.runningChecksum = offset == 0 ? CheckSum.getInstance(CheckSumType.CRC32C) : null;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) throws Exception {
+    if (msg instanceof HttpResponse) {
+      HttpResponse response = (HttpResponse) msg;
+      HttpResponseStatus expectedStatus = offset > 0 ? HttpResponseStatus.PARTIAL_CONTENT : HttpResponseStatus.OK;
+      if (!response.status().equals(expectedStatus)) {
+        throw new VeniceException(
+            "Failed to fetch file " + fileName + " from remote peer for " + payload.getFullResourceName()
+                + ". Response: " + response.status());
+      }
+      this.expectedChecksum = response.headers().get(BLOB_TRANSFER_FILE_CHECKSUM);
+      this.fileContentLength = Long.parseLong(response.headers().get(HttpHeaderNames.CONTENT_LENGTH));
+
+      Path partitionDir = Paths.get(payload.getPartitionDir());
+      Files.createDirectories(partitionDir);
+      this.file = partitionDir.resolve(fileName);
+      outputFileChannel =
+          FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+      if (outputFileChannel.size() != offset) {
+        throw new VeniceException(
+            "Local file " + file + " changed during the transfer. Expected size: " + offset + ", actual: "
+                + outputFileChannel.size());
+      }
+    }
+    if (msg instanceof HttpContent) {
+      // defensive check
+      if (outputFileChannel == null) {
+        throw new VeniceException("No file opened to write for " + payload.getFullResourceName());
+      }
+      ByteBuf byteBuf = ((HttpContent) msg).content();
+      if (runningChecksum != null && expectedChecksum != null) {
+        updateChecksum(byteBuf);
+      }
+      // The file is opened in append mode, so the content always goes to the end of the file
+      while (byteBuf.isReadable()) {
+        byteBuf.readBytes(outputFileChannel, byteBuf.readableBytes());
+      }
+
+      if (msg instanceof LastHttpContent) {
+        completeFile(ctx);
+      }
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    super.channelInactive(ctx);
+    closeOutputFile();
+    if (fileReceived) {
+      // The file is being verified, which completes the future
+      return;
+    }
+    // Keep the partial file around, so that the transfer can be resumed from another peer.
+    fileFuture.completeExceptionally(
+        new VeniceException(
+            "Connection closed before receiving file " + fileName + " of " + payload.getFullResourceName()));
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    LOGGER.error("Exception caught when transferring file {} for {}", fileName, payload.getFullResourceName(), cause);
+    fileFuture.completeExceptionally(cause);
+    ctx.close();
+  }
+
+  private void completeFile(ChannelHandlerContext ctx) throws IOException {
+    outputFileChannel.force(true);
+    long fileSize = outputFileChannel.size();
+    closeOutputFile();
+    if (fileSize != offset + fileContentLength) {
+      throw new VeniceException(
+          "File size mismatch for " + fileName + ". Expected: " + (offset + fileContentLength) + ", Actual: "
+              + fileSize);
+    }
+    if (expectedChecksum == null || runningChecksum != null) {
+      if (expectedChecksum != null) {
+        verifyChecksum(ByteUtils.toHexString(runningChecksum.getCheckSum()));
+      }
+      LOGGER.debug("A file {} received successfully for {}", fileName, payload.getFullResourceName());
+      fileFuture.complete(null);
+      ctx.close();
+      return;
+    }
+
+    fileReceived = true;
+    ctx.close();
+    CompletableFuture.runAsync(() -> {
+      try {
+        verifyChecksum(BlobTransferUtils.computeFileChecksum(file.toFile()));
+      } catch (IOException e) {
+        throw new VeniceException("Failed to verify the checksum of " + file, e);
+      }
+    }, checksumVerificationExecutor).whenComplete((ignored, throwable) -> {
+      if (throwable == null) {
+        LOGGER.debug("A resumed file {} received successfully for {}", fileName, payload.getFullResourceName());
+        fileFuture.complete(null);
+      } else {
+        fileFuture.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+      }
+    });
+  }
+
+  private void updateChecksum(ByteBuf byteBuf) {
+    int index = byteBuf.readerIndex();
+    int remaining = byteBuf.readableBytes();
+    if (byteBuf.hasArray()) {
+      runningChecksum.update(byteBuf.array(), byteBuf.arrayOffset() + index, remaining);
+      return;
+    }
+    if (checksumBuffer == null) {
+      checksumBuffer = new byte[CHECKSUM_BUFFER_SIZE];
+    }
+    while (remaining > 0) {
+      int length = Math.min(remaining, checksumBuffer.length);
+      byteBuf.getBytes(index, checksumBuffer, 0, length);
+      runningChecksum.update(checksumBuffer, 0, length);
+      index += length;
+      remaining -= length;
+    }
+  }
+
+  private void verifyChecksum(String actualChecksum) throws IOException {
+    if (!expectedChecksum.equals(actualChecksum)) {
+      Files.deleteIfExists(file);
+      throw new BlobTransferChecksumMismatchException(
+          "Checksum mismatch for " + fileName + " of " + payload.getFullResourceName() + ". Expected: "
+              + expectedChecksum + ", Actual: " + actualChecksum);
+    }
+  }
+
+  private void closeOutputFile() throws IOException {
+    if (outputFileChannel != null) {
+      outputFileChannel.close();
+      outputFileChannel = null;
+    }
+  }
+
+  /**
+   * Thrown when a fetched file does not match the checksum computed by the peer. The local copy has been deleted.
+   */
+  public static class BlobTransferChecksumMismatchException extends VeniceException {
+    public BlobTransferChecksumMismatchException(String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.linkedin.venice.blobtransfer.server;
+
+import com.linkedin.venice.blobtransfer.BlobTransferUtils;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Computes the checksums of the snapshot files on a dedicated thread pool instead of the Netty event loop, since a
+ * single SST file can be several GBs, and caches them. The snapshot files are immutable, so the checksum of a file is
+ * computed once for all the requests fetching it, including the resumed ones, and only computed again when a newer
+ * snapshot replaced the file, i.e. when its length or modification time changed.
+ */
+public class BlobTransferChecksumCache implements Closeable {
+  private static final int MAX_CACHED_FILES = 100_000;
+
+  private final ExecutorService checksumExecutor;
+  private final Map<String, CachedChecksum> checksums =
+      new LinkedHashMap<String, CachedChecksum>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedChecksum> eldest) {
+          return size() > MAX_CACHED_FILES;
+        }
+      };
+
+  private static class CachedChecksum {
+    private final long length;
+    private final long lastModified;
+    private final CompletableFuture<String> checksumFuture;
+
+    private CachedChecksum(long length, long lastModified, CompletableFuture<String> checksumFuture) {
+      this.length = length;
+      this.lastModified = lastModified;
+      this.checksumFuture = checksumFuture;
+    }
+  }
+
+  public BlobTransferChecksumCache(int threadCount) {
+    this.checksumExecutor =
+        Executors.newFixedThreadPool(threadCount, new DaemonThreadFactory("BlobTransferChecksumCalculation"));
+  }
+
+  /**
+   * @return a future completed with the checksum of the whole file, see {@link BlobTransferUtils#computeFileChecksum}
+   */
+  public synchronized CompletableFuture<String> getChecksum(File file) {
+    String path = file.getAbsolutePath();
+    long length = file.length();
+    long lastModified = file.lastModified();
+    CachedChecksum cachedChecksum = checksums.get(path);
+    if (cachedChecksum != null && cachedChecksum.length == length && cachedChecksum.lastModified == lastModified
+        && !cachedChecksum.checksumFuture.isCompletedExceptionally()) {
+      return cachedChecksum.checksumFuture;
+    }
+    CompletableFuture<String> checksumFuture = CompletableFuture.supplyAsync(() -> {
+      try {
+        return BlobTransferUtils.computeFileChecksum(file);
+      } catch (IOException e) {
+        throw new VeniceException("Failed to compute the checksum of file: " + path, e);
+      }
+    }, checksumExecutor);
+    checksums.put(path, new CachedChecksum(length, lastModified, checksumFuture));
+    return checksumFuture;
+  }
+
+  @Override
+  public void close() {
+    checksumExecutor.shutdownNow();
+  }
+}
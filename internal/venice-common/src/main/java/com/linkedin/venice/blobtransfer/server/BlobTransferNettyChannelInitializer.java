@@ -11,9 +11,11 @@ import io.netty.handler.timeout.IdleStateHandler;
 
 public class BlobTransferNettyChannelInitializer extends ChannelInitializer<SocketChannel> {
   private final String baseDir;
+  private final BlobTransferChecksumCache checksumCache;
 
-  public BlobTransferNettyChannelInitializer(String baseDir) {
+  public BlobTransferNettyChannelInitializer(String baseDir, BlobTransferChecksumCache checksumCache) {
     this.baseDir = baseDir;
+    this.checksumCache = checksumCache;
   }
 
   @Override
@@ -29,6 +31,6 @@ public class BlobTransferNettyChannelInitializer extends ChannelInitializer<Sock
         // for safe writing of chunks for responses
         .addLast("chunker", new ChunkedWriteHandler())
         // for handling p2p file transfer
-        .addLast("p2pFileTransferHandler", new P2PFileTransferServerHandler(baseDir));
+        .addLast("p2pFileTransferHandler", new P2PFileTransferServerHandler(baseDir, checksumCache));
   }
 }
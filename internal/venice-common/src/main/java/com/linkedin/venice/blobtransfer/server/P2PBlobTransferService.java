@@ -17,12 +17,15 @@ import org.apache.logging.log4j.Logger;
 
 public class P2PBlobTransferService extends AbstractVeniceService {
   private static final Logger LOGGER = LogManager.getLogger(P2PBlobTransferService.class);
+  private static final int CHECKSUM_THREAD_COUNT = 2;
 
   private final ServerBootstrap serverBootstrap;
   private EventLoopGroup bossGroup;
   private EventLoopGroup workerGroup;
   private final int port;
   private ChannelFuture channelFuture;
+  // Shared by all the channels, so that the checksum of each snapshot file is only computed once
+  private final BlobTransferChecksumCache checksumCache = new BlobTransferChecksumCache(CHECKSUM_THREAD_COUNT);
   // TODO 1: move tunable configs to a config class
   // TODO 2: add SSL/auth/Quota support
   // TODO 3: consider adding support for HTTP2
@@ -47,7 +50,7 @@ public class P2PBlobTransferService extends AbstractVeniceService {
 
     serverBootstrap.group(bossGroup, workerGroup)
         .channel(socketChannelClass)
-        .childHandler(new BlobTransferNettyChannelInitializer(baseDir))
+        .childHandler(new BlobTransferNettyChannelInitializer(baseDir, checksumCache))
         .option(ChannelOption.SO_BACKLOG, 1000)
         .option(ChannelOption.SO_REUSEADDR, true)
         .childOption(ChannelOption.SO_KEEPALIVE, true)
@@ -68,5 +71,6 @@ public class P2PBlobTransferService extends AbstractVeniceService {
     bossGroup.shutdownGracefully();
     workerGroup.shutdownGracefully();
     channelFuture.channel().closeFuture().sync();
+    checksumCache.close();
   }
 }
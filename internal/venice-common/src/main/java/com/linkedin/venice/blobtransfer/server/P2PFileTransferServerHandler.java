@@ -1,12 +1,18 @@
 package com.linkedin.venice.blobtransfer.server;
 
 import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE;
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_CHECKSUM;
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_MANIFEST;
 import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 import static com.linkedin.venice.utils.NettyUtils.setupResponseAndFlush;
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_OCTET_STREAM;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.venice.blobtransfer.BlobTransferManifest;
 import com.linkedin.venice.blobtransfer.BlobTransferPayload;
 import com.linkedin.venice.request.RequestHelper;
+import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -30,6 +36,8 @@ import io.netty.handler.timeout.IdleStateEvent;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -41,11 +49,16 @@ import org.apache.logging.log4j.Logger;
 @ChannelHandler.Sharable
 public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
   private static final Logger LOGGER = LogManager.getLogger(P2PFileTransferServerHandler.class);
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+  private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-");
+  private static final int CHUNK_SIZE = 8192;
   private boolean useZeroCopy = false;
   private final String baseDir;
+  private final BlobTransferChecksumCache checksumCache;
 
-  public P2PFileTransferServerHandler(String baseDir) {
+  public P2PFileTransferServerHandler(String baseDir, BlobTransferChecksumCache checksumCache) {
     this.baseDir = baseDir;
+    this.checksumCache = checksumCache;
   }
 
   @Override
@@ -80,10 +93,11 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
           ctx);
       return;
     }
+    final String[] requestParts = RequestHelper.getRequestParts(httpRequest.uri());
     final BlobTransferPayload blobTransferRequest;
     final File snapshotDir;
     try {
-      blobTransferRequest = parseBlobTransferPayload(httpRequest);
+      blobTransferRequest = parseBlobTransferPayload(httpRequest.uri(), requestParts);
       snapshotDir = new File(blobTransferRequest.getSnapshotDir());
       if (!snapshotDir.exists() || !snapshotDir.isDirectory()) {
         byte[] errBody = ("Snapshot for " + blobTransferRequest.getFullResourceName() + " doesn't exist").getBytes();
@@ -98,6 +112,15 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
       return;
     }
 
+    if (requestParts.length == 5) {
+      sendManifest(snapshotDir, ctx);
+      return;
+    }
+    if (requestParts.length == 6) {
+      sendSingleFile(snapshotDir, requestParts[5], httpRequest, ctx);
+      return;
+    }
+
     File[] files = snapshotDir.listFiles();
     if (files == null || files.length == 0) {
       setupResponseAndFlush(
@@ -151,11 +174,14 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
   }
 
   private void sendFile(File file, ChannelHandlerContext ctx) throws IOException {
+    sendFile(file, 0, new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK), ctx);
+  }
+
+  private void sendFile(File file, long offset, HttpResponse response, ChannelHandlerContext ctx) throws IOException {
     RandomAccessFile raf = new RandomAccessFile(file, "r");
     ChannelFuture sendFileFuture;
     ChannelFuture lastContentFuture;
-    long length = raf.length();
-    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    long length = raf.length() - offset;
     response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
     response.headers().set(HttpHeaderNames.CONTENT_TYPE, APPLICATION_OCTET_STREAM);
     response.headers().set(HttpHeaderNames.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getName() + "\"");
@@ -163,10 +189,10 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     ctx.write(response);
 
     if (useZeroCopy) {
-      sendFileFuture = ctx.writeAndFlush(new DefaultFileRegion(raf.getChannel(), 0, length));
+      sendFileFuture = ctx.writeAndFlush(new DefaultFileRegion(raf.getChannel(), offset, length));
       lastContentFuture = ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
     } else {
-      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf)));
+      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, offset, length, CHUNK_SIZE)));
       lastContentFuture = sendFileFuture;
     }
 
@@ -187,17 +213,96 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     });
   }
 
+  /**
+   * Send the name and size of every file of the snapshot, so that the client can fetch them from several peers.
+   */
+  private void sendManifest(File snapshotDir, ChannelHandlerContext ctx) throws IOException {
+    File[] files = snapshotDir.listFiles();
+    if (files == null || files.length == 0) {
+      setupResponseAndFlush(
+          HttpResponseStatus.INTERNAL_SERVER_ERROR,
+          ("Failed to access files at " + snapshotDir).getBytes(),
+          false,
+          ctx);
+      return;
+    }
+    BlobTransferManifest manifest = new BlobTransferManifest();
+    for (File file: files) {
+      manifest.addFile(file.getName(), file.length());
+    }
+    setupResponseAndFlush(HttpResponseStatus.OK, OBJECT_MAPPER.writeValueAsBytes(manifest), true, ctx);
+  }
+
+  /**
+   * Send a single file of the snapshot along with its checksum. A "Range: bytes=offset-" header can be provided to
+   * resume a partial transfer, in which case only the remaining bytes are sent. The checksum is computed off the event
+   * loop by the {@link BlobTransferChecksumCache}, and the file is sent once it is available.
+   */
+  private void sendSingleFile(File snapshotDir, String fileName, HttpRequest request, ChannelHandlerContext ctx)
+      throws IOException {
+    File file = new File(snapshotDir, fileName);
+    if (!snapshotDir.equals(file.getParentFile()) || !file.isFile()) {
+      byte[] errBody = ("File " + fileName + " doesn't exist in snapshot " + snapshotDir).getBytes();
+      setupResponseAndFlush(HttpResponseStatus.NOT_FOUND, errBody, false, ctx);
+      return;
+    }
+    long offset = 0;
+    String range = request.headers().get(HttpHeaderNames.RANGE);
+    if (range != null) {
+      Matcher matcher = RANGE_PATTERN.matcher(range);
+      if (!matcher.matches()) {
+        setupResponseAndFlush(HttpResponseStatus.BAD_REQUEST, ("Invalid range: " + range).getBytes(), false, ctx);
+        return;
+      }
+      offset = Long.parseLong(matcher.group(1));
+    }
+    long fileLength = file.length();
+    if (offset > fileLength) {
+      byte[] errBody = ("Range " + range + " exceeds the length of " + fileName + ": " + fileLength).getBytes();
+      setupResponseAndFlush(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE, errBody, false, ctx);
+      return;
+    }
+
+    HttpResponse response;
+    if (offset > 0) {
+      response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.PARTIAL_CONTENT);
+      response.headers()
+          .set(HttpHeaderNames.CONTENT_RANGE, "bytes " + offset + "-" + (fileLength - 1) + "/" + fileLength);
+    } else {
+      response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    }
+    long startOffset = offset;
+    checksumCache.getChecksum(file).whenComplete((checksum, throwable) -> ctx.executor().execute(() -> {
+      if (throwable != null) {
+        LOGGER.error("Failed to compute the checksum of file {} in snapshot {}", fileName, snapshotDir, throwable);
+        byte[] errBody = ("Failed to compute the checksum of " + fileName + " in snapshot " + snapshotDir).getBytes();
+        setupResponseAndFlush(HttpResponseStatus.INTERNAL_SERVER_ERROR, errBody, false, ctx);
+        return;
+      }
+      response.headers().set(BLOB_TRANSFER_FILE_CHECKSUM, checksum);
+      try {
+        sendFile(file, startOffset, response, ctx);
+      } catch (IOException e) {
+        ctx.fireExceptionCaught(e);
+      }
+    }));
+  }
+
   /**
    * Parse the URI to locate the blob
-   * @param request
+   * @param uri
+   * @param requestParts
    * @return
    */
-  private BlobTransferPayload parseBlobTransferPayload(HttpRequest request) throws IllegalArgumentException {
+  private BlobTransferPayload parseBlobTransferPayload(String uri, String[] requestParts)
+      throws IllegalArgumentException {
     // Parse the request uri to obtain the storeName and partition
-    String uri = request.uri();
-    String[] requestParts = RequestHelper.getRequestParts(uri);
-    if (requestParts.length == 4) {
-      // [0]""/[1]"store"/[2]"version"/[3]"partition"
+    boolean isValidRequest = requestParts.length == 4
+        // [0]""/[1]"store"/[2]"version"/[3]"partition"/[4]"manifest"
+        || (requestParts.length == 5 && BLOB_TRANSFER_MANIFEST.equals(requestParts[4]))
+        // [0]""/[1]"store"/[2]"version"/[3]"partition"/[4]"file"/[5]"fileName"
+        || (requestParts.length == 6 && BLOB_TRANSFER_FILE.equals(requestParts[4]));
+    if (isValidRequest) {
       return new BlobTransferPayload(
           baseDir,
           requestParts[1],
@@ -94,6 +94,14 @@ public class PushStatusStoreUtils {
   }
 
   public static int getPartitionIdFromServerIncrementalPushKey(PushStatusKey key) {
+    return getPartitionIdFromPushKey(key);
+  }
+
+  /**
+   * Partition level full push, incremental push and server incremental push keys all keep the partition id right
+   * after the version in keyStrings.
+   */
+  public static int getPartitionIdFromPushKey(PushStatusKey key) {
     return (int) key.keyStrings.get(1);
   }
 }
@@ -0,0 +1,186 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.lang.reflect.Constructor;
+import java.util.zip.Checksum;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Running checksum implementation based on CRC32C (Castagnoli), which supports checkpointing.
+ *
+ * On JDK 9+, {@code java.util.zip.CRC32C} is used, which the JIT compiles down to the SSE 4.2 / ARMv8 CRC32C
+ * instructions, making it an order of magnitude cheaper than {@link MD5CheckSum} per byte. Since the code base still
+ * targets Java 8, the class is looked up reflectively, with a table-driven implementation as a fallback which produces
+ * the very same checksum values.
+ *
+ * The intermediate state is the running CRC value itself. Neither implementation exposes a way to seed the register,
+ * so restoring a checkpoint is done by feeding a fresh instance with 4 forged bytes whose CRC32C is exactly the
+ * checkpointed value: CRC is affine over GF(2), hence those 4 bytes can be found by solving a 32x32 linear system
+ * built from the checksum itself. After that, the internal register is identical to the one of the checkpointed
+ * instance, and subsequent updates produce the same values as if the original instance had never been discarded.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  private static final Logger LOGGER = LogManager.getLogger(CRC32CCheckSum.class);
+  private static final int CRC_BITS = 32;
+  private static final Constructor<? extends Checksum> JDK_CRC32C_CONSTRUCTOR = getJdkCrc32CConstructor();
+
+  private final Checksum checkSumGenerator;
+
+  public CRC32CCheckSum() {
+    checkSumGenerator = newCrc32C();
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    this();
+    restoreState(checkSumGenerator, ByteUtils.readLong(encodedState, 0));
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    byte[] returnedCheckSum = new byte[ByteUtils.SIZE_OF_LONG];
+    ByteUtils.writeLong(returnedCheckSum, checkSumGenerator.getValue(), 0);
+    return returnedCheckSum;
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator.reset();
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    return getFinalCheckSum();
+  }
+
+  static Checksum newCrc32C() {
+    if (JDK_CRC32C_CONSTRUCTOR != null) {
+      try {
+        return JDK_CRC32C_CONSTRUCTOR.newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new VeniceException("Failed to instantiate java.util.zip.CRC32C", e);
+      }
+    }
+    return new PureJavaCrc32C();
+  }
+
+  private static Constructor<? extends Checksum> getJdkCrc32CConstructor() {
+    try {
+      return Class.forName("java.util.zip.CRC32C").asSubclass(Checksum.class).getConstructor();
+    } catch (ReflectiveOperationException e) {
+      LOGGER.info("java.util.zip.CRC32C is not available, will use the pure Java implementation of CRC32C");
+      return null;
+    }
+  }
+
+  /**
+   * Reset the given checksum and bring its internal register to the state which yields {@param value}.
+   */
+  static void restoreState(Checksum checksum, long value) {
+    int base = (int) crcOf(checksum, 0);
+    /**
+     * XOR basis of the columns of the linear map from the 32 input bits to the 32 CRC bits, indexed by the highest set
+     * bit of each basis vector, along with the input bits which combine into it.
+     */
+    int[] basisVectors = new int[CRC_BITS];
+    int[] basisInputs = new int[CRC_BITS];
+    boolean[] basisPresent = new boolean[CRC_BITS];
+    for (int inputBit = 0; inputBit < CRC_BITS; inputBit++) {
+      int vector = (int) crcOf(checksum, 1 << inputBit) ^ base;
+      int inputs = 1 << inputBit;
+      for (int bit = CRC_BITS - 1; bit >= 0 && vector != 0; bit--) {
+        if ((vector >>> bit & 1) == 0) {
+          continue;
+        }
+        if (!basisPresent[bit]) {
+          basisPresent[bit] = true;
+          basisVectors[bit] = vector;
+          basisInputs[bit] = inputs;
+          vector = 0;
+        } else {
+          vector ^= basisVectors[bit];
+          inputs ^= basisInputs[bit];
+        }
+      }
+    }
+    int target = (int) value ^ base;
+    int forgedInput = 0;
+    for (int bit = CRC_BITS - 1; bit >= 0; bit--) {
+      if ((target >>> bit & 1) != 0) {
+        if (!basisPresent[bit]) {
+          throw new VeniceException("Unable to restore CRC32C state: " + value);
+        }
+        target ^= basisVectors[bit];
+        forgedInput ^= basisInputs[bit];
+      }
+    }
+    crcOf(checksum, forgedInput);
+  }
+
+  /**
+   * Reset the checksum, feed it with the 4 bytes of {@param input} in little-endian order and return its value.
+   */
+  private static long crcOf(Checksum checksum, int input) {
+    checksum.reset();
+    for (int i = 0; i < ByteUtils.SIZE_OF_INT; i++) {
+      checksum.update(input >>> (i * Byte.SIZE));
+    }
+    return checksum.getValue();
+  }
+
+  /**
+   * Table-driven CRC32C, only used on JVMs which do not provide {@code java.util.zip.CRC32C}.
+   */
+  static class PureJavaCrc32C implements Checksum {
+    private static final int CASTAGNOLI_POLYNOMIAL_REVERSED = 0x82F63B78;
+    private static final int[] TABLE = new int[256];
+
+    static {
+      for (int i = 0; i < TABLE.length; i++) {
+        int crc = i;
+        for (int k = 0; k < Byte.SIZE; k++) {
+          crc = (crc & 1) != 0 ? (crc >>> 1) ^ CASTAGNOLI_POLYNOMIAL_REVERSED : crc >>> 1;
+        }
+        TABLE[i] = crc;
+      }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+      crc = (crc >>> 8) ^ TABLE[(crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+      int localCrc = crc;
+      for (int i = off; i < off + len; i++) {
+        localCrc = (localCrc >>> 8) ^ TABLE[(localCrc ^ b[i]) & 0xFF];
+      }
+      crc = localCrc;
+    }
+
+    @Override
+    public long getValue() {
+      return (~crc) & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0xFFFFFFFF;
+    }
+  }
+}
@@ -11,6 +11,7 @@ public class HttpShortcutResponse {
   private final HttpResponseStatus status;
 
   private boolean misroutedStoreVersion = false;
+  private boolean loadShed = false;
 
   public HttpShortcutResponse(String message, HttpResponseStatus status) {
     this.message = message;
@@ -32,4 +33,12 @@ public class HttpShortcutResponse {
   public void setMisroutedStoreVersion(boolean misroutedStoreVersion) {
     this.misroutedStoreVersion = misroutedStoreVersion;
   }
+
+  public boolean isLoadShed() {
+    return loadShed;
+  }
+
+  public void setLoadShed(boolean loadShed) {
+    this.loadShed = loadShed;
+  }
 }
@@ -0,0 +1,56 @@
+package com.linkedin.venice.pubsub;
+
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.pools.ObjectPool;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+
+/**
+ * A {@link ImmutablePubSubMessage} whose value is borrowed from an {@link ObjectPool}, and given back to it once all
+ * the references on this message are released. The message starts with a single reference, owned by its consumer.
+ */
+public class PooledPubSubMessage<K, V> extends ImmutablePubSubMessage<K, V> {
+  private static final AtomicIntegerFieldUpdater<PooledPubSubMessage> REFERENCE_COUNT_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(PooledPubSubMessage.class, "referenceCount");
+
+  private final ObjectPool<V> valuePool;
+  private volatile int referenceCount = 1;
+
+  public PooledPubSubMessage(
+      K key,
+      V value,
+      PubSubTopicPartition topicPartition,
+      long offset,
+      long timestamp,
+      int payloadSize,
+      PubSubMessageHeaders pubSubMessageHeaders,
+      ObjectPool<V> valuePool) {
+    super(key, value, topicPartition, offset, timestamp, payloadSize, pubSubMessageHeaders);
+    this.valuePool = valuePool;
+  }
+
+  @Override
+  public void retain() {
+    int count = REFERENCE_COUNT_UPDATER.getAndIncrement(this);
+    if (count <= 0) {
+      // Resurrecting a message whose value may already be reused elsewhere
+      REFERENCE_COUNT_UPDATER.getAndDecrement(this);
+      throw new IllegalStateException("Cannot retain a released message: " + this);
+    }
+  }
+
+  @Override
+  public void release() {
+    int count = REFERENCE_COUNT_UPDATER.decrementAndGet(this);
+    if (count == 0) {
+      valuePool.dispose(getValue());
+    } else if (count < 0) {
+      throw new IllegalStateException("Message released more times than it was retained: " + this);
+    }
+  }
+
+  public int getReferenceCount() {
+    return referenceCount;
+  }
+}
@@ -364,6 +364,25 @@ public class ApacheKafkaConsumerAdapter implements PubSubConsumerAdapter {
     return topicPartitionsOffsetsTracker != null ? topicPartitionsOffsetsTracker.getEndOffset(topic, partition) : -1;
   }
 
+  /**
+   * If the position of the partition isn't known yet, e.g. right after seeking to its beginning, it is looked up from
+   * the broker, bounded by the default API timeout of the consumer.
+   */
+  @Override
+  public long getPosition(PubSubTopicPartition pubSubTopicPartition) {
+    TopicPartition topicPartition =
+        new TopicPartition(pubSubTopicPartition.getPubSubTopic().getName(), pubSubTopicPartition.getPartitionNumber());
+    if (!kafkaConsumer.assignment().contains(topicPartition)) {
+      return -1;
+    }
+    try {
+      return kafkaConsumer.position(topicPartition);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to get the position of topic-partition: {}", pubSubTopicPartition, e);
+      return -1;
+    }
+  }
+
   /**
    * @return get the offset of the first message with timestamp greater than or equal to the target timestamp.
    *          {@code null} will be returned for the partition if there is no such message.
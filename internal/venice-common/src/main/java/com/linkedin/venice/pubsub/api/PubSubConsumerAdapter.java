@@ -128,6 +128,18 @@ public interface PubSubConsumerAdapter extends AutoCloseable, Closeable {
     return -1;
   }
 
+  /**
+   * Retrieves the offset of the next message the consumer would return for a subscribed PubSub topic partition, which
+   * accounts for the messages already returned by {@link #poll(long)}, but not for the ones prefetched by the consumer.
+   *
+   * @param pubSubTopicPartition The PubSub topic partition for which to fetch the position.
+   * @return The position, which is zero or a positive value if it is known by the consumer, or -1 if the partition is
+   *         not subscribed or if the position cannot be determined.
+   */
+  default long getPosition(PubSubTopicPartition pubSubTopicPartition) {
+    return -1;
+  }
+
   /**
    * Retrieves the latest available offset for a PubSub topic partition.
    *
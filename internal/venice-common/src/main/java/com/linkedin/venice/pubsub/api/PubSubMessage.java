@@ -51,4 +51,18 @@ public interface PubSubMessage<K, V, OFFSET> {
   default PubSubMessageHeaders getPubSubMessageHeaders() {
     return EmptyPubSubMessageHeaders.SINGLETON;
   }
+
+  /**
+   * Takes an additional reference on this message, for a user which keeps it beyond the one which handed it over, so
+   * that its value is not recycled before this user calls {@link #release()}. No-op unless the value is pooled.
+   */
+  default void retain() {
+  }
+
+  /**
+   * Gives up a reference on this message, which must not be used anymore by the caller afterwards. No-op unless the
+   * value is pooled.
+   */
+  default void release() {
+  }
 }
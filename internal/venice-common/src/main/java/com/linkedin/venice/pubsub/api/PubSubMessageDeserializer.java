@@ -4,9 +4,12 @@ import static com.linkedin.venice.pubsub.api.PubSubMessageHeaders.VENICE_TRANSPO
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PooledPubSubMessage;
 import com.linkedin.venice.serialization.KafkaKeySerializer;
 import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
@@ -79,6 +82,18 @@ public class PubSubMessageDeserializer {
     if (value == null) {
       value = valueSerializer.deserialize(valueBytes, getEnvelope(key.getKeyHeaderByte()));
     }
+    ObjectPool<KafkaMessageEnvelope> envelopePool = getEnvelopePool(key.getKeyHeaderByte());
+    if (envelopePool != null) {
+      return new PooledPubSubMessage<>(
+          key,
+          value,
+          topicPartition,
+          position,
+          timestamp,
+          keyBytes.length + valueBytes.length,
+          headers,
+          envelopePool);
+    }
     // TODO: Put the message container in an object pool as well
     return new ImmutablePubSubMessage<>(
         key,
@@ -91,19 +106,43 @@ public class PubSubMessageDeserializer {
   }
 
   private KafkaMessageEnvelope getEnvelope(byte keyHeaderByte) {
+    ObjectPool<KafkaMessageEnvelope> envelopePool = getEnvelopePool(keyHeaderByte);
+    return envelopePool == null ? new KafkaMessageEnvelope() : envelopePool.get();
+  }
+
+  private ObjectPool<KafkaMessageEnvelope> getEnvelopePool(byte keyHeaderByte) {
     switch (keyHeaderByte) {
       case MessageType.Constants.PUT_KEY_HEADER_BYTE:
-        return putEnvelopePool.get();
+        return putEnvelopePool;
       // No need to pool control messages since there are so few of them, and they are varied anyway, limiting reuse.
       case MessageType.Constants.CONTROL_MESSAGE_KEY_HEADER_BYTE:
-        return new KafkaMessageEnvelope();
+        return null;
       case MessageType.Constants.UPDATE_KEY_HEADER_BYTE:
-        return updateEnvelopePool.get();
+        return updateEnvelopePool;
       default:
         throw new IllegalStateException("Illegal key header byte: " + keyHeaderByte);
     }
   }
 
+  /**
+   * Clears a disposed envelope before it is reused. The Avro reader fills the records it reuses in place, so the
+   * producer and leader metadata, whose GUID and host name can outlive the envelope in the ingestion state, are dropped
+   * rather than overwritten. Only the {@link Put} or {@link Update} payload is kept for reuse, without its buffers.
+   */
+  public static void recycleEnvelope(KafkaMessageEnvelope envelope) {
+    envelope.producerMetadata = null;
+    envelope.leaderMetadataFooter = null;
+    if (envelope.payloadUnion instanceof Put) {
+      Put put = (Put) envelope.payloadUnion;
+      put.putValue = null;
+      put.replicationMetadataPayload = null;
+    } else if (envelope.payloadUnion instanceof Update) {
+      ((Update) envelope.payloadUnion).updateValue = null;
+    } else {
+      envelope.payloadUnion = null;
+    }
+  }
+
   public void close() {
     if (valueSerializer != null) {
       valueSerializer.close();
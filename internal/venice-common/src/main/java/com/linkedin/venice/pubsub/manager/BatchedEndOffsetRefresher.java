@@ -0,0 +1,167 @@
+package com.linkedin.venice.pubsub.manager;
+
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class keeps the end offsets of the topic-partitions of a PubSub cluster up to date with a few batched
+ * list-offsets requests on a fixed cadence, instead of issuing one request per partition whenever its cached end
+ * offset expires. With thousands of hybrid partitions per host, the per-partition requests turn into request storms
+ * against the brokers, and into stale lag measurements while they are queued behind each other.
+ *
+ * A topic-partition is tracked from its first read, which fetches its end offset synchronously, until it hasn't been
+ * read for {@link #IDLE_REFRESH_INTERVALS_BEFORE_EVICTION} refresh intervals, its end offset keeps failing to be
+ * refreshed, or its topic is invalidated. The end offset of each tracked partition is kept in a volatile primitive
+ * field, so that the lag checks neither lock nor allocate anything.
+ */
+class BatchedEndOffsetRefresher implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(BatchedEndOffsetRefresher.class);
+  static final int MAX_PARTITIONS_PER_REQUEST = 1000;
+  static final int IDLE_REFRESH_INTERVALS_BEFORE_EVICTION = 10;
+  static final int MAX_CONSECUTIVE_REFRESH_FAILURES = 3;
+
+  private final String pubSubClusterAddress;
+  private final Function<Collection<PubSubTopicPartition>, Map<PubSubTopicPartition, Long>> endOffsetsFetcher;
+  private final long refreshIntervalNs;
+  private final ScheduledExecutorService refreshExecutor;
+  private final Map<PubSubTopicPartition, TrackedPartition> trackedPartitions = new VeniceConcurrentHashMap<>();
+
+  /**
+   * @param endOffsetsFetcher fetches the end offsets of a batch of topic-partitions in a single request
+   */
+  BatchedEndOffsetRefresher(
+      String pubSubClusterAddress,
+      Function<Collection<PubSubTopicPartition>, Map<PubSubTopicPartition, Long>> endOffsetsFetcher,
+      long refreshIntervalMs) {
+    this.pubSubClusterAddress = pubSubClusterAddress;
+    this.endOffsetsFetcher = endOffsetsFetcher;
+    this.refreshIntervalNs = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMs);
+    this.refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("BatchedEndOffsetRefresher"));
+    this.refreshExecutor
+        .scheduleWithFixedDelay(this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @param initialEndOffsetFetcher fetches the end offset of the partition when it isn't tracked yet
+   * @return the last end offset known for the given partition
+   */
+  long getEndOffset(
+      PubSubTopicPartition pubSubTopicPartition,
+      ToLongFunction<PubSubTopicPartition> initialEndOffsetFetcher) {
+    TrackedPartition trackedPartition = trackedPartitions.get(pubSubTopicPartition);
+    if (trackedPartition == null) {
+      trackedPartition = trackedPartitions.computeIfAbsent(
+          pubSubTopicPartition,
+          k -> new TrackedPartition(initialEndOffsetFetcher.applyAsLong(k)));
+    }
+    trackedPartition.lastReadTimeNs = System.nanoTime();
+    return trackedPartition.endOffset;
+  }
+
+  void invalidate(PubSubTopicPartition pubSubTopicPartition) {
+    trackedPartitions.remove(pubSubTopicPartition);
+  }
+
+  void invalidate(PubSubTopic pubSubTopic) {
+    trackedPartitions.keySet()
+        .removeIf(pubSubTopicPartition -> pubSubTopicPartition.getPubSubTopic().equals(pubSubTopic));
+  }
+
+  int getTrackedPartitionCount() {
+    return trackedPartitions.size();
+  }
+
+  /**
+   * Refreshes the end offsets of all the tracked partitions, and stops tracking the ones which are no longer read.
+   *
+   * Package private for unit testing.
+   */
+  void refresh() {
+    long idleThresholdNs = System.nanoTime() - refreshIntervalNs * IDLE_REFRESH_INTERVALS_BEFORE_EVICTION;
+    List<PubSubTopicPartition> batch = new ArrayList<>(MAX_PARTITIONS_PER_REQUEST);
+    Iterator<Map.Entry<PubSubTopicPartition, TrackedPartition>> iterator = trackedPartitions.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<PubSubTopicPartition, TrackedPartition> entry = iterator.next();
+      if (entry.getValue().lastReadTimeNs - idleThresholdNs < 0) {
+        iterator.remove();
+        continue;
+      }
+      batch.add(entry.getKey());
+      if (batch.size() == MAX_PARTITIONS_PER_REQUEST) {
+        refreshBatch(batch);
+        batch = new ArrayList<>(MAX_PARTITIONS_PER_REQUEST);
+      }
+    }
+    if (!batch.isEmpty()) {
+      refreshBatch(batch);
+    }
+  }
+
+  /**
+   * The partitions of a batch keep their stale end offsets when its request fails. A single partition whose topic was
+   * deleted fails the request of its whole batch though, so the partitions of a batch which keeps failing stop being
+   * tracked, and their next read goes through the validation of the synchronous fetch again.
+   */
+  private void refreshBatch(List<PubSubTopicPartition> batch) {
+    Map<PubSubTopicPartition, Long> endOffsets;
+    try {
+      endOffsets = endOffsetsFetcher.apply(batch);
+    } catch (Exception e) {
+      LOGGER.warn(
+          "Failed to refresh the end offsets of {} topic-partitions for pubSubClusterAddress: {}",
+          batch.size(),
+          pubSubClusterAddress,
+          e);
+      for (PubSubTopicPartition pubSubTopicPartition: batch) {
+        TrackedPartition trackedPartition = trackedPartitions.get(pubSubTopicPartition);
+        if (trackedPartition != null
+            && ++trackedPartition.consecutiveRefreshFailures >= MAX_CONSECUTIVE_REFRESH_FAILURES) {
+          trackedPartitions.remove(pubSubTopicPartition);
+        }
+      }
+      return;
+    }
+    for (Map.Entry<PubSubTopicPartition, Long> entry: endOffsets.entrySet()) {
+      TrackedPartition trackedPartition = trackedPartitions.get(entry.getKey());
+      if (trackedPartition != null && entry.getValue() != null) {
+        trackedPartition.endOffset = entry.getValue();
+        trackedPartition.consecutiveRefreshFailures = 0;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+    trackedPartitions.clear();
+  }
+
+  private static final class TrackedPartition {
+    private volatile long endOffset;
+    private volatile long lastReadTimeNs;
+    // Only accessed by the refresh thread
+    private int consecutiveRefreshFailures = 0;
+
+    private TrackedPartition(long endOffset) {
+      this.endOffset = endOffset;
+      this.lastReadTimeNs = System.nanoTime();
+    }
+  }
+}
@@ -27,7 +27,7 @@ class TopicManagerStats extends AbstractVeniceStats {
     CREATE_TOPIC, DELETE_TOPIC, LIST_ALL_TOPICS, SET_TOPIC_CONFIG, GET_ALL_TOPIC_RETENTIONS, GET_TOPIC_CONFIG,
     GET_TOPIC_CONFIG_WITH_RETRY, CONTAINS_TOPIC, GET_SOME_TOPIC_CONFIGS, CONTAINS_TOPIC_WITH_RETRY,
     GET_TOPIC_LATEST_OFFSETS, GET_PARTITION_LATEST_OFFSETS, PARTITIONS_FOR, GET_OFFSET_FOR_TIME,
-    GET_PRODUCER_TIMESTAMP_OF_LAST_DATA_MESSAGE, CONSUMER_ACQUISITION_WAIT_TIME
+    GET_PRODUCER_TIMESTAMP_OF_LAST_DATA_MESSAGE, CONSUMER_ACQUISITION_WAIT_TIME, BATCH_GET_PARTITION_LATEST_OFFSETS
   }
 
   TopicManagerStats(MetricsRepository metricsRepository, String pubSubAddress) {
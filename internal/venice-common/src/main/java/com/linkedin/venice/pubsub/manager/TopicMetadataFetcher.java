@@ -1,6 +1,7 @@
 package com.linkedin.venice.pubsub.manager;
 
 import static com.linkedin.venice.pubsub.PubSubConstants.getPubsubOffsetApiTimeoutDurationDefaultValue;
+import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.BATCH_GET_PARTITION_LATEST_OFFSETS;
 import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.CONSUMER_ACQUISITION_WAIT_TIME;
 import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.CONTAINS_TOPIC;
 import static com.linkedin.venice.pubsub.manager.TopicManagerStats.SENSOR_TYPE.GET_OFFSET_FOR_TIME;
@@ -91,6 +92,12 @@ class TopicMetadataFetcher implements Closeable {
   private final long cachedEntryTtlInNs;
   private final AtomicInteger consumerWaitListSize = new AtomicInteger(0);
 
+  /**
+   * When enabled, the latest offsets read by the lag checks are refreshed in batches by this refresher instead of
+   * going through {@link #latestOffsetCache}.
+   */
+  private final BatchedEndOffsetRefresher batchedEndOffsetRefresher;
+
   TopicMetadataFetcher(
       String pubSubClusterAddress,
       TopicManagerContext topicManagerContext,
@@ -129,6 +136,16 @@ class TopicMetadataFetcher implements Closeable {
         new DaemonThreadFactory("TopicMetadataFetcherThreadPool"));
     threadPoolExecutor.allowCoreThreadTimeOut(true);
 
+    if (topicManagerContext.isBatchedEndOffsetRefreshEnabled()
+        && topicManagerContext.getTopicOffsetCheckIntervalMs() > 0) {
+      this.batchedEndOffsetRefresher = new BatchedEndOffsetRefresher(
+          pubSubClusterAddress,
+          this::getLatestOffsets,
+          topicManagerContext.getTopicOffsetCheckIntervalMs());
+    } else {
+      this.batchedEndOffsetRefresher = null;
+    }
+
     stats.registerTopicMetadataFetcherSensors(this);
 
     LOGGER.info(
@@ -146,6 +163,25 @@ class TopicMetadataFetcher implements Closeable {
       BlockingQueue<PubSubConsumerAdapter> pubSubConsumerPool,
       ThreadPoolExecutor threadPoolExecutor,
       long cachedEntryTtlInNs) {
+    this(
+        pubSubClusterAddress,
+        stats,
+        pubSubAdminAdapter,
+        pubSubConsumerPool,
+        threadPoolExecutor,
+        cachedEntryTtlInNs,
+        null);
+  }
+
+  // Constructor for unit testing only
+  TopicMetadataFetcher(
+      String pubSubClusterAddress,
+      TopicManagerStats stats,
+      PubSubAdminAdapter pubSubAdminAdapter,
+      BlockingQueue<PubSubConsumerAdapter> pubSubConsumerPool,
+      ThreadPoolExecutor threadPoolExecutor,
+      long cachedEntryTtlInNs,
+      BatchedEndOffsetRefresher batchedEndOffsetRefresher) {
     this.pubSubClusterAddress = pubSubClusterAddress;
     this.stats = stats;
     this.pubSubAdminAdapter = pubSubAdminAdapter;
@@ -153,6 +189,7 @@ class TopicMetadataFetcher implements Closeable {
     this.threadPoolExecutor = threadPoolExecutor;
     this.cachedEntryTtlInNs = cachedEntryTtlInNs;
     this.closeables = new ArrayList<>(pubSubConsumerPool);
+    this.batchedEndOffsetRefresher = batchedEndOffsetRefresher;
   }
 
   // acquire the consumer from the pool
@@ -209,6 +246,9 @@ class TopicMetadataFetcher implements Closeable {
         "Closing TopicMetadataFetcher for pubSubClusterAddress: {} with num of consumers: {}",
         pubSubClusterAddress,
         closeables.size());
+    if (batchedEndOffsetRefresher != null) {
+      batchedEndOffsetRefresher.close();
+    }
     threadPoolExecutor.shutdown();
     try {
       if (!threadPoolExecutor.awaitTermination(50, MILLISECONDS)) {
@@ -367,6 +407,24 @@ class TopicMetadataFetcher implements Closeable {
     }
   }
 
+  /**
+   * Get the latest offsets of a batch of topic-partitions with a single request. This is a blocking call.
+   * @param pubSubTopicPartitions the topic-partitions to get the latest offsets for
+   * @return a map of topic-partition to latest offset
+   */
+  Map<PubSubTopicPartition, Long> getLatestOffsets(Collection<PubSubTopicPartition> pubSubTopicPartitions) {
+    PubSubConsumerAdapter pubSubConsumerAdapter = acquireConsumer();
+    try {
+      long startTime = System.nanoTime();
+      Map<PubSubTopicPartition, Long> offsetMap =
+          pubSubConsumerAdapter.endOffsets(pubSubTopicPartitions, getPubsubOffsetApiTimeoutDurationDefaultValue());
+      stats.recordLatency(BATCH_GET_PARTITION_LATEST_OFFSETS, startTime);
+      return offsetMap;
+    } finally {
+      releaseConsumer(pubSubConsumerAdapter);
+    }
+  }
+
   long getLatestOffsetWithRetries(PubSubTopicPartition pubSubTopicPartition, int retries) {
     return RetryUtils.executeWithMaxAttemptAndExponentialBackoff(() -> {
       validateTopicPartition(pubSubTopicPartition);
@@ -380,6 +438,16 @@ class TopicMetadataFetcher implements Closeable {
   }
 
   long getLatestOffsetCached(PubSubTopicPartition pubSubTopicPartition) {
+    if (batchedEndOffsetRefresher != null) {
+      try {
+        return batchedEndOffsetRefresher.getEndOffset(
+            pubSubTopicPartition,
+            k -> getLatestOffsetWithRetries(k, DEFAULT_MAX_RETRIES_FOR_POPULATING_TMD_CACHE_ENTRY));
+      } catch (PubSubTopicDoesNotExistException | PubSubOpTimeoutException e) {
+        LOGGER.error("Failed to get end offset for topic-partition: {}", pubSubTopicPartition, e);
+        return StatsErrorCode.LAG_MEASUREMENT_FAILURE.code;
+      }
+    }
     ValueAndExpiryTime<Long> cachedValue;
     try {
       cachedValue = latestOffsetCache.computeIfAbsent(pubSubTopicPartition, k -> {
@@ -647,6 +715,9 @@ class TopicMetadataFetcher implements Closeable {
   }
 
   void invalidateKey(PubSubTopicPartition pubSubTopicPartition) {
+    if (batchedEndOffsetRefresher != null) {
+      batchedEndOffsetRefresher.invalidate(pubSubTopicPartition);
+    }
     latestOffsetCache.remove(pubSubTopicPartition);
     lastProducerTimestampCache.remove(pubSubTopicPartition);
     lastProducerTimestampCache.remove(pubSubTopicPartition);
@@ -660,6 +731,9 @@ class TopicMetadataFetcher implements Closeable {
     long startTime = System.nanoTime();
     LOGGER.info("Invalidating cache for topic: {}", pubSubTopic);
     topicExistenceCache.remove(pubSubTopic);
+    if (batchedEndOffsetRefresher != null) {
+      batchedEndOffsetRefresher.invalidate(pubSubTopic);
+    }
     Set<PubSubTopicPartition> topicPartitions = new HashSet<>();
 
     for (PubSubTopicPartition pubSubTopicPartition: latestOffsetCache.keySet()) {
@@ -157,6 +157,46 @@ public class PushStatusStoreReader implements Closeable {
               incrementalPushVersion,
               PushStatusStoreUtils.SERVER_INCREMENTAL_PUSH_PREFIX));
     }
+    return batchGetPartitionStatuses(
+        storeName,
+        storeVersion,
+        incrementalPushVersion,
+        partitionIds,
+        pushStatusKeys,
+        batchGetLimitOption);
+  }
+
+  /**
+   * Return Da Vinci replica statuses of the partitions mentioned in partitionIds, fetched with batch gets instead of
+   * one single get per partition. If status is not available for a partition then empty map will be returned as a
+   * value for that partition.
+   * {partitionId: {instance:status, instance:status,...},...}
+   */
+  public Map<Integer, Map<CharSequence, Integer>> getDaVinciPartitionStatuses(
+      String storeName,
+      int storeVersion,
+      Optional<String> incrementalPushVersion,
+      Set<Integer> partitionIds) {
+    List<PushStatusKey> pushStatusKeys = new ArrayList<>(partitionIds.size());
+    for (int partitionId: partitionIds) {
+      pushStatusKeys.add(PushStatusStoreUtils.getPushKey(storeVersion, partitionId, incrementalPushVersion));
+    }
+    return batchGetPartitionStatuses(
+        storeName,
+        storeVersion,
+        incrementalPushVersion.orElse(null),
+        partitionIds,
+        pushStatusKeys,
+        Optional.empty());
+  }
+
+  private Map<Integer, Map<CharSequence, Integer>> batchGetPartitionStatuses(
+      String storeName,
+      int storeVersion,
+      String incrementalPushVersion,
+      Set<Integer> partitionIds,
+      List<PushStatusKey> pushStatusKeys,
+      Optional<Integer> batchGetLimitOption) {
     // get push status store client
     AvroSpecificStoreClient<PushStatusKey, PushStatusValue> storeClient = getVeniceClient(storeName);
     List<CompletableFuture<Map<PushStatusKey, PushStatusValue>>> completableFutures = new ArrayList<>();
@@ -198,7 +238,7 @@ public class PushStatusStoreReader implements Closeable {
     for (PushStatusKey pushStatusKey: pushStatusKeys) {
       PushStatusValue pushStatusValue = pushStatusMap.get(pushStatusKey);
       result.put(
-          PushStatusStoreUtils.getPartitionIdFromServerIncrementalPushKey(pushStatusKey),
+          PushStatusStoreUtils.getPartitionIdFromPushKey(pushStatusKey),
           (pushStatusValue == null || pushStatusValue.instances == null)
               ? Collections.emptyMap()
               : pushStatusValue.instances);
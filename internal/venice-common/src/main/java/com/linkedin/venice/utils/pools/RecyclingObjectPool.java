@@ -0,0 +1,61 @@
+package com.linkedin.venice.utils.pools;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * An implementation which keeps up to a bounded number of disposed objects around, and hands them out again instead of
+ * allocating new ones. The objects are cleared by the given recycler when they are disposed of, so that the pool does
+ * not retain what they referenced.
+ *
+ * The disposed objects which do not fit in the pool, as well as the objects which are never disposed of, are simply
+ * left to the garbage collector. The objects must not be used anymore once disposed of, since they can be handed out
+ * to another user right away.
+ */
+public class RecyclingObjectPool<O> extends AbstractObjectPool<O> {
+  private final BlockingQueue<O> recycledObjects;
+  private final Consumer<O> recycler;
+  private final LongAdder outstandingObjectCount = new LongAdder();
+
+  /**
+   * @param capacity the maximum number of disposed objects kept for reuse
+   * @param recycler clears the state of an object when it is disposed of
+   */
+  public RecyclingObjectPool(Supplier<O> objectSupplier, int capacity, Consumer<O> recycler) {
+    super(objectSupplier);
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("The capacity of the pool must be positive, but was: " + capacity);
+    }
+    this.recycledObjects = new ArrayBlockingQueue<>(capacity);
+    this.recycler = recycler;
+  }
+
+  @Override
+  public O get() {
+    outstandingObjectCount.increment();
+    O object = recycledObjects.poll();
+    return object == null ? super.get() : object;
+  }
+
+  @Override
+  public void dispose(O object) {
+    outstandingObjectCount.decrement();
+    recycler.accept(object);
+    recycledObjects.offer(object);
+  }
+
+  /**
+   * @return the number of objects handed out and not disposed of yet, which is meant to detect leaks in tests
+   */
+  public long getOutstandingObjectCount() {
+    return outstandingObjectCount.sum();
+  }
+
+  public int getRecycledObjectCount() {
+    return recycledObjects.size();
+  }
+}
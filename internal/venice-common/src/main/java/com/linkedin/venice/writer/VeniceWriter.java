@@ -68,11 +68,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -139,6 +141,19 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
    */
   public static final String MAX_RECORD_SIZE_BYTES = VENICE_WRITER_CONFIG_PREFIX + "max.record.size.bytes";
 
+  /**
+   * Whether data messages should be sequenced through a per-partition pending queue instead of having every producing
+   * thread block on the partition monitor. Default: false
+   *
+   * When enabled, a thread producing into a partition enqueues its message. If no other thread is draining the queue
+   * of the partition, it becomes the drainer: it takes the partition lock, assigns DIV sequence numbers to the queued
+   * messages and hands them to the producer in queue order. Otherwise it returns right away, without waiting for the
+   * partition lock, and its message is produced by the drainer. Failures to produce a message are then reported through
+   * the returned future and the callback instead of being thrown. See {@link #drainPendingSends(int)}.
+   */
+  public static final String NON_BLOCKING_PARTITION_SEND_ENABLED =
+      VENICE_WRITER_CONFIG_PREFIX + "non.blocking.partition.send.enabled";
+
   // Config value defaults
 
   /**
@@ -196,6 +211,8 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   private static final long DEFAULT_MAX_ELAPSED_TIME_FOR_SEGMENT_IN_MS =
       TimeUnit.MILLISECONDS.convert(5, TimeUnit.MINUTES);
 
+  private static final int MAX_PENDING_SENDS_PER_DRAIN = 256;
+
   /**
    * This sentinel value indicates that the venice samza apps do not support the logical timestamp.
    */
@@ -258,6 +275,21 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   private final Map<CharSequence, CharSequence> defaultDebugInfo;
   private final boolean elapsedTimeForClosingSegmentEnabled;
   private final Object[] partitionLocks;
+  private final boolean nonBlockingPartitionSendEnabled;
+  /**
+   * Per-partition queues of messages waiting to be sequenced and produced, only used when
+   * {@link #nonBlockingPartitionSendEnabled} is true.
+   */
+  private final ConcurrentLinkedQueue<PendingSend>[] pendingSends;
+  /**
+   * Per-partition flags telling whether a thread is draining {@link #pendingSends}, see
+   * {@link #drainPendingSends(int)}.
+   */
+  private final AtomicBoolean[] drainingPendingSends;
+  /**
+   * Per-partition re-entrance guard of {@link #producePendingSendsUnderLock(int)}, guarded by the partition lock.
+   */
+  private final boolean[] producingPendingSends;
   private String writerId;
   private volatile boolean isClosed = false;
   private final Object closeLock = new Object();
@@ -334,6 +366,7 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
     this.maxElapsedTimeForSegmentInMs =
         props.getLong(MAX_ELAPSED_TIME_FOR_SEGMENT_IN_MS, DEFAULT_MAX_ELAPSED_TIME_FOR_SEGMENT_IN_MS);
     this.elapsedTimeForClosingSegmentEnabled = maxElapsedTimeForSegmentInMs > 0;
+    this.nonBlockingPartitionSendEnabled = props.getBoolean(NON_BLOCKING_PARTITION_SEND_ENABLED, false);
     this.defaultDebugInfo = Utils.getDebugInfo();
 
     // if INSTANCE_ID is not set, we'd use "hostname:port" as the default writer id
@@ -387,6 +420,19 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
         segmentsStartTimeArray[i] = -1L;
       }
       this.segments = new Segment[this.numberOfPartitions];
+      if (nonBlockingPartitionSendEnabled) {
+        this.pendingSends = new ConcurrentLinkedQueue[this.numberOfPartitions];
+        this.drainingPendingSends = new AtomicBoolean[this.numberOfPartitions];
+        for (int i = 0; i < numberOfPartitions; i++) {
+          pendingSends[i] = new ConcurrentLinkedQueue<>();
+          drainingPendingSends[i] = new AtomicBoolean(false);
+        }
+        this.producingPendingSends = new boolean[this.numberOfPartitions];
+      } else {
+        this.pendingSends = null;
+        this.drainingPendingSends = null;
+        this.producingPendingSends = null;
+      }
       OPEN_VENICE_WRITER_COUNT.incrementAndGet();
       heartBeatMessage = generateHeartbeatMessage(checkSumType);
     } catch (Exception e) {
@@ -1289,18 +1335,16 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       PubSubProducerCallback callback,
       LeaderMetadataWrapper leaderMetadataWrapper,
       long logicalTs) {
-    synchronized (this.partitionLocks[partition]) {
-      return sendMessage(
-          keyProvider,
-          messageType,
-          payload,
-          false,
-          partition,
-          callback,
-          true,
-          leaderMetadataWrapper,
-          logicalTs);
-    }
+    return sendMessage(
+        keyProvider,
+        messageType,
+        payload,
+        false,
+        partition,
+        callback,
+        true,
+        leaderMetadataWrapper,
+        logicalTs);
   }
 
   private CompletableFuture<PubSubProduceResult> sendMessage(
@@ -1313,20 +1357,19 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       boolean updateDIV,
       LeaderMetadataWrapper leaderMetadataWrapper,
       long logicalTs) {
-    synchronized (this.partitionLocks[partition]) {
-      KafkaMessageEnvelopeProvider kafkaMessageEnvelopeProvider = () -> {
-        KafkaMessageEnvelope kafkaValue = getKafkaMessageEnvelope(
-            messageType,
-            isEndOfSegment,
-            partition,
-            updateDIV,
-            leaderMetadataWrapper,
-            logicalTs);
-        kafkaValue.payloadUnion = payload;
-        return kafkaValue;
-      };
-      return sendMessage(keyProvider, kafkaMessageEnvelopeProvider, partition, callback, updateDIV);
-    }
+    // The envelope (and therefore the DIV metadata) is only built once the partition lock is held, see below.
+    KafkaMessageEnvelopeProvider kafkaMessageEnvelopeProvider = () -> {
+      KafkaMessageEnvelope kafkaValue = getKafkaMessageEnvelope(
+          messageType,
+          isEndOfSegment,
+          partition,
+          updateDIV,
+          leaderMetadataWrapper,
+          logicalTs);
+      kafkaValue.payloadUnion = payload;
+      return kafkaValue;
+    };
+    return sendMessage(keyProvider, kafkaMessageEnvelopeProvider, partition, callback, updateDIV);
   }
 
   /**
@@ -1347,8 +1390,9 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
    *         have also updated the DIV.
    *         @see {@link #sendControlMessage(ControlMessage, int, Map, PubSubProducerCallback, LeaderMetadataWrapper)}
    *
-   * P.S. 2: If there is too much contention on this lock, then we can consider a finer locking strategy, where the
-   *         locking is per-partition, which would also be correct as far as DIV is concerned.
+   * P.S. 2: If {@link #NON_BLOCKING_PARTITION_SEND_ENABLED} is set, the message is enqueued and produced by the thread
+   *         draining the partition queue, see {@link #drainPendingSends(int)}. DIV metadata is still computed under
+   *         the partition lock, in the same order as the messages are handed to the producer.
    *
    * @param updateDIV if true, the partition's segment's checksum will be updated and its sequence number incremented
    *                  if false, the checksum and seq# update are omitted, which is the right thing to do during retries
@@ -1359,45 +1403,158 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       int partition,
       PubSubProducerCallback callback,
       boolean updateDIV) {
-    synchronized (this.partitionLocks[partition]) {
-      KafkaMessageEnvelope kafkaValue = valueProvider.getKafkaMessageEnvelope();
-      KafkaKey key = keyProvider.getKey(kafkaValue.producerMetadata);
-      if (updateDIV) {
-        Segment segment = segments[partition];
-        if (segment == null) {
-          throw new VeniceException("segmentMap does not contain partition " + partition + " for topic " + topicName);
-        }
-        segment.addToCheckSum(key, kafkaValue);
+    if (!nonBlockingPartitionSendEnabled) {
+      synchronized (this.partitionLocks[partition]) {
+        return sendMessageUnderPartitionLock(keyProvider, valueProvider, partition, callback, updateDIV);
       }
-      PubSubProducerCallback messageCallback = callback;
-      if (callback == null) {
-        messageCallback = new SendMessageErrorLoggerCallback(kafkaValue, logger);
-      } else if (callback instanceof CompletableFutureCallback) {
-        CompletableFutureCallback completableFutureCallBack = (CompletableFutureCallback) callback;
-        if (completableFutureCallBack.getCallback() == null) {
-          completableFutureCallBack.setCallback(new SendMessageErrorLoggerCallback(kafkaValue, logger));
+    }
+    /**
+     * Threads already holding the partition lock (control messages, segment transitions and the retries in
+     * {@link #sendControlMessageWithRetriesForNonExistentTopic}) must produce inline, as they rely on the message being
+     * sequenced before they release the lock. Messages enqueued before this one go first, so that e.g. an
+     * END_OF_SEGMENT never overtakes them.
+     */
+    if (Thread.holdsLock(this.partitionLocks[partition])) {
+      producePendingSendsUnderLock(partition);
+      return sendMessageUnderPartitionLock(keyProvider, valueProvider, partition, callback, updateDIV);
+    }
+    PendingSend pendingSend = new PendingSend(keyProvider, valueProvider, callback, updateDIV);
+    pendingSends[partition].offer(pendingSend);
+    drainPendingSends(partition);
+    return pendingSend.future;
+  }
+
+  /**
+   * Only one thread per partition drains the queue, the others return without touching the partition lock. The drainer
+   * checks the queue again after giving up the drainer role: a message enqueued by a thread which failed to become the
+   * drainer meanwhile is then either seen by that check, or by the thread which became the drainer after it, so that no
+   * message is ever left behind in the queue.
+   */
+  private void drainPendingSends(int partition) {
+    AtomicBoolean draining = drainingPendingSends[partition];
+    ConcurrentLinkedQueue<PendingSend> queue = pendingSends[partition];
+    while (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+      try {
+        synchronized (this.partitionLocks[partition]) {
+          producePendingSendsUnderLock(partition);
         }
+      } finally {
+        draining.set(false);
+      }
+    }
+  }
+
+  /**
+   * Must be called while holding the partition lock. Produces at most {@link #MAX_PENDING_SENDS_PER_DRAIN} messages,
+   * so that the partition lock is released regularly for control messages while a busy partition is drained. Producing
+   * a pending message can start a new segment, which sends a START_OF_SEGMENT inline; that nested call must
+   * not pick up the next pending message before the current one.
+   */
+  private void producePendingSendsUnderLock(int partition) {
+    if (producingPendingSends[partition]) {
+      return;
+    }
+    producingPendingSends[partition] = true;
+    try {
+      ConcurrentLinkedQueue<PendingSend> queue = pendingSends[partition];
+      int pendingSendCount = MAX_PENDING_SENDS_PER_DRAIN;
+      PendingSend pendingSend;
+      while (pendingSendCount-- > 0 && (pendingSend = queue.poll()) != null) {
+        pendingSend.produce(partition);
       }
+    } finally {
+      producingPendingSends[partition] = false;
+    }
+  }
+
+  /**
+   * A data message waiting in {@link #pendingSends} to be sequenced and produced.
+   */
+  private final class PendingSend {
+    private final KeyProvider keyProvider;
+    private final KafkaMessageEnvelopeProvider valueProvider;
+    private final PubSubProducerCallback callback;
+    private final boolean updateDIV;
+    private final CompletableFuture<PubSubProduceResult> future = new CompletableFuture<>();
+
+    private PendingSend(
+        KeyProvider keyProvider,
+        KafkaMessageEnvelopeProvider valueProvider,
+        PubSubProducerCallback callback,
+        boolean updateDIV) {
+      this.keyProvider = keyProvider;
+      this.valueProvider = valueProvider;
+      this.callback = callback;
+      this.updateDIV = updateDIV;
+    }
+
+    private void produce(int partition) {
       try {
-        return producerAdapter.sendMessage(
-            topicName,
-            partition,
-            key,
-            kafkaValue,
-            getHeaders(kafkaValue.getProducerMetadata()),
-            messageCallback);
-      } catch (Exception e) {
-        if (ExceptionUtils.recursiveClassEquals(e, PubSubTopicAuthorizationException.class)) {
-          throw new VeniceResourceAccessException(
-              "You do not have permission to write to this store. Please check that ACLs are set correctly.",
-              e);
-        } else {
-          throw e;
+        sendMessageUnderPartitionLock(keyProvider, valueProvider, partition, callback, updateDIV)
+            .whenComplete((result, throwable) -> {
+              if (throwable == null) {
+                future.complete(result);
+              } else {
+                future.completeExceptionally(throwable);
+              }
+            });
+      } catch (RuntimeException e) {
+        // The caller has already returned, so the failure can not be thrown to it.
+        future.completeExceptionally(e);
+        if (callback != null) {
+          try {
+            callback.onCompletion(null, e);
+          } catch (Exception callbackException) {
+            logger.error("Failed to notify the callback of a message which could not be produced", callbackException);
+          }
         }
       }
     }
   }
 
+  private CompletableFuture<PubSubProduceResult> sendMessageUnderPartitionLock(
+      KeyProvider keyProvider,
+      KafkaMessageEnvelopeProvider valueProvider,
+      int partition,
+      PubSubProducerCallback callback,
+      boolean updateDIV) {
+    KafkaMessageEnvelope kafkaValue = valueProvider.getKafkaMessageEnvelope();
+    KafkaKey key = keyProvider.getKey(kafkaValue.producerMetadata);
+    if (updateDIV) {
+      Segment segment = segments[partition];
+      if (segment == null) {
+        throw new VeniceException("segmentMap does not contain partition " + partition + " for topic " + topicName);
+      }
+      segment.addToCheckSum(key, kafkaValue);
+    }
+    PubSubProducerCallback messageCallback = callback;
+    if (callback == null) {
+      messageCallback = new SendMessageErrorLoggerCallback(kafkaValue, logger);
+    } else if (callback instanceof CompletableFutureCallback) {
+      CompletableFutureCallback completableFutureCallBack = (CompletableFutureCallback) callback;
+      if (completableFutureCallBack.getCallback() == null) {
+        completableFutureCallBack.setCallback(new SendMessageErrorLoggerCallback(kafkaValue, logger));
+      }
+    }
+    try {
+      return producerAdapter.sendMessage(
+          topicName,
+          partition,
+          key,
+          kafkaValue,
+          getHeaders(kafkaValue.getProducerMetadata()),
+          messageCallback);
+    } catch (Exception e) {
+      if (ExceptionUtils.recursiveClassEquals(e, PubSubTopicAuthorizationException.class)) {
+        throw new VeniceResourceAccessException(
+            "You do not have permission to write to this store. Please check that ACLs are set correctly.",
+            e);
+      } else {
+        throw e;
+      }
+    }
+  }
+
   /**
    * We only include the protocol schema headers on this writer's first message to each partition.
    */
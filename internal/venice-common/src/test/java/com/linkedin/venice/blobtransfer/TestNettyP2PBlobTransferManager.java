@@ -19,6 +19,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Random;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -41,10 +42,11 @@ public class TestNettyP2PBlobTransferManager {
   String TMP_PARTITION_DIR = "tmpPartitionDir";
   int TEST_VERSION = 1;
   int TEST_PARTITION = 0;
+  int port;
 
   @BeforeClass
   public void setUp() throws Exception {
-    int port = TestUtils.getFreePort();
+    port = TestUtils.getFreePort();
     tmpSnapshotDir = Files.createTempDirectory(TMP_SNAPSHOT_DIR);
     tmpPartitionDir = Files.createTempDirectory(TMP_PARTITION_DIR);
     // intentionally use different directories for snapshot and partition so that we can verify the file transfer
@@ -156,4 +158,48 @@ public class TestNettyP2PBlobTransferManager {
     Assert.assertTrue(Arrays.equals(Files.readAllBytes(file2), Files.readAllBytes(destFile2)));
     Assert.assertTrue(Arrays.equals(Files.readAllBytes(file3), Files.readAllBytes(destFile3)));
   }
+
+  @Test
+  public void testStripedFileTransferResumesPartialFiles()
+      throws IOException, ExecutionException, InterruptedException, TimeoutException {
+    int partition = 1;
+    BlobPeersDiscoveryResponse response = new BlobPeersDiscoveryResponse();
+    // Both peers resolve to the local server, so they hold the same snapshot
+    response.setDiscoveryResult(Arrays.asList("localhost", "localhost_1234"));
+    BlobFinder stripedFinder = mock(BlobFinder.class);
+    doReturn(response).when(stripedFinder).discoverBlobPeers(anyString(), anyInt(), anyInt());
+    NettyFileTransferClient stripedClient =
+        new NettyFileTransferClient(port, tmpPartitionDir.toString(), 1024 * 1024 * 1024);
+    NettyP2PBlobTransferManager stripedManager =
+        new NettyP2PBlobTransferManager(server, stripedClient, stripedFinder, true);
+
+    Path snapshotDir = Paths.get(
+        RocksDBUtils.composeSnapshotDir(tmpSnapshotDir.toString(), TEST_STORE + "_v" + TEST_VERSION, partition));
+    Path partitionDir = Paths.get(
+        RocksDBUtils.composePartitionDbDir(tmpPartitionDir.toString(), TEST_STORE + "_v" + TEST_VERSION, partition));
+    Files.createDirectories(snapshotDir);
+    Files.createDirectories(partitionDir);
+    byte[] smallContent = "helloworld".getBytes();
+    byte[] largeContent = new byte[5 * 1024 * 1024];
+    new Random(0).nextBytes(largeContent);
+    byte[] otherContent = new byte[1024 * 1024];
+    new Random(1).nextBytes(otherContent);
+    Files.write(snapshotDir.resolve("000001.sst"), smallContent);
+    Files.write(snapshotDir.resolve("000002.sst"), largeContent);
+    Files.write(snapshotDir.resolve("000003.sst"), otherContent);
+    // A partial file left by a previous failed transfer should be resumed
+    Files.write(partitionDir.resolve("000002.sst"), Arrays.copyOf(largeContent, 1024 * 1024));
+    // A corrupted partial file should fail the checksum verification and be fetched again from scratch
+    Files.write(partitionDir.resolve("000003.sst"), new byte[1024]);
+
+    try {
+      stripedManager.get(TEST_STORE, TEST_VERSION, partition).toCompletableFuture().get(1, TimeUnit.MINUTES);
+    } finally {
+      stripedClient.close();
+    }
+
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000001.sst")), smallContent);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000002.sst")), largeContent);
+    Assert.assertEquals(Files.readAllBytes(partitionDir.resolve("000003.sst")), otherContent);
+  }
 }
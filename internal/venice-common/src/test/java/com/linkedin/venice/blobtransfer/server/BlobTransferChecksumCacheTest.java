@@ -0,0 +1,35 @@
+package com.linkedin.venice.blobtransfer.server;
+
+import com.linkedin.venice.blobtransfer.BlobTransferUtils;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class BlobTransferChecksumCacheTest {
+  @Test
+  public void testChecksumIsCachedUntilFileChanges() throws Exception {
+    Path tmpDir = Files.createTempDirectory("checksum");
+    File file = tmpDir.resolve("000001.sst").toFile();
+    Files.write(file.toPath(), "hello".getBytes());
+    try (BlobTransferChecksumCache checksumCache = new BlobTransferChecksumCache(1)) {
+      CompletableFuture<String> checksumFuture = checksumCache.getChecksum(file);
+      Assert.assertEquals(checksumFuture.get(10, TimeUnit.SECONDS), BlobTransferUtils.computeFileChecksum(file));
+      // The checksum of an unchanged file is only computed once
+      Assert.assertSame(checksumCache.getChecksum(file), checksumFuture);
+
+      // A newer snapshot replaced the file
+      Files.write(file.toPath(), "hello world".getBytes());
+      CompletableFuture<String> newChecksumFuture = checksumCache.getChecksum(file);
+      Assert.assertNotSame(newChecksumFuture, checksumFuture);
+      Assert.assertEquals(newChecksumFuture.get(10, TimeUnit.SECONDS), BlobTransferUtils.computeFileChecksum(file));
+    } finally {
+      Files.deleteIfExists(file.toPath());
+      Files.deleteIfExists(tmpDir);
+    }
+  }
+}
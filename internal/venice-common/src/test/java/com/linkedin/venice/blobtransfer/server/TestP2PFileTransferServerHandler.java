@@ -1,9 +1,12 @@
 package com.linkedin.venice.blobtransfer.server;
 
 import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
+import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_FILE_CHECKSUM;
 import static com.linkedin.venice.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 
+import com.linkedin.venice.blobtransfer.BlobTransferUtils;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.TestUtils;
 import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -12,6 +15,7 @@ import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.timeout.IdleStateEvent;
@@ -23,6 +27,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -32,16 +37,19 @@ import org.testng.annotations.Test;
 public class TestP2PFileTransferServerHandler {
   EmbeddedChannel ch;
   Path baseDir;
+  BlobTransferChecksumCache checksumCache;
 
   @BeforeMethod
   public void setUp() throws IOException {
     baseDir = Files.createTempDirectory("tmp");
-    ch = new EmbeddedChannel(new P2PFileTransferServerHandler(baseDir.toString()));
+    checksumCache = new BlobTransferChecksumCache(1);
+    ch = new EmbeddedChannel(new P2PFileTransferServerHandler(baseDir.toString(), checksumCache));
   }
 
   @AfterMethod
   public void teardown() throws IOException {
     ch.close();
+    checksumCache.close();
     Files.walk(baseDir).sorted(Comparator.reverseOrder()).forEach(path -> {
       try {
         Files.delete(path);
@@ -163,4 +171,32 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertEquals(endOfTransfer.headers().get(BLOB_TRANSFER_STATUS), BLOB_TRANSFER_COMPLETED);
     // end of all file
   }
+
+  @Test
+  public void testTransferSingleFileWithChecksum() throws Exception {
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    Path file1 = snapshotDir.resolve("file1");
+    Files.write(file1.toAbsolutePath(), "hello".getBytes());
+    String expectedChecksum = BlobTransferUtils.computeFileChecksum(file1.toFile());
+
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/myStore/1/10/file/file1");
+    request.headers().set(HttpHeaderNames.RANGE, "bytes=2-");
+    ch.writeInbound(request);
+    // The file is only sent by the event loop once its checksum has been computed by the cache
+    checksumCache.getChecksum(file1.toFile()).get(10, TimeUnit.SECONDS);
+    TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+      ch.runPendingTasks();
+      Assert.assertFalse(ch.outboundMessages().isEmpty());
+    });
+    Object response = ch.readOutbound();
+    Assert.assertTrue(response instanceof DefaultHttpResponse);
+    DefaultHttpResponse httpResponse = (DefaultHttpResponse) response;
+    Assert.assertEquals(httpResponse.status(), HttpResponseStatus.PARTIAL_CONTENT);
+    Assert.assertEquals(httpResponse.headers().get(BLOB_TRANSFER_FILE_CHECKSUM), expectedChecksum);
+    Assert.assertEquals(httpResponse.headers().get(HttpHeaderNames.CONTENT_LENGTH), "3");
+    Assert.assertTrue(ch.readOutbound() instanceof DefaultFileRegion);
+    Assert.assertTrue(ch.readOutbound() instanceof LastHttpContent);
+  }
 }
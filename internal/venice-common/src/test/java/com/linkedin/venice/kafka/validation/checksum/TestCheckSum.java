@@ -2,7 +2,10 @@ package com.linkedin.venice.kafka.validation.checksum;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.DataProviderUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Checksum;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -28,4 +31,36 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test(dataProvider = "CheckpointingSupported-CheckSum-Types", dataProviderClass = DataProviderUtils.class)
+  public void testCheckSumResumesFromEncodedState(CheckSumType checkSumType) {
+    Random random = new Random(checkSumType.getValue());
+    byte[] firstPart = new byte[1000];
+    byte[] secondPart = new byte[777];
+    random.nextBytes(firstPart);
+    random.nextBytes(secondPart);
+
+    CheckSum checkSum = CheckSum.getInstance(checkSumType);
+    checkSum.update(firstPart);
+    CheckSum restoredCheckSum = CheckSum.getInstance(checkSumType, checkSum.getEncodedState());
+    checkSum.update(secondPart);
+    restoredCheckSum.update(secondPart);
+    Assert.assertEquals(restoredCheckSum.getCheckSum(), checkSum.getCheckSum());
+  }
+
+  @Test
+  public void testCRC32CImplementationsAreConsistent() {
+    byte[] input = "123456789".getBytes(StandardCharsets.US_ASCII);
+    Checksum pureJavaCrc32C = new CRC32CCheckSum.PureJavaCrc32C();
+    pureJavaCrc32C.update(input, 0, input.length);
+    // Standard check value of CRC-32C
+    Assert.assertEquals(pureJavaCrc32C.getValue(), 0xE3069283L);
+
+    Checksum crc32C = CRC32CCheckSum.newCrc32C();
+    crc32C.update(input, 0, input.length);
+    Assert.assertEquals(crc32C.getValue(), 0xE3069283L);
+
+    CRC32CCheckSum.restoreState(pureJavaCrc32C, 0xDEADBEEFL);
+    Assert.assertEquals(pureJavaCrc32C.getValue(), 0xDEADBEEFL);
+  }
 }
@@ -2,6 +2,11 @@ package com.linkedin.venice.pubsub.api;
 
 import static com.linkedin.venice.pubsub.api.PubSubMessageHeaders.VENICE_TRANSPORT_PROTOCOL_HEADER;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 
 import com.linkedin.venice.exceptions.VeniceMessageException;
 import com.linkedin.venice.kafka.protocol.GUID;
@@ -10,12 +15,14 @@ import com.linkedin.venice.kafka.protocol.ProducerMetadata;
 import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PooledPubSubMessage;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.serialization.KafkaKeySerializer;
 import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
 import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import com.linkedin.venice.utils.pools.RecyclingObjectPool;
 import java.nio.ByteBuffer;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -129,6 +136,51 @@ public class PubSubMessageDeserializerTest {
     assertEquals((long) message.getOffset(), 11);
   }
 
+  @Test
+  public void testPooledEnvelopesAreRecycledOnceReleased() {
+    RecyclingObjectPool<KafkaMessageEnvelope> putEnvelopePool =
+        new RecyclingObjectPool<>(KafkaMessageEnvelope::new, 10, PubSubMessageDeserializer::recycleEnvelope);
+    PubSubMessageDeserializer pooledMessageDeserializer = new PubSubMessageDeserializer(
+        new OptimizedKafkaValueSerializer(),
+        putEnvelopePool,
+        new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+    byte[] keyBytes = keySerializer.serialize("test", new KafkaKey(MessageType.PUT, "key".getBytes()));
+    KafkaMessageEnvelope value = getDummyValue();
+    byte[] valueBytes = valueSerializer.serialize("test", value);
+
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message = pooledMessageDeserializer
+        .deserialize(topicPartition, keyBytes, valueBytes, new PubSubMessageHeaders(), 11L, 12L);
+    assertTrue(message instanceof PooledPubSubMessage);
+    assertEquals(message.getValue(), value);
+    KafkaMessageEnvelope envelope = message.getValue();
+    ProducerMetadata producerMetadata = envelope.producerMetadata;
+    ByteBuffer putValue = ((Put) envelope.payloadUnion).putValue;
+    assertEquals(putEnvelopePool.getOutstandingObjectCount(), 1);
+
+    // The envelope is only recycled once the last reference is released
+    message.retain();
+    message.release();
+    assertEquals(putEnvelopePool.getOutstandingObjectCount(), 1);
+    message.release();
+    assertEquals(putEnvelopePool.getOutstandingObjectCount(), 0);
+    assertEquals(putEnvelopePool.getRecycledObjectCount(), 1);
+    assertNull(envelope.producerMetadata);
+    assertNull(((Put) envelope.payloadUnion).putValue);
+    assertThrows(IllegalStateException.class, message::release);
+    assertThrows(IllegalStateException.class, message::retain);
+
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> nextMessage = pooledMessageDeserializer
+        .deserialize(topicPartition, keyBytes, valueBytes, new PubSubMessageHeaders(), 12L, 13L);
+    assertSame(nextMessage.getValue(), envelope);
+    assertEquals(nextMessage.getValue(), value);
+    // What the previous record handed over is not overwritten
+    assertNotSame(envelope.producerMetadata, producerMetadata);
+    assertNotSame(((Put) envelope.payloadUnion).putValue, putValue);
+    nextMessage.release();
+    assertEquals(putEnvelopePool.getOutstandingObjectCount(), 0);
+    pooledMessageDeserializer.close();
+  }
+
   private KafkaMessageEnvelope getDummyValue() {
     KafkaMessageEnvelope value = new KafkaMessageEnvelope();
     value.producerMetadata = new ProducerMetadata();
@@ -0,0 +1,92 @@
+package com.linkedin.venice.pubsub.manager;
+
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubOpTimeoutException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+
+public class BatchedEndOffsetRefresherTest {
+  private static final long REFRESH_INTERVAL_MS = TimeUnit.HOURS.toMillis(1);
+
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+
+  @Test
+  public void testEndOffsetsAreRefreshedInBatches() {
+    PubSubTopic topic = pubSubTopicRepository.getTopic("store_v1");
+    PubSubTopicPartition partition0 = new PubSubTopicPartitionImpl(topic, 0);
+    PubSubTopicPartition partition1 = new PubSubTopicPartitionImpl(topic, 1);
+    List<Collection<PubSubTopicPartition>> requests = new ArrayList<>();
+    try (BatchedEndOffsetRefresher refresher = new BatchedEndOffsetRefresher("localhost:9092", batch -> {
+      requests.add(new ArrayList<>(batch));
+      Map<PubSubTopicPartition, Long> endOffsets = new HashMap<>();
+      for (PubSubTopicPartition pubSubTopicPartition: batch) {
+        endOffsets.put(pubSubTopicPartition, 100L + pubSubTopicPartition.getPartitionNumber());
+      }
+      return endOffsets;
+    }, REFRESH_INTERVAL_MS)) {
+      AtomicInteger initialFetchCount = new AtomicInteger();
+      assertEquals(refresher.getEndOffset(partition0, k -> initialFetchCount.incrementAndGet()), 1L);
+      assertEquals(refresher.getEndOffset(partition1, k -> initialFetchCount.incrementAndGet()), 2L);
+      // The partitions are fetched synchronously only once
+      assertEquals(refresher.getEndOffset(partition0, k -> initialFetchCount.incrementAndGet()), 1L);
+      assertEquals(initialFetchCount.get(), 2);
+      assertEquals(refresher.getTrackedPartitionCount(), 2);
+
+      refresher.refresh();
+      assertEquals(requests.size(), 1);
+      assertEquals(requests.get(0).size(), 2);
+      assertEquals(refresher.getEndOffset(partition0, k -> -1L), 100L);
+      assertEquals(refresher.getEndOffset(partition1, k -> -1L), 101L);
+
+      refresher.invalidate(topic);
+      assertEquals(refresher.getTrackedPartitionCount(), 0);
+      refresher.refresh();
+      assertEquals(requests.size(), 1);
+    }
+  }
+
+  @Test
+  public void testFailingPartitionsStopBeingTracked() {
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic("store_v1"), 0);
+    AtomicBoolean shouldFail = new AtomicBoolean(true);
+    try (BatchedEndOffsetRefresher refresher = new BatchedEndOffsetRefresher("localhost:9092", batch -> {
+      if (shouldFail.get()) {
+        throw new PubSubOpTimeoutException("Timed out");
+      }
+      Map<PubSubTopicPartition, Long> endOffsets = new HashMap<>();
+      batch.forEach(pubSubTopicPartition -> endOffsets.put(pubSubTopicPartition, 10L));
+      return endOffsets;
+    }, REFRESH_INTERVAL_MS)) {
+      assertEquals(refresher.getEndOffset(partition, k -> 5L), 5L);
+      // The stale end offset is kept when the refresh fails
+      refresher.refresh();
+      assertEquals(refresher.getEndOffset(partition, k -> -1L), 5L);
+      // A successful refresh resets the failure count
+      shouldFail.set(false);
+      refresher.refresh();
+      assertEquals(refresher.getEndOffset(partition, k -> -1L), 10L);
+
+      shouldFail.set(true);
+      for (int i = 0; i < BatchedEndOffsetRefresher.MAX_CONSECUTIVE_REFRESH_FAILURES - 1; i++) {
+        refresher.refresh();
+        assertEquals(refresher.getTrackedPartitionCount(), 1);
+      }
+      refresher.refresh();
+      assertEquals(refresher.getTrackedPartitionCount(), 0);
+      assertEquals(refresher.getEndOffset(partition, k -> 20L), 20L);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.linkedin.venice.utils.pools;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class RecyclingObjectPoolTest {
+  @Test
+  public void testDisposedObjectsAreRecycled() {
+    RecyclingObjectPool<List<String>> pool = new RecyclingObjectPool<>(ArrayList::new, 1, List::clear);
+    List<String> first = pool.get();
+    first.add("value");
+    List<String> second = pool.get();
+    assertNotSame(first, second);
+    assertEquals(pool.getOutstandingObjectCount(), 2);
+
+    pool.dispose(first);
+    // The pool is full, so this one is left to the garbage collector
+    pool.dispose(second);
+    assertEquals(pool.getOutstandingObjectCount(), 0);
+    assertEquals(pool.getRecycledObjectCount(), 1);
+    assertEquals(first.size(), 0);
+
+    assertSame(pool.get(), first);
+    assertEquals(pool.getRecycledObjectCount(), 0);
+    assertNotSame(pool.get(), second);
+    assertEquals(pool.getOutstandingObjectCount(), 2);
+  }
+
+  @Test
+  public void testInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new RecyclingObjectPool<>(Object::new, 0, o -> {}));
+  }
+}
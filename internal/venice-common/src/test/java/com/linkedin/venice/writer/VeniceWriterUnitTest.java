@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -29,6 +30,7 @@ import com.linkedin.davinci.kafka.consumer.LeaderFollowerStoreIngestionTask;
 import com.linkedin.davinci.kafka.consumer.LeaderProducerCallback;
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
 import com.linkedin.venice.exceptions.RecordTooLargeException;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.guid.HeartbeatGuidV3Generator;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.Delete;
@@ -62,9 +64,15 @@ import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.kafka.common.errors.TimeoutException;
@@ -666,4 +674,115 @@ public class VeniceWriterUnitTest {
       }
     }
   }
+
+  @Test(timeOut = TIMEOUT)
+  public void testNonBlockingPartitionSendKeepsSequenceNumbersInProduceOrder() throws Exception {
+    PubSubProducerAdapter mockedProducer = mock(PubSubProducerAdapter.class);
+    List<ProducerMetadata> producedMetadata = new ArrayList<>();
+    doAnswer(invocation -> {
+      KafkaMessageEnvelope value = invocation.getArgument(3);
+      synchronized (producedMetadata) {
+        producedMetadata.add(value.producerMetadata);
+      }
+      return CompletableFuture.completedFuture(null);
+    }).when(mockedProducer).sendMessage(any(), any(), any(), any(), any(), any());
+    String stringSchema = "\"string\"";
+    VeniceKafkaSerializer serializer = new VeniceAvroKafkaSerializer(stringSchema);
+    VeniceWriterOptions veniceWriterOptions = new VeniceWriterOptions.Builder("test").setKeySerializer(serializer)
+        .setValueSerializer(serializer)
+        .setWriteComputeSerializer(serializer)
+        .setPartitioner(new DefaultVenicePartitioner())
+        .setPartitionCount(1)
+        .build();
+    Properties writerProperties = new Properties();
+    writerProperties.put(VeniceWriter.NON_BLOCKING_PARTITION_SEND_ENABLED, true);
+    VeniceWriter<Object, Object, Object> writer =
+        new VeniceWriter(veniceWriterOptions, new VeniceProperties(writerProperties), mockedProducer);
+
+    int threadCount = 8;
+    int recordsPerThread = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<List<Future>>> threadResults = new ArrayList<>();
+      for (int t = 0; t < threadCount; t++) {
+        final int threadId = t;
+        threadResults.add(executor.submit(() -> {
+          List<Future> produceFutures = new ArrayList<>();
+          for (int i = 0; i < recordsPerThread; i++) {
+            produceFutures.add(writer.put("key-" + threadId + "-" + i, "value", 1, null));
+          }
+          return produceFutures;
+        }));
+      }
+      for (Future<List<Future>> threadResult: threadResults) {
+        for (Future produceFuture: threadResult.get()) {
+          produceFuture.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // One START_OF_SEGMENT followed by every data message, with gapless sequence numbers in produce order.
+    synchronized (producedMetadata) {
+      assertEquals(producedMetadata.size(), threadCount * recordsPerThread + 1);
+      for (int i = 0; i < producedMetadata.size(); i++) {
+        assertEquals(producedMetadata.get(i).segmentNumber, 0);
+        assertEquals(producedMetadata.get(i).messageSequenceNumber, i);
+      }
+    }
+  }
+
+  @Test(timeOut = TIMEOUT)
+  public void testNonBlockingPartitionSendDoesNotWaitForTheDrainer() throws Exception {
+    PubSubProducerAdapter mockedProducer = mock(PubSubProducerAdapter.class);
+    CountDownLatch producerEntered = new CountDownLatch(1);
+    CountDownLatch producerReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      producerEntered.countDown();
+      producerReleased.await();
+      return CompletableFuture.completedFuture(null);
+    }).when(mockedProducer).sendMessage(any(), any(), any(), any(), any(), any());
+    String stringSchema = "\"string\"";
+    VeniceKafkaSerializer serializer = new VeniceAvroKafkaSerializer(stringSchema);
+    VeniceWriterOptions veniceWriterOptions = new VeniceWriterOptions.Builder("test").setKeySerializer(serializer)
+        .setValueSerializer(serializer)
+        .setWriteComputeSerializer(serializer)
+        .setPartitioner(new DefaultVenicePartitioner())
+        .setPartitionCount(1)
+        .build();
+    Properties writerProperties = new Properties();
+    writerProperties.put(VeniceWriter.NON_BLOCKING_PARTITION_SEND_ENABLED, true);
+    VeniceWriter<Object, Object, Object> writer =
+        new VeniceWriter(veniceWriterOptions, new VeniceProperties(writerProperties), mockedProducer);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      // This thread becomes the drainer of the partition, and holds the partition lock while the producer is stuck.
+      Future<Future> drainerPut = executor.submit(() -> writer.put("key-0", "value", 1, null));
+      producerEntered.await();
+      // Returns right away, leaving the message to the drainer.
+      Future queuedPut = writer.put("key-1", "value", 1, null);
+      assertFalse(queuedPut.isDone());
+      producerReleased.countDown();
+      drainerPut.get().get(TIMEOUT, TimeUnit.MILLISECONDS);
+      queuedPut.get(TIMEOUT, TimeUnit.MILLISECONDS);
+      // START_OF_SEGMENT and both data messages
+      verify(mockedProducer, times(3)).sendMessage(any(), any(), any(), any(), any(), any());
+
+      // A failure to produce is reported through the future instead of being thrown.
+      doThrow(new VeniceException("Producer is closed")).when(mockedProducer)
+          .sendMessage(any(), any(), any(), any(), any(), any());
+      Future failedPut = writer.put("key-2", "value", 1, null);
+      try {
+        failedPut.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        fail("The future of a message which failed to be produced should complete exceptionally");
+      } catch (ExecutionException e) {
+        Assert.assertTrue(e.getCause() instanceof VeniceException);
+      }
+    } finally {
+      producerReleased.countDown();
+      executor.shutdownNow();
+    }
+  }
 }
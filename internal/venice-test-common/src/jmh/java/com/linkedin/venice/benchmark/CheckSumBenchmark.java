@@ -0,0 +1,78 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Cost of the DIV checksum per record for each checkpointable {@link CheckSumType}, as well as the cost of the
+ * checkpoint / restore cycle done by the partition tracker.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckSumBenchmark {
+  private static final int NUMBER_OF_RECORDS = 1_000;
+
+  @Param({ "MD5", "ADHASH", "CRC32C" })
+  private String checkSumType;
+
+  @Param({ "100", "1024", "65536" })
+  private int recordSize;
+
+  private CheckSumType type;
+  private byte[][] records;
+
+  @Setup
+  public void setUp() {
+    this.type = CheckSumType.valueOf(checkSumType);
+    this.records = new byte[NUMBER_OF_RECORDS][recordSize];
+    Random random = new Random(0);
+    for (byte[] record: records) {
+      random.nextBytes(record);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(CheckSumBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_RECORDS)
+  public void update(Blackhole blackhole) {
+    CheckSum checkSum = CheckSum.getInstance(type);
+    for (byte[] record: records) {
+      checkSum.update(record);
+    }
+    blackhole.consume(checkSum.getCheckSum());
+  }
+
+  @Benchmark
+  public void checkpointAndRestore(Blackhole blackhole) {
+    CheckSum checkSum = CheckSum.getInstance(type);
+    checkSum.update(records[0]);
+    blackhole.consume(CheckSum.getInstance(type, checkSum.getEncodedState()));
+  }
+}
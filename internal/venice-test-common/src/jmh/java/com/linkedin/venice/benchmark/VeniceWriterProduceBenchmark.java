@@ -0,0 +1,138 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.serialization.VeniceKafkaSerializer;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMaps;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Multi-threaded produce throughput of a single {@link VeniceWriter}, comparing the default partition monitor locking
+ * with {@link VeniceWriter#NON_BLOCKING_PARTITION_SEND_ENABLED}. The producer adapter is an in-memory stub which only
+ * burns a few CPU cycles per message under its own lock, so the benchmark isolates the sequencing overhead of the
+ * writer itself.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class VeniceWriterProduceBenchmark {
+  @Param({ "false", "true" })
+  private boolean nonBlockingPartitionSend;
+
+  @Param({ "1", "16" })
+  private int partitionCount;
+
+  private VeniceWriter<Object, Object, Object> veniceWriter;
+
+  @Setup
+  public void setUp() {
+    VeniceKafkaSerializer serializer = new VeniceAvroKafkaSerializer("\"string\"");
+    VeniceWriterOptions options = new VeniceWriterOptions.Builder("benchmark_store_v1").setKeySerializer(serializer)
+        .setValueSerializer(serializer)
+        .setWriteComputeSerializer(serializer)
+        .setPartitioner(new DefaultVenicePartitioner())
+        .setPartitionCount(partitionCount)
+        .build();
+    Properties properties = new Properties();
+    properties.put(VeniceWriter.NON_BLOCKING_PARTITION_SEND_ENABLED, nonBlockingPartitionSend);
+    veniceWriter = new VeniceWriter<>(options, new VeniceProperties(properties), new InMemoryProducerAdapter());
+  }
+
+  @TearDown
+  public void cleanUp() {
+    veniceWriter.close();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(VeniceWriterProduceBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  public void put(Blackhole blackhole) {
+    String key = Integer.toString(ThreadLocalRandom.current().nextInt(100_000));
+    blackhole.consume(veniceWriter.put(key, key, 1, null));
+  }
+
+  private static class InMemoryProducerAdapter implements PubSubProducerAdapter {
+    private static final CompletableFuture<PubSubProduceResult> COMPLETED_FUTURE =
+        CompletableFuture.completedFuture(null);
+
+    @Override
+    public int getNumberOfPartitions(String topic) {
+      throw new UnsupportedOperationException("Partition count is provided through VeniceWriterOptions");
+    }
+
+    @Override
+    public synchronized CompletableFuture<PubSubProduceResult> sendMessage(
+        String topic,
+        Integer partition,
+        KafkaKey key,
+        KafkaMessageEnvelope value,
+        PubSubMessageHeaders pubSubMessageHeaders,
+        PubSubProducerCallback pubSubProducerCallback) {
+      // Roughly the cost of appending a record to the producer's accumulator.
+      Blackhole.consumeCPU(100);
+      if (pubSubProducerCallback != null) {
+        pubSubProducerCallback.onCompletion(null, null);
+      }
+      return COMPLETED_FUTURE;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close(long closeTimeOutMs) {
+    }
+
+    @Override
+    public Object2DoubleMap<String> getMeasurableProducerMetrics() {
+      return Object2DoubleMaps.emptyMap();
+    }
+
+    @Override
+    public String getBrokerAddress() {
+      return "in-memory";
+    }
+  }
+}
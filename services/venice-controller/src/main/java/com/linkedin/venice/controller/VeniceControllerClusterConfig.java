@@ -74,6 +74,7 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_UNUSED_VALUE_SCHEMA_CLEA
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_SHARED_META_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_ENABLED;
+import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_INCREMENTAL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE_COUNT;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE_RATIO;
@@ -330,6 +331,8 @@ public class VeniceControllerClusterConfig {
 
   private final double daVinciPushStatusScanMaxOfflineInstanceRatio;
 
+  private final boolean daVinciPushStatusScanIncrementalEnabled;
+
   private final boolean zkSharedDaVinciPushStatusSystemSchemaStoreAutoCreationEnabled;
 
   /**
@@ -893,6 +896,8 @@ public class VeniceControllerClusterConfig {
         props.getInt(DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE_COUNT, 10);
     this.daVinciPushStatusScanMaxOfflineInstanceRatio =
         props.getDouble(DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE_RATIO, 0.05d);
+    this.daVinciPushStatusScanIncrementalEnabled =
+        props.getBoolean(DAVINCI_PUSH_STATUS_SCAN_INCREMENTAL_ENABLED, false);
 
     this.zkSharedDaVinciPushStatusSystemSchemaStoreAutoCreationEnabled =
         props.getBoolean(CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED, true);
@@ -1562,6 +1567,10 @@ public class VeniceControllerClusterConfig {
     return daVinciPushStatusScanNoReportRetryMaxAttempt;
   }
 
+  public boolean isDaVinciPushStatusScanIncrementalEnabled() {
+    return daVinciPushStatusScanIncrementalEnabled;
+  }
+
   public boolean isZkSharedDaVinciPushStatusSystemSchemaStoreAutoCreationEnabled() {
     return zkSharedDaVinciPushStatusSystemSchemaStoreAutoCreationEnabled;
   }
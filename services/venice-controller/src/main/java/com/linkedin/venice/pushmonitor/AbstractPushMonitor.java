@@ -132,7 +132,8 @@ public abstract class AbstractPushMonitor
         controllerConfig.getDaVinciPushStatusScanNoReportRetryMaxAttempt(),
         controllerConfig.getDaVinciPushStatusScanMaxOfflineInstanceCount(),
         controllerConfig.getDaVinciPushStatusScanMaxOfflineInstanceRatio(),
-        controllerConfig.useDaVinciSpecificExecutionStatusForError());
+        controllerConfig.useDaVinciSpecificExecutionStatusForError(),
+        controllerConfig.isDaVinciPushStatusScanIncrementalEnabled());
     this.isOfflinePushMonitorDaVinciPushStatusEnabled = controllerConfig.isDaVinciPushStatusEnabled();
     pushStatusCollector.start();
   }
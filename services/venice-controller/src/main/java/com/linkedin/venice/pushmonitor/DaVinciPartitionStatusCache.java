@@ -0,0 +1,106 @@
+package com.linkedin.venice.pushmonitor;
+
+import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+
+/**
+ * This class keeps the Da Vinci partition level push status of one ongoing push between scans, so that the
+ * {@link PushStatusCollector} only needs to re-read the partitions which have not reached the terminal status yet.
+ *
+ * A partition is frozen once every replica reported in the push status store has reached the complete status; after
+ * that the partition is served from the cache and no longer queried. The remaining partitions are fetched with batch
+ * gets through {@link PushStatusStoreReader#getDaVinciPartitionStatuses}, so the read cost of each scan is
+ * proportional to the number of partitions still in progress instead of the total partition count.
+ *
+ * The set of Da Vinci instances hosting a partition isn't known up front, so a frozen partition may still get reports
+ * from new instances, or from replicas going back to another status. The frozen partitions are therefore re-read every
+ * {@link #REVALIDATION_INTERVAL} refreshes, and whenever every partition looks completed, so that the push is never
+ * considered completed based on cached statuses only. A frozen partition which isn't completed anymore is thawed.
+ */
+public class DaVinciPartitionStatusCache {
+  static final int REVALIDATION_INTERVAL = 10;
+
+  private final int partitionCount;
+  private final Map<Integer, Map<CharSequence, Integer>> completedPartitionStatuses = new VeniceConcurrentHashMap<>();
+  // The refreshes of a topic are not run concurrently
+  private int refreshCount = 0;
+
+  public DaVinciPartitionStatusCache(int partitionCount) {
+    this.partitionCount = partitionCount;
+  }
+
+  /**
+   * Refresh the statuses of all the incomplete partitions and return the latest known statuses of all partitions.
+   */
+  public Map<Integer, Map<CharSequence, Integer>> refresh(
+      PushStatusStoreReader reader,
+      String storeName,
+      int version,
+      Optional<String> incrementalPushVersion,
+      ExecutionStatus completeStatus) {
+    boolean revalidation = ++refreshCount % REVALIDATION_INTERVAL == 0;
+    Set<Integer> partitionsToRead = new HashSet<>();
+    Set<Integer> frozenPartitions = new HashSet<>();
+    for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+      if (revalidation || !completedPartitionStatuses.containsKey(partitionId)) {
+        partitionsToRead.add(partitionId);
+      } else {
+        frozenPartitions.add(partitionId);
+      }
+    }
+    Map<Integer, Map<CharSequence, Integer>> result = new HashMap<>(completedPartitionStatuses);
+    readPartitions(reader, storeName, version, incrementalPushVersion, completeStatus, partitionsToRead, result);
+    if (!frozenPartitions.isEmpty() && completedPartitionStatuses.size() == partitionCount) {
+      // Confirm the statuses of the frozen partitions before letting the push complete
+      readPartitions(reader, storeName, version, incrementalPushVersion, completeStatus, frozenPartitions, result);
+    }
+    return result;
+  }
+
+  private void readPartitions(
+      PushStatusStoreReader reader,
+      String storeName,
+      int version,
+      Optional<String> incrementalPushVersion,
+      ExecutionStatus completeStatus,
+      Set<Integer> partitionIds,
+      Map<Integer, Map<CharSequence, Integer>> result) {
+    if (partitionIds.isEmpty()) {
+      return;
+    }
+    Map<Integer, Map<CharSequence, Integer>> latestStatuses =
+        reader.getDaVinciPartitionStatuses(storeName, version, incrementalPushVersion, partitionIds);
+    for (int partitionId: partitionIds) {
+      Map<CharSequence, Integer> instances = latestStatuses.getOrDefault(partitionId, Collections.emptyMap());
+      if (isPartitionCompleted(instances, completeStatus)) {
+        completedPartitionStatuses.put(partitionId, instances);
+      } else {
+        completedPartitionStatuses.remove(partitionId);
+      }
+      result.put(partitionId, instances);
+    }
+  }
+
+  public int getCompletedPartitionCount() {
+    return completedPartitionStatuses.size();
+  }
+
+  private static boolean isPartitionCompleted(Map<CharSequence, Integer> instances, ExecutionStatus completeStatus) {
+    if (instances == null || instances.isEmpty()) {
+      return false;
+    }
+    for (Integer status: instances.values()) {
+      if (ExecutionStatus.fromInt(status) != completeStatus) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
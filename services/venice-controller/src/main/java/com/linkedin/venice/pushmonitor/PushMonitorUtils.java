@@ -3,6 +3,7 @@ package com.linkedin.venice.pushmonitor;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -54,6 +55,31 @@ public class PushMonitorUtils {
       int maxOfflineInstanceCount,
       double maxOfflineInstanceRatio,
       boolean useDaVinciSpecificExecutionStatusForError) {
+    return getDaVinciPushStatusAndDetails(
+        reader,
+        topicName,
+        partitionCount,
+        incrementalPushVersion,
+        maxOfflineInstanceCount,
+        maxOfflineInstanceRatio,
+        useDaVinciSpecificExecutionStatusForError,
+        null);
+  }
+
+  /**
+   * Same as {@link #getDaVinciPushStatusAndDetails(PushStatusStoreReader, String, int, Optional, int, double, boolean)},
+   * but when a {@link DaVinciPartitionStatusCache} is provided, the partition level status keys are read incrementally:
+   * only the partitions which are not completed yet will be fetched from the push status store.
+   */
+  public static ExecutionStatusWithDetails getDaVinciPushStatusAndDetails(
+      PushStatusStoreReader reader,
+      String topicName,
+      int partitionCount,
+      Optional<String> incrementalPushVersion,
+      int maxOfflineInstanceCount,
+      double maxOfflineInstanceRatio,
+      boolean useDaVinciSpecificExecutionStatusForError,
+      DaVinciPartitionStatusCache partitionStatusCache) {
     if (reader == null) {
       throw new VeniceException("PushStatusStoreReader is null");
     }
@@ -73,7 +99,8 @@ public class PushMonitorUtils {
           incrementalPushVersion,
           maxOfflineInstanceCount,
           maxOfflineInstanceRatio,
-          useDaVinciSpecificExecutionStatusForError);
+          useDaVinciSpecificExecutionStatusForError,
+          partitionStatusCache);
     } else {
       // DaVinci starts using new status key format, which contains status for all partitions in one key.
       // Only batch pushes will use this key; incremental pushes will still use partition level status key.
@@ -171,7 +198,8 @@ public class PushMonitorUtils {
             incrementalPushVersion,
             maxOfflineInstanceCount,
             maxOfflineInstanceRatio,
-            useDaVinciSpecificExecutionStatusForError);
+            useDaVinciSpecificExecutionStatusForError,
+            partitionStatusCache);
         if (partitionLevelStatus.getStatus() != ExecutionStatus.COMPLETED) {
           // Do not report COMPLETED, instead, report status from the partition level status key.
           statusDetailStringBuilder.append(
@@ -208,6 +236,26 @@ public class PushMonitorUtils {
       int maxOfflineInstanceCount,
       double maxOfflineInstanceRatio,
       boolean useDaVinciSpecificExecutionStatusForError) {
+    return getDaVinciPartitionLevelPushStatusAndDetails(
+        reader,
+        topicName,
+        partitionCount,
+        incrementalPushVersion,
+        maxOfflineInstanceCount,
+        maxOfflineInstanceRatio,
+        useDaVinciSpecificExecutionStatusForError,
+        null);
+  }
+
+  public static ExecutionStatusWithDetails getDaVinciPartitionLevelPushStatusAndDetails(
+      PushStatusStoreReader reader,
+      String topicName,
+      int partitionCount,
+      Optional<String> incrementalPushVersion,
+      int maxOfflineInstanceCount,
+      double maxOfflineInstanceRatio,
+      boolean useDaVinciSpecificExecutionStatusForError,
+      DaVinciPartitionStatusCache partitionStatusCache) {
     if (reader == null) {
       throw new VeniceException("PushStatusStoreReader is null");
     }
@@ -235,9 +283,13 @@ public class PushMonitorUtils {
      * This cache is used to reduce the duplicate calls for liveness check as one host can host multiple partitions.
      */
     Map<String, Boolean> instanceLivenessCache = new HashMap<>();
+    Map<Integer, Map<CharSequence, Integer>> cachedPartitionStatuses = partitionStatusCache == null
+        ? null
+        : partitionStatusCache.refresh(reader, storeName, version, incrementalPushVersion, completeStatus);
     for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
-      Map<CharSequence, Integer> instances =
-          reader.getPartitionStatus(storeName, version, partitionId, incrementalPushVersion);
+      Map<CharSequence, Integer> instances = cachedPartitionStatuses == null
+          ? reader.getPartitionStatus(storeName, version, partitionId, incrementalPushVersion)
+          : cachedPartitionStatuses.getOrDefault(partitionId, Collections.emptyMap());
       boolean allInstancesCompleted = true;
       totalReplicaCount += instances.size();
       for (Map.Entry<CharSequence, Integer> entry: instances.entrySet()) {
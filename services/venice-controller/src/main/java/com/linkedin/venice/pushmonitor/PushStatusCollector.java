@@ -30,6 +30,10 @@ import org.apache.logging.log4j.Logger;
  * If push status store is not enabled for the store, it will report directly upon receiving terminal server status,
  * otherwise it will record the server status and keep polling Da Vinci status to determine the aggregate status and will
  * only report if the aggregate status is terminal status.
+ *
+ * When incremental scanning is enabled, each monitored topic keeps a {@link DaVinciPartitionStatusCache}, so partitions
+ * that have already completed are aggregated from the cache and only the in-progress partitions are read from the push
+ * status store on every scan.
  */
 public class PushStatusCollector {
   private static final Logger LOGGER = LogManager.getLogger(PushStatusCollector.class);
@@ -44,6 +48,7 @@ public class PushStatusCollector {
   private final int daVinciPushStatusNoReportRetryMaxAttempts;
   private final int daVinciPushStatusScanMaxOfflineInstanceCount;
   private final double daVinciPushStatusScanMaxOfflineInstanceRatio;
+  private final boolean daVinciPushStatusScanIncrementalEnabled;
   private ScheduledExecutorService offlinePushCheckScheduler;
   private ExecutorService pushStatusStoreScanExecutor;
   private final AtomicBoolean isStarted = new AtomicBoolean(false);
@@ -62,7 +67,8 @@ public class PushStatusCollector {
       int daVinciPushStatusNoReportRetryMaxAttempts,
       int daVinciPushStatusScanMaxOfflineInstanceCount,
       double daVinciPushStatusScanMaxOfflineInstanceRatio,
-      boolean useDaVinciSpecificExecutionStatusForError) {
+      boolean useDaVinciSpecificExecutionStatusForError,
+      boolean daVinciPushStatusScanIncrementalEnabled) {
     this.storeRepository = storeRepository;
     this.pushStatusStoreReader = pushStatusStoreReader;
     this.pushCompletedHandler = pushCompletedHandler;
@@ -74,6 +80,7 @@ public class PushStatusCollector {
     this.daVinciPushStatusScanMaxOfflineInstanceCount = daVinciPushStatusScanMaxOfflineInstanceCount;
     this.daVinciPushStatusScanMaxOfflineInstanceRatio = daVinciPushStatusScanMaxOfflineInstanceRatio;
     this.useDaVinciSpecificExecutionStatusForError = useDaVinciSpecificExecutionStatusForError;
+    this.daVinciPushStatusScanIncrementalEnabled = daVinciPushStatusScanIncrementalEnabled;
   }
 
   public void start() {
@@ -110,7 +117,12 @@ public class PushStatusCollector {
     if (daVinciPushStatusScanEnabled && store.isDaVinciPushStatusStoreEnabled()
         && Version.parseVersionFromKafkaTopicName(topicName) > 1) {
       LOGGER.info("Will monitor Da Vinci push status for topic {}", topicName);
-      topicToPushStatusMap.put(topicName, new TopicPushStatus(topicName, partitionCount));
+      topicToPushStatusMap.put(
+          topicName,
+          new TopicPushStatus(
+              topicName,
+              partitionCount,
+              daVinciPushStatusScanIncrementalEnabled ? new DaVinciPartitionStatusCache(partitionCount) : null));
     }
   }
 
@@ -139,7 +151,8 @@ public class PushStatusCollector {
               Optional.empty(),
               daVinciPushStatusScanMaxOfflineInstanceCount,
               daVinciPushStatusScanMaxOfflineInstanceRatio,
-              useDaVinciSpecificExecutionStatusForError);
+              useDaVinciSpecificExecutionStatusForError,
+              pushStatus.getPartitionStatusCache());
           pushStatus.setDaVinciStatus(statusWithDetails);
           return pushStatus;
         }, pushStatusStoreScanExecutor));
@@ -268,13 +281,19 @@ public class PushStatusCollector {
   static class TopicPushStatus {
     private final String topicName;
     private final int partitionCount;
+    private final DaVinciPartitionStatusCache partitionStatusCache;
     private ExecutionStatusWithDetails serverStatus;
     private ExecutionStatusWithDetails daVinciStatus;
 
     private boolean isMonitoring;
 
     public TopicPushStatus(String topicName, int partitionCount) {
+      this(topicName, partitionCount, null);
+    }
+
+    public TopicPushStatus(String topicName, int partitionCount, DaVinciPartitionStatusCache partitionStatusCache) {
       this.partitionCount = partitionCount;
+      this.partitionStatusCache = partitionStatusCache;
       this.isMonitoring = true;
       this.topicName = topicName;
     }
@@ -283,6 +302,13 @@ public class PushStatusCollector {
       return partitionCount;
     }
 
+    /**
+     * @return the partition status cache for incremental scanning, or null if incremental scanning is disabled.
+     */
+    public DaVinciPartitionStatusCache getPartitionStatusCache() {
+      return partitionStatusCache;
+    }
+
     public void setMonitoring(boolean monitoring) {
       isMonitoring = monitoring;
     }
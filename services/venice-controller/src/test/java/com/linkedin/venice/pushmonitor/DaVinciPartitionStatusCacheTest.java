@@ -0,0 +1,126 @@
+package com.linkedin.venice.pushmonitor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class DaVinciPartitionStatusCacheTest {
+  private static final String STORE_NAME = "daVinciStore";
+
+  @Test
+  public void testOnlyIncompletePartitionsAreRefreshed() {
+    PushStatusStoreReader reader = mock(PushStatusStoreReader.class);
+    Map<CharSequence, Integer> completed = Collections.singletonMap("instance", ExecutionStatus.COMPLETED.getValue());
+    Map<CharSequence, Integer> started = Collections.singletonMap("instance", ExecutionStatus.STARTED.getValue());
+
+    Map<Integer, Map<CharSequence, Integer>> firstScan = new HashMap<>();
+    firstScan.put(0, completed);
+    firstScan.put(1, started);
+    firstScan.put(2, Collections.emptyMap());
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 1, Optional.empty(), new HashSet<>(firstScan.keySet())))
+        .thenReturn(firstScan);
+
+    DaVinciPartitionStatusCache cache = new DaVinciPartitionStatusCache(3);
+    Map<Integer, Map<CharSequence, Integer>> result =
+        cache.refresh(reader, STORE_NAME, 1, Optional.empty(), ExecutionStatus.COMPLETED);
+    Assert.assertEquals(result, firstScan);
+    Assert.assertEquals(cache.getCompletedPartitionCount(), 1);
+
+    // Partition 0 is completed and should not be queried again; an empty partition is never considered completed.
+    Map<Integer, Map<CharSequence, Integer>> secondScan = new HashMap<>();
+    secondScan.put(1, completed);
+    secondScan.put(2, completed);
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 1, Optional.empty(), new HashSet<>(secondScan.keySet())))
+        .thenReturn(secondScan);
+    // Every partition looks completed, so the frozen partition 0 is read again to confirm it.
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 1, Optional.empty(), Collections.singleton(0)))
+        .thenReturn(Collections.singletonMap(0, completed));
+    result = cache.refresh(reader, STORE_NAME, 1, Optional.empty(), ExecutionStatus.COMPLETED);
+    Assert.assertEquals(result.size(), 3);
+    for (Map<CharSequence, Integer> instances: result.values()) {
+      Assert.assertEquals(instances, completed);
+    }
+    Assert.assertEquals(cache.getCompletedPartitionCount(), 3);
+    verify(reader).getDaVinciPartitionStatuses(STORE_NAME, 1, Optional.empty(), Collections.singleton(0));
+
+    // A new instance reporting on a frozen partition thaws it.
+    Map<CharSequence, Integer> newInstance = new HashMap<>(completed);
+    newInstance.put("newInstance", ExecutionStatus.STARTED.getValue());
+    Map<Integer, Map<CharSequence, Integer>> thirdScan = new HashMap<>(secondScan);
+    thirdScan.put(0, newInstance);
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 1, Optional.empty(), new HashSet<>(thirdScan.keySet())))
+        .thenReturn(thirdScan);
+    result = cache.refresh(reader, STORE_NAME, 1, Optional.empty(), ExecutionStatus.COMPLETED);
+    Assert.assertEquals(result.get(0), newInstance);
+    Assert.assertEquals(cache.getCompletedPartitionCount(), 2);
+  }
+
+  @Test
+  public void testFrozenPartitionsAreRevalidated() {
+    PushStatusStoreReader reader = mock(PushStatusStoreReader.class);
+    Map<CharSequence, Integer> completed = Collections.singletonMap("instance", ExecutionStatus.COMPLETED.getValue());
+    Map<CharSequence, Integer> started = Collections.singletonMap("instance", ExecutionStatus.STARTED.getValue());
+    Map<CharSequence, Integer> error = Collections.singletonMap("instance", ExecutionStatus.ERROR.getValue());
+    Map<Integer, Map<CharSequence, Integer>> allPartitions = new HashMap<>();
+    allPartitions.put(0, completed);
+    allPartitions.put(1, started);
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 1, Optional.empty(), new HashSet<>(allPartitions.keySet())))
+        .thenReturn(allPartitions);
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 1, Optional.empty(), Collections.singleton(1)))
+        .thenReturn(Collections.singletonMap(1, started));
+
+    DaVinciPartitionStatusCache cache = new DaVinciPartitionStatusCache(2);
+    for (int i = 1; i < DaVinciPartitionStatusCache.REVALIDATION_INTERVAL; i++) {
+      cache.refresh(reader, STORE_NAME, 1, Optional.empty(), ExecutionStatus.COMPLETED);
+      Assert.assertEquals(cache.getCompletedPartitionCount(), 1);
+    }
+    verify(reader, never()).getDaVinciPartitionStatuses(STORE_NAME, 1, Optional.empty(), Collections.singleton(0));
+
+    // The replica of the frozen partition 0 has failed in the meantime
+    allPartitions.put(0, error);
+    Map<Integer, Map<CharSequence, Integer>> result =
+        cache.refresh(reader, STORE_NAME, 1, Optional.empty(), ExecutionStatus.COMPLETED);
+    Assert.assertEquals(result.get(0), error);
+    Assert.assertEquals(cache.getCompletedPartitionCount(), 0);
+  }
+
+  @Test
+  public void testIncrementalPartitionLevelPushStatus() {
+    PushStatusStoreReader reader = mock(PushStatusStoreReader.class);
+    when(reader.isInstanceAlive(STORE_NAME, "instance")).thenReturn(true);
+    Map<CharSequence, Integer> completed = Collections.singletonMap("instance", ExecutionStatus.COMPLETED.getValue());
+    Map<CharSequence, Integer> started = Collections.singletonMap("instance", ExecutionStatus.STARTED.getValue());
+    Map<Integer, Map<CharSequence, Integer>> firstScan = new HashMap<>();
+    firstScan.put(0, completed);
+    firstScan.put(1, started);
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 2, Optional.empty(), new HashSet<>(firstScan.keySet())))
+        .thenReturn(firstScan);
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 2, Optional.empty(), Collections.singleton(1)))
+        .thenReturn(Collections.singletonMap(1, completed));
+    when(reader.getDaVinciPartitionStatuses(STORE_NAME, 2, Optional.empty(), Collections.singleton(0)))
+        .thenReturn(Collections.singletonMap(0, completed));
+
+    DaVinciPartitionStatusCache cache = new DaVinciPartitionStatusCache(2);
+    ExecutionStatusWithDetails status = PushMonitorUtils
+        .getDaVinciPushStatusAndDetails(reader, "daVinciStore_v2", 2, Optional.empty(), 10, 0.1, true, cache);
+    Assert.assertEquals(status.getStatus(), ExecutionStatus.STARTED);
+    status = PushMonitorUtils
+        .getDaVinciPushStatusAndDetails(reader, "daVinciStore_v2", 2, Optional.empty(), 10, 0.1, true, cache);
+    Assert.assertEquals(status.getStatus(), ExecutionStatus.COMPLETED);
+    verify(reader, never()).getPartitionStatus(anyString(), anyInt(), anyInt(), any());
+  }
+}
@@ -73,7 +73,8 @@ public class PushStatusCollectorTest {
         1,
         20,
         1,
-        true);
+        true,
+        false);
     pushStatusCollector.start();
 
     pushStatusCollector.subscribeTopic(regularStoreTopicV1, 10);
@@ -225,7 +226,8 @@ public class PushStatusCollectorTest {
         1,
         20,
         1,
-        true);
+        true,
+        false);
     pushStatusCollector.start();
 
     pushCompletedCount.set(0);
@@ -317,7 +319,8 @@ public class PushStatusCollectorTest {
         0,
         20,
         1,
-        true);
+        true,
+        false);
     pushStatusCollector.start();
 
     pushCompletedCount.set(0);
@@ -72,6 +72,8 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_META_STORE_SHADOW_READ_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_CLIENT_EVENT_LOOP_THREADS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_CLIENT_MAX_CONNECTIONS_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
@@ -81,6 +83,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_BEFORE_SSL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_FLIGHT_STORE_LIST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SOCKET_TIMEOUT;
@@ -108,8 +111,10 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
@@ -202,6 +207,8 @@ public class VeniceRouterConfig {
   private int httpClient5PoolSize;
   private int httpClient5TotalIOThreadCount;
   private boolean httpClient5SkipCipherCheck;
+  private int nettyClientEventLoopThreads;
+  private int nettyClientMaxConnectionsPerRoute;
   private boolean http2InboundEnabled;
   private int http2MaxConcurrentStreams;
   private int http2MaxFrameSize;
@@ -214,6 +221,7 @@ public class VeniceRouterConfig {
   private double perStoreRouterQuotaBuffer;
   private boolean httpClientOpensslEnabled;
   private String identityParserClassName;
+  private Set<String> singleFlightStoreSet;
 
   public VeniceRouterConfig(VeniceProperties props) {
     try {
@@ -376,6 +384,9 @@ public class VeniceRouterConfig {
     httpClient5TotalIOThreadCount =
         props.getInt(ROUTER_HTTP_CLIENT5_TOTAL_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
     httpClient5SkipCipherCheck = props.getBoolean(ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, false);
+    nettyClientEventLoopThreads =
+        props.getInt(ROUTER_NETTY_CLIENT_EVENT_LOOP_THREADS, Runtime.getRuntime().availableProcessors());
+    nettyClientMaxConnectionsPerRoute = props.getInt(ROUTER_NETTY_CLIENT_MAX_CONNECTIONS_PER_ROUTE, 2);
     http2InboundEnabled = props.getBoolean(ROUTER_HTTP2_INBOUND_ENABLED, false);
     http2MaxConcurrentStreams = props.getInt(ROUTER_HTTP2_MAX_CONCURRENT_STREAMS, 100);
     http2MaxFrameSize = props.getInt(ROUTER_HTTP2_MAX_FRAME_SIZE, 8 * 1024 * 1024);
@@ -393,6 +404,7 @@ public class VeniceRouterConfig {
     perStoreRouterQuotaBuffer = props.getDouble(ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER, 1.5);
     httpClientOpensslEnabled = props.getBoolean(ROUTER_HTTP_CLIENT_OPENSSL_ENABLED, true);
     identityParserClassName = props.getString(IDENTITY_PARSER_CLASS, DefaultIdentityParser.class.getName());
+    singleFlightStoreSet = new HashSet<>(props.getList(ROUTER_SINGLE_FLIGHT_STORE_LIST, Collections.emptyList()));
   }
 
   public double getPerStoreRouterQuotaBuffer() {
@@ -800,6 +812,14 @@ public class VeniceRouterConfig {
     return httpClient5SkipCipherCheck;
   }
 
+  public int getNettyClientEventLoopThreads() {
+    return nettyClientEventLoopThreads;
+  }
+
+  public int getNettyClientMaxConnectionsPerRoute() {
+    return nettyClientMaxConnectionsPerRoute;
+  }
+
   public boolean isHttp2InboundEnabled() {
     return http2InboundEnabled;
   }
@@ -843,4 +863,8 @@ public class VeniceRouterConfig {
   public String getIdentityParserClassName() {
     return identityParserClassName;
   }
+
+  public boolean isSingleFlightEnabled(String storeName) {
+    return singleFlightStoreSet.contains(storeName);
+  }
 }
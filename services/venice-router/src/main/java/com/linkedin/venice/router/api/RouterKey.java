@@ -11,6 +11,7 @@ import java.nio.charset.StandardCharsets;
  */
 public class RouterKey implements Comparable<RouterKey> {
   private static final int UNKNOWN_PARTITION_ID = -1;
+  private static final int UNKNOWN_KEY_INDEX = -1;
 
   private final ByteBuffer keyBuffer;
   /**
@@ -23,6 +24,11 @@ public class RouterKey implements Comparable<RouterKey> {
    * {@link VeniceDelegateMode}
    */
   private int partitionId = UNKNOWN_PARTITION_ID;
+  /**
+   * Maintaining the key index here is to avoid looking up the keys of every sub-request in
+   * {@link com.linkedin.venice.router.api.path.VeniceMultiKeyPath}
+   */
+  private int keyIndex = UNKNOWN_KEY_INDEX;
 
   private int keySize;
 
@@ -96,4 +102,22 @@ public class RouterKey implements Comparable<RouterKey> {
     }
     return this.partitionId;
   }
+
+  public void setKeyIndex(int keyIndex) {
+    if (UNKNOWN_KEY_INDEX != this.keyIndex) {
+      throw new VeniceException("Key index has been assigned: " + this.keyIndex + ", and it is immutable after");
+    }
+    this.keyIndex = keyIndex;
+  }
+
+  public boolean hasKeyIndex() {
+    return UNKNOWN_KEY_INDEX != keyIndex;
+  }
+
+  public int getKeyIndex() {
+    if (UNKNOWN_KEY_INDEX == keyIndex) {
+      throw new VeniceException("Key index hasn't been setup yet");
+    }
+    return this.keyIndex;
+  }
 }
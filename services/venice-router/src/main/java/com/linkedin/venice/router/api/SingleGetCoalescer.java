@@ -0,0 +1,151 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+
+/**
+ * This class coalesces the identical single gets in flight: while the value of a key of a store version is being
+ * fetched from a storage node, the other single gets of the same key of the same store version don't send any request
+ * to the storage nodes, and get the response of the request in flight instead.
+ *
+ * Every coalesced single get receives its own view of the response, which it then handles the same way as a response
+ * coming from a storage node, including the error retry and the response decompression. The retry requests are never
+ * coalesced, so that a long-tail retry does reach another storage node.
+ */
+public class SingleGetCoalescer {
+  private final VeniceConcurrentHashMap<InFlightKey, CompletableFuture<PortableHttpResponse>> inFlightRequests =
+      new VeniceConcurrentHashMap<>();
+
+  @FunctionalInterface
+  public interface StorageNodeRequestSender {
+    CompletableFuture<PortableHttpResponse> send() throws RouterException;
+  }
+
+  /**
+   * @param sender sends the request to a storage node if there is no identical request in flight
+   * @param onCoalesced called when the single get is coalesced with an identical request in flight
+   * @return the future of the response of the storage node
+   */
+  public CompletableFuture<PortableHttpResponse> coalesce(
+      String resourceName,
+      RouterKey key,
+      StorageNodeRequestSender sender,
+      Runnable onCoalesced) throws RouterException {
+    InFlightKey inFlightKey = new InFlightKey(resourceName, key);
+    CompletableFuture<PortableHttpResponse> sharedResponseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> inFlightResponseFuture =
+        inFlightRequests.putIfAbsent(inFlightKey, sharedResponseFuture);
+    if (inFlightResponseFuture != null) {
+      onCoalesced.run();
+      return inFlightResponseFuture.thenApply(Function.identity());
+    }
+
+    CompletableFuture<PortableHttpResponse> responseFuture;
+    try {
+      responseFuture = sender.send();
+    } catch (RouterException | RuntimeException e) {
+      inFlightRequests.remove(inFlightKey, sharedResponseFuture);
+      sharedResponseFuture.completeExceptionally(e);
+      throw e;
+    }
+    responseFuture.whenComplete((response, throwable) -> {
+      // Stop coalescing before completing the future, so that no single get can miss the response
+      inFlightRequests.remove(inFlightKey, sharedResponseFuture);
+      if (throwable != null) {
+        sharedResponseFuture.completeExceptionally(throwable);
+        return;
+      }
+      try {
+        sharedResponseFuture.complete(new SharedResponse(response));
+      } catch (Throwable t) {
+        sharedResponseFuture.completeExceptionally(t);
+      }
+    });
+    return sharedResponseFuture.thenApply(Function.identity());
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  int getInFlightRequestCount() {
+    return inFlightRequests.size();
+  }
+
+  private static class InFlightKey {
+    private final String resourceName;
+    private final RouterKey key;
+
+    private InFlightKey(String resourceName, RouterKey key) {
+      this.resourceName = resourceName;
+      this.key = key;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * resourceName.hashCode() + key.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof InFlightKey)) {
+        return false;
+      }
+      InFlightKey other = (InFlightKey) o;
+      return resourceName.equals(other.resourceName) && Objects.equals(key, other.key);
+    }
+  }
+
+  /**
+   * The content of a storage node response can only be read once, and the content of each response sent back to the
+   * client is released once written, so the content is read once into a byte array, which every coalesced single get
+   * wraps into its own buffer.
+   */
+  private static class SharedResponse implements PortableHttpResponse {
+    private final PortableHttpResponse response;
+    private final byte[] content;
+
+    private SharedResponse(PortableHttpResponse response) throws IOException {
+      this.response = response;
+      ByteBuf contentInByteBuf = response.getContentInByteBuf();
+      try {
+        // This doesn't copy the content of the responses backed by an exact heap array
+        this.content = ByteBufUtil
+            .getBytes(contentInByteBuf, contentInByteBuf.readerIndex(), contentInByteBuf.readableBytes(), false);
+      } finally {
+        contentInByteBuf.release();
+      }
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return Unpooled.wrappedBuffer(content);
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.containsHeader(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.getFirstHeader(headerName);
+    }
+  }
+}
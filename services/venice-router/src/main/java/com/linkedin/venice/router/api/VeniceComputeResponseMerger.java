@@ -0,0 +1,140 @@
+package com.linkedin.venice.router.api;
+
+import static com.linkedin.venice.streaming.StreamingConstants.KEY_ID_FOR_COMPUTE_FACETS;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
+
+import com.linkedin.venice.compute.ComputeFacetAggregator;
+import com.linkedin.venice.compute.ComputeTopKSelector;
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.router.api.path.VeniceComputePath;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.streaming.StreamingUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+
+
+/**
+ * This class is used by {@link VeniceResponseAggregator} to merge the responses of the storage nodes for a compute
+ * request with a top-K selection or facets, so that the client receives the global top K records and a single facets
+ * record, instead of the top K records and the partial facet results of every storage node.
+ *
+ * The records which are not part of the global top K are dropped, or reported the same way as the non-existing keys
+ * for streaming, so that every key of a streaming request is still accounted for.
+ */
+public class VeniceComputeResponseMerger {
+  private static final RecordSerializer<ComputeResponseRecordV1> recordSerializer =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<ComputeResponseRecordV1> recordDeserializer =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(ComputeResponseRecordV1.getClassSchema(), ComputeResponseRecordV1.class);
+  private static final Map<String, RecordDeserializer<GenericRecord>> resultDeserializerMap =
+      new VeniceConcurrentHashMap<>();
+
+  private final VeniceComputePath computePath;
+
+  public VeniceComputeResponseMerger(VeniceComputePath computePath) {
+    this.computePath = computePath;
+  }
+
+  /**
+   * @param responses the successful responses of the storage nodes, whose content is released once merged
+   * @param isStreaming whether the records which are not part of the global top K should be reported as non-existing
+   * @return the content of the merged response
+   */
+  public ByteBuf merge(List<FullHttpResponse> responses, boolean isStreaming) {
+    try {
+      ComputeTopK topK = computePath.getTopK();
+      ComputeTopKSelector<ComputeResponseRecordV1> topKSelector =
+          topK == null ? null : new ComputeTopKSelector<>(topK);
+      RecordDeserializer<GenericRecord> resultDeserializer =
+          topK == null ? null : getResultDeserializer(computePath.getResultSchemaStr());
+      ComputeFacetAggregator facetAggregator = new ComputeFacetAggregator(computePath.getFacets());
+
+      List<ComputeResponseRecordV1> mergedRecords = new ArrayList<>();
+      for (FullHttpResponse response: responses) {
+        for (ComputeResponseRecordV1 record: deserializeRecords(response.content())) {
+          if (record.keyIndex == KEY_ID_FOR_COMPUTE_FACETS) {
+            facetAggregator.merge(record.value);
+          } else if (topKSelector == null || record.keyIndex < 0 || !record.value.hasRemaining()) {
+            // The non-existing keys, and the results of a request without top-K selection, are sent back as they are
+            mergedRecords.add(record);
+          } else {
+            Double score = topKSelector.getScore(resultDeserializer.deserialize(record.value.duplicate()));
+            // The storage nodes only send back the records with a score, so this is defensive code
+            ComputeResponseRecordV1 evictedRecord = score == null ? record : topKSelector.add(score, record);
+            if (evictedRecord != null && isStreaming) {
+              mergedRecords.add(toNonExistingKey(evictedRecord.keyIndex));
+            }
+          }
+        }
+      }
+      if (topKSelector != null) {
+        mergedRecords.addAll(topKSelector.getSelectedItems());
+      }
+      if (!facetAggregator.isEmpty()) {
+        ComputeResponseRecordV1 facetsRecord = new ComputeResponseRecordV1();
+        facetsRecord.keyIndex = KEY_ID_FOR_COMPUTE_FACETS;
+        facetsRecord.value = ByteBuffer.wrap(facetAggregator.serializeResults());
+        mergedRecords.add(facetsRecord);
+      }
+      return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(mergedRecords));
+    } catch (VeniceException e) {
+      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+          Optional.of(computePath.getStoreName()),
+          Optional.of(computePath.getRequestType()),
+          BAD_GATEWAY,
+          "Failed to merge the compute responses of the storage nodes: " + e.getMessage());
+    } finally {
+      // The records might be backed by the content of the responses, which can only be released once serialized
+      for (FullHttpResponse response: responses) {
+        response.content().release();
+      }
+    }
+  }
+
+  private static List<ComputeResponseRecordV1> deserializeRecords(ByteBuf data) {
+    // The responses of the storage nodes might be in direct buffers, which need to be copied to be deserialized
+    byte[] array;
+    int offset;
+    if (data.hasArray()) {
+      array = data.array();
+      offset = data.arrayOffset() + data.readerIndex();
+    } else {
+      array = ByteBufUtil.getBytes(data);
+      offset = 0;
+    }
+    return recordDeserializer.deserializeObjects(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(array, offset, data.readableBytes()));
+  }
+
+  private static RecordDeserializer<GenericRecord> getResultDeserializer(String resultSchemaStr) {
+    return resultDeserializerMap.computeIfAbsent(resultSchemaStr, schemaStr -> {
+      Schema resultSchema = new Schema.Parser().parse(schemaStr);
+      return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(resultSchema, resultSchema);
+    });
+  }
+
+  private static ComputeResponseRecordV1 toNonExistingKey(int keyIndex) {
+    ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+    // Negative key index to indicate non-existing key
+    record.keyIndex = Math.negateExact(keyIndex);
+    record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    return record;
+  }
+}
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.annotation.Nonnull;
 
 
@@ -59,6 +60,11 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   private final ScatterGatherMode LEAST_LOADED_MODE_FOR_SINGLE_GET = new LeastLoadedModeForSingleGet();
 
+  /**
+   * This mode will route single get to the replica with the lowest expected latency among two random replicas.
+   */
+  private final ScatterGatherMode LATENCY_BASED_MODE_FOR_SINGLE_GET = new LatencyBasedModeForSingleGet();
+
   /**
    * This mode will group all requests to the same host into a single request.  Hosts are selected as the first host returned
    * by the VeniceHostFinder, so we must shuffle the order to get an even distribution.
@@ -83,6 +89,12 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   private final ScatterGatherMode HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST = new HelixAssistedScatterGatherMode();
 
+  /**
+   * Latency based routing to avoid the replicas which accept requests quickly but answer them slowly.
+   */
+  private final ScatterGatherMode LATENCY_BASED_MODE_FOR_MULTI_KEY_REQUEST =
+      new LatencyBasedRoutingModeForMultiKeyRequest();
+
   private RouterThrottler readRequestThrottler;
   private RouteHttpRequestStats routeHttpRequestStats;
 
@@ -90,6 +102,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
 
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final ScatterGatherMode scatterGatherModeForMultiKeyRequest;
+  private final ScatterGatherMode scatterGatherModeForSingleGet;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
   public VeniceDelegateMode(
@@ -113,9 +126,16 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       case HELIX_ASSISTED_ROUTING:
         this.scatterGatherModeForMultiKeyRequest = HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST;
         break;
+      case LATENCY_BASED_ROUTING:
+        this.scatterGatherModeForMultiKeyRequest = LATENCY_BASED_MODE_FOR_MULTI_KEY_REQUEST;
+        break;
       default:
         throw new VeniceException("Unknown multi-key routing strategy: " + this.multiKeyRoutingStrategy);
     }
+    this.scatterGatherModeForSingleGet =
+        this.multiKeyRoutingStrategy.equals(VeniceMultiKeyRoutingStrategy.LATENCY_BASED_ROUTING)
+            ? LATENCY_BASED_MODE_FOR_SINGLE_GET
+            : LEAST_LOADED_MODE_FOR_SINGLE_GET;
   }
 
   public void initReadRequestThrottler(RouterThrottler requestThrottler) {
@@ -194,7 +214,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
         scatterMode = scatterGatherModeForMultiKeyRequest;
         break;
       case SINGLE_GET:
-        scatterMode = LEAST_LOADED_MODE_FOR_SINGLE_GET;
+        scatterMode = scatterGatherModeForSingleGet;
         break;
       default:
         throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
@@ -323,20 +343,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       }
     }
     if (minHost == null) {
-      if (path.isRetryRequest()) {
-        throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
-            Optional.of(path.getStoreName()),
-            Optional.of(path.getRequestType()),
-            SERVICE_UNAVAILABLE,
-            "Retry request aborted because of slow route for request path: " + path.getResourceName(),
-            RouterExceptionAndTrackingUtils.FailureType.SMART_RETRY_ABORTED_BY_SLOW_ROUTE);
-      } else {
-        throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
-            Optional.of(path.getStoreName()),
-            Optional.of(path.getRequestType()),
-            SERVICE_UNAVAILABLE,
-            "Could not find ready-to-serve replica for request path: " + path.getResourceName());
-      }
+      throw newNoAvailableReplicaException(path);
     }
     H finalHost = minHost;
     hosts.removeIf(aHost -> !aHost.equals(finalHost));
@@ -344,12 +351,87 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     return host;
   }
 
+  /**
+   * Select the host with the lowest {@link RouteHttpRequestStats#getLatencyBasedLoad} among two hosts picked at random,
+   * which avoids sending all the requests to the host which looks the least loaded at a given time.
+   */
+  private <H> H selectLatencyBasedHost(List<H> hosts, VenicePath path) throws RouterException {
+    int candidateCount = 0;
+    for (H h: hosts) {
+      if (path.canRequestStorageNode(((Instance) h).getNodeId())) {
+        candidateCount++;
+      }
+    }
+    if (candidateCount == 0) {
+      throw newNoAvailableReplicaException(path);
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int firstChoice = random.nextInt(candidateCount);
+    int secondChoice = firstChoice;
+    if (candidateCount > 1) {
+      secondChoice = random.nextInt(candidateCount - 1);
+      if (secondChoice >= firstChoice) {
+        secondChoice++;
+      }
+    }
+    H firstHost = null;
+    H secondHost = null;
+    int candidateIndex = 0;
+    for (H h: hosts) {
+      if (!path.canRequestStorageNode(((Instance) h).getNodeId())) {
+        continue;
+      }
+      if (candidateIndex == firstChoice) {
+        firstHost = h;
+      }
+      if (candidateIndex == secondChoice) {
+        secondHost = h;
+      }
+      candidateIndex++;
+    }
+    H selectedHost = firstHost;
+    if (secondHost != firstHost) {
+      double firstHostLoad = routeHttpRequestStats.getLatencyBasedLoad(((Instance) firstHost).getNodeId());
+      double secondHostLoad = routeHttpRequestStats.getLatencyBasedLoad(((Instance) secondHost).getNodeId());
+      if (secondHostLoad < firstHostLoad) {
+        selectedHost = secondHost;
+      }
+    }
+    H finalHost = selectedHost;
+    hosts.removeIf(aHost -> !aHost.equals(finalHost));
+    return finalHost;
+  }
+
+  private RouterException newNoAvailableReplicaException(VenicePath path) {
+    if (path.isRetryRequest()) {
+      return RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(path.getStoreName()),
+          Optional.of(path.getRequestType()),
+          SERVICE_UNAVAILABLE,
+          "Retry request aborted because of slow route for request path: " + path.getResourceName(),
+          RouterExceptionAndTrackingUtils.FailureType.SMART_RETRY_ABORTED_BY_SLOW_ROUTE);
+    }
+    return RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+        Optional.of(path.getStoreName()),
+        Optional.of(path.getRequestType()),
+        SERVICE_UNAVAILABLE,
+        "Could not find ready-to-serve replica for request path: " + path.getResourceName());
+  }
+
   /**
    * This mode route the request to the least loaded replica for single get.
    */
   class LeastLoadedModeForSingleGet extends ScatterGatherMode {
     protected LeastLoadedModeForSingleGet() {
-      super("LEAST_LOADED_MODE_FOR_SINGLE_GET", false);
+      this("LEAST_LOADED_MODE_FOR_SINGLE_GET");
+    }
+
+    protected LeastLoadedModeForSingleGet(String name) {
+      super(name, false);
+    }
+
+    protected <H> H selectHost(List<H> hosts, VenicePath venicePath) throws RouterException {
+      return selectLeastLoadedHost(hosts, venicePath);
     }
 
     @Nonnull
@@ -391,7 +473,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       if (hosts.isEmpty()) {
         scatter.addOfflineRequest(new ScatterGatherRequest<>(Collections.emptyList(), keySet));
       } else if (hosts.size() > 1) {
-        H host = selectLeastLoadedHost(hosts, venicePath);
+        H host = selectHost(hosts, venicePath);
         scatter.addOnlineRequest(new ScatterGatherRequest<>(Collections.singletonList(host), keySet));
       } else {
         scatter.addOnlineRequest(new ScatterGatherRequest<>(hosts, keySet));
@@ -400,6 +482,21 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     }
   }
 
+  /**
+   * This mode route the request to the replica with the lowest expected latency among two random replicas for single
+   * get.
+   */
+  class LatencyBasedModeForSingleGet extends LeastLoadedModeForSingleGet {
+    protected LatencyBasedModeForSingleGet() {
+      super("LATENCY_BASED_MODE_FOR_SINGLE_GET");
+    }
+
+    @Override
+    protected <H> H selectHost(List<H> hosts, VenicePath venicePath) throws RouterException {
+      return selectLatencyBasedHost(hosts, venicePath);
+    }
+  }
+
   abstract class ScatterGatherModeForMultiKeyRequest extends ScatterGatherMode {
     private final ThreadLocal<List<List<RouterKey>>> keysPerPartitionThreadLocal =
         ThreadLocal.withInitial(() -> new ArrayList<>());
@@ -602,6 +699,27 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     }
   }
 
+  /**
+   * This mode route the request to the replica with the lowest expected latency among two random replicas.
+   */
+  class LatencyBasedRoutingModeForMultiKeyRequest extends ScatterGatherModeForMultiKeyRequest {
+    protected LatencyBasedRoutingModeForMultiKeyRequest() {
+      super("LATENCY_BASED_MODE_FOR_MULTI_GET");
+    }
+
+    @Override
+    protected <H, K> void selectHostForPartition(
+        List<H> partitionReplicas,
+        List<K> partitionKeys,
+        VenicePath venicePath,
+        Map<H, KeyPartitionSet<H, K>> hostMap,
+        int groupNum,
+        int assignedGroupId) throws RouterException {
+      H selectedHost = selectLatencyBasedHost(partitionReplicas, venicePath);
+      populateHostMap(hostMap, selectedHost, partitionKeys);
+    }
+  }
+
   /**
    * This following mode will leverage Helix Zone/Group for routing.
    * Here are the steps:
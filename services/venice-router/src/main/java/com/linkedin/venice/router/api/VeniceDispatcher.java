@@ -48,6 +48,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nonnull;
@@ -91,6 +92,8 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  private final SingleGetCoalescer singleGetCoalescer = new SingleGetCoalescer();
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -142,11 +145,31 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture;
+    // Whether the response comes from a request sent by another single get, rather than to the selected storage node
+    AtomicBoolean isCoalesced = new AtomicBoolean(false);
+    if (requestType == RequestType.SINGLE_GET && !path.isRetryRequest()
+        && routerConfig.isSingleFlightEnabled(storeName)) {
+      storageNodeResponseFuture = singleGetCoalescer.coalesce(
+          path.getResourceName(),
+          path.getPartitionKeys().iterator().next(),
+          () -> sendRequest(storageNode, path, retryFuture),
+          () -> {
+            isCoalesced.set(true);
+            routerStats.getStatsByType(requestType).recordSingleFlightCoalescedRequest(storeName);
+          });
+    } else {
+      storageNodeResponseFuture = sendRequest(storageNode, path, retryFuture);
+    }
+
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
+          if (response != null) {
+            response.releaseContent();
+          }
           retryFuture.setSuccess(HttpResponseStatus.valueOf(statusCode));
           AggRouterHttpRequestStats stats = routerStats.getStatsByType(requestType);
           stats.recordErrorRetryCount(storeName);
@@ -157,12 +180,17 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           throw throwable;
         }
 
-        // Do not mark storage node fast for 429 status code
-        if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR && statusCode != HttpStatus.SC_TOO_MANY_REQUESTS) {
+        // Do not mark storage node fast for 429 status code, nor when it hasn't been contacted by this request
+        if (!isCoalesced.get() && statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR
+            && statusCode != HttpStatus.SC_TOO_MANY_REQUESTS) {
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        FullHttpResponse fullHttpResponse = buildResponse(path, response);
+        if (!responseFuture.setSuccess(Collections.singletonList(fullHttpResponse))) {
+          // The request has already been completed, by a timeout for instance
+          fullHttpResponse.release();
+        }
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
@@ -235,7 +263,12 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         storageNodeClient.query(
             storageNode,
             path,
-            responseFuture::complete,
+            response -> {
+              if (!responseFuture.complete(response)) {
+                // The future has been cancelled or cleaned up as leaked, so nothing reads the response
+                response.releaseContent();
+              }
+            },
             responseFuture::completeExceptionally,
             () -> responseFuture.cancel(false));
       } catch (Throwable throwable) {
@@ -243,8 +276,9 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       }
       return responseFuture.whenComplete((response, throwable) -> {
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
-        perRouteStats
-            .recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getElapsedTimeFromNSToMS(startTime));
+        double responseTimeInMs = LatencyUtils.getElapsedTimeFromNSToMS(startTime);
+        perRouteStats.recordResponseWaitingTime(storageNode.getHost(), responseTimeInMs);
+        routeHttpRequestStats.recordResponseTime(storageNode.getNodeId(), responseTimeInMs);
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -283,10 +317,12 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           Pair<ByteBuf, CompressionStrategy> chunk =
               responseDecompressor.processMultiGetResponseForStreaming(contentCompression, content);
           chunkedResponse.write(chunk.getFirst(), chunk.getSecond());
-        } else {
+          content = Unpooled.EMPTY_BUFFER;
+        } else if (!path.isResponseMergeRequired()) {
           chunkedResponse.write(content);
+          content = Unpooled.EMPTY_BUFFER;
         }
-        content = Unpooled.EMPTY_BUFFER;
+        // Otherwise, the content is written by VeniceResponseAggregator once merged with the other responses
       } else {
         final ContentDecompressResult contentDecompressResult;
         switch (path.getRequestType()) {
@@ -11,5 +11,10 @@ public enum VeniceMultiKeyRoutingStrategy {
   // This mode will send the request to the least loaded host of all the available replicas.
   LEAST_LOADED_ROUTING,
   // This mode will try to limit the fanout inside one helix group/zone.
-  HELIX_ASSISTED_ROUTING
+  HELIX_ASSISTED_ROUTING,
+  /**
+   * This mode will send the request to the replica with the lowest response time EWMA weighted by its pending request
+   * count among two replicas picked at random, and it applies to single-get requests as well.
+   */
+  LATENCY_BASED_ROUTING
 }
@@ -26,6 +26,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceStoreIsMigratedException;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VeniceComputePath;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
@@ -33,6 +34,7 @@ import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.SuccessfulStreamingResponse;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -197,7 +199,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
        * All the request with type: {@link RequestType.MULTI_GET_STREAMING} and {@link RequestType.COMPUTE_STREAMING}
        * will be handled here.
        */
-      finalResponse = buildStreamingResponse(gatheredResponses, storeName, versionNumber);
+      finalResponse = buildStreamingResponse(gatheredResponses, venicePath);
     } else {
       Optional<Map<CharSequence, String>> optionalHeaders = venicePath.getResponseHeaders();
       switch (requestType) {
@@ -208,7 +210,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
           finalResponse = processMultiGetResponses(gatheredResponses, storeName, versionNumber, optionalHeaders);
           break;
         case COMPUTE:
-          finalResponse = processComputeResponses(gatheredResponses, storeName, optionalHeaders);
+          finalResponse = processComputeResponses(gatheredResponses, venicePath, optionalHeaders);
           break;
         default:
           throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -284,23 +286,35 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return finalResponse;
   }
 
-  private FullHttpResponse buildStreamingResponse(
-      List<FullHttpResponse> gatheredResponses,
-      String storeName,
-      int version) {
+  private FullHttpResponse buildStreamingResponse(List<FullHttpResponse> gatheredResponses, VenicePath venicePath) {
+    String storeName = venicePath.getStoreName();
+    int version = venicePath.getVersionNumber();
     CompressionStrategy compressionStrategy = null;
 
     /**
      * If every sub-response is good, return {@link SuccessfulStreamingResponse} to indicate that,
      * otherwise, return the first error response.
      */
-    for (FullHttpResponse subResponse: gatheredResponses) {
-      if (!subResponse.status().equals(OK)) {
-        return subResponse;
+    try {
+      for (FullHttpResponse subResponse: gatheredResponses) {
+        if (!subResponse.status().equals(OK)) {
+          releaseHeldBackContents(gatheredResponses, venicePath, subResponse);
+          return subResponse;
+        }
+        compressionStrategy =
+            validateAndExtractCompressionStrategy(storeName, version, compressionStrategy, subResponse);
       }
-      compressionStrategy = validateAndExtractCompressionStrategy(storeName, version, compressionStrategy, subResponse);
+    } catch (VeniceException e) {
+      releaseHeldBackContents(gatheredResponses, venicePath, null);
+      throw e;
     }
 
+    if (venicePath.isResponseMergeRequired()) {
+      // The content of the sub-responses has been held back by VeniceDispatcher to be merged here
+      ByteBuf mergedContent =
+          new VeniceComputeResponseMerger((VeniceComputePath) venicePath).merge(gatheredResponses, true);
+      venicePath.getChunkedResponse().write(mergedContent);
+    }
     return new SuccessfulStreamingResponse();
   }
 
@@ -358,42 +372,55 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
 
   protected FullHttpResponse processComputeResponses(
       List<FullHttpResponse> responses,
-      String storeName,
+      VenicePath venicePath,
       Optional<Map<CharSequence, String>> optionalHeaders) {
+    String storeName = venicePath.getStoreName();
     /**
      * Here we will check the consistency of the following headers among all the responses:
      * 1. {@link HttpHeaderNames.CONTENT_TYPE}
      * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
      */
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf compositeContent = Unpooled.compositeBuffer();
     int totalRequestRcu = 0;
-    for (FullHttpResponse response: responses) {
-      if (response.status() != OK) {
-        // Return error response directly.
-        return response;
-      }
-      COMPUTE_VALID_HEADER_MAP.forEach((headerName, headerValue) -> {
-        String currentValue = response.headers().get(headerName);
-        if (currentValue == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(RequestType.COMPUTE),
-              BAD_GATEWAY,
-              "Header: " + headerName + " is expected in compute sub-response");
+    try {
+      for (FullHttpResponse response: responses) {
+        if (response.status() != OK) {
+          releaseHeldBackContents(responses, venicePath, response);
+          // Return error response directly.
+          return response;
         }
-        if (!headerValue.equals(currentValue)) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(RequestType.COMPUTE),
-              BAD_GATEWAY,
-              "Incompatible header received for " + headerName + ", values: " + headerValue + ", " + currentValue);
-        }
-      });
+        COMPUTE_VALID_HEADER_MAP.forEach((headerName, headerValue) -> {
+          String currentValue = response.headers().get(headerName);
+          if (currentValue == null) {
+            throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+                Optional.of(storeName),
+                Optional.of(RequestType.COMPUTE),
+                BAD_GATEWAY,
+                "Header: " + headerName + " is expected in compute sub-response");
+          }
+          if (!headerValue.equals(currentValue)) {
+            throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+                Optional.of(storeName),
+                Optional.of(RequestType.COMPUTE),
+                BAD_GATEWAY,
+                "Incompatible header received for " + headerName + ", values: " + headerValue + ", " + currentValue);
+          }
+        });
 
-      totalRequestRcu += getRCU(response);
-      content.addComponent(true, response.content());
+        totalRequestRcu += getRCU(response);
+        if (!venicePath.isResponseMergeRequired()) {
+          compositeContent.addComponent(true, response.content());
+        }
+      }
+    } catch (VeniceException e) {
+      releaseHeldBackContents(responses, venicePath, null);
+      throw e;
     }
 
+    ByteBuf content = venicePath.isResponseMergeRequired()
+        ? new VeniceComputeResponseMerger((VeniceComputePath) venicePath).merge(responses, false)
+        : compositeContent;
+
     FullHttpResponse computeResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
     COMPUTE_VALID_HEADER_MAP.forEach(computeResponse.headers()::set);
     optionalHeaders.ifPresent(headers -> headers.forEach(computeResponse.headers()::set));
@@ -403,6 +430,25 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return computeResponse;
   }
 
+  /**
+   * The content of the sub-responses to be merged is held back by {@link VeniceDispatcher}, and is only released by
+   * {@link VeniceComputeResponseMerger}, so it has to be released here when the merge doesn't happen, except for the
+   * content of the response which is sent back instead.
+   */
+  private static void releaseHeldBackContents(
+      List<FullHttpResponse> responses,
+      VenicePath venicePath,
+      FullHttpResponse returnedResponse) {
+    if (!venicePath.isResponseMergeRequired()) {
+      return;
+    }
+    for (FullHttpResponse response: responses) {
+      if (response != returnedResponse) {
+        response.content().release();
+      }
+    }
+  }
+
   private int getRCU(FullHttpResponse response) {
     String rcuHeader = response.headers().get(VENICE_REQUEST_RCU);
     if (NumberUtils.isCreatable(rcuHeader)) {
@@ -21,6 +21,7 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpRequest;
@@ -200,10 +201,19 @@ public class VeniceResponseDecompressor {
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
+    // The responses of the storage nodes might be in direct buffers, which need to be copied to be deserialized
+    byte[] array;
+    int offset;
+    if (data.hasArray()) {
+      array = data.array();
+      offset = data.arrayOffset() + data.readerIndex();
+    } else {
+      array = ByteBufUtil.getBytes(data);
+      offset = 0;
+    }
     Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
         OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
+            .createOptimizedBinaryDecoder(array, offset, data.readableBytes()));
 
     try {
       VeniceCompressor compressor;
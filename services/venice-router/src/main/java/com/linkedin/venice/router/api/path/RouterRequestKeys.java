@@ -0,0 +1,114 @@
+package com.linkedin.venice.router.api.path;
+
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.router.api.RouterKey;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.avro.io.BinaryData;
+
+
+/**
+ * This class holds the keys of a multi-key request, which are slices of the request content sent by the client, and
+ * encodes each of them only once into a single byte array, following the binary encoding of
+ * {@link MultiGetRouterRequestKeyV1}, which is also the one of {@link ComputeRouterRequestKeyV1}.
+ *
+ * The encoded keys are indexed by key index in primitive arrays, so that the request of each storage node, including
+ * the retry requests, is built by concatenating the encoded keys it contains instead of serializing them again.
+ * Instances are shared by the original path and all its sub-paths, and are immutable once built.
+ */
+class RouterRequestKeys {
+  // The max length of an int encoded with the zig-zag variable-length encoding of Avro
+  private static final int MAX_ENCODED_INT_LENGTH = 5;
+
+  /**
+   * The distinct keys in key index order, the keys which appear several times in the client request are only sent
+   * once to the storage nodes, with the index of their first occurrence.
+   */
+  private final List<RouterKey> distinctRouterKeys;
+  // Key index -> router key, null for the duplicate keys
+  private final RouterKey[] routerKeys;
+  // Key index -> offset of the encoded key, the last entry being the total length of the encoded keys
+  private final int[] encodedKeyOffsets;
+  private final byte[] encodedKeys;
+
+  /**
+   * @param keys all the keys of the client request in key index order, with their partition id
+   */
+  RouterRequestKeys(List<RouterKey> keys) {
+    int keyCount = keys.size();
+    this.distinctRouterKeys = new ArrayList<>(keyCount);
+    this.routerKeys = new RouterKey[keyCount];
+    this.encodedKeyOffsets = new int[keyCount + 1];
+
+    Set<RouterKey> keySet = new HashSet<>(keyCount);
+    int maxEncodedKeysLength = 0;
+    for (int keyIdx = 0; keyIdx < keyCount; ++keyIdx) {
+      RouterKey key = keys.get(keyIdx);
+      if (keySet.add(key)) {
+        key.setKeyIndex(keyIdx);
+        distinctRouterKeys.add(key);
+        routerKeys[keyIdx] = key;
+        maxEncodedKeysLength += key.getKeySize() + 3 * MAX_ENCODED_INT_LENGTH;
+      }
+    }
+
+    this.encodedKeys = new byte[maxEncodedKeysLength];
+    int offset = 0;
+    for (int keyIdx = 0; keyIdx < keyCount; ++keyIdx) {
+      encodedKeyOffsets[keyIdx] = offset;
+      RouterKey key = routerKeys[keyIdx];
+      if (key == null) {
+        continue;
+      }
+      offset += BinaryData.encodeInt(keyIdx, encodedKeys, offset);
+      offset += BinaryData.encodeInt(key.getKeySize(), encodedKeys, offset);
+      key.getKeyBuffer().duplicate().get(encodedKeys, offset, key.getKeySize());
+      offset += key.getKeySize();
+      offset += BinaryData.encodeInt(key.getPartitionId(), encodedKeys, offset);
+    }
+    encodedKeyOffsets[keyCount] = offset;
+  }
+
+  List<RouterKey> getDistinctRouterKeys() {
+    return distinctRouterKeys;
+  }
+
+  boolean contains(RouterKey key) {
+    if (!key.hasKeyIndex()) {
+      return false;
+    }
+    int keyIdx = key.getKeyIndex();
+    return keyIdx < routerKeys.length && key.equals(routerKeys[keyIdx]);
+  }
+
+  /**
+   * @param keys a subset of the keys of this request
+   * @param prefix the bytes to put before the encoded keys
+   * @param prefixLength the number of bytes of {@param prefix} to put before the encoded keys
+   * @return the concatenation of the prefix and of the encoded keys, ready to be sent to a storage node
+   */
+  byte[] serialize(Collection<RouterKey> keys, byte[] prefix, int prefixLength) {
+    int length = prefixLength;
+    for (RouterKey key: keys) {
+      int keyIdx = key.getKeyIndex();
+      length += encodedKeyOffsets[keyIdx + 1] - encodedKeyOffsets[keyIdx];
+    }
+    byte[] serializedKeys = new byte[length];
+    if (prefixLength > 0) {
+      System.arraycopy(prefix, 0, serializedKeys, 0, prefixLength);
+    }
+    int offset = prefixLength;
+    for (RouterKey key: keys) {
+      int keyIdx = key.getKeyIndex();
+      int encodedKeyLength = encodedKeyOffsets[keyIdx + 1] - encodedKeyOffsets[keyIdx];
+      System.arraycopy(encodedKeys, encodedKeyOffsets[keyIdx], serializedKeys, offset, encodedKeyLength);
+      offset += encodedKeyLength;
+    }
+    return serializedKeys;
+  }
+}
@@ -7,11 +7,16 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.ComputeFacetAggregator;
+import com.linkedin.venice.compute.ComputeTopKSelector;
+import com.linkedin.venice.compute.protocol.request.ComputeFacet;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
-import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.read.RequestType;
-import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
@@ -19,12 +24,12 @@ import com.linkedin.venice.router.api.VenicePathParser;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import javax.annotation.Nonnull;
@@ -35,13 +40,10 @@ import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
-public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKeyV1> {
-  private static final Schema EMPTY_RECORD_SCHEMA = Schema.createRecord(
-      ComputeRequestV3.class.getSimpleName(),
-      "no-op",
-      ComputeRequestV3.class.getPackage().getName(),
-      false,
-      Collections.emptyList());
+public class VeniceComputePath extends VeniceMultiKeyPath {
+  private static final Schema EMPTY_RECORD_SCHEMA = getEmptyRecordSchema(ComputeRequestV3.class);
+  private static final Schema MERGE_SPEC_V4_SCHEMA =
+      getProjectedRecordSchema(ComputeRequestV4.SCHEMA$, "resultSchemaStr", "topK", "facets");
   private static final ThreadLocal<GenericRecord> EMPTY_COMPUTE_REQUEST_RECORD =
       ThreadLocal.withInitial(() -> new GenericData.Record(EMPTY_RECORD_SCHEMA));
 
@@ -58,28 +60,70 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    *    V3 is capable of deserializing the previous two as well. This is because these schemas have only ever added new
    *    branches to the {@link com.linkedin.venice.compute.protocol.request.ComputeRequest#operations} union, and thus
    *    the schema with all the branches can deserialize those with fewer branches. For this reason, it is not necessary
-   *    here to take the schema the client used to encode as the writer schema the router uses to decode. If, however,
-   *    in the future, we keep evolving the compute request protocol, we need to reevaluate if the evolution will
-   *    require passing in the precise writer schema used. For example, if adding a new field, we would need to start
-   *    using the correct writer schema (either V3 or the newer one).
+   *    here to take the schema the client used to encode as the writer schema the router uses to decode.
+   *
+   * 3. V4 appended the filters field, so V3 can not skip over it anymore, and the precise writer schema is required
+   *    for it, see {@link #COMPUTE_REQUEST_V4_MERGE_SPEC_DESERIALIZER}.
    */
   private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_NO_OP_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV3.SCHEMA$, EMPTY_RECORD_SCHEMA);
+  /**
+   * Unlike the previous versions, V4 might ask for a top-K selection and facets, whose partial results are merged by
+   * the router across the storage nodes, so the fields describing them are read, and the other ones are skipped over.
+   */
+  private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_V4_MERGE_SPEC_DESERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV4.SCHEMA$, MERGE_SPEC_V4_SCHEMA);
   private static final RecordDeserializer<ByteBuffer> COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
           ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema(),
           ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
-  private static final RecordSerializer<ComputeRouterRequestKeyV1> COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.getClassSchema());
 
-  private static void skipOverComputeRequest(BinaryDecoder decoder) {
-    COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
+  private static Schema getEmptyRecordSchema(Class<?> computeRequestClass) {
+    return Schema.createRecord(
+        computeRequestClass.getSimpleName(),
+        "no-op",
+        computeRequestClass.getPackage().getName(),
+        false,
+        Collections.emptyList());
+  }
+
+  private static Schema getProjectedRecordSchema(Schema recordSchema, String... fieldNames) {
+    List<Schema.Field> fields = new ArrayList<>(fieldNames.length);
+    for (String fieldName: fieldNames) {
+      fields.add(AvroCompatibilityHelper.newField(recordSchema.getField(fieldName)).build());
+    }
+    return Schema.createRecord(recordSchema.getName(), "projection", recordSchema.getNamespace(), false, fields);
+  }
+
+  private static ComputeTopK toComputeTopK(GenericRecord topKRecord) {
+    if (topKRecord == null) {
+      return null;
+    }
+    ComputeTopK topK = new ComputeTopK();
+    topK.field = topKRecord.get("field").toString();
+    topK.k = (int) topKRecord.get("k");
+    return topK;
+  }
+
+  private static List<ComputeFacet> toComputeFacets(List<GenericRecord> facetRecords) {
+    List<ComputeFacet> facets = new ArrayList<>(facetRecords.size());
+    for (GenericRecord facetRecord: facetRecords) {
+      ComputeFacet facet = new ComputeFacet();
+      facet.facetType = (int) facetRecord.get("facetType");
+      facet.field = facetRecord.get("field").toString();
+      facet.bucketBoundaries = new ArrayList<>((List<Double>) facetRecord.get("bucketBoundaries"));
+      facets.add(facet);
+    }
+    return facets;
   }
 
   private final byte[] requestContent;
   private final int computeRequestLengthInBytes;
   private final String valueSchemaIdHeader;
   private final String computeRequestVersionHeader;
+  private final String resultSchemaStr;
+  private final ComputeTopK topK;
+  private final List<ComputeFacet> facets;
 
   public VeniceComputePath(
       String storeName,
@@ -118,12 +162,24 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
 
     /**
      * The first part of the request content from client is the ComputeRequest which contains an array of operations
-     * and the result schema string. Here, we deserialize the first part (but throw it away, as it is only to advance
-     * the internal state of the decoder) and record the length of the first part.
+     * and the result schema string. Here, we deserialize the first part (only keeping what is needed to merge the
+     * responses of the storage nodes, as it is mostly to advance the internal state of the decoder) and record the
+     * length of the first part.
      */
     BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
         .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
-    skipOverComputeRequest(decoder);
+    if (computeRequestVersion >= 4) {
+      GenericRecord mergeSpec = COMPUTE_REQUEST_V4_MERGE_SPEC_DESERIALIZER.deserialize(decoder);
+      this.resultSchemaStr = mergeSpec.get("resultSchemaStr").toString();
+      this.topK = toComputeTopK((GenericRecord) mergeSpec.get("topK"));
+      this.facets = toComputeFacets((List<GenericRecord>) mergeSpec.get("facets"));
+      validateMergeSpec();
+    } else {
+      COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
+      this.resultSchemaStr = null;
+      this.topK = null;
+      this.facets = Collections.emptyList();
+    }
     try {
       // record the length of the serialized ComputeRequest
       computeRequestLengthInBytes = requestContent.length - decoder.inputStream().available();
@@ -145,11 +201,15 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
       String storeName,
       int versionNumber,
       String resourceName,
-      Map<RouterKey, ComputeRouterRequestKeyV1> routerKeyMap,
+      RouterRequestKeys requestKeys,
+      Collection<RouterKey> routerKeys,
       byte[] requestContent,
       int computeRequestLengthInBytes,
       String valueSchemaIdHeader,
       String computeRequestVersionHeader,
+      String resultSchemaStr,
+      ComputeTopK topK,
+      List<ComputeFacet> facets,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
       int longTailRetryMaxRouteForMultiKeyReq) {
@@ -159,13 +219,31 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
-        routerKeyMap,
+        requestKeys,
+        routerKeys,
         longTailRetryMaxRouteForMultiKeyReq);
     this.requestContent = requestContent;
     this.valueSchemaIdHeader = valueSchemaIdHeader;
     this.computeRequestLengthInBytes = computeRequestLengthInBytes;
     this.computeRequestVersionHeader = computeRequestVersionHeader;
-    setPartitionKeys(routerKeyMap.keySet());
+    this.resultSchemaStr = resultSchemaStr;
+    this.topK = topK;
+    this.facets = facets;
+  }
+
+  private void validateMergeSpec() throws RouterException {
+    try {
+      if (topK != null) {
+        new ComputeTopKSelector<>(topK);
+      }
+      new ComputeFacetAggregator(facets);
+    } catch (VeniceException e) {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(getStoreName()),
+          Optional.of(getRequestType()),
+          BAD_REQUEST,
+          e.getMessage());
+    }
   }
 
   @Nonnull
@@ -185,21 +263,13 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   }
 
   public VeniceMultiGetPath toMultiGetPath() {
-    Map<RouterKey, MultiGetRouterRequestKeyV1> newRouterKeyMap = new HashMap<>();
-    for (Map.Entry<RouterKey, ComputeRouterRequestKeyV1> entry: routerKeyMap.entrySet()) {
-      ComputeRouterRequestKeyV1 computeRequestKey = entry.getValue();
-      newRouterKeyMap.put(
-          entry.getKey(),
-          new MultiGetRouterRequestKeyV1(
-              computeRequestKey.getKeyIndex(),
-              computeRequestKey.getKeyBytes(),
-              computeRequestKey.getPartitionId()));
-    }
+    // The router request keys of multi-get and compute share the same encoding
     VeniceMultiGetPath newPath = new VeniceMultiGetPath(
         storeName,
         versionNumber,
         getResourceName(),
-        newRouterKeyMap,
+        requestKeys,
+        getPartitionKeys(),
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq());
@@ -211,20 +281,24 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    * If the parent request is a retry request, the sub-request generated by scattering-gathering logic should be retry
    * request as well.
    *
-   * @param routerKeyMap
+   * @param routerKeys
    * @return
    */
   @Override
-  protected VeniceComputePath fixRetryRequestForSubPath(Map<RouterKey, ComputeRouterRequestKeyV1> routerKeyMap) {
+  protected VeniceComputePath fixRetryRequestForSubPath(Collection<RouterKey> routerKeys) {
     VeniceComputePath subPath = new VeniceComputePath(
         storeName,
         versionNumber,
         getResourceName(),
-        routerKeyMap,
+        requestKeys,
+        routerKeys,
         this.requestContent,
         this.computeRequestLengthInBytes,
         this.valueSchemaIdHeader,
         this.computeRequestVersionHeader,
+        this.resultSchemaStr,
+        this.topK,
+        this.facets,
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq());
@@ -232,19 +306,9 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
     return subPath;
   }
 
-  @Override
-  protected ComputeRouterRequestKeyV1 createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId) {
-    ComputeRouterRequestKeyV1 routerRequestKey = new ComputeRouterRequestKeyV1();
-    routerRequestKey.keyBytes = key;
-    routerRequestKey.keyIndex = keyIdx;
-    routerRequestKey.partitionId = partitionId;
-    return routerRequestKey;
-  }
-
   @Override
   protected byte[] serializeRouterRequest() {
-    return COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER
-        .serializeObjects(routerKeyMap.values(), ByteBuffer.wrap(requestContent, 0, computeRequestLengthInBytes));
+    return requestKeys.serialize(getPartitionKeys(), requestContent, computeRequestLengthInBytes);
   }
 
   @Override
@@ -258,6 +322,27 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
     return computeRequestVersionHeader;
   }
 
+  /**
+   * @return true if the request asks for a top-K selection or facets, whose partial results sent back by the storage
+   *         nodes have to be merged, see {@link com.linkedin.venice.router.api.VeniceComputeResponseMerger}
+   */
+  @Override
+  public boolean isResponseMergeRequired() {
+    return topK != null || !facets.isEmpty();
+  }
+
+  public String getResultSchemaStr() {
+    return resultSchemaStr;
+  }
+
+  public ComputeTopK getTopK() {
+    return topK;
+  }
+
+  public List<ComputeFacet> getFacets() {
+    return facets;
+  }
+
   // for testing
   protected int getComputeRequestLengthInBytes() {
     return computeRequestLengthInBytes;
@@ -7,7 +7,6 @@ import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.read.RequestType;
-import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.RouterThrottleHandler;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterKey;
@@ -18,21 +17,17 @@ import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import java.nio.ByteBuffer;
-import java.util.Map;
+import java.util.Collection;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
-public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequestKeyV1> {
+public class VeniceMultiGetPath extends VeniceMultiKeyPath {
   private static final String ROUTER_REQUEST_VERSION =
       Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
 
-  private static final RecordSerializer<MultiGetRouterRequestKeyV1> MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetRouterRequestKeyV1.getClassSchema());
-
   protected static final ReadAvroProtocolDefinition EXPECTED_PROTOCOL =
       ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1;
 
@@ -86,7 +81,8 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
       String storeName,
       int versionNumber,
       String resourceName,
-      Map<RouterKey, MultiGetRouterRequestKeyV1> routerKeyMap,
+      RouterRequestKeys requestKeys,
+      Collection<RouterKey> routerKeys,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
       int longTailRetryMaxRouteForMultiKeyReq) {
@@ -96,9 +92,9 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
-        routerKeyMap,
+        requestKeys,
+        routerKeys,
         longTailRetryMaxRouteForMultiKeyReq);
-    setPartitionKeys(routerKeyMap.keySet());
   }
 
   @Nonnull
@@ -121,15 +117,16 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
    * If the parent request is a retry request, the sub-request generated by scattering-gathering logic should be retry
    * request as well.
    *
-   * @param routerKeyMap
+   * @param routerKeys
    * @return
    */
-  protected VeniceMultiGetPath fixRetryRequestForSubPath(Map<RouterKey, MultiGetRouterRequestKeyV1> routerKeyMap) {
+  protected VeniceMultiGetPath fixRetryRequestForSubPath(Collection<RouterKey> routerKeys) {
     VeniceMultiGetPath subPath = new VeniceMultiGetPath(
         storeName,
         versionNumber,
         getResourceName(),
-        routerKeyMap,
+        requestKeys,
+        routerKeys,
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
         getLongTailRetryMaxRouteForMultiKeyReq());
@@ -137,18 +134,9 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
     return subPath;
   }
 
-  @Override
-  protected MultiGetRouterRequestKeyV1 createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId) {
-    MultiGetRouterRequestKeyV1 routerRequestKey = new MultiGetRouterRequestKeyV1();
-    routerRequestKey.keyBytes = key;
-    routerRequestKey.keyIndex = keyIdx;
-    routerRequestKey.partitionId = partitionId;
-    return routerRequestKey;
-  }
-
   @Override
   protected byte[] serializeRouterRequest() {
-    return MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER.serializeObjects(routerKeyMap.values());
+    return requestKeys.serialize(getPartitionKeys(), null, 0);
   }
 
   private static Iterable<ByteBuffer> deserialize(byte[] content) {
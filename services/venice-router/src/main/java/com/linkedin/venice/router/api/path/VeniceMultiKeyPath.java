@@ -16,9 +16,10 @@ import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import io.netty.handler.codec.http.HttpMethod;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
@@ -27,9 +28,13 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ByteArrayEntity;
 
 
-public abstract class VeniceMultiKeyPath<K> extends VenicePath {
+/**
+ * The keys of a multi-key request are kept in a {@link RouterRequestKeys}, which is shared by the original path and all
+ * its sub-paths, so that scattering the request, or retrying a part of it, doesn't copy or serialize the keys again.
+ */
+public abstract class VeniceMultiKeyPath extends VenicePath {
   protected int keyNum;
-  protected final Map<RouterKey, K> routerKeyMap;
+  protected RouterRequestKeys requestKeys;
   private final int longTailRetryMaxRouteForMultiKeyReq;
   private AtomicInteger currentAllowedRetryRouteCnt = new AtomicInteger(0);
 
@@ -40,37 +45,39 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
       int longTailRetryMaxRouteForMultiKeyReq) {
-    // HashMap's performance is better than TreeMap
-    this(
-        storeName,
-        versionNumber,
-        resourceName,
-        smartLongTailRetryEnabled,
-        smartLongTailRetryAbortThresholdMs,
-        new HashMap<>(),
-        longTailRetryMaxRouteForMultiKeyReq);
+    super(storeName, versionNumber, resourceName, smartLongTailRetryEnabled, smartLongTailRetryAbortThresholdMs);
+    this.longTailRetryMaxRouteForMultiKeyReq = longTailRetryMaxRouteForMultiKeyReq;
   }
 
-  public VeniceMultiKeyPath(
+  /**
+   * Constructor of the sub-paths.
+   *
+   * @param requestKeys the keys of the original path
+   * @param routerKeys the subset of the keys of the original path contained in this sub-path
+   */
+  VeniceMultiKeyPath(
       String storeName,
       int versionNumber,
       String resourceName,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
-      Map<RouterKey, K> routerKeyMap,
+      RouterRequestKeys requestKeys,
+      Collection<RouterKey> routerKeys,
       int longTailRetryMaxRouteForMultiKeyReq) {
     super(storeName, versionNumber, resourceName, smartLongTailRetryEnabled, smartLongTailRetryAbortThresholdMs);
-    this.keyNum = routerKeyMap.size();
-    this.routerKeyMap = routerKeyMap;
+    this.keyNum = routerKeys.size();
+    this.requestKeys = requestKeys;
     this.longTailRetryMaxRouteForMultiKeyReq = longTailRetryMaxRouteForMultiKeyReq;
+    setPartitionKeys(routerKeys);
   }
 
   /**
-   * Fill the router key map and the index2routerKey map.
+   * Compute the partition of each key and encode the keys into {@link #requestKeys}.
    *
    * @param storeName
    * @param resourceName
-   * @param keys            Multiple keys from client request; keys have been deserialized to ByteBuffer
+   * @param keys            Multiple keys from client request; keys have been deserialized to ByteBuffer slices of the
+   *                        request content
    * @param partitionFinder
    * @param maxKeyCount
    * @throws RouterException
@@ -83,7 +90,6 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       int maxKeyCount,
       RouterStats<AggRouterHttpRequestStats> stats) throws RouterException {
     keyNum = 0;
-    int keyIdx = 0;
     int partitionNum;
     VenicePartitioner partitioner;
     try {
@@ -97,6 +103,7 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
           e.getMessage());
     }
 
+    List<RouterKey> routerKeys = new ArrayList<>();
     for (ByteBuffer key: keys) {
       RouterKey routerKey = new RouterKey(key);
 
@@ -109,11 +116,10 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       // partition lookup
       int partitionId = partitioner.getPartitionId(routerKey.getKeyBuffer(), partitionNum);
       routerKey.setPartitionId(partitionId);
-      K routerRequestKey = createRouterRequestKey(key, keyIdx, partitionId);
-      this.routerKeyMap.put(routerKey, routerRequestKey);
-      ++keyIdx;
+      routerKeys.add(routerKey);
     }
-    setPartitionKeys(this.routerKeyMap.keySet());
+    this.requestKeys = new RouterRequestKeys(routerKeys);
+    setPartitionKeys(this.requestKeys.getDistinctRouterKeys());
 
     int keyCount = getPartitionKeys().size();
     if (keyCount > maxKeyCount) {
@@ -146,19 +152,8 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
    */
   @Override
   public VenicePath substitutePartitionKey(RouterKey s) {
-    K routerRequestKey = routerKeyMap.get(s);
-    if (routerRequestKey == null) {
-      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-          Optional.of(getStoreName()),
-          Optional.of(getRequestType()),
-          BAD_GATEWAY,
-          "RouterKey: " + s + " should exist in the original path");
-    }
-    Map<RouterKey, K> newRouterKeyMap = new HashMap<>();
-
-    newRouterKeyMap.put(s, routerRequestKey);
-
-    return fixRetryRequestForSubPath(newRouterKeyMap);
+    validateKey(s);
+    return fixRetryRequestForSubPath(Collections.singletonList(s));
   }
 
   /**
@@ -172,32 +167,24 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
    */
   @Override
   public VenicePath substitutePartitionKey(@Nonnull Collection<RouterKey> s) {
-    Map<RouterKey, K> newRouterKeyMap = new HashMap<>(s.size());
+    /**
+     * The key index kept in each {@link RouterKey} is enough to validate it, without any Map lookup, which could make
+     * a big difference considering large batch-get user cases.
+     */
     for (RouterKey key: s) {
-      /**
-       * Using {@link Map#get(Object)} and checking whether it is null is faster than the following statements:
-       * if (!routerKeyMap.containsKey(key)) {
-       *   ... ...
-       * }
-       * newRouterKeyMap.put(key, routerKeyMap.get(key));
-       * newKeyIdxToRouterKey.put(routerKeyMap.get(key).keyIndex, key);
-       *
-       * Since this way will save two unnecessary Map lookups.
-       * This could make a big difference considering large batch-get user cases.
-       */
-      K routerRequestKey = routerKeyMap.get(key);
-      if (routerRequestKey == null) {
-        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-            Optional.of(getStoreName()),
-            Optional.of(getRequestType()),
-            BAD_GATEWAY,
-            "RouterKey: " + key + " should exist in the original path");
-      }
-
-      newRouterKeyMap.put(key, routerRequestKey);
+      validateKey(key);
     }
+    return fixRetryRequestForSubPath(new ArrayList<>(s));
+  }
 
-    return fixRetryRequestForSubPath(newRouterKeyMap);
+  private void validateKey(RouterKey key) {
+    if (!requestKeys.contains(key)) {
+      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+          Optional.of(getStoreName()),
+          Optional.of(getRequestType()),
+          BAD_GATEWAY,
+          "RouterKey: " + key + " should exist in the original path");
+    }
   }
 
   @Override
@@ -253,24 +240,14 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
   }
 
   /**
-   * Create a router request key.
-   *
-   * @param key
-   * @param keyIdx
-   * @param partitionId
-   * @return An instance of ComputeRouterRequestKeyV1 for compute request; return an instance of MultiGetRouterRequestKeyV1 for multi-get
-   */
-  protected abstract K createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId);
-
-  /**
-   * @param routerKeyMap
+   * @param routerKeys
    * @return a sub-path with a new set of keys
    */
-  protected abstract VenicePath fixRetryRequestForSubPath(Map<RouterKey, K> routerKeyMap);
+  protected abstract VenicePath fixRetryRequestForSubPath(Collection<RouterKey> routerKeys);
 
   /**
-   * For multi-get requests, simply serialize the set of RouterKey to bytes;
-   * for read compute requests, concatenate the compute request and the serialized keys
+   * For multi-get requests, simply concatenate the encoded keys of {@link #getPartitionKeys()};
+   * for read compute requests, concatenate the compute request and the encoded keys
    * @return
    */
   protected abstract byte[] serializeRouterRequest();
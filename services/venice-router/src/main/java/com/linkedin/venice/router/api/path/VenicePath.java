@@ -337,6 +337,14 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     return true;
   }
 
+  /**
+   * @return true if the responses of the storage nodes can not be sent back as they are, but have to be merged by
+   *         {@link com.linkedin.venice.router.api.VeniceResponseAggregator} once all of them have been received
+   */
+  public boolean isResponseMergeRequired() {
+    return false;
+  }
+
   public abstract RequestType getRequestType();
 
   protected RequestType getStreamingRequestType() {
@@ -0,0 +1,287 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.monitoring.CallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.FixedChannelPoolFactory;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPool;
+import com.linkedin.alpini.netty4.pool.ManagedChannelPool;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.Future;
+import java.net.URI;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class sends the requests to the storage nodes over HTTP/2 with Netty, through the channel pools of alpini: the
+ * connections to each storage node are managed by a {@link Http2AwareChannelPool}, which multiplexes the requests as
+ * streams over a few connections.
+ *
+ * Unlike {@link HttpClient5StorageNodeClient}, which buffers each response into a heap byte array, the request bodies
+ * are wrapped without any copy and the successful responses are handed over in pooled direct buffers, see
+ * {@link NettyStorageNodeResponseHandler}, which are released once written back to the client.
+ *
+ * The storage nodes need to have HTTP/2 enabled, since this client doesn't fall back to HTTP/1.1.
+ */
+public class NettyStorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyStorageNodeClient.class);
+  private static final long CHANNEL_HEALTH_CHECK_INTERVAL_MS = 1000;
+  private static final long CHANNEL_POOL_CLOSE_TIMEOUT_MS = 5000;
+
+  /**
+   * Storage nodes never open streams towards Router, so any such stream is closed right away.
+   */
+  private static final ChannelHandler INBOUND_STREAM_REJECTER = new ChannelInitializer<Channel>() {
+    @Override
+    protected void initChannel(Channel ch) {
+      ch.close();
+    }
+  };
+
+  private final int socketTimeoutInMs;
+  private final MultithreadEventLoopGroup eventLoopGroup;
+  private final ChannelPoolManager channelPoolManager;
+  // The storage nodes which have a channel pool, so that their pools get closed along with this client
+  private final Set<String> pooledHostAndPorts = VeniceConcurrentHashMap.newKeySet();
+
+  public NettyStorageNodeClient(Optional<SSLFactory> sslFactory, VeniceRouterConfig routerConfig) {
+    SslContext sslContext = createSslContext(
+        sslFactory.orElseThrow(
+            () -> new VeniceException(
+                "Param 'sslFactory' must be present while using " + this.getClass().getSimpleName())));
+    this.socketTimeoutInMs = routerConfig.getSocketTimeout();
+
+    int eventLoopThreads = routerConfig.getNettyClientEventLoopThreads();
+    DefaultThreadFactory threadFactory = new DefaultThreadFactory("NettyStorageNodeClient", true);
+    MultithreadEventLoopGroup eventLoopGroup;
+    Class<? extends Channel> channelClass;
+    try {
+      eventLoopGroup = new EpollEventLoopGroup(eventLoopThreads, threadFactory);
+      channelClass = EpollSocketChannel.class;
+    } catch (LinkageError error) {
+      LOGGER.info("Epoll is only supported on Linux; switching to NIO for the storage node client");
+      eventLoopGroup = new NioEventLoopGroup(eventLoopThreads, threadFactory);
+      channelClass = NioSocketChannel.class;
+    }
+    this.eventLoopGroup = eventLoopGroup;
+
+    Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(channelClass)
+        .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .option(ChannelOption.TCP_NODELAY, true)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline()
+                .addLast(
+                    sslContext.newHandler(ch.alloc()),
+                    Http2FrameCodecBuilder.forClient().build(),
+                    new Http2MultiplexHandler(INBOUND_STREAM_REJECTER));
+          }
+        });
+
+    FixedChannelPoolFactory channelPoolFactory = new FixedChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        routerConfig.getNettyClientMaxConnectionsPerRoute(),
+        Integer.MAX_VALUE,
+        true,
+        CHANNEL_HEALTH_CHECK_INTERVAL_MS,
+        ChannelHealthChecker.ACTIVE,
+        (CallTracker) null) {
+      @Override
+      protected ManagedChannelPool construct(
+          Bootstrap connectionBootstrap,
+          ChannelPoolHandler channelPoolHandler,
+          ChannelHealthChecker healthChecker,
+          FixedChannelPool.AcquireTimeoutAction acquireTimeoutAction,
+          IntSupplier minConnections,
+          int maxConnections,
+          boolean releaseHeathCheck) {
+        ManagedChannelPool connectionPool = super.construct(
+            connectionBootstrap,
+            channelPoolHandler,
+            healthChecker,
+            acquireTimeoutAction,
+            minConnections,
+            maxConnections,
+            releaseHeathCheck);
+        return new Http2AwareChannelPool(connectionPool, ch -> {}, ch -> {});
+      }
+    };
+    // A single pool per storage node, shared by all the event loops, since the HTTP/2 connections are multiplexed
+    this.channelPoolManager = new ChannelPoolManagerImpl(
+        eventLoopGroup,
+        channelPoolFactory,
+        new BasicDnsResolver(),
+        Integer.MAX_VALUE,
+        true,
+        false,
+        false);
+    LOGGER.info(
+        "Constructing NettyStorageNodeClient with event loop thread count: {}, max connections per route: {}",
+        eventLoopThreads,
+        routerConfig.getNettyClientMaxConnectionsPerRoute());
+  }
+
+  private static SslContext createSslContext(SSLFactory sslFactory) {
+    if (!SslProvider.isAlpnSupported(SslProvider.JDK)) {
+      throw new VeniceException(
+          "To use HTTP/2 with " + NettyStorageNodeClient.class.getSimpleName()
+              + ", the current process needs to support ALPN");
+    }
+    ApplicationProtocolConfig alpnConfig = new ApplicationProtocolConfig(
+        ApplicationProtocolConfig.Protocol.ALPN,
+        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+        ApplicationProtocolNames.HTTP_2);
+    return new JdkSslContext(
+        sslFactory.getSSLContext(),
+        true,
+        Http2SecurityUtil.CIPHERS,
+        SupportedCipherSuiteFilter.INSTANCE,
+        alpnConfig,
+        ClientAuth.NONE);
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    for (String hostAndPort: pooledHostAndPorts) {
+      if (!channelPoolManager.close(hostAndPort).awaitUninterruptibly(CHANNEL_POOL_CLOSE_TIMEOUT_MS)) {
+        LOGGER.warn("Timed out closing the channel pool of storage node: {}", hostAndPort);
+      }
+    }
+    pooledHostAndPorts.clear();
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) {
+    String hostAndPort = host.getHost() + ":" + host.getSslPort();
+    byte[] body = path.getBody();
+    FullHttpRequest request = newRequest(
+        path.getHttpMethod(),
+        hostAndPort,
+        "/" + path.getLocation(),
+        body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+    sendRequest(hostAndPort, request, true, socketTimeoutInMs, completedCallBack, failedCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    URI uri = URI.create(request.getUrl() + request.getQuery());
+    String hostAndPort = uri.getHost() + ":" + uri.getPort();
+    String pathAndQuery = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    FullHttpRequest httpRequest =
+        newRequest(HttpMethod.valueOf(request.getMethod()), hostAndPort, pathAndQuery, Unpooled.EMPTY_BUFFER);
+    // Metadata responses are not always read, so they are copied to the heap
+    sendRequest(
+        hostAndPort,
+        httpRequest,
+        false,
+        request.hasTimeout() ? request.getTimeout() : socketTimeoutInMs,
+        response -> {
+          if (!responseFuture.complete(response)) {
+            response.releaseContent();
+          }
+        },
+        responseFuture::completeExceptionally);
+  }
+
+  private static FullHttpRequest newRequest(HttpMethod method, String hostAndPort, String uri, ByteBuf content) {
+    FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, uri, content);
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort);
+    request.headers().set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), "https");
+    HttpUtil.setContentLength(request, content.readableBytes());
+    return request;
+  }
+
+  private void sendRequest(
+      String hostAndPort,
+      FullHttpRequest request,
+      boolean isPooledContentEnabled,
+      long timeoutInMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack) {
+    pooledHostAndPorts.add(hostAndPort);
+    channelPoolManager.acquire(hostAndPort, ChannelPoolManagerImpl.DEFAULT_DB_QUEUE, QOS.NORMAL)
+        .addListener((Future<Channel> acquireFuture) -> {
+          if (!acquireFuture.isSuccess()) {
+            request.release();
+            failedCallBack.accept(acquireFuture.cause());
+            return;
+          }
+          Channel streamChannel = acquireFuture.getNow();
+          streamChannel.pipeline()
+              .addLast(
+                  new NettyStorageNodeResponseHandler(
+                      isPooledContentEnabled,
+                      timeoutInMs,
+                      completedCallBack,
+                      failedCallBack,
+                      channelPoolManager::release));
+          streamChannel.writeAndFlush(request).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        });
+  }
+}
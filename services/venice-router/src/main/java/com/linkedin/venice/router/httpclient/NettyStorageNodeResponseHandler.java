@@ -0,0 +1,220 @@
+package com.linkedin.venice.router.httpclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+
+/**
+ * This handler collects the response of a single request sent by {@link NettyStorageNodeClient} on its own HTTP/2
+ * stream channel, and hands it over to the callbacks once complete.
+ *
+ * The content of the response is kept in the pooled direct buffers allocated by Netty: a response which fits in a
+ * single DATA frame is handed over without any copy, and the chunks of a larger response are written as they arrive
+ * into a single pooled buffer, sized by the content length, so that the frames are recycled right away. The content
+ * of the error responses and of the metadata requests is copied to the heap instead, since those responses are small
+ * and are not always read, which would leak the pooled buffer.
+ */
+class NettyStorageNodeResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
+  private final boolean isPooledContentEnabled;
+  private final long timeoutInMs;
+  private final Consumer<PortableHttpResponse> completedCallBack;
+  private final Consumer<Throwable> failedCallBack;
+  private final Consumer<Channel> channelReleaser;
+
+  private HttpResponse response;
+  private long expectedContentLength;
+  private ByteBuf content;
+  // Whether the content is a buffer allocated for this response, as opposed to the content of the first chunk
+  private boolean isContentAggregated;
+  private ScheduledFuture<?> timeoutFuture;
+  private boolean done = false;
+
+  /**
+   * @param isPooledContentEnabled whether the content of successful responses can be handed over in pooled buffers
+   * @param timeoutInMs the request timeout, or a non-positive value for no timeout
+   * @param channelReleaser releases the stream channel once the request is done
+   */
+  NettyStorageNodeResponseHandler(
+      boolean isPooledContentEnabled,
+      long timeoutInMs,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      Consumer<Channel> channelReleaser) {
+    this.isPooledContentEnabled = isPooledContentEnabled;
+    this.timeoutInMs = timeoutInMs;
+    this.completedCallBack = completedCallBack;
+    this.failedCallBack = failedCallBack;
+    this.channelReleaser = channelReleaser;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) {
+    if (timeoutInMs > 0) {
+      timeoutFuture = ctx.executor()
+          .schedule(
+              () -> fail(ctx, new TimeoutException("Storage node request timed out after " + timeoutInMs + "ms")),
+              timeoutInMs,
+              TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    releaseContent();
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) {
+    if (done) {
+      return;
+    }
+    if (msg.decoderResult().isFailure()) {
+      fail(ctx, msg.decoderResult().cause());
+      return;
+    }
+    if (msg instanceof HttpResponse) {
+      response = (HttpResponse) msg;
+      expectedContentLength = HttpUtil.getContentLength(response, -1L);
+    }
+    if (msg instanceof HttpContent) {
+      appendContent(ctx.alloc(), ((HttpContent) msg).content());
+    }
+    if (msg instanceof LastHttpContent) {
+      if (response == null) {
+        fail(ctx, new IllegalStateException("Received the end of a storage node response without its headers"));
+        return;
+      }
+      complete(ctx);
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    fail(ctx, new ClosedChannelException());
+    super.channelInactive(ctx);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    fail(ctx, cause);
+  }
+
+  private void appendContent(ByteBufAllocator allocator, ByteBuf chunk) {
+    if (!chunk.isReadable()) {
+      return;
+    }
+    if (content == null) {
+      // The chunk is released once read, so it needs to be retained
+      content = chunk.retain();
+      return;
+    }
+    if (!isContentAggregated) {
+      ByteBuf firstChunk = content;
+      int receivedContentLength = firstChunk.readableBytes() + chunk.readableBytes();
+      content = allocator.directBuffer((int) Math.max(expectedContentLength, receivedContentLength));
+      isContentAggregated = true;
+      content.writeBytes(firstChunk);
+      firstChunk.release();
+    }
+    content.writeBytes(chunk);
+  }
+
+  private void complete(ChannelHandlerContext ctx) {
+    done = true;
+    cancelTimeout();
+    int statusCode = response.status().code();
+    ByteBuf responseContent;
+    if (content == null) {
+      responseContent = Unpooled.EMPTY_BUFFER;
+    } else if (isPooledContentEnabled && statusCode == HttpResponseStatus.OK.code()) {
+      responseContent = content;
+    } else {
+      responseContent = Unpooled.wrappedBuffer(ByteBufUtil.getBytes(content));
+      content.release();
+    }
+    content = null;
+    channelReleaser.accept(ctx.channel());
+    completedCallBack.accept(new NettyStorageNodeResponse(statusCode, response.headers(), responseContent));
+  }
+
+  private void fail(ChannelHandlerContext ctx, Throwable cause) {
+    if (done) {
+      return;
+    }
+    done = true;
+    cancelTimeout();
+    releaseContent();
+    // Closing the stream channel resets the stream, so that the storage node stops sending the response
+    ctx.close();
+    channelReleaser.accept(ctx.channel());
+    failedCallBack.accept(cause);
+  }
+
+  private void cancelTimeout() {
+    if (timeoutFuture != null) {
+      timeoutFuture.cancel(false);
+      timeoutFuture = null;
+    }
+  }
+
+  private void releaseContent() {
+    if (content != null) {
+      content.release();
+      content = null;
+    }
+  }
+
+  private static final class NettyStorageNodeResponse implements PortableHttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final ByteBuf content;
+
+    private NettyStorageNodeResponse(int statusCode, HttpHeaders headers, ByteBuf content) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public void releaseContent() {
+      content.release();
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+  }
+}
@@ -16,11 +16,21 @@ public interface PortableHttpResponse {
 
   /**
    * Returns the response as ByteBuf.
+   *
+   * The returned buffer might come from a pool, in which case the caller takes over its reference and needs to
+   * release it, so the content can only be read once.
    * @return
    * @throws IOException
    */
   ByteBuf getContentInByteBuf() throws IOException;
 
+  /**
+   * Releases the content of a response which is dropped without being read, so that a pooled buffer goes back to its
+   * pool. It must not be called once {@link #getContentInByteBuf()} has been called.
+   */
+  default void releaseContent() {
+  }
+
   /**
    *
    * @param headerName
@@ -139,6 +139,11 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     }
   }
 
+  public void recordSingleFlightCoalescedRequest(String storeName) {
+    totalStats.recordSingleFlightCoalescedRequest();
+    getStoreStats(storeName).recordSingleFlightCoalescedRequest();
+  }
+
   public void recordFanoutRequestCount(String storeName, int count) {
     totalStats.recordFanoutRequestCount(count);
     getStoreStats(storeName).recordFanoutRequestCount(count);
@@ -12,6 +12,7 @@ import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
 import io.tehuti.metrics.stats.SampledTotal;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 
@@ -20,6 +21,12 @@ import java.util.concurrent.atomic.AtomicLong;
  * to {@link RouteHttpStats} which stores only per type stats.
  */
 public class RouteHttpRequestStats {
+  /**
+   * The weight of a response time in the response time EWMA of a host decays by a factor of e over this time window,
+   * so that the EWMA reflects the recent response times whatever the request rate of the host is.
+   */
+  private static final double RESPONSE_TIME_DECAY_TIME_IN_NS = TimeUnit.SECONDS.toNanos(1);
+
   private final MetricsRepository metricsRepository;
   private final StorageNodeClient storageNodeClient;
   private final Map<String, InternalHostStats> routeStatsMap = new VeniceConcurrentHashMap<>();
@@ -39,6 +46,11 @@ public class RouteHttpRequestStats {
     stats.recordFinishedRequestCount();
   }
 
+  public void recordResponseTime(String hostName, double responseTimeInMs) {
+    InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
+    stats.recordResponseTime(responseTimeInMs);
+  }
+
   public void recordUnhealthyQueueDuration(String hostName, double duration) {
     InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
     stats.recordUnhealthyQueueDuration(duration);
@@ -52,11 +64,28 @@ public class RouteHttpRequestStats {
     return stat.pendingRequestCount.get();
   }
 
+  /**
+   * @return the expected cost of sending one more request to the host, which is its response time EWMA multiplied by
+   *         its pending request count, so that a host which accepts requests quickly but answers them slowly, e.g.
+   *         because of compaction or GC, gets less traffic even before being considered unhealthy.
+   */
+  public double getLatencyBasedLoad(String hostName) {
+    InternalHostStats stat = routeStatsMap.get(hostName);
+    if (stat == null) {
+      return 0;
+    }
+    // The response time EWMA is offset by 1ms, so that the pending request count still matters for idle hosts
+    return (stat.getResponseTimeEwma() + 1) * (stat.pendingRequestCount.get() + 1);
+  }
+
   static class InternalHostStats extends AbstractVeniceStats {
     // private final Sensor pendingRequestCountSensor;
     private final Sensor unhealthyPendingQueueDuration;
     private final Sensor unhealthyPendingRateSensor;
     private AtomicLong pendingRequestCount;
+    // The bits of the response time EWMA in ms, which is a double
+    private final AtomicLong responseTimeEwmaBits = new AtomicLong(Double.doubleToLongBits(0));
+    private volatile long lastResponseTimeUpdateNs = System.nanoTime();
 
     public InternalHostStats(MetricsRepository metricsRepository, String hostName) {
       super(metricsRepository, StatsUtils.convertHostnameToMetricName(hostName));
@@ -86,5 +115,39 @@ public class RouteHttpRequestStats {
       unhealthyPendingRateSensor.record();
       unhealthyPendingQueueDuration.record(duration);
     }
+
+    /**
+     * The EWMA jumps to any response time above it, so that a slow host is avoided right away, and only goes down
+     * progressively once the host is fast again.
+     */
+    public void recordResponseTime(double responseTimeInMs) {
+      long currentTimeNs = System.nanoTime();
+      double weight = getDecayWeight(currentTimeNs);
+      long previousEwmaBits;
+      double updatedEwma;
+      do {
+        previousEwmaBits = responseTimeEwmaBits.get();
+        double previousEwma = Double.longBitsToDouble(previousEwmaBits);
+        if (responseTimeInMs > previousEwma) {
+          updatedEwma = responseTimeInMs;
+        } else {
+          updatedEwma = previousEwma * weight + responseTimeInMs * (1 - weight);
+        }
+      } while (!responseTimeEwmaBits.compareAndSet(previousEwmaBits, Double.doubleToLongBits(updatedEwma)));
+      lastResponseTimeUpdateNs = currentTimeNs;
+    }
+
+    /**
+     * The EWMA decays while no response is received, so that a host which was avoided because of its response time
+     * gets some traffic again after a while, which refreshes its response time.
+     */
+    public double getResponseTimeEwma() {
+      return Double.longBitsToDouble(responseTimeEwmaBits.get()) * getDecayWeight(System.nanoTime());
+    }
+
+    private double getDecayWeight(long currentTimeNs) {
+      long elapsedTimeNs = Math.max(0, currentTimeNs - lastResponseTimeUpdateNs);
+      return Math.exp(-elapsedTimeNs / RESPONSE_TIME_DECAY_TIME_IN_NS);
+    }
   }
 }
@@ -31,6 +31,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor tardyRequestRatioSensor;
   private final Sensor throttleSensor;
   private final Sensor errorRetryCountSensor;
+  private final Sensor singleFlightCoalescedRequestSensor;
 
   private final Sensor latencySensor;
   private final Sensor healthyRequestLatencySensor;
@@ -94,6 +95,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor(new TehutiUtils.SimpleRatioStat(tardyRequestRate, requestRate, "tardy_request_ratio"));
     throttleSensor = registerSensor("throttled_request", new Count());
     errorRetryCountSensor = registerSensor("error_retry", new Count());
+    singleFlightCoalescedRequestSensor = registerSensor("single_flight_coalesced_request", new Count());
     badRequestSensor = registerSensor("bad_request", new Count());
     badRequestKeyCountSensor = registerSensor("bad_request_key_count", new OccurrenceRate(), new Avg(), new Max());
     requestThrottledByRouterCapacitySensor = registerSensor("request_throttled_by_router_capacity", new Count());
@@ -252,6 +254,10 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     errorRetryCountSensor.record();
   }
 
+  public void recordSingleFlightCoalescedRequest() {
+    singleFlightCoalescedRequestSensor.record();
+  }
+
   public void recordBadRequest() {
     badRequestSensor.record();
   }
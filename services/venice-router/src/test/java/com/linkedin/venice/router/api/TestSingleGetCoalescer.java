@@ -0,0 +1,81 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestSingleGetCoalescer {
+  private static final String RESOURCE_NAME = "test_store_v1";
+
+  @Test
+  public void testIdenticalSingleGetsAreCoalesced() throws Exception {
+    SingleGetCoalescer coalescer = new SingleGetCoalescer();
+    AtomicInteger sentRequestCount = new AtomicInteger();
+    AtomicInteger coalescedRequestCount = new AtomicInteger();
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture = new CompletableFuture<>();
+    SingleGetCoalescer.StorageNodeRequestSender sender = () -> {
+      sentRequestCount.incrementAndGet();
+      return storageNodeResponseFuture;
+    };
+
+    CompletableFuture<PortableHttpResponse> future1 = coalescer
+        .coalesce(RESOURCE_NAME, RouterKey.fromString("key"), sender, coalescedRequestCount::incrementAndGet);
+    CompletableFuture<PortableHttpResponse> future2 = coalescer
+        .coalesce(RESOURCE_NAME, RouterKey.fromString("key"), sender, coalescedRequestCount::incrementAndGet);
+    // Neither another key nor another version is coalesced
+    coalescer.coalesce(RESOURCE_NAME, RouterKey.fromString("key2"), sender, coalescedRequestCount::incrementAndGet);
+    coalescer.coalesce("test_store_v2", RouterKey.fromString("key"), sender, coalescedRequestCount::incrementAndGet);
+    Assert.assertEquals(sentRequestCount.get(), 3);
+    Assert.assertEquals(coalescedRequestCount.get(), 1);
+
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_OK).when(response).getStatusCode();
+    // The content can only be read once
+    doReturn(Unpooled.wrappedBuffer("value".getBytes(StandardCharsets.UTF_8))).doReturn(null)
+        .when(response)
+        .getContentInByteBuf();
+    storageNodeResponseFuture.complete(response);
+
+    for (CompletableFuture<PortableHttpResponse> future: Arrays.asList(future1, future2)) {
+      Assert.assertEquals(future.get().getStatusCode(), HttpStatus.SC_OK);
+      ByteBuf content = future.get().getContentInByteBuf();
+      Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "value");
+      // Releasing the content of a response doesn't affect the other ones
+      content.release();
+    }
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+
+    // The next single get is not coalesced with the completed one
+    coalescer.coalesce(RESOURCE_NAME, RouterKey.fromString("key"), sender, coalescedRequestCount::incrementAndGet);
+    Assert.assertEquals(sentRequestCount.get(), 4);
+  }
+
+  @Test
+  public void testFailureIsPropagatedToCoalescedSingleGets() throws Exception {
+    SingleGetCoalescer coalescer = new SingleGetCoalescer();
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> future1 =
+        coalescer.coalesce(RESOURCE_NAME, RouterKey.fromString("key"), () -> storageNodeResponseFuture, () -> {});
+    CompletableFuture<PortableHttpResponse> future2 =
+        coalescer.coalesce(RESOURCE_NAME, RouterKey.fromString("key"), () -> storageNodeResponseFuture, () -> {});
+
+    storageNodeResponseFuture.completeExceptionally(new IllegalStateException("Storage node failure"));
+    for (CompletableFuture<PortableHttpResponse> future: Arrays.asList(future1, future2)) {
+      ExecutionException e = Assert.expectThrows(ExecutionException.class, future::get);
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+  }
+}
@@ -0,0 +1,157 @@
+package com.linkedin.venice.router.api;
+
+import static com.linkedin.venice.streaming.StreamingConstants.KEY_ID_FOR_COMPUTE_FACETS;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.compute.ComputeFacetAggregator;
+import com.linkedin.venice.compute.protocol.request.ComputeFacet;
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeFacetType;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResult;
+import com.linkedin.venice.compute.protocol.response.ComputeFacetResultsV1;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.router.api.path.VeniceComputePath;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.streaming.StreamingUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceComputeResponseMerger {
+  private static final Schema RESULT_SCHEMA =
+      SchemaBuilder.record("Result").fields().requiredDouble("score").endRecord();
+  private static final RecordSerializer<GenericRecord> RESULT_SERIALIZER =
+      SerializerDeserializerFactory.getAvroGenericSerializer(RESULT_SCHEMA);
+  private static final RecordSerializer<ComputeResponseRecordV1> RECORD_SERIALIZER =
+      SerializerDeserializerFactory.getAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<ComputeResponseRecordV1> RECORD_DESERIALIZER = SerializerDeserializerFactory
+      .getAvroSpecificDeserializer(ComputeResponseRecordV1.getClassSchema(), ComputeResponseRecordV1.class);
+  private static final RecordDeserializer<ComputeFacetResultsV1> FACET_RESULTS_DESERIALIZER =
+      SerializerDeserializerFactory
+          .getAvroSpecificDeserializer(ComputeFacetResultsV1.getClassSchema(), ComputeFacetResultsV1.class);
+
+  private static VeniceComputePath getComputePath(int k) {
+    ComputeTopK topK = new ComputeTopK();
+    topK.field = "score";
+    topK.k = k;
+    ComputeFacet facet = new ComputeFacet();
+    facet.facetType = ComputeFacetType.SUM.getValue();
+    facet.field = "score";
+    facet.bucketBoundaries = Collections.emptyList();
+
+    VeniceComputePath computePath = mock(VeniceComputePath.class);
+    doReturn("test_store").when(computePath).getStoreName();
+    doReturn(RESULT_SCHEMA.toString()).when(computePath).getResultSchemaStr();
+    doReturn(topK).when(computePath).getTopK();
+    doReturn(Collections.singletonList(facet)).when(computePath).getFacets();
+    return computePath;
+  }
+
+  private static ComputeResponseRecordV1 resultRecord(int keyIndex, double score) {
+    GenericRecord result = new GenericData.Record(RESULT_SCHEMA);
+    result.put("score", score);
+    ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+    record.keyIndex = keyIndex;
+    record.value = ByteBuffer.wrap(RESULT_SERIALIZER.serialize(result));
+    return record;
+  }
+
+  private static ComputeResponseRecordV1 nonExistingKeyRecord(int keyIndex) {
+    ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+    record.keyIndex = Math.negateExact(keyIndex);
+    record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    return record;
+  }
+
+  /**
+   * @return the facets record of a storage node, which evaluated the facets over the given scores
+   */
+  private static ComputeResponseRecordV1 facetsRecord(VeniceComputePath computePath, double... scores) {
+    ComputeFacetAggregator facetAggregator = new ComputeFacetAggregator(computePath.getFacets());
+    for (double score: scores) {
+      GenericRecord result = new GenericData.Record(RESULT_SCHEMA);
+      result.put("score", score);
+      facetAggregator.add(result);
+    }
+    ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+    record.keyIndex = KEY_ID_FOR_COMPUTE_FACETS;
+    record.value = ByteBuffer.wrap(facetAggregator.serializeResults());
+    return record;
+  }
+
+  private static FullHttpResponse response(ComputeResponseRecordV1... records) {
+    ByteBuf content = Unpooled.wrappedBuffer(RECORD_SERIALIZER.serializeObjects(Arrays.asList(records)));
+    return new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
+  }
+
+  private static List<FullHttpResponse> getResponses(VeniceComputePath computePath) {
+    List<FullHttpResponse> responses = new ArrayList<>();
+    responses.add(response(resultRecord(0, 1.0), resultRecord(1, 5.0), facetsRecord(computePath, 1.0, 5.0)));
+    responses.add(response(resultRecord(2, 3.0), nonExistingKeyRecord(3), facetsRecord(computePath, 3.0)));
+    return responses;
+  }
+
+  private static List<ComputeResponseRecordV1> deserialize(ByteBuf content) {
+    byte[] bytes = new byte[content.readableBytes()];
+    content.readBytes(bytes);
+    return RECORD_DESERIALIZER.deserializeObjects(bytes);
+  }
+
+  private static void assertFacetsRecord(ComputeResponseRecordV1 record, long expectedCount, double expectedSum) {
+    Assert.assertEquals(record.keyIndex, KEY_ID_FOR_COMPUTE_FACETS);
+    ComputeFacetResult facetResult = FACET_RESULTS_DESERIALIZER.deserialize(record.value).results.get(0);
+    Assert.assertEquals(facetResult.count, expectedCount);
+    Assert.assertEquals(facetResult.sum, expectedSum);
+  }
+
+  @Test
+  public void testMerge() {
+    VeniceComputePath computePath = getComputePath(2);
+    List<FullHttpResponse> responses = getResponses(computePath);
+    List<ComputeResponseRecordV1> records =
+        deserialize(new VeniceComputeResponseMerger(computePath).merge(responses, false));
+
+    // The non-existing key, then the global top K from the highest score, then the merged facets
+    Assert.assertEquals(records.size(), 4);
+    Assert.assertEquals(records.get(0), nonExistingKeyRecord(3));
+    Assert.assertEquals(records.get(1), resultRecord(1, 5.0));
+    Assert.assertEquals(records.get(2), resultRecord(2, 3.0));
+    assertFacetsRecord(records.get(3), 3, 9.0);
+    for (FullHttpResponse response: responses) {
+      Assert.assertEquals(response.content().refCnt(), 0);
+    }
+  }
+
+  @Test
+  public void testMergeForStreaming() {
+    VeniceComputePath computePath = getComputePath(2);
+    List<ComputeResponseRecordV1> records =
+        deserialize(new VeniceComputeResponseMerger(computePath).merge(getResponses(computePath), true));
+
+    // The record which is not part of the global top K anymore is reported as a non-existing key
+    Assert.assertEquals(records.size(), 5);
+    Assert.assertEquals(records.get(0), nonExistingKeyRecord(0));
+    Assert.assertEquals(records.get(1), nonExistingKeyRecord(3));
+    Assert.assertEquals(records.get(2), resultRecord(1, 5.0));
+    Assert.assertEquals(records.get(3), resultRecord(2, 3.0));
+    assertFacetsRecord(records.get(4), 3, 9.0);
+  }
+}
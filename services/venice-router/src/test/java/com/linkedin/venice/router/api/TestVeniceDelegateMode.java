@@ -1,6 +1,7 @@
 package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.HELIX_ASSISTED_ROUTING;
+import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LATENCY_BASED_ROUTING;
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LEAST_LOADED_ROUTING;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.any;
@@ -42,6 +43,7 @@ import com.linkedin.venice.utils.Utils;
 import io.netty.handler.codec.http.HttpMethod;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -378,6 +380,50 @@ public class TestVeniceDelegateMode {
    *
    * @throws RouterException
    */
+  @Test
+  public void testScatterWithSingleGetWithLatencyBasedRouting() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    int version = 1;
+    String resourceName = storeName + "_v" + version;
+    RouterKey key = new RouterKey("key_1".getBytes());
+    Map<RouterKey, String> keyPartitionMap = new HashMap<>();
+    String partitionName = resourceName + "_1";
+    keyPartitionMap.put(key, partitionName);
+    PartitionFinder partitionFinder = getPartitionFinder(keyPartitionMap, 2);
+    Instance instance1 = new Instance("host1_123", "host1", 123);
+    Instance instance2 = new Instance("host2_123", "host2", 123);
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(LATENCY_BASED_ROUTING).when(config).getMultiKeyRoutingStrategy();
+    RouteHttpRequestStats routeHttpRequestStats = mock(RouteHttpRequestStats.class);
+    // host1 is slow but not unhealthy
+    doReturn(100d).when(routeHttpRequestStats).getLatencyBasedLoad(instance1.getNodeId());
+    doReturn(2d).when(routeHttpRequestStats).getLatencyBasedLoad(instance2.getNodeId());
+    VeniceDelegateMode scatterMode = new VeniceDelegateMode(config, mock(RouterStats.class), routeHttpRequestStats);
+    scatterMode.initReadRequestThrottler(getReadRequestThrottle(false));
+
+    for (int i = 0; i < 10; ++i) {
+      VenicePath path =
+          getVenicePath(storeName, version, resourceName, RequestType.SINGLE_GET, Collections.singletonList(key));
+      Scatter<Instance, VenicePath, RouterKey> scatter = new Scatter(path, getPathParser(), VeniceRole.REPLICA);
+      Map<String, List<Instance>> partitionInstanceMap = new HashMap<>();
+      partitionInstanceMap.put(partitionName, new ArrayList<>(Arrays.asList(instance1, instance2)));
+
+      Scatter<Instance, VenicePath, RouterKey> finalScatter = scatterMode.scatter(
+          scatter,
+          HttpMethod.GET.name(),
+          resourceName,
+          partitionFinder,
+          getHostFinder(partitionInstanceMap),
+          getHostHealthMonitor(),
+          VeniceRole.REPLICA);
+
+      Collection<ScatterGatherRequest<Instance, RouterKey>> requests = finalScatter.getOnlineRequests();
+      Assert.assertEquals(requests.size(), 1);
+      Assert.assertEquals(requests.iterator().next().getHosts(), Collections.singletonList(instance2));
+    }
+  }
+
   @Test
   public void testScatterWithMultiGet() throws RouterException {
     String storeName = Utils.getUniqueString("test_store");
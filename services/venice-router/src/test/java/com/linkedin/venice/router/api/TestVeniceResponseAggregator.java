@@ -356,4 +356,35 @@ public class TestVeniceResponseAggregator {
         routerResponse.headers().get(VENICE_COMPRESSION_STRATEGY),
         String.valueOf(CompressionStrategy.NO_OP.getValue()));
   }
+
+  @Test
+  public void testHeldBackContentIsReleasedOnErrorResponse() {
+    String storeName = Utils.getUniqueString("test_store");
+    BasicFullHttpRequest request =
+        new BasicFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/compute/test_store", -1, -1);
+    RouterStats mockRouterStat = mock(RouterStats.class);
+    when(mockRouterStat.getStatsByType(RequestType.COMPUTE)).thenReturn(mock(AggRouterHttpRequestStats.class));
+    when(mockRouterStat.getStatsByType(RequestType.COMPUTE_STREAMING))
+        .thenReturn(mock(AggRouterHttpRequestStats.class));
+    VeniceResponseAggregator responseAggregator = new VeniceResponseAggregator(mockRouterStat, Optional.empty());
+
+    for (boolean isStreaming: new boolean[] { false, true }) {
+      RequestType requestType = isStreaming ? RequestType.COMPUTE_STREAMING : RequestType.COMPUTE;
+      VenicePath path = getPath(storeName, requestType, mockRouterStat, request, mock(CompressorFactory.class));
+      doReturn(isStreaming).when(path).isStreamingRequest();
+      // The content of the sub-responses is held back by VeniceDispatcher to be merged by the aggregator
+      doReturn(true).when(path).isResponseMergeRequired();
+      doReturn(Optional.empty()).when(path).getResponseHeaders();
+      Metrics metrics = new Metrics();
+      metrics.setPath(path);
+
+      FullHttpResponse okResponse = buildFullHttpResponse(OK, new byte[] { 1 }, Collections.emptyMap());
+      FullHttpResponse errorResponse = buildFullHttpResponse(TOO_MANY_REQUESTS, new byte[0], Collections.emptyMap());
+      FullHttpResponse finalResponse =
+          responseAggregator.buildResponse(request, metrics, Arrays.asList(okResponse, errorResponse));
+      Assert.assertSame(finalResponse, errorResponse);
+      Assert.assertEquals(okResponse.content().refCnt(), 0);
+      Assert.assertEquals(errorResponse.content().refCnt(), 1);
+    }
+  }
 }
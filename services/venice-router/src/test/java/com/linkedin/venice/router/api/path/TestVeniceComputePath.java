@@ -10,11 +10,15 @@ import static org.mockito.Mockito.when;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.protocol.request.ComputeFacet;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV1;
 import com.linkedin.venice.compute.protocol.request.ComputeRequestV2;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeFacetType;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
@@ -28,6 +32,8 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -78,9 +84,7 @@ public class TestVeniceComputePath {
       ComputeRequestV1 request,
       List<ByteBuffer> keys,
       int apiVersion) {
-    RecordSerializer<ComputeRequestV1> computeRequestSerializer =
-        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV1.getClassSchema());
-    byte[] serializedComputeRequest = computeRequestSerializer.serialize(request);
+    byte[] serializedComputeRequest = serializeComputeRequest(request, apiVersion);
 
     RecordSerializer<ByteBuffer> keySerializer = SerializerDeserializerFactory
         .getAvroGenericSerializer(ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
@@ -89,6 +93,25 @@ public class TestVeniceComputePath {
     return getComputeHttpRequest(resourceName, ArrayUtils.addAll(serializedComputeRequest, serializedKeys), apiVersion);
   }
 
+  /**
+   * Version 4 appended a field to the compute request, so the V1 request needs to be re-encoded with the V4 schema.
+   */
+  private static byte[] serializeComputeRequest(ComputeRequestV1 request, int apiVersion) {
+    if (apiVersion < 4) {
+      RecordSerializer<ComputeRequestV1> computeRequestSerializer =
+          SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV1.getClassSchema());
+      return computeRequestSerializer.serialize(request);
+    }
+    ComputeRequestV4 requestV4 = new ComputeRequestV4();
+    requestV4.operations = request.operations;
+    requestV4.resultSchemaStr = request.resultSchemaStr;
+    requestV4.filters = Collections.emptyList();
+    requestV4.facets = Collections.emptyList();
+    RecordSerializer<ComputeRequestV4> computeRequestSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV4.getClassSchema());
+    return computeRequestSerializer.serialize(requestV4);
+  }
+
   private VenicePartitionFinder getVenicePartitionFinder(int partitionId) {
     VenicePartitionFinder mockedPartitionFinder = mock(VenicePartitionFinder.class);
     VenicePartitioner venicePartitioner = mock(VenicePartitioner.class);
@@ -109,12 +132,10 @@ public class TestVeniceComputePath {
       keys.add(ByteBuffer.wrap((keyPrefix + i).getBytes()));
     }
     ComputeRequestV1 computeRequest = getComputeRequest();
-    RecordSerializer<ComputeRequestV1> computeRequestSerializer =
-        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV1.getClassSchema());
-    int expectedLength = computeRequestSerializer.serialize(computeRequest).length;
 
     // test all compute request versions
     for (int apiVersion = 1; apiVersion <= LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST; apiVersion++) {
+      int expectedLength = serializeComputeRequest(computeRequest, apiVersion).length;
       BasicFullHttpRequest request = getComputeHttpRequest(resourceName, computeRequest, keys, apiVersion);
 
       VeniceComputePath computePath = new VeniceComputePath(
@@ -131,6 +152,98 @@ public class TestVeniceComputePath {
     }
   }
 
+  @Test
+  public void testMergeSpecDeserialization() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    int versionNumber = 1;
+    String resourceName = storeName + "_v" + versionNumber;
+    List<ByteBuffer> keys = Collections.singletonList(ByteBuffer.wrap("key_0".getBytes()));
+    ComputeRequestV1 computeRequest = getComputeRequest();
+
+    // Without top-K selection and facets, the responses of the storage nodes are sent back as they are
+    VeniceComputePath computePath = new VeniceComputePath(
+        storeName,
+        versionNumber,
+        resourceName,
+        getComputeHttpRequest(resourceName, computeRequest, keys, LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST),
+        getVenicePartitionFinder(-1),
+        10,
+        false,
+        -1,
+        1);
+    Assert.assertFalse(computePath.isResponseMergeRequired());
+
+    ComputeTopK topK = new ComputeTopK();
+    topK.field = "member_score";
+    topK.k = 3;
+    ComputeFacet facet = new ComputeFacet();
+    facet.facetType = ComputeFacetType.HISTOGRAM.getValue();
+    facet.field = "member_score";
+    facet.bucketBoundaries = Arrays.asList(0.0, 10.0);
+    byte[] serializedComputeRequest = serializeComputeRequestV4(computeRequest, topK, Collections.singletonList(facet));
+    computePath = new VeniceComputePath(
+        storeName,
+        versionNumber,
+        resourceName,
+        getComputeHttpRequest(resourceName, serializedComputeRequest, keys),
+        getVenicePartitionFinder(-1),
+        10,
+        false,
+        -1,
+        1);
+    Assert.assertTrue(computePath.isResponseMergeRequired());
+    Assert.assertEquals(computePath.getComputeRequestLengthInBytes(), serializedComputeRequest.length);
+    Assert.assertEquals(computePath.getResultSchemaStr(), resultSchemaStr);
+    Assert.assertEquals(computePath.getTopK().field.toString(), "member_score");
+    Assert.assertEquals(computePath.getTopK().k, 3);
+    Assert.assertEquals(computePath.getFacets().size(), 1);
+    Assert.assertEquals(computePath.getFacets().get(0).facetType, ComputeFacetType.HISTOGRAM.getValue());
+    Assert.assertEquals(computePath.getFacets().get(0).bucketBoundaries, Arrays.asList(0.0, 10.0));
+
+    // Invalid facets are rejected by the router
+    facet.bucketBoundaries = Arrays.asList(10.0, 0.0);
+    byte[] invalidComputeRequest = serializeComputeRequestV4(computeRequest, null, Collections.singletonList(facet));
+    Assert.assertThrows(
+        RouterException.class,
+        () -> new VeniceComputePath(
+            storeName,
+            versionNumber,
+            resourceName,
+            getComputeHttpRequest(resourceName, invalidComputeRequest, keys),
+            getVenicePartitionFinder(-1),
+            10,
+            false,
+            -1,
+            1));
+  }
+
+  private static byte[] serializeComputeRequestV4(
+      ComputeRequestV1 request,
+      ComputeTopK topK,
+      List<ComputeFacet> facets) {
+    ComputeRequestV4 requestV4 = new ComputeRequestV4();
+    requestV4.operations = request.operations;
+    requestV4.resultSchemaStr = request.resultSchemaStr;
+    requestV4.filters = Collections.emptyList();
+    requestV4.topK = topK;
+    requestV4.facets = facets;
+    RecordSerializer<ComputeRequestV4> computeRequestSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV4.getClassSchema());
+    return computeRequestSerializer.serialize(requestV4);
+  }
+
+  private static BasicFullHttpRequest getComputeHttpRequest(
+      String resourceName,
+      byte[] serializedComputeRequest,
+      List<ByteBuffer> keys) {
+    RecordSerializer<ByteBuffer> keySerializer = SerializerDeserializerFactory
+        .getAvroGenericSerializer(ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
+    return getComputeHttpRequest(
+        resourceName,
+        ArrayUtils.addAll(serializedComputeRequest, keySerializer.serializeObjects(keys)),
+        LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+  }
+
   @Test
   public void testComputeRequestVersionBackwardCompatible() {
     // generate a version 1 record
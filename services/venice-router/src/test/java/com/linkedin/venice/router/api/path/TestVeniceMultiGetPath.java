@@ -8,15 +8,19 @@ import static org.mockito.Mockito.when;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.RouterThrottleHandler;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.Utils;
@@ -26,6 +30,8 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import org.testng.Assert;
@@ -194,4 +200,52 @@ public class TestVeniceMultiGetPath {
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRoute());
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRoute());
   }
+
+  @Test
+  public void testSubPathOnlySerializesItsOwnKeys() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    int version = 1;
+    String resourceName = storeName + "_v" + version;
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < 5; ++i) {
+      keys.add(ByteBuffer.wrap(("key_" + i).getBytes()));
+    }
+    // Duplicate keys are only sent once
+    keys.add(ByteBuffer.wrap("key_1".getBytes()));
+
+    VenicePath path = new VeniceMultiGetPath(
+        storeName,
+        version,
+        resourceName,
+        getMultiGetHttpRequest(resourceName, keys, Optional.empty()),
+        getVenicePartitionFinder(7),
+        10,
+        false,
+        -1,
+        null,
+        1);
+    Assert.assertEquals(path.getPartitionKeys().size(), 5);
+
+    Iterator<RouterKey> keyIterator = path.getPartitionKeys().iterator();
+    keyIterator.next();
+    RouterKey key1 = keyIterator.next();
+    keyIterator.next();
+    RouterKey key3 = keyIterator.next();
+    VenicePath subPath = path.substitutePartitionKey(Arrays.asList(key3, key1));
+
+    RecordDeserializer<MultiGetRouterRequestKeyV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetRouterRequestKeyV1.class);
+    List<MultiGetRouterRequestKeyV1> routerRequestKeys = deserializer.deserializeObjects(subPath.getBody());
+    Assert.assertEquals(routerRequestKeys.size(), 2);
+    Assert.assertEquals(routerRequestKeys.get(0).keyIndex, 3);
+    Assert.assertEquals(routerRequestKeys.get(0).keyBytes, ByteBuffer.wrap("key_3".getBytes()));
+    Assert.assertEquals(routerRequestKeys.get(0).partitionId, 7);
+    Assert.assertEquals(routerRequestKeys.get(1).keyIndex, 1);
+    Assert.assertEquals(routerRequestKeys.get(1).keyBytes, ByteBuffer.wrap("key_1".getBytes()));
+    Assert.assertEquals(routerRequestKeys.get(1).partitionId, 7);
+
+    // The body of the original path contains all the distinct keys
+    Assert.assertEquals(deserializer.deserializeObjects(path.getBody()).size(), 5);
+    Assert.expectThrows(VeniceException.class, () -> path.substitutePartitionKey(RouterKey.fromString("key_1")));
+  }
 }
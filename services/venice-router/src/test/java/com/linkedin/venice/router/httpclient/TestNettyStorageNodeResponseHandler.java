@@ -0,0 +1,136 @@
+package com.linkedin.venice.router.httpclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestNettyStorageNodeResponseHandler {
+  private final List<PortableHttpResponse> responses = new ArrayList<>();
+  private final List<Throwable> failures = new ArrayList<>();
+  private final List<Channel> releasedChannels = new ArrayList<>();
+
+  private EmbeddedChannel newChannel(boolean isPooledContentEnabled) {
+    responses.clear();
+    failures.clear();
+    releasedChannels.clear();
+    return new EmbeddedChannel(
+        new NettyStorageNodeResponseHandler(
+            isPooledContentEnabled,
+            0,
+            responses::add,
+            failures::add,
+            releasedChannels::add));
+  }
+
+  private static ByteBuf directBuffer(String content) {
+    ByteBuf buffer = Unpooled.directBuffer();
+    buffer.writeCharSequence(content, StandardCharsets.UTF_8);
+    return buffer;
+  }
+
+  @Test
+  public void testSingleChunkResponseIsHandedOverWithoutCopy() {
+    EmbeddedChannel channel = newChannel(true);
+    ByteBuf content = directBuffer("value");
+    DefaultFullHttpResponse response =
+        new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content);
+    response.headers().set(HttpHeaderNames.CONTENT_TYPE, "application/octet-stream");
+    channel.writeInbound(response);
+
+    Assert.assertEquals(responses.size(), 1);
+    Assert.assertEquals(releasedChannels.size(), 1);
+    PortableHttpResponse portableResponse = responses.get(0);
+    Assert.assertEquals(portableResponse.getStatusCode(), HttpResponseStatus.OK.code());
+    Assert.assertEquals(portableResponse.getFirstHeader("Content-Type"), "application/octet-stream");
+    Assert.assertTrue(portableResponse.containsHeader("Content-Type"));
+    ByteBuf responseContent = portableResponse.getContentInByteBuf();
+    Assert.assertSame(responseContent, content);
+    Assert.assertEquals(responseContent.toString(StandardCharsets.UTF_8), "value");
+    // The reference of the inbound message has been handed over
+    Assert.assertEquals(content.refCnt(), 1);
+    responseContent.release();
+  }
+
+  @Test
+  public void testDroppedResponseReleasesItsContent() {
+    EmbeddedChannel channel = newChannel(true);
+    ByteBuf content = directBuffer("value");
+    channel.writeInbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content));
+
+    Assert.assertEquals(responses.size(), 1);
+    Assert.assertEquals(content.refCnt(), 1);
+    responses.get(0).releaseContent();
+    Assert.assertEquals(content.refCnt(), 0);
+  }
+
+  @Test
+  public void testChunkedResponseIsAggregated() {
+    EmbeddedChannel channel = newChannel(true);
+    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 12);
+    ByteBuf firstChunk = directBuffer("first_");
+    ByteBuf secondChunk = directBuffer("second");
+    channel.writeInbound(response, new DefaultHttpContent(firstChunk), new DefaultHttpContent(secondChunk));
+    Assert.assertTrue(responses.isEmpty());
+    // The chunks are released once copied
+    Assert.assertEquals(firstChunk.refCnt(), 0);
+    Assert.assertEquals(secondChunk.refCnt(), 0);
+    channel.writeInbound(new DefaultLastHttpContent());
+
+    Assert.assertEquals(responses.size(), 1);
+    ByteBuf responseContent = responses.get(0).getContentInByteBuf();
+    Assert.assertTrue(responseContent.isDirect());
+    Assert.assertEquals(responseContent.toString(StandardCharsets.UTF_8), "first_second");
+    responseContent.release();
+  }
+
+  @Test
+  public void testContentIsCopiedToHeapWhenNotPooled() {
+    for (boolean isPooledContentEnabled: new boolean[] { true, false }) {
+      EmbeddedChannel channel = newChannel(isPooledContentEnabled);
+      HttpResponseStatus status =
+          isPooledContentEnabled ? HttpResponseStatus.SERVICE_UNAVAILABLE : HttpResponseStatus.OK;
+      ByteBuf content = directBuffer("content");
+      channel.writeInbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, content));
+
+      Assert.assertEquals(responses.size(), 1);
+      Assert.assertEquals(responses.get(0).getStatusCode(), status.code());
+      ByteBuf responseContent = responses.get(0).getContentInByteBuf();
+      Assert.assertFalse(responseContent.isDirect());
+      Assert.assertEquals(responseContent.toString(StandardCharsets.UTF_8), "content");
+      Assert.assertEquals(content.refCnt(), 0);
+    }
+  }
+
+  @Test
+  public void testPartialResponseIsReleasedOnFailure() {
+    EmbeddedChannel channel = newChannel(true);
+    ByteBuf firstChunk = directBuffer("first_");
+    channel.writeInbound(
+        new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK),
+        new DefaultHttpContent(firstChunk));
+    channel.close();
+
+    Assert.assertTrue(responses.isEmpty());
+    Assert.assertEquals(failures.size(), 1);
+    Assert.assertTrue(failures.get(0) instanceof ClosedChannelException);
+    Assert.assertEquals(releasedChannels.size(), 1);
+    Assert.assertEquals(firstChunk.refCnt(), 0);
+  }
+}
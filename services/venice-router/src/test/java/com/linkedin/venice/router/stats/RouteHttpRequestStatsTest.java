@@ -0,0 +1,32 @@
+package com.linkedin.venice.router.stats;
+
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import io.tehuti.metrics.MetricsRepository;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RouteHttpRequestStatsTest {
+  @Test
+  public void testLatencyBasedLoad() {
+    RouteHttpRequestStats stats = new RouteHttpRequestStats(new MetricsRepository(), mock(StorageNodeClient.class));
+    Assert.assertEquals(stats.getLatencyBasedLoad("unknown_host"), 0d);
+
+    stats.recordResponseTime("slow_host", 1);
+    stats.recordResponseTime("fast_host", 1);
+    // A single slow response is enough to make the host look slow
+    stats.recordResponseTime("slow_host", 100);
+    Assert.assertTrue(stats.getLatencyBasedLoad("slow_host") > 10 * stats.getLatencyBasedLoad("fast_host"));
+    // The host only looks fast again progressively
+    stats.recordResponseTime("slow_host", 1);
+    Assert.assertTrue(stats.getLatencyBasedLoad("slow_host") > 10 * stats.getLatencyBasedLoad("fast_host"));
+
+    // The pending requests make a host look more loaded
+    double fastHostLoad = stats.getLatencyBasedLoad("fast_host");
+    stats.recordPendingRequest("fast_host");
+    Assert.assertTrue(stats.getLatencyBasedLoad("fast_host") > 1.5 * fastHostLoad);
+    stats.recordFinishedRequest("fast_host");
+  }
+}
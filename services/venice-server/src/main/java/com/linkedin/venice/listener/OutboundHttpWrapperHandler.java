@@ -82,6 +82,9 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
           statsHandler.setRequestTerminatedEarly();
         }
         statsHandler.setMisroutedStoreVersionRequest(shortcutResponse.isMisroutedStoreVersion());
+        if (shortcutResponse.isLoadShed()) {
+          statsHandler.setRequestLoadShed();
+        }
       } else if (msg instanceof BinaryResponse) {
         // For dictionary Fetch requests
         body = ((BinaryResponse) msg).getBody();
@@ -0,0 +1,99 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.read.RequestType;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * This class decides whether the read requests queued in a storage execution thread pool are still worth executing,
+ * based on the time they spend in the queue, following the CoDel approach: the server is considered overloaded as
+ * long as the minimal queue delay over an interval stays above the target queue delay, since a queue which never
+ * drains is a standing queue rather than a burst.
+ *
+ * When overloaded, the requests which have been queued for longer than the target queue delay are shed instead of
+ * being executed, which drains the queue quickly. Single gets are more latency sensitive and cheaper than the other
+ * requests, so they are only shed after having been queued for twice as long. Otherwise, only the requests which have
+ * been queued for longer than a whole interval are shed. Retry requests are never shed, since Router would not retry
+ * them once more.
+ *
+ * Besides, the requests with an early termination threshold are rejected before being queued if the minimal queue
+ * delay of the last interval already goes past their threshold, since they would be terminated early anyway.
+ *
+ * This class is thread-safe.
+ */
+public class ReadRequestAdmissionController {
+  private static final int SINGLE_GET_QUEUE_DELAY_FACTOR = 2;
+
+  private final long targetQueueDelayInNS;
+  private final long intervalInNS;
+
+  private final AtomicLong minQueueDelayInIntervalInNS = new AtomicLong(Long.MAX_VALUE);
+  private volatile long intervalStartTimeInNS;
+  private volatile long standingQueueDelayInNS = 0;
+  private volatile boolean overloaded = false;
+
+  public ReadRequestAdmissionController(long targetQueueDelayInMS, long intervalInMS) {
+    this.targetQueueDelayInNS = TimeUnit.MILLISECONDS.toNanos(targetQueueDelayInMS);
+    this.intervalInNS = TimeUnit.MILLISECONDS.toNanos(intervalInMS);
+    this.intervalStartTimeInNS = System.nanoTime();
+  }
+
+  /**
+   * @return true if the request would reach its early termination threshold before leaving the queue
+   */
+  public boolean shouldRejectBeforeQueueing(RouterRequest request, long currentTimeInNS) {
+    long requestTimeoutInNS = request.getRequestTimeoutInNS();
+    if (requestTimeoutInNS == RouterRequest.NO_REQUEST_TIMEOUT) {
+      return false;
+    }
+    /**
+     * The standing queue delay is only measured when requests leave the queue, so it is ignored once outdated, which
+     * guarantees that requests keep being queued, and so the standing queue delay keeps being measured, even if all
+     * the requests were rejected for a while.
+     */
+    if (currentTimeInNS - intervalStartTimeInNS > 2 * intervalInNS) {
+      return false;
+    }
+    return currentTimeInNS + standingQueueDelayInNS > requestTimeoutInNS;
+  }
+
+  /**
+   * Records the queue delay of the request leaving the queue.
+   *
+   * @return true if the request should be shed instead of being executed
+   */
+  public boolean shouldShedAfterQueueing(RouterRequest request, long queueDelayInNS, long currentTimeInNS) {
+    recordQueueDelay(queueDelayInNS, currentTimeInNS);
+    if (request.isRetryRequest()) {
+      return false;
+    }
+    long maxQueueDelayInNS = overloaded ? targetQueueDelayInNS : intervalInNS;
+    if (request.getRequestType() == RequestType.SINGLE_GET) {
+      maxQueueDelayInNS *= SINGLE_GET_QUEUE_DELAY_FACTOR;
+    }
+    return queueDelayInNS > maxQueueDelayInNS;
+  }
+
+  public boolean isOverloaded() {
+    return overloaded;
+  }
+
+  private void recordQueueDelay(long queueDelayInNS, long currentTimeInNS) {
+    minQueueDelayInIntervalInNS.accumulateAndGet(queueDelayInNS, Math::min);
+    if (currentTimeInNS - intervalStartTimeInNS < intervalInNS) {
+      return;
+    }
+    synchronized (this) {
+      if (currentTimeInNS - intervalStartTimeInNS < intervalInNS) {
+        // Another thread has just started a new interval
+        return;
+      }
+      long minQueueDelayInNS = minQueueDelayInIntervalInNS.getAndSet(Long.MAX_VALUE);
+      standingQueueDelayInNS = minQueueDelayInNS == Long.MAX_VALUE ? 0 : minQueueDelayInNS;
+      overloaded = standingQueueDelayInNS > targetQueueDelayInNS;
+      intervalStartTimeInNS = currentTimeInNS;
+    }
+  }
+}
@@ -36,6 +36,7 @@ public class ServerStatsContext {
   private int hadamardProductCount = 0;
   private int countOperatorCount = 0;
   private boolean isRequestTerminatedEarly = false;
+  private boolean isRequestLoadShed = false;
 
   private IntList keySizeList;
   private IntList valueSizeList;
@@ -155,6 +156,7 @@ public class ServerStatsContext {
     cosineSimilarityCount = 0;
     hadamardProductCount = 0;
     isRequestTerminatedEarly = false;
+    isRequestLoadShed = false;
     isComplete = false;
     isMisroutedStoreVersion = false;
 
@@ -201,6 +203,10 @@ public class ServerStatsContext {
     this.isRequestTerminatedEarly = true;
   }
 
+  public void setRequestLoadShed() {
+    this.isRequestLoadShed = true;
+  }
+
   public HttpResponseStatus getResponseStatus() {
     return responseStatus;
   }
@@ -365,6 +371,9 @@ public class ServerStatsContext {
       if (isRequestTerminatedEarly) {
         serverHttpRequestStats.recordEarlyTerminatedEarlyRequest();
       }
+      if (isRequestLoadShed) {
+        serverHttpRequestStats.recordLoadShedRequest();
+      }
       if (keySizeList != null) {
         for (int i = 0; i < keySizeList.size(); i++) {
           serverHttpRequestStats.recordKeySizeInByte(keySizeList.getInt(i));
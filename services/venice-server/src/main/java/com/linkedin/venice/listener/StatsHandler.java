@@ -55,6 +55,10 @@ public class StatsHandler extends ChannelDuplexHandler {
     serverStatsContext.setRequestTerminatedEarly();
   }
 
+  public void setRequestLoadShed() {
+    serverStatsContext.setRequestLoadShed();
+  }
+
   public void setRequestType(RequestType requestType) {
     serverStatsContext.setRequestType(requestType);
   }
@@ -19,9 +19,13 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeFacetAggregator;
+import com.linkedin.venice.compute.ComputeRecordFilter;
+import com.linkedin.venice.compute.ComputeTopKSelector;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import com.linkedin.venice.compute.protocol.request.ComputeTopK;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
@@ -123,6 +127,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       new VeniceConcurrentHashMap<>();
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Optional<ResourceReadUsageTracker> resourceReadUsageTracker;
+  private final Optional<ReadRequestAdmissionController> admissionController;
+  private final Optional<ReadRequestAdmissionController> computeAdmissionController;
 
   private static class PerStoreVersionState {
     final StoreDeserializerCache<GenericRecord> storeDeserializerCache;
@@ -207,6 +213,18 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
     this.resourceReadUsageTracker = resourceReadUsageTracker;
+    this.admissionController = createAdmissionController(serverConfig);
+    this.computeAdmissionController = createAdmissionController(serverConfig);
+  }
+
+  private static Optional<ReadRequestAdmissionController> createAdmissionController(VeniceServerConfig serverConfig) {
+    if (!serverConfig.isReadAdmissionControlEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new ReadRequestAdmissionController(
+            serverConfig.getReadAdmissionControlTargetQueueDelayMs(),
+            serverConfig.getReadAdmissionControlIntervalMs()));
   }
 
   @Override
@@ -246,6 +264,19 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
                 earlyTerminationException.getHttpResponseStatus()));
         return;
       }
+      final Optional<ReadRequestAdmissionController> requestAdmissionController =
+          getAdmissionController(request.getRequestType());
+      if (requestAdmissionController.isPresent()
+          && requestAdmissionController.get().shouldRejectBeforeQueueing(request, preSubmissionTimeNs)) {
+        // The request would be terminated early anyway after waiting in the queue
+        VeniceRequestEarlyTerminationException earlyTerminationException =
+            new VeniceRequestEarlyTerminationException(request.getStoreName());
+        context.writeAndFlush(
+            new HttpShortcutResponse(
+                earlyTerminationException.getMessage(),
+                earlyTerminationException.getHttpResponseStatus()));
+        return;
+      }
       /**
        * For now, we are evaluating whether parallel lookup is good overall or not.
        * Eventually, we either pick up the new parallel implementation or keep the original one, so it is fine
@@ -288,6 +319,18 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           if (request.shouldRequestBeTerminatedEarly()) {
             throw new VeniceRequestEarlyTerminationException(request.getStoreName());
           }
+          if (requestAdmissionController.isPresent()) {
+            long currentTimeNs = System.nanoTime();
+            if (requestAdmissionController.get()
+                .shouldShedAfterQueueing(request, currentTimeNs - preSubmissionTimeNs, currentTimeNs)) {
+              // 503 lets Router retry the request on another replica
+              HttpShortcutResponse shortcutResponse =
+                  new HttpShortcutResponse("Server overloaded", HttpResponseStatus.SERVICE_UNAVAILABLE);
+              shortcutResponse.setLoadShed(true);
+              context.writeAndFlush(shortcutResponse);
+              return;
+            }
+          }
           double submissionWaitTime = LatencyUtils.getElapsedTimeFromNSToMS(preSubmissionTimeNs);
           int queueLen = executor.getQueue().size();
           ReadResponse response;
@@ -423,6 +466,10 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     }
   }
 
+  private Optional<ReadRequestAdmissionController> getAdmissionController(RequestType requestType) {
+    return requestType == RequestType.COMPUTE ? computeAdmissionController : admissionController;
+  }
+
   private PerStoreVersionState getPerStoreVersionState(String storeVersion) {
     PerStoreVersionState s = perStoreVersionStateMap.computeIfAbsent(storeVersion, this::generatePerStoreVersionState);
     if (s.storageEngine.isClosed()) {
@@ -621,12 +668,17 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     ComputeResponseWrapper response = new ComputeResponseWrapper(request.getKeyCount());
     List<ComputeOperation> operations = request.getComputeRequest().getOperations();
     List<Schema.Field> operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
+    ComputeRecordFilter recordFilter = new ComputeRecordFilter(request.getComputeRequest().getFilters());
+    ComputeTopK topK = request.getComputeRequest().getTopK();
+    ComputeTopKSelector<ComputeResponseRecordV1> topKSelector = topK == null ? null : new ComputeTopKSelector<>(topK);
+    ComputeFacetAggregator facetAggregator = new ComputeFacetAggregator(request.getComputeRequest().getFacets());
     int hits = 0;
     for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
       AvroRecordUtils.clearRecord(reusableResultRecord);
       GenericRecord result = computeResult(
           operations,
           operationResultFields,
+          recordFilter,
           storeVersion,
           key,
           reusableValueRecord,
@@ -635,10 +687,30 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           response,
           reusableObjects,
           reusableResultRecord);
-      if (addComputationResult(response, key, result, resultSerializer, request.isStreamingRequest())) {
+      if (result != null && !facetAggregator.isEmpty()) {
+        // The facets describe all the records satisfying the filters, including the ones not selected by the top K
+        facetAggregator.add(result);
+      }
+      if (topKSelector == null) {
+        if (addComputationResult(response, key, result, resultSerializer, request.isStreamingRequest())) {
+          hits++;
+        }
+      } else if (offerTopKResult(topKSelector, response, key, result, resultSerializer, request.isStreamingRequest())) {
         hits++;
       }
     }
+    if (topKSelector != null) {
+      for (ComputeResponseRecordV1 record: topKSelector.getSelectedItems()) {
+        addComputeResponseRecord(response, record);
+      }
+    }
+    if (!facetAggregator.isEmpty()) {
+      // The partial results of this node, which are merged with the ones of the other nodes by the router
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      record.keyIndex = StreamingConstants.KEY_ID_FOR_COMPUTE_FACETS;
+      record.value = ByteBuffer.wrap(facetAggregator.serializeResults());
+      addComputeResponseRecord(response, record);
+    }
     incrementOperatorCounters(response, operations, hits);
     return response;
   }
@@ -686,28 +758,75 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       RecordSerializer<GenericRecord> resultSerializer,
       boolean isStreaming) {
     if (result != null) {
-      long serializeStartTimeInNS = System.nanoTime();
-      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
-      record.keyIndex = key.getKeyIndex();
-      record.value = ByteBuffer.wrap(resultSerializer.serialize(result));
-      response.addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
-      response.addReadComputeOutputSize(record.value.remaining());
-      response.addRecord(record);
+      ComputeResponseRecordV1 record = serializeComputationResult(response, key.getKeyIndex(), result, resultSerializer);
+      addComputeResponseRecord(response, record);
       return true;
     } else if (isStreaming) {
       // For streaming, we need to send back non-existing keys
-      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
-      // Negative key index to indicate non-existing key
-      record.keyIndex = Math.negateExact(key.getKeyIndex());
-      record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-      response.addRecord(record);
+      addNonExistingKey(response, key.getKeyIndex());
     }
     return false;
   }
 
+  /**
+   * Only the results which are part of the top K so far get serialized, and they are added to the response once all
+   * the keys have been computed. For streaming, the results which are not part of the top K are reported the same way
+   * as the non-existing keys.
+   *
+   * @return true if the result is not null, false otherwise
+   */
+  private boolean offerTopKResult(
+      ComputeTopKSelector<ComputeResponseRecordV1> topKSelector,
+      ComputeResponseWrapper response,
+      ComputeRouterRequestKeyV1 key,
+      GenericRecord result,
+      RecordSerializer<GenericRecord> resultSerializer,
+      boolean isStreaming) {
+    Double score = result == null ? null : topKSelector.getScore(result);
+    if (score == null || !topKSelector.isCandidate(score)) {
+      if (isStreaming) {
+        addNonExistingKey(response, key.getKeyIndex());
+      }
+      return result != null;
+    }
+    ComputeResponseRecordV1 evictedRecord =
+        topKSelector.add(score, serializeComputationResult(response, key.getKeyIndex(), result, resultSerializer));
+    if (evictedRecord != null && isStreaming) {
+      addNonExistingKey(response, evictedRecord.keyIndex);
+    }
+    return true;
+  }
+
+  private static ComputeResponseRecordV1 serializeComputationResult(
+      ComputeResponseWrapper response,
+      int keyIndex,
+      GenericRecord result,
+      RecordSerializer<GenericRecord> resultSerializer) {
+    long serializeStartTimeInNS = System.nanoTime();
+    ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+    record.keyIndex = keyIndex;
+    record.value = ByteBuffer.wrap(resultSerializer.serialize(result));
+    response.addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
+    return record;
+  }
+
+  private static void addComputeResponseRecord(ComputeResponseWrapper response, ComputeResponseRecordV1 record) {
+    response.addReadComputeOutputSize(record.value.remaining());
+    response.addRecord(record);
+  }
+
+  private static void addNonExistingKey(ComputeResponseWrapper response, int keyIndex) {
+    ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+    // Negative key index to indicate non-existing key
+    record.keyIndex = Math.negateExact(keyIndex);
+    record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    response.addRecord(record);
+  }
+
   private GenericRecord computeResult(
       List<ComputeOperation> operations,
       List<Schema.Field> operationResultFields,
+      ComputeRecordFilter recordFilter,
       PerStoreVersionState storeVersion,
       ComputeRouterRequestKeyV1 key,
       GenericRecord reusableValueRecord,
@@ -729,8 +848,10 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         reusableObjects.computeContext,
         reusableValueRecord,
         reusableResultRecord);
+    // A record failing the filters is dropped before serialization, and reported the same way as a missing key.
+    boolean filteredOut = !recordFilter.isEmpty() && !recordFilter.test(reusableValueRecord, reusableResultRecord);
     response.addReadComputeLatency(LatencyUtils.getElapsedTimeFromNSToMS(computeStartTimeInNS));
-    return reusableResultRecord;
+    return filteredOut ? null : reusableResultRecord;
   }
 
   private GenericRecord readValueRecord(
@@ -69,7 +69,7 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
 
     BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
         .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
-    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(decoder, null);
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(apiVersion, decoder, null);
 
     List<ComputeRouterRequestKeyV1> keys = DESERIALIZER.deserializeObjects(decoder);
     String schemaId = httpRequest.headers().get(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID);
@@ -50,6 +50,7 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor countOperatorSensor;
 
   private final Sensor earlyTerminatedEarlyRequestCountSensor;
+  private final Sensor loadShedRequestCountSensor;
 
   private Sensor requestKeySizeSensor;
   private Sensor requestValueSizeSensor;
@@ -292,6 +293,11 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         totalStats,
         () -> totalStats.earlyTerminatedEarlyRequestCountSensor,
         new OccurrenceRate());
+    loadShedRequestCountSensor = registerPerStoreAndTotal(
+        "load_shed_request_count",
+        totalStats,
+        () -> totalStats.loadShedRequestCountSensor,
+        new OccurrenceRate());
 
     if (isKeyValueProfilingEnabled) {
       String requestValueSizeSensorName = "request_value_size";
@@ -431,6 +437,10 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     earlyTerminatedEarlyRequestCountSensor.record();
   }
 
+  public void recordLoadShedRequest() {
+    loadShedRequestCountSensor.record();
+  }
+
   public void recordKeySizeInByte(long keySize) {
     requestKeySizeSensor.record(keySize);
   }
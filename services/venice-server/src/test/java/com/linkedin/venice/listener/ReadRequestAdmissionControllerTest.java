@@ -0,0 +1,84 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.read.RequestType;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class ReadRequestAdmissionControllerTest {
+  private static final long TARGET_QUEUE_DELAY_MS = 5;
+  private static final long INTERVAL_MS = 100;
+
+  private static RouterRequest mockRequest(RequestType requestType, boolean isRetryRequest, long requestTimeoutInNS) {
+    RouterRequest request = mock(RouterRequest.class);
+    doReturn(requestType).when(request).getRequestType();
+    doReturn(isRetryRequest).when(request).isRetryRequest();
+    doReturn(requestTimeoutInNS).when(request).getRequestTimeoutInNS();
+    return request;
+  }
+
+  private static RouterRequest mockRequest(RequestType requestType) {
+    return mockRequest(requestType, false, RouterRequest.NO_REQUEST_TIMEOUT);
+  }
+
+  private static long ms(long ms) {
+    return TimeUnit.MILLISECONDS.toNanos(ms);
+  }
+
+  @Test
+  public void testShedRequestsWhenOverloaded() {
+    long startTimeNs = System.nanoTime();
+    ReadRequestAdmissionController controller = new ReadRequestAdmissionController(TARGET_QUEUE_DELAY_MS, INTERVAL_MS);
+    RouterRequest multiGet = mockRequest(RequestType.MULTI_GET);
+    RouterRequest singleGet = mockRequest(RequestType.SINGLE_GET);
+
+    // Only the requests queued for longer than an interval are shed before detecting the overload
+    assertFalse(controller.shouldShedAfterQueueing(multiGet, ms(50), startTimeNs + ms(10)));
+    assertTrue(controller.shouldShedAfterQueueing(multiGet, ms(150), startTimeNs + ms(20)));
+    assertFalse(controller.shouldShedAfterQueueing(singleGet, ms(150), startTimeNs + ms(30)));
+    assertFalse(controller.isOverloaded());
+
+    // The minimal queue delay of the first interval goes past the target queue delay
+    long secondIntervalStartTimeNs = startTimeNs + ms(200);
+    assertTrue(controller.shouldShedAfterQueueing(multiGet, ms(10), secondIntervalStartTimeNs));
+    assertTrue(controller.isOverloaded());
+    assertFalse(controller.shouldShedAfterQueueing(singleGet, ms(8), secondIntervalStartTimeNs + ms(10)));
+    assertTrue(controller.shouldShedAfterQueueing(singleGet, ms(11), secondIntervalStartTimeNs + ms(20)));
+    // Retry requests are never shed
+    RouterRequest retryRequest = mockRequest(RequestType.MULTI_GET, true, RouterRequest.NO_REQUEST_TIMEOUT);
+    assertFalse(controller.shouldShedAfterQueueing(retryRequest, ms(1000), secondIntervalStartTimeNs + ms(30)));
+
+    // The queue drains during the second interval
+    assertFalse(controller.shouldShedAfterQueueing(multiGet, ms(1), secondIntervalStartTimeNs + ms(110)));
+    assertFalse(controller.isOverloaded());
+    assertFalse(controller.shouldShedAfterQueueing(multiGet, ms(10), secondIntervalStartTimeNs + ms(120)));
+  }
+
+  @Test
+  public void testRejectRequestsWhichWouldBeTerminatedEarly() {
+    long startTimeNs = System.nanoTime();
+    ReadRequestAdmissionController controller = new ReadRequestAdmissionController(TARGET_QUEUE_DELAY_MS, INTERVAL_MS);
+    long secondIntervalStartTimeNs = startTimeNs + ms(200);
+    controller.shouldShedAfterQueueing(mockRequest(RequestType.MULTI_GET), ms(20), startTimeNs + ms(10));
+    controller.shouldShedAfterQueueing(mockRequest(RequestType.MULTI_GET), ms(20), secondIntervalStartTimeNs);
+    assertTrue(controller.isOverloaded());
+
+    long currentTimeNs = secondIntervalStartTimeNs + ms(10);
+    RouterRequest shortTimeoutRequest = mockRequest(RequestType.SINGLE_GET, false, currentTimeNs + ms(10));
+    RouterRequest longTimeoutRequest = mockRequest(RequestType.SINGLE_GET, false, currentTimeNs + ms(50));
+    assertTrue(controller.shouldRejectBeforeQueueing(shortTimeoutRequest, currentTimeNs));
+    assertFalse(controller.shouldRejectBeforeQueueing(longTimeoutRequest, currentTimeNs));
+    assertFalse(controller.shouldRejectBeforeQueueing(mockRequest(RequestType.SINGLE_GET), currentTimeNs));
+
+    // The standing queue delay is ignored once outdated
+    currentTimeNs = secondIntervalStartTimeNs + ms(300);
+    shortTimeoutRequest = mockRequest(RequestType.SINGLE_GET, false, currentTimeNs + ms(10));
+    assertFalse(controller.shouldRejectBeforeQueueing(shortTimeoutRequest, currentTimeNs));
+  }
+}